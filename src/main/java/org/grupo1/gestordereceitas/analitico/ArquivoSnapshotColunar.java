@@ -0,0 +1,137 @@
+package org.grupo1.gestordereceitas.analitico;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Grava e lê o snapshot colunar em arquivo local, uma coluna após a outra: os dicionários como
+ * textos e as colunas numéricas como blocos contíguos, lidos de volta direto para os vetores.
+ * <p>
+ * Formato: assinatura, versão, data de geração e cada coluna precedida do seu tamanho.
+ */
+public final class ArquivoSnapshotColunar {
+
+    private static final int ASSINATURA = 0x47524131; // "GRA1"
+    private static final int VERSAO_FORMATO = 1;
+    private static final int TAMANHO_BUFFER = 256 * 1024;
+
+    private ArquivoSnapshotColunar() {
+    }
+
+    public static long gravar(SnapshotColunar snapshot, Path arquivo) throws IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (DataOutputStream saida = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporario), TAMANHO_BUFFER))) {
+            saida.writeInt(ASSINATURA);
+            saida.writeInt(VERSAO_FORMATO);
+            saida.writeLong(snapshot.geradoEm.toEpochMilli());
+            escreverLongs(saida, snapshot.categoriaIds);
+            escreverTextos(saida, snapshot.categoriaNomes);
+            escreverLongs(saida, snapshot.ingredienteIds);
+            escreverTextos(saida, snapshot.ingredienteNomes);
+            escreverLongs(saida, snapshot.receitaIds);
+            escreverInts(saida, snapshot.receitaCategoria);
+            escreverInts(saida, snapshot.receitaTempo);
+            escreverInts(saida, snapshot.inicioLinhas);
+            escreverInts(saida, snapshot.linhaIngrediente);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(arquivo);
+    }
+
+    public static SnapshotColunar ler(Path arquivo) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot analítico maior que 2 GB: " + arquivo);
+            }
+            buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        try {
+            if (buffer.getInt() != ASSINATURA || buffer.getInt() != VERSAO_FORMATO) {
+                throw new IOException("Arquivo não é um snapshot analítico suportado: " + arquivo);
+            }
+            Instant geradoEm = Instant.ofEpochMilli(buffer.getLong());
+            long[] categoriaIds = lerLongs(buffer);
+            String[] categoriaNomes = lerTextos(buffer);
+            long[] ingredienteIds = lerLongs(buffer);
+            String[] ingredienteNomes = lerTextos(buffer);
+            long[] receitaIds = lerLongs(buffer);
+            int[] receitaCategoria = lerInts(buffer);
+            int[] receitaTempo = lerInts(buffer);
+            int[] inicioLinhas = lerInts(buffer);
+            int[] linhaIngrediente = lerInts(buffer);
+            return new SnapshotColunar(geradoEm, categoriaIds, categoriaNomes, ingredienteIds, ingredienteNomes,
+                    receitaIds, receitaCategoria, receitaTempo, inicioLinhas, linhaIngrediente);
+        } catch (RuntimeException e) {
+            // BufferUnderflowException, tamanhos negativos: arquivo truncado ou corrompido
+            throw new IOException("Snapshot analítico corrompido: " + arquivo, e);
+        }
+    }
+
+    private static void escreverLongs(DataOutputStream saida, long[] valores) throws IOException {
+        saida.writeInt(valores.length);
+        for (long valor : valores) {
+            saida.writeLong(valor);
+        }
+    }
+
+    private static void escreverInts(DataOutputStream saida, int[] valores) throws IOException {
+        saida.writeInt(valores.length);
+        for (int valor : valores) {
+            saida.writeInt(valor);
+        }
+    }
+
+    // Tamanho -1 representa texto nulo
+    private static void escreverTextos(DataOutputStream saida, String[] textos) throws IOException {
+        saida.writeInt(textos.length);
+        for (String texto : textos) {
+            if (texto == null) {
+                saida.writeInt(-1);
+                continue;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            saida.writeInt(bytes.length);
+            saida.write(bytes);
+        }
+    }
+
+    private static long[] lerLongs(ByteBuffer buffer) {
+        long[] valores = new long[buffer.getInt()];
+        buffer.asLongBuffer().get(valores);
+        buffer.position(buffer.position() + valores.length * Long.BYTES);
+        return valores;
+    }
+
+    private static int[] lerInts(ByteBuffer buffer) {
+        int[] valores = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(valores);
+        buffer.position(buffer.position() + valores.length * Integer.BYTES);
+        return valores;
+    }
+
+    private static String[] lerTextos(ByteBuffer buffer) {
+        String[] textos = new String[buffer.getInt()];
+        for (int i = 0; i < textos.length; i++) {
+            int tamanho = buffer.getInt();
+            if (tamanho < 0) {
+                continue;
+            }
+            byte[] bytes = new byte[tamanho];
+            buffer.get(bytes);
+            textos[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return textos;
+    }
+}
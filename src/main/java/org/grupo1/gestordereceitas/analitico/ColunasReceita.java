@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.analitico;
+
+// Colunas da receita usadas no snapshot analítico
+public record ColunasReceita(Long id, int tempoDePreparo, Long categoriaId) {
+}
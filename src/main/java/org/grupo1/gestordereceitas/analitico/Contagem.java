@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.analitico;
+
+// Total associado a um código do dicionário (ingrediente) no snapshot
+public record Contagem(int codigo, long total) {
+}
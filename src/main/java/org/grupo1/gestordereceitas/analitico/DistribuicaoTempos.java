@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.analitico;
+
+// receitasPorFaixa[i] conta os tempos em [i * largura, (i + 1) * largura); a última faixa é aberta
+public record DistribuicaoTempos(int categoria, long receitas, long[] receitasPorFaixa) {
+}
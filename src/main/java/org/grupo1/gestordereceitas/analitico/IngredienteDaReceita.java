@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.analitico;
+
+// Par receita/ingrediente distinto usado no snapshot analítico
+public record IngredienteDaReceita(Long receitaId, Long ingredienteId) {
+}
@@ -0,0 +1,160 @@
+package org.grupo1.gestordereceitas.analitico;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Relatórios que varrem as colunas do snapshot em paralelo: as receitas são divididas em trechos
+ * contíguos, cada trecho acumula em vetores próprios no pool comum do fork/join e os parciais são
+ * somados no final. Nenhuma estrutura é compartilhada durante a varredura.
+ */
+public final class RelatoriosColunares {
+
+    // Abaixo disso, dividir custa mais do que varrer
+    private static final int TAMANHO_MINIMO_TRECHO = 16_384;
+
+    private RelatoriosColunares() {
+    }
+
+    /**
+     * Receitas por categoria e, em cada categoria, os ingredientes mais usados. A posição
+     * {@code categorias()} dos vetores agrupa as receitas sem categoria.
+     */
+    public static List<UsoNaCategoria> usoPorCategoria(SnapshotColunar snapshot, int limite) {
+        int grupos = snapshot.categorias() + 1;
+        int ingredientes = snapshot.ingredientes();
+        long[][] parcial = varrer(snapshot.receitas(),
+                () -> new long[][]{new long[grupos], new long[grupos * ingredientes]},
+                (acumulado, inicio, fim) -> {
+                    long[] receitas = acumulado[0];
+                    long[] uso = acumulado[1];
+                    for (int r = inicio; r < fim; r++) {
+                        int grupo = grupo(snapshot, r);
+                        receitas[grupo]++;
+                        int base = grupo * ingredientes;
+                        for (int l = snapshot.inicioLinhas[r]; l < snapshot.inicioLinhas[r + 1]; l++) {
+                            uso[base + snapshot.linhaIngrediente[l]]++;
+                        }
+                    }
+                },
+                (a, b) -> new long[][]{somar(a[0], b[0]), somar(a[1], b[1])});
+
+        List<UsoNaCategoria> resultado = new ArrayList<>();
+        for (int grupo = 0; grupo < grupos; grupo++) {
+            if (parcial[0][grupo] == 0) {
+                continue;
+            }
+            int categoria = grupo == snapshot.categorias() ? SnapshotColunar.SEM_CATEGORIA : grupo;
+            resultado.add(new UsoNaCategoria(categoria, parcial[0][grupo],
+                    maiores(parcial[1], grupo * ingredientes, ingredientes, limite)));
+        }
+        return resultado;
+    }
+
+    // Faixas de largura fixa, em minutos; tempos além da última faixa caem nela
+    public static List<DistribuicaoTempos> distribuicaoTempos(SnapshotColunar snapshot, int largura, int faixas) {
+        int grupos = snapshot.categorias() + 1;
+        long[] contagens = varrer(snapshot.receitas(),
+                () -> new long[grupos * faixas],
+                (acumulado, inicio, fim) -> {
+                    for (int r = inicio; r < fim; r++) {
+                        int faixa = Math.min(Math.max(snapshot.receitaTempo[r], 0) / largura, faixas - 1);
+                        acumulado[grupo(snapshot, r) * faixas + faixa]++;
+                    }
+                },
+                RelatoriosColunares::somar);
+
+        List<DistribuicaoTempos> resultado = new ArrayList<>();
+        for (int grupo = 0; grupo < grupos; grupo++) {
+            long[] porFaixa = Arrays.copyOfRange(contagens, grupo * faixas, (grupo + 1) * faixas);
+            long receitas = Arrays.stream(porFaixa).sum();
+            if (receitas > 0) {
+                int categoria = grupo == snapshot.categorias() ? SnapshotColunar.SEM_CATEGORIA : grupo;
+                resultado.add(new DistribuicaoTempos(categoria, receitas, porFaixa));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Ingredientes que mais aparecem nas mesmas receitas que o ingrediente informado (pelo código).
+     * O total do próprio ingrediente, na posição dele, é a quantidade de receitas que o usam.
+     */
+    public static long[] coUso(SnapshotColunar snapshot, int ingrediente) {
+        return varrer(snapshot.receitas(),
+                () -> new long[snapshot.ingredientes()],
+                (acumulado, inicio, fim) -> {
+                    for (int r = inicio; r < fim; r++) {
+                        int de = snapshot.inicioLinhas[r];
+                        int ate = snapshot.inicioLinhas[r + 1];
+                        // Os ingredientes de cada receita estão ordenados por código
+                        if (Arrays.binarySearch(snapshot.linhaIngrediente, de, ate, ingrediente) < 0) {
+                            continue;
+                        }
+                        for (int l = de; l < ate; l++) {
+                            acumulado[snapshot.linhaIngrediente[l]]++;
+                        }
+                    }
+                },
+                RelatoriosColunares::somar);
+    }
+
+    // Os limite maiores totais de valores[deslocamento .. deslocamento + tamanho), em ordem decrescente
+    public static List<Contagem> maiores(long[] valores, int deslocamento, int tamanho, int limite) {
+        if (limite <= 0) {
+            return List.of();
+        }
+        Comparator<Contagem> ordem = Comparator.comparingLong(Contagem::total)
+                .thenComparing(Contagem::codigo, Comparator.reverseOrder());
+        PriorityQueue<Contagem> heap = new PriorityQueue<>(limite + 1, ordem);
+        for (int i = 0; i < tamanho; i++) {
+            long total = valores[deslocamento + i];
+            if (total == 0) {
+                continue;
+            }
+            heap.add(new Contagem(i, total));
+            if (heap.size() > limite) {
+                heap.poll();
+            }
+        }
+        List<Contagem> resultado = new ArrayList<>(heap);
+        resultado.sort(ordem.reversed());
+        return resultado;
+    }
+
+    private static int grupo(SnapshotColunar snapshot, int receita) {
+        int categoria = snapshot.receitaCategoria[receita];
+        return categoria == SnapshotColunar.SEM_CATEGORIA ? snapshot.categorias() : categoria;
+    }
+
+    private static long[] somar(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+
+    @FunctionalInterface
+    private interface Trecho<T> {
+        void acumular(T acumulado, int inicio, int fim);
+    }
+
+    private static <T> T varrer(int total, Supplier<T> novo, Trecho<T> trecho, BinaryOperator<T> combinar) {
+        int partes = Math.max(1, Math.min(total / TAMANHO_MINIMO_TRECHO, ForkJoinPool.getCommonPoolParallelism() * 4));
+        return IntStream.range(0, partes).parallel()
+                .mapToObj(parte -> {
+                    T acumulado = novo.get();
+                    trecho.acumular(acumulado, (int) ((long) total * parte / partes), (int) ((long) total * (parte + 1) / partes));
+                    return acumulado;
+                })
+                .reduce(combinar)
+                .orElseGet(novo);
+    }
+}
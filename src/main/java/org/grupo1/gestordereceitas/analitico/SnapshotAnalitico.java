@@ -0,0 +1,127 @@
+package org.grupo1.gestordereceitas.analitico;
+
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Mantém o snapshot colunar usado pelos relatórios analíticos. Os relatórios leem só o snapshot;
+ * o banco é consultado apenas na geração periódica, em uma única transação somente leitura.
+ * <p>
+ * Cada snapshot gerado é gravado em arquivo local e, na subida, o último arquivo é carregado, para
+ * que os relatórios respondam antes da próxima geração. A data de geração acompanha cada relatório.
+ */
+@Component
+public class SnapshotAnalitico {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotAnalitico.class);
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final IngredienteRepository ingredienteRepository;
+    private final TransactionTemplate leituraConsistente;
+    private final Path arquivo;
+    private final boolean persistir;
+
+    private volatile SnapshotColunar atual;
+    private volatile long duracaoUltimaGeracaoMs;
+    private volatile long bytesArquivo;
+
+    public SnapshotAnalitico(ReceitaRepository receitaRepository,
+                             ReceitaIngredienteRepository receitaIngredienteRepository,
+                             CategoriaRepository categoriaRepository,
+                             IngredienteRepository ingredienteRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${gestor.analitico.arquivo:./data/analitico.bin}") String arquivo,
+                             @Value("${gestor.analitico.persistir:true}") boolean persistir) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.ingredienteRepository = ingredienteRepository;
+        this.leituraConsistente = new TransactionTemplate(transactionManager);
+        this.leituraConsistente.setReadOnly(true);
+        this.leituraConsistente.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.arquivo = Path.of(arquivo);
+        this.persistir = persistir;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void carregar() {
+        if (persistir && Files.isRegularFile(arquivo)) {
+            try {
+                atual = ArquivoSnapshotColunar.ler(arquivo);
+                bytesArquivo = Files.size(arquivo);
+                log.info("Snapshot analítico de {} carregado de {}", atual.geradoEm(), arquivo);
+                return;
+            } catch (IOException e) {
+                log.warn("Falha ao ler o snapshot analítico {}; gerando um novo", arquivo, e);
+            }
+        }
+        gerar();
+    }
+
+    @Scheduled(initialDelayString = "${gestor.analitico.intervalo-snapshot-ms:900000}",
+            fixedDelayString = "${gestor.analitico.intervalo-snapshot-ms:900000}")
+    public synchronized SnapshotColunar gerar() {
+        long inicio = System.nanoTime();
+        SnapshotColunar snapshot = leituraConsistente.execute(status -> {
+            SortedMap<Long, String> categorias = new TreeMap<>();
+            for (Categoria categoria : categoriaRepository.findAll()) {
+                categorias.put(categoria.getId(), categoria.getNome());
+            }
+            SortedMap<Long, String> ingredientes = new TreeMap<>();
+            for (Ingrediente ingrediente : ingredienteRepository.findAll()) {
+                ingredientes.put(ingrediente.getId(), ingrediente.getNome());
+            }
+            return SnapshotColunar.montar(Instant.now(), categorias, ingredientes,
+                    receitaRepository.findColunasAnaliticas(), receitaIngredienteRepository.findIngredientesDistintosPorReceita());
+        });
+        atual = snapshot;
+        duracaoUltimaGeracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        if (!persistir) {
+            return snapshot;
+        }
+        try {
+            bytesArquivo = ArquivoSnapshotColunar.gravar(snapshot, arquivo);
+        } catch (IOException e) {
+            log.warn("Falha ao gravar o snapshot analítico em {}", arquivo, e);
+        }
+        log.debug("Snapshot analítico gerado em {} ms: {} receitas, {} linhas",
+                duracaoUltimaGeracaoMs, snapshot.receitas(), snapshot.linhas());
+        return snapshot;
+    }
+
+    // null enquanto nenhum snapshot foi carregado ou gerado
+    public SnapshotColunar atual() {
+        return atual;
+    }
+
+    public long duracaoUltimaGeracaoMs() {
+        return duracaoUltimaGeracaoMs;
+    }
+
+    public long bytesArquivo() {
+        return bytesArquivo;
+    }
+}
@@ -0,0 +1,143 @@
+package org.grupo1.gestordereceitas.analitico;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Cópia imutável do catálogo em colunas de tipos primitivos, para relatórios que varrem tudo.
+ * <p>
+ * Categorias e ingredientes são codificados por dicionário: cada um vira o índice da sua posição
+ * nos vetores de ids e nomes, em ordem de id. Uma receita é a posição i das colunas de receita, e
+ * seus ingredientes (distintos, em ordem de código) ficam em
+ * {@code linhaIngrediente[inicioLinhas[i] .. inicioLinhas[i + 1])}.
+ */
+public final class SnapshotColunar {
+
+    public static final int SEM_CATEGORIA = -1;
+
+    final Instant geradoEm;
+    final long[] categoriaIds;
+    final String[] categoriaNomes;
+    final long[] ingredienteIds;
+    final String[] ingredienteNomes;
+    final long[] receitaIds;
+    final int[] receitaCategoria;
+    final int[] receitaTempo;
+    final int[] inicioLinhas;
+    final int[] linhaIngrediente;
+
+    SnapshotColunar(Instant geradoEm, long[] categoriaIds, String[] categoriaNomes, long[] ingredienteIds,
+                    String[] ingredienteNomes, long[] receitaIds, int[] receitaCategoria, int[] receitaTempo,
+                    int[] inicioLinhas, int[] linhaIngrediente) {
+        this.geradoEm = geradoEm;
+        this.categoriaIds = categoriaIds;
+        this.categoriaNomes = categoriaNomes;
+        this.ingredienteIds = ingredienteIds;
+        this.ingredienteNomes = ingredienteNomes;
+        this.receitaIds = receitaIds;
+        this.receitaCategoria = receitaCategoria;
+        this.receitaTempo = receitaTempo;
+        this.inicioLinhas = inicioLinhas;
+        this.linhaIngrediente = linhaIngrediente;
+    }
+
+    /**
+     * Monta as colunas a partir das linhas lidas do banco: receitas em ordem de id e pares
+     * receita/ingrediente em ordem de receita e ingrediente.
+     */
+    public static SnapshotColunar montar(Instant geradoEm,
+                                         SortedMap<Long, String> categorias,
+                                         SortedMap<Long, String> ingredientes,
+                                         List<ColunasReceita> receitas,
+                                         List<IngredienteDaReceita> linhas) {
+        long[] categoriaIds = categorias.keySet().stream().mapToLong(Long::longValue).toArray();
+        String[] categoriaNomes = categorias.values().toArray(String[]::new);
+        long[] ingredienteIds = ingredientes.keySet().stream().mapToLong(Long::longValue).toArray();
+        String[] ingredienteNomes = ingredientes.values().toArray(String[]::new);
+
+        int total = receitas.size();
+        long[] receitaIds = new long[total];
+        int[] receitaCategoria = new int[total];
+        int[] receitaTempo = new int[total];
+        for (int i = 0; i < total; i++) {
+            ColunasReceita receita = receitas.get(i);
+            receitaIds[i] = receita.id();
+            receitaCategoria[i] = codigo(categoriaIds, receita.categoriaId());
+            receitaTempo[i] = receita.tempoDePreparo();
+        }
+
+        // As duas listas vêm em ordem de receita: um único passo intercalado posiciona cada linha.
+        // Conta as linhas por receita e depois soma os prefixos
+        int[] inicioLinhas = new int[total + 1];
+        int[] linhaIngrediente = new int[linhas.size()];
+        int gravadas = 0;
+        int posicao = 0;
+        for (IngredienteDaReceita linha : linhas) {
+            while (posicao < total && receitaIds[posicao] < linha.receitaId()) {
+                posicao++;
+            }
+            int ingrediente = codigo(ingredienteIds, linha.ingredienteId());
+            if (posicao == total || receitaIds[posicao] != linha.receitaId() || ingrediente < 0) {
+                continue;
+            }
+            inicioLinhas[posicao + 1]++;
+            linhaIngrediente[gravadas++] = ingrediente;
+        }
+        for (int i = 0; i < total; i++) {
+            inicioLinhas[i + 1] += inicioLinhas[i];
+        }
+        return new SnapshotColunar(geradoEm, categoriaIds, categoriaNomes, ingredienteIds, ingredienteNomes,
+                receitaIds, receitaCategoria, receitaTempo, inicioLinhas, Arrays.copyOf(linhaIngrediente, gravadas));
+    }
+
+    private static int codigo(long[] ids, Long id) {
+        if (id == null) {
+            return SEM_CATEGORIA;
+        }
+        int posicao = Arrays.binarySearch(ids, id);
+        return posicao >= 0 ? posicao : SEM_CATEGORIA;
+    }
+
+    public Instant geradoEm() {
+        return geradoEm;
+    }
+
+    public int receitas() {
+        return receitaIds.length;
+    }
+
+    public int linhas() {
+        return linhaIngrediente.length;
+    }
+
+    public int categorias() {
+        return categoriaIds.length;
+    }
+
+    public int ingredientes() {
+        return ingredienteIds.length;
+    }
+
+    // Código do ingrediente no dicionário, ou -1 se não estiver no snapshot
+    public int codigoIngrediente(long ingredienteId) {
+        return codigo(ingredienteIds, ingredienteId);
+    }
+
+    public long ingredienteId(int codigo) {
+        return ingredienteIds[codigo];
+    }
+
+    public String ingredienteNome(int codigo) {
+        return ingredienteNomes[codigo];
+    }
+
+    public Long categoriaId(int codigo) {
+        return codigo == SEM_CATEGORIA ? null : categoriaIds[codigo];
+    }
+
+    public String categoriaNome(int codigo) {
+        return codigo == SEM_CATEGORIA ? null : categoriaNomes[codigo];
+    }
+}
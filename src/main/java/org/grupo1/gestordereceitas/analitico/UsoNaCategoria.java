@@ -0,0 +1,7 @@
+package org.grupo1.gestordereceitas.analitico;
+
+import java.util.List;
+
+// categoria é o código no dicionário, ou SnapshotColunar.SEM_CATEGORIA
+public record UsoNaCategoria(int categoria, long receitas, List<Contagem> ingredientes) {
+}
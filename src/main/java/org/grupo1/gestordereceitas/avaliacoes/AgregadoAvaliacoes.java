@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.avaliacoes;
+
+// Soma e quantidade das notas de uma receita, como gravadas na própria receita
+public record AgregadoAvaliacoes(Long receitaId, Long categoriaId, long somaNotas, long quantidade) {
+}
@@ -0,0 +1,176 @@
+package org.grupo1.gestordereceitas.avaliacoes;
+
+import org.grupo1.gestordereceitas.event.AvaliacaoRegistradaEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranking das receitas avaliadas, geral e por categoria, pela média bayesiana das notas:
+ * {@code (C * m + soma) / (C + quantidade)}, em que m é a média de todas as notas e C o peso
+ * dessa média (quantas avaliações "fictícias" cada receita começa tendo). Uma receita com
+ * poucas notas fica perto da média geral até acumular avaliações.
+ * <p>
+ * A soma e a quantidade vêm dos agregados gravados na receita; a média geral só é recalculada
+ * na reconstrução periódica, para que a ordem entre duas reconstruções dependa apenas das
+ * receitas que mudaram. Cada avaliação reposiciona uma única receita em O(log n).
+ */
+@Component
+public class IndiceAvaliacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceAvaliacoes.class);
+
+    // Média usada enquanto não há nenhuma avaliação: o meio da escala de 1 a 5
+    static final double MEDIA_SEM_AVALIACOES = 3.0;
+
+    private record Entrada(long receitaId, Long categoriaId, long soma, long quantidade, double pontuacao) {
+    }
+
+    private static final Comparator<Entrada> ORDEM = Comparator.comparingDouble(Entrada::pontuacao).reversed()
+            .thenComparingLong(Entrada::receitaId);
+
+    private final ReceitaRepository receitaRepository;
+    private final double pesoMediaGeral;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entrada> porReceita = new HashMap<>();
+    private final TreeSet<Entrada> geral = new TreeSet<>(ORDEM);
+    private final Map<Long, TreeSet<Entrada>> porCategoria = new HashMap<>();
+    private volatile double mediaGeral = MEDIA_SEM_AVALIACOES;
+
+    public IndiceAvaliacoes(ReceitaRepository receitaRepository,
+                            @Value("${gestor.avaliacoes.peso-media-geral:10}") double pesoMediaGeral) {
+        this.receitaRepository = receitaRepository;
+        this.pesoMediaGeral = pesoMediaGeral;
+    }
+
+    // --- Consultas ---
+
+    public double pontuacao(long somaNotas, long quantidade) {
+        return (pesoMediaGeral * mediaGeral + somaNotas) / (pesoMediaGeral + quantidade);
+    }
+
+    public double mediaGeral() {
+        return mediaGeral;
+    }
+
+    /** As receitas de maior pontuação, de uma categoria ou de todas (categoriaId nulo). */
+    public List<ReceitaAvaliada> melhores(Long categoriaId, double mediaMinima, int limite) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<Entrada> entradas = categoriaId == null ? geral : porCategoria.get(categoriaId);
+            List<ReceitaAvaliada> resultado = new ArrayList<>(limite);
+            if (entradas == null) {
+                return resultado;
+            }
+            for (Entrada entrada : entradas) {
+                if (resultado.size() == limite) {
+                    break;
+                }
+                double media = (double) entrada.soma() / entrada.quantidade();
+                if (media >= mediaMinima) {
+                    resultado.add(new ReceitaAvaliada(entrada.receitaId(), media, entrada.quantidade(), entrada.pontuacao()));
+                }
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Montagem e atualização (escritores) ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    @Scheduled(initialDelayString = "${gestor.avaliacoes.intervalo-reconstrucao-ms:1800000}",
+            fixedDelayString = "${gestor.avaliacoes.intervalo-reconstrucao-ms:1800000}")
+    public synchronized void reconstruir() {
+        List<AgregadoAvaliacoes> avaliadas = receitaRepository.findAgregadosAvaliacoes();
+        long soma = 0;
+        long quantidade = 0;
+        for (AgregadoAvaliacoes agregado : avaliadas) {
+            soma += agregado.somaNotas();
+            quantidade += agregado.quantidade();
+        }
+        lock.writeLock().lock();
+        try {
+            porReceita.clear();
+            geral.clear();
+            porCategoria.clear();
+            mediaGeral = quantidade == 0 ? MEDIA_SEM_AVALIACOES : (double) soma / quantidade;
+            for (AgregadoAvaliacoes agregado : avaliadas) {
+                atualizar(agregado.receitaId(), agregado);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Índice de avaliações montado: {} receitas avaliadas, média geral {}", avaliadas.size(), mediaGeral);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onAvaliacaoRegistrada(AvaliacaoRegistradaEvent event) {
+        recarregar(event.receitaId());
+    }
+
+    // A receita pode ter mudado de categoria ou sido excluída
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        recarregar(event.receitaId());
+    }
+
+    private void recarregar(Long receitaId) {
+        AgregadoAvaliacoes atual = receitaRepository.findAgregadoAvaliacoesById(receitaId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            atualizar(receitaId, atual);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Chamado com o lock de escrita; null (ou nenhuma nota) tira a receita do ranking
+    void atualizar(Long receitaId, AgregadoAvaliacoes atual) {
+        Entrada anterior = porReceita.remove(receitaId);
+        if (anterior != null) {
+            geral.remove(anterior);
+            TreeSet<Entrada> categoria = porCategoria.get(anterior.categoriaId());
+            if (categoria != null) {
+                categoria.remove(anterior);
+                if (categoria.isEmpty()) {
+                    porCategoria.remove(anterior.categoriaId());
+                }
+            }
+        }
+        if (atual == null || atual.quantidade() <= 0) {
+            return;
+        }
+        Entrada entrada = new Entrada(receitaId, atual.categoriaId(), atual.somaNotas(), atual.quantidade(),
+                pontuacao(atual.somaNotas(), atual.quantidade()));
+        porReceita.put(receitaId, entrada);
+        geral.add(entrada);
+        if (atual.categoriaId() != null) {
+            porCategoria.computeIfAbsent(atual.categoriaId(), id -> new TreeSet<>(ORDEM)).add(entrada);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package org.grupo1.gestordereceitas.avaliacoes;
+
+public record ReceitaAvaliada(long receitaId, double media, long quantidade, double pontuacao) {
+}
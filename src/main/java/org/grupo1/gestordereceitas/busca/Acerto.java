@@ -0,0 +1,4 @@
+package org.grupo1.gestordereceitas.busca;
+
+public record Acerto(long receitaId, double pontuacao) {
+}
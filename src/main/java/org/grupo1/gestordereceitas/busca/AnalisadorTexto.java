@@ -0,0 +1,94 @@
+package org.grupo1.gestordereceitas.busca;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Análise de texto em português usada tanto na indexação quanto nas consultas: separa as palavras,
+ * passa para minúsculas, remove acentos ("açúcar" e "acucar" viram o mesmo termo), descarta
+ * palavras vazias e reduz plurais com um radicalizador leve ("limões" → "limao", "colheres" →
+ * "colher", "ovos" → "ovo").
+ */
+public final class AnalisadorTexto {
+
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "da", "do", "das", "dos", "e", "em",
+            "no", "na", "nos", "nas", "com", "para", "pra", "por", "ao", "aos", "que", "se", "ou", "ate");
+
+    private AnalisadorTexto() {
+    }
+
+    public static List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (texto == null || texto.isBlank()) {
+            return termos;
+        }
+        String normalizado = semAcentos(texto.toLowerCase(Locale.ROOT));
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean letra = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (letra && inicio < 0) {
+                inicio = i;
+            } else if (!letra && inicio >= 0) {
+                adicionar(termos, normalizado.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return termos;
+    }
+
+    private static void adicionar(List<String> termos, String palavra) {
+        if (palavra.length() < 2 || PALAVRAS_VAZIAS.contains(palavra)) {
+            return;
+        }
+        termos.add(radical(palavra));
+    }
+
+    static String semAcentos(String texto) {
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder resultado = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                resultado.append(c);
+            }
+        }
+        return resultado.toString();
+    }
+
+    // Só plurais: reduções mais agressivas juntam palavras diferentes demais para uma busca de receitas
+    static String radical(String palavra) {
+        if (palavra.length() <= 3 || !palavra.endsWith("s")) {
+            return palavra;
+        }
+        if (palavra.endsWith("oes") || palavra.endsWith("aes")) {
+            return cortar(palavra, 3) + "ao";
+        }
+        if (palavra.endsWith("ais")) {
+            return cortar(palavra, 3) + "al";
+        }
+        if (palavra.endsWith("eis") && palavra.length() > 4) {
+            return cortar(palavra, 3) + "el";
+        }
+        if (palavra.endsWith("ois")) {
+            return cortar(palavra, 3) + "ol";
+        }
+        if (palavra.endsWith("ns")) {
+            return cortar(palavra, 2) + "m";
+        }
+        if (palavra.endsWith("res") || palavra.endsWith("zes")) {
+            return cortar(palavra, 2);
+        }
+        if (palavra.endsWith("ss") || palavra.endsWith("us") || palavra.endsWith("is")) {
+            return palavra;
+        }
+        return cortar(palavra, 1);
+    }
+
+    private static String cortar(String palavra, int caracteres) {
+        return palavra.substring(0, palavra.length() - caracteres);
+    }
+}
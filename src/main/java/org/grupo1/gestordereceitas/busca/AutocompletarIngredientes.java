@@ -0,0 +1,152 @@
+package org.grupo1.gestordereceitas.busca;
+
+import org.grupo1.gestordereceitas.estatisticas.EstatisticasCatalogo;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Autocompletar de ingredientes sobre a {@link TrieIngredientes}, com nomes sem acentos e em
+ * minúsculas. Além do nome inteiro, cada palavra seguinte também é indexada como início de
+ * chave, para que "leite" encontre "creme de leite".
+ * <p>
+ * O ranking é pelo número de receitas que usam o ingrediente, lido das
+ * {@link EstatisticasCatalogo} na subida e a cada intervalo; os nomes são atualizados após o
+ * commit de cada escrita em ingredientes. Consultas e escritas passam pelo lock do objeto: uma
+ * sugestão é a descida de algumas dezenas de nós.
+ */
+@Component
+public class AutocompletarIngredientes {
+
+    private static final Logger log = LoggerFactory.getLogger(AutocompletarIngredientes.class);
+
+    // Abaixo disso a busca aproximada casaria com praticamente qualquer nome
+    private static final int TAMANHO_MINIMO_APROXIMADO = 3;
+    private static final int TAMANHO_MAXIMO_CONECTIVO = 2;
+
+    private final IngredienteRepository ingredienteRepository;
+    private final EstatisticasCatalogo estatisticasCatalogo;
+
+    private TrieIngredientes trie = new TrieIngredientes();
+    private Map<Long, String> nomes = new HashMap<>();
+    private Map<Long, Long> uso = Map.of();
+
+    public AutocompletarIngredientes(IngredienteRepository ingredienteRepository,
+                                     EstatisticasCatalogo estatisticasCatalogo) {
+        this.ingredienteRepository = ingredienteRepository;
+        this.estatisticasCatalogo = estatisticasCatalogo;
+    }
+
+    public synchronized List<SugestaoIngrediente> sugerir(String prefixo, int limite, boolean aproximado) {
+        String chave = normalizar(prefixo);
+        int quantidade = Math.min(limite, TrieIngredientes.MAXIMO_SUGESTOES);
+        List<SugestaoIngrediente> sugestoes = new ArrayList<>(quantidade);
+        if (aproximado && chave.length() >= TAMANHO_MINIMO_APROXIMADO) {
+            for (TrieIngredientes.Sugestao sugestao : trie.sugerirAproximado(chave, quantidade)) {
+                sugestoes.add(sugestao(sugestao.ingredienteId(), sugestao.distancia() > 0));
+            }
+        } else {
+            for (long id : trie.sugerir(chave, quantidade)) {
+                sugestoes.add(sugestao(id, false));
+            }
+        }
+        return sugestoes;
+    }
+
+    private SugestaoIngrediente sugestao(long id, boolean aproximada) {
+        return new SugestaoIngrediente(id, nomes.get(id), uso.getOrDefault(id, 0L), aproximada);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void carregar() {
+        long inicio = System.nanoTime();
+        TrieIngredientes nova = new TrieIngredientes();
+        Map<Long, String> novosNomes = new HashMap<>();
+        for (Ingrediente ingrediente : ingredienteRepository.findAll()) {
+            novosNomes.put(ingrediente.getId(), ingrediente.getNome());
+            for (String chave : chaves(ingrediente.getNome())) {
+                nova.inserir(chave, ingrediente.getId());
+            }
+        }
+        trie = nova;
+        nomes = novosNomes;
+        atualizarRanking();
+        log.info("Autocompletar de ingredientes montado: {} ingredientes, {} nós em {} ms",
+                novosNomes.size(), nova.totalNos(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @Scheduled(initialDelayString = "${gestor.ingredientes.autocompletar.intervalo-ranking-ms:60000}",
+            fixedDelayString = "${gestor.ingredientes.autocompletar.intervalo-ranking-ms:60000}")
+    public synchronized void atualizarRanking() {
+        Map<Long, Long> novoUso = estatisticasCatalogo.usoIngredientes();
+        uso = novoUso;
+        trie.atualizarUso(id -> novoUso.getOrDefault(id, 0L));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onIngredienteAlterado(IngredienteAlteradoEvent event) {
+        Long id = event.ingredienteId();
+        String anterior = nomes.remove(id);
+        if (anterior != null) {
+            for (String chave : chaves(anterior)) {
+                trie.remover(chave, id);
+            }
+        }
+        ingredienteRepository.findById(id).ifPresent(ingrediente -> {
+            nomes.put(id, ingrediente.getNome());
+            for (String chave : chaves(ingrediente.getNome())) {
+                trie.inserir(chave, id);
+            }
+        });
+    }
+
+    // Minúsculas, sem acentos e com qualquer sequência de pontuação ou espaços reduzida a um espaço
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = AnalisadorTexto.semAcentos(texto.toLowerCase(Locale.ROOT));
+        StringBuilder chave = new StringBuilder(semAcentos.length());
+        for (int i = 0; i < semAcentos.length(); i++) {
+            char c = semAcentos.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                chave.append(c);
+            } else if (!chave.isEmpty() && chave.charAt(chave.length() - 1) != ' ') {
+                chave.append(' ');
+            }
+        }
+        int fim = chave.length();
+        return fim > 0 && chave.charAt(fim - 1) == ' ' ? chave.substring(0, fim - 1) : chave.toString();
+    }
+
+    static List<String> chaves(String nome) {
+        String normalizado = normalizar(nome);
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+        List<String> chaves = new ArrayList<>();
+        chaves.add(normalizado);
+        for (int i = normalizado.indexOf(' '); i >= 0; i = normalizado.indexOf(' ', i + 1)) {
+            String resto = normalizado.substring(i + 1);
+            int fimPalavra = resto.indexOf(' ');
+            // Conectivos como "de" e "e" não iniciam chave: "de" não deve sugerir "creme de leite"
+            if ((fimPalavra < 0 ? resto.length() : fimPalavra) > TAMANHO_MAXIMO_CONECTIVO) {
+                chaves.add(resto);
+            }
+        }
+        return chaves;
+    }
+}
@@ -0,0 +1,201 @@
+package org.grupo1.gestordereceitas.busca;
+
+import org.grupo1.gestordereceitas.event.CategoriaAlteradaEvent;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.leitura.LinhaReceita;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Busca textual nas receitas: nome, descrição, categoria e ingredientes, analisados pelo
+ * {@link AnalisadorTexto} e ranqueados por BM25 no {@link IndiceInvertido}.
+ * <p>
+ * O índice é montado a partir do banco na subida (e sob demanda, em {@link #reconstruir()}) e
+ * atualizado após o commit de cada escrita. Escritores são serializados pelo lock do objeto; as
+ * consultas usam o lock de leitura e só esperam pelo trecho curto em que o índice é alterado.
+ * <p>
+ * Os campos pesam de forma diferente: um termo no nome vale mais que na descrição.
+ */
+@Component
+public class BuscaReceitas {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscaReceitas.class);
+
+    private static final int PESO_NOME = 3;
+    private static final int PESO_CATEGORIA = 2;
+    private static final int PESO_INGREDIENTE = 2;
+    private static final int PESO_DESCRICAO = 1;
+    private static final int TAMANHO_LOTE = 500;
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final IngredienteRepository ingredienteRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndiceInvertido indice = new IndiceInvertido();
+
+    // Nomes usados na indexação; acessados só pelos escritores
+    private Map<Long, String> categorias = new HashMap<>();
+    private Map<Long, String> ingredientes = new HashMap<>();
+    private volatile long duracaoUltimaReconstrucaoMs;
+
+    public BuscaReceitas(ReceitaRepository receitaRepository,
+                         ReceitaIngredienteRepository receitaIngredienteRepository,
+                         CategoriaRepository categoriaRepository,
+                         IngredienteRepository ingredienteRepository) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.ingredienteRepository = ingredienteRepository;
+    }
+
+    // --- Consultas ---
+
+    public ResultadoBusca buscar(String consulta, int deslocamento, int limite) {
+        List<String> termos = AnalisadorTexto.termos(consulta);
+        lock.readLock().lock();
+        try {
+            return indice.buscar(termos, deslocamento, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Montagem e atualização (escritores) ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        Map<Long, String> novasCategorias = new HashMap<>();
+        for (Categoria categoria : categoriaRepository.findAll()) {
+            novasCategorias.put(categoria.getId(), categoria.getNome());
+        }
+        Map<Long, String> novosIngredientes = new HashMap<>();
+        for (Ingrediente ingrediente : ingredienteRepository.findAll()) {
+            novosIngredientes.put(ingrediente.getId(), ingrediente.getNome());
+        }
+        categorias = novasCategorias;
+        ingredientes = novosIngredientes;
+
+        // Montado fora do lock: as consultas seguem no índice anterior até a troca
+        IndiceInvertido novo = new IndiceInvertido();
+        indexarLinhas(novo, receitaRepository.findLinhasLeitura(), receitaIngredienteRepository.findLinhasLeitura());
+        lock.writeLock().lock();
+        try {
+            indice = novo;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        duracaoUltimaReconstrucaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        log.info("Índice de busca montado: {} receitas, {} termos em {} ms",
+                novo.documentosVivos(), novo.totalTermos(), duracaoUltimaReconstrucaoMs);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        reindexar(List.of(event.receitaId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onCategoriaAlterada(CategoriaAlteradaEvent event) {
+        Long id = event.categoriaId();
+        categoriaRepository.findById(id).ifPresentOrElse(
+                categoria -> categorias.put(id, categoria.getNome()),
+                () -> categorias.remove(id));
+        reindexar(receitaRepository.findIdsByCategoriaId(id));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onIngredienteAlterado(IngredienteAlteradoEvent event) {
+        Long id = event.ingredienteId();
+        ingredienteRepository.findById(id).ifPresentOrElse(
+                ingrediente -> ingredientes.put(id, ingrediente.getNome()),
+                () -> ingredientes.remove(id));
+        reindexar(receitaIngredienteRepository.findReceitaIdsByIngredienteId(id));
+    }
+
+    // Em lotes: renomear um ingrediente comum reindexa muitas receitas
+    private void reindexar(List<Long> receitaIds) {
+        for (int inicio = 0; inicio < receitaIds.size(); inicio += TAMANHO_LOTE) {
+            List<Long> lote = receitaIds.subList(inicio, Math.min(inicio + TAMANHO_LOTE, receitaIds.size()));
+            List<LinhaReceita> linhas = receitaRepository.findLinhasLeituraByIdIn(lote);
+            List<LinhaIngredienteReceita> linhasIngredientes = receitaIngredienteRepository.findLinhasLeituraByReceitaIdIn(lote);
+            lock.writeLock().lock();
+            try {
+                // Receitas que não voltaram na consulta foram excluídas
+                for (Long id : lote) {
+                    indice.remover(id);
+                }
+                indexarLinhas(indice, linhas, linhasIngredientes);
+                if (indice.precisaCompactar()) {
+                    indice.compactar();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // As duas listas vêm ordenadas pelo id da receita
+    private void indexarLinhas(IndiceInvertido destino, List<LinhaReceita> receitas, List<LinhaIngredienteReceita> linhas) {
+        int proximaLinha = 0;
+        for (LinhaReceita receita : receitas) {
+            while (proximaLinha < linhas.size() && linhas.get(proximaLinha).receitaId() < receita.id()) {
+                proximaLinha++;
+            }
+            Map<String, Integer> frequencias = new HashMap<>();
+            somar(frequencias, receita.nome(), PESO_NOME);
+            somar(frequencias, receita.descricao(), PESO_DESCRICAO);
+            if (receita.categoriaId() != null) {
+                somar(frequencias, categorias.get(receita.categoriaId()), PESO_CATEGORIA);
+            }
+            while (proximaLinha < linhas.size() && linhas.get(proximaLinha).receitaId().equals(receita.id())) {
+                somar(frequencias, ingredientes.get(linhas.get(proximaLinha).ingredienteId()), PESO_INGREDIENTE);
+                proximaLinha++;
+            }
+            destino.indexar(receita.id(), frequencias);
+        }
+    }
+
+    private static void somar(Map<String, Integer> frequencias, String texto, int peso) {
+        for (String termo : AnalisadorTexto.termos(texto)) {
+            frequencias.merge(termo, peso, Integer::sum);
+        }
+    }
+
+    public EstatisticasIndice estatisticas() {
+        lock.readLock().lock();
+        try {
+            return new EstatisticasIndice(indice.documentosVivos(), indice.documentosRemovidos(),
+                    indice.totalTermos(), indice.totalPostagens(), duracaoUltimaReconstrucaoMs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record EstatisticasIndice(int documentos, int removidos, int termos, long postagens, long duracaoUltimaReconstrucaoMs) {
+    }
+}
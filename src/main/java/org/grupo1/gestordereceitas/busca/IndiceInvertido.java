@@ -0,0 +1,223 @@
+package org.grupo1.gestordereceitas.busca;
+
+import java.util.*;
+
+/**
+ * Índice invertido em memória com ranqueamento BM25.
+ * <p>
+ * Cada receita indexada recebe um número de documento crescente; cada termo guarda, em vetores
+ * primitivos, os documentos em que aparece (em ordem) e a frequência ponderada em cada um. Alterar
+ * uma receita marca o documento antigo como removido e acrescenta um novo no fim, então as listas
+ * continuam ordenadas sem reescrita. Quando os removidos passam da metade, {@link #compactar()}
+ * renumera os documentos vivos.
+ * <p>
+ * A consulta percorre as listas dos termos em paralelo, documento a documento, somando a
+ * pontuação de cada um e mantendo só os melhores em um heap do tamanho da página pedida.
+ * <p>
+ * Não é thread-safe: quem o usa coordena leitores e escritores.
+ */
+public class IndiceInvertido {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SEM_DOCUMENTO = -1;
+
+    private final Map<String, Postagens> termos = new HashMap<>();
+    private long[] receitaDoDocumento = new long[1024];
+    private int[] comprimentoDoDocumento = new int[1024];
+    private final BitSet removidos = new BitSet();
+    private int documentos;
+    private int vivos;
+    private long comprimentoTotal;
+    // Indexado pelo id da receita: ids de identidade são densos
+    private int[] documentoDaReceita = new int[0];
+
+    static final class Postagens {
+        int[] documentos = new int[2];
+        int[] frequencias = new int[2];
+        int tamanho;
+
+        void adicionar(int documento, int frequencia) {
+            if (tamanho == documentos.length) {
+                documentos = Arrays.copyOf(documentos, tamanho * 2);
+                frequencias = Arrays.copyOf(frequencias, tamanho * 2);
+            }
+            documentos[tamanho] = documento;
+            frequencias[tamanho] = frequencia;
+            tamanho++;
+        }
+    }
+
+    // frequencias: termo → frequência já ponderada pelo campo em que aparece
+    public void indexar(long receitaId, Map<String, Integer> frequencias) {
+        remover(receitaId);
+        if (frequencias.isEmpty()) {
+            return;
+        }
+        int documento = documentos++;
+        if (documento == receitaDoDocumento.length) {
+            receitaDoDocumento = Arrays.copyOf(receitaDoDocumento, documento * 2);
+            comprimentoDoDocumento = Arrays.copyOf(comprimentoDoDocumento, documento * 2);
+        }
+        int comprimento = 0;
+        for (Map.Entry<String, Integer> entrada : frequencias.entrySet()) {
+            termos.computeIfAbsent(entrada.getKey(), termo -> new Postagens()).adicionar(documento, entrada.getValue());
+            comprimento += entrada.getValue();
+        }
+        receitaDoDocumento[documento] = receitaId;
+        comprimentoDoDocumento[documento] = comprimento;
+        comprimentoTotal += comprimento;
+        vivos++;
+        int posicao = Math.toIntExact(receitaId);
+        if (posicao >= documentoDaReceita.length) {
+            int tamanhoAnterior = documentoDaReceita.length;
+            documentoDaReceita = Arrays.copyOf(documentoDaReceita, Math.max(posicao + 1, tamanhoAnterior * 2));
+            Arrays.fill(documentoDaReceita, tamanhoAnterior, documentoDaReceita.length, SEM_DOCUMENTO);
+        }
+        documentoDaReceita[posicao] = documento;
+    }
+
+    public void remover(long receitaId) {
+        if (receitaId >= documentoDaReceita.length || documentoDaReceita[(int) receitaId] == SEM_DOCUMENTO) {
+            return;
+        }
+        int documento = documentoDaReceita[(int) receitaId];
+        documentoDaReceita[(int) receitaId] = SEM_DOCUMENTO;
+        removidos.set(documento);
+        comprimentoTotal -= comprimentoDoDocumento[documento];
+        vivos--;
+    }
+
+    public boolean precisaCompactar() {
+        return removidos.cardinality() > Math.max(1_000, vivos);
+    }
+
+    // Renumera os documentos vivos na mesma ordem e descarta as postagens dos removidos
+    public void compactar() {
+        int[] novoNumero = new int[documentos];
+        int proximo = 0;
+        for (int documento = 0; documento < documentos; documento++) {
+            if (removidos.get(documento)) {
+                novoNumero[documento] = SEM_DOCUMENTO;
+                continue;
+            }
+            novoNumero[documento] = proximo;
+            receitaDoDocumento[proximo] = receitaDoDocumento[documento];
+            comprimentoDoDocumento[proximo] = comprimentoDoDocumento[documento];
+            documentoDaReceita[(int) receitaDoDocumento[proximo]] = proximo;
+            proximo++;
+        }
+        Iterator<Postagens> iterador = termos.values().iterator();
+        while (iterador.hasNext()) {
+            Postagens postagens = iterador.next();
+            int mantidas = 0;
+            for (int i = 0; i < postagens.tamanho; i++) {
+                int documento = novoNumero[postagens.documentos[i]];
+                if (documento != SEM_DOCUMENTO) {
+                    postagens.documentos[mantidas] = documento;
+                    postagens.frequencias[mantidas] = postagens.frequencias[i];
+                    mantidas++;
+                }
+            }
+            if (mantidas == 0) {
+                iterador.remove();
+                continue;
+            }
+            postagens.tamanho = mantidas;
+            postagens.documentos = Arrays.copyOf(postagens.documentos, mantidas);
+            postagens.frequencias = Arrays.copyOf(postagens.frequencias, mantidas);
+        }
+        documentos = proximo;
+        removidos.clear();
+    }
+
+    public ResultadoBusca buscar(Collection<String> termosConsulta, int deslocamento, int limite) {
+        List<Postagens> listas = new ArrayList<>();
+        List<Double> idfs = new ArrayList<>();
+        for (String termo : new LinkedHashSet<>(termosConsulta)) {
+            Postagens postagens = termos.get(termo);
+            if (postagens != null) {
+                listas.add(postagens);
+                // Documentos removidos ainda contam na frequência do termo até a compactação
+                idfs.add(Math.log(1 + (vivos - postagens.tamanho + 0.5) / (postagens.tamanho + 0.5)));
+            }
+        }
+        if (listas.isEmpty() || vivos == 0) {
+            return new ResultadoBusca(0, List.of());
+        }
+        double[] idf = idfs.stream().mapToDouble(Double::doubleValue).toArray();
+
+        double comprimentoMedio = (double) comprimentoTotal / vivos;
+        int tamanhoHeap = deslocamento + limite;
+        // Mínimo no topo: a pior entre as melhores sai primeiro
+        Comparator<Acerto> ordem = Comparator.comparingDouble(Acerto::pontuacao)
+                .thenComparing(Acerto::receitaId, Comparator.reverseOrder());
+        PriorityQueue<Acerto> melhores = new PriorityQueue<>(Math.max(1, tamanhoHeap + 1), ordem);
+        int[] cursores = new int[listas.size()];
+        long total = 0;
+        while (true) {
+            int documento = Integer.MAX_VALUE;
+            for (int t = 0; t < listas.size(); t++) {
+                Postagens postagens = listas.get(t);
+                if (cursores[t] < postagens.tamanho) {
+                    documento = Math.min(documento, postagens.documentos[cursores[t]]);
+                }
+            }
+            if (documento == Integer.MAX_VALUE) {
+                break;
+            }
+            double pontuacao = 0;
+            double normalizacao = K1 * (1 - B + B * comprimentoDoDocumento[documento] / comprimentoMedio);
+            for (int t = 0; t < listas.size(); t++) {
+                Postagens postagens = listas.get(t);
+                if (cursores[t] < postagens.tamanho && postagens.documentos[cursores[t]] == documento) {
+                    int frequencia = postagens.frequencias[cursores[t]++];
+                    pontuacao += idf[t] * frequencia * (K1 + 1) / (frequencia + normalizacao);
+                }
+            }
+            if (removidos.get(documento)) {
+                continue;
+            }
+            total++;
+            if (tamanhoHeap == 0) {
+                continue;
+            }
+            if (melhores.size() < tamanhoHeap) {
+                melhores.add(new Acerto(receitaDoDocumento[documento], pontuacao));
+                continue;
+            }
+            // Só cria o acerto se ele entrar no heap
+            Acerto pior = melhores.peek();
+            if (pontuacao > pior.pontuacao()
+                    || (pontuacao == pior.pontuacao() && receitaDoDocumento[documento] < pior.receitaId())) {
+                melhores.poll();
+                melhores.add(new Acerto(receitaDoDocumento[documento], pontuacao));
+            }
+        }
+
+        List<Acerto> ordenados = new ArrayList<>(melhores);
+        ordenados.sort(ordem.reversed());
+        List<Acerto> pagina = deslocamento >= ordenados.size() ? List.of() : ordenados.subList(deslocamento, ordenados.size());
+        return new ResultadoBusca(total, List.copyOf(pagina));
+    }
+
+    public int documentosVivos() {
+        return vivos;
+    }
+
+    public int documentosRemovidos() {
+        return removidos.cardinality();
+    }
+
+    public int totalTermos() {
+        return termos.size();
+    }
+
+    public long totalPostagens() {
+        long total = 0;
+        for (Postagens postagens : termos.values()) {
+            total += postagens.tamanho;
+        }
+        return total;
+    }
+}
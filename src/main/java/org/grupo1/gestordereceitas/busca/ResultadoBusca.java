@@ -0,0 +1,7 @@
+package org.grupo1.gestordereceitas.busca;
+
+import java.util.List;
+
+// total conta todas as receitas que casaram com a consulta, não só as da página
+public record ResultadoBusca(long total, List<Acerto> acertos) {
+}
@@ -0,0 +1,8 @@
+package org.grupo1.gestordereceitas.busca;
+
+/**
+ * Um ingrediente sugerido pelo autocompletar, com o número de receitas que o usam.
+ * {@code aproximada} indica que o nome só casa com o prefixo digitado a uma edição de distância.
+ */
+public record SugestaoIngrediente(long ingredienteId, String nome, long receitas, boolean aproximada) {
+}
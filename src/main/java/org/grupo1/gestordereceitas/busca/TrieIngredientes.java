@@ -0,0 +1,269 @@
+package org.grupo1.gestordereceitas.busca;
+
+import java.util.*;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Árvore de prefixos sobre os nomes normalizados dos ingredientes, guardada em vetores paralelos
+ * (um índice por nó, filhos em lista ligada de irmãos ordenada pelo caractere).
+ * <p>
+ * Cada nó guarda os ingredientes cujo nome termina nele e, em cache, os {@link #MAXIMO_SUGESTOES}
+ * ingredientes mais usados de toda a sua subárvore. Uma sugestão por prefixo é então só a descida
+ * até o nó do prefixo mais a leitura do cache. Inserir ou remover um nome invalida o cache do
+ * caminho até a raiz, recalculado na próxima consulta a partir dos caches dos filhos.
+ * <p>
+ * A busca aproximada desce a árvore calculando a distância de edição entre o prefixo digitado e o
+ * caminho de cada nó, linha a linha, e poda ramos em que a distância já passou de 1.
+ * <p>
+ * Não é thread-safe: quem a usa sincroniza o acesso.
+ */
+public class TrieIngredientes {
+
+    public static final int MAXIMO_SUGESTOES = 20;
+    private static final int SEM_NO = -1;
+    private static final long[] VAZIO = new long[0];
+
+    private char[] rotulo = new char[1024];
+    private int[] primeiroFilho = new int[1024];
+    private int[] proximoIrmao = new int[1024];
+    private int[] pai = new int[1024];
+    private long[][] terminais = new long[1024][];
+    private long[][] melhores = new long[1024][];
+    private int nos;
+
+    private LongUnaryOperator uso = id -> 0;
+
+    public TrieIngredientes() {
+        novoNo((char) 0, SEM_NO);
+    }
+
+    private int novoNo(char c, int noPai) {
+        if (nos == rotulo.length) {
+            int capacidade = nos * 2;
+            rotulo = Arrays.copyOf(rotulo, capacidade);
+            primeiroFilho = Arrays.copyOf(primeiroFilho, capacidade);
+            proximoIrmao = Arrays.copyOf(proximoIrmao, capacidade);
+            pai = Arrays.copyOf(pai, capacidade);
+            terminais = Arrays.copyOf(terminais, capacidade);
+            melhores = Arrays.copyOf(melhores, capacidade);
+        }
+        int no = nos++;
+        rotulo[no] = c;
+        primeiroFilho[no] = SEM_NO;
+        proximoIrmao[no] = SEM_NO;
+        pai[no] = noPai;
+        terminais[no] = VAZIO;
+        melhores[no] = null;
+        return no;
+    }
+
+    private int filho(int no, char c) {
+        for (int f = primeiroFilho[no]; f != SEM_NO && rotulo[f] <= c; f = proximoIrmao[f]) {
+            if (rotulo[f] == c) {
+                return f;
+            }
+        }
+        return SEM_NO;
+    }
+
+    private int filhoOuNovo(int no, char c) {
+        int anterior = SEM_NO;
+        int f = primeiroFilho[no];
+        while (f != SEM_NO && rotulo[f] < c) {
+            anterior = f;
+            f = proximoIrmao[f];
+        }
+        if (f != SEM_NO && rotulo[f] == c) {
+            return f;
+        }
+        int novo = novoNo(c, no);
+        proximoIrmao[novo] = f;
+        if (anterior == SEM_NO) {
+            primeiroFilho[no] = novo;
+        } else {
+            proximoIrmao[anterior] = novo;
+        }
+        return novo;
+    }
+
+    private int descer(String chave) {
+        int no = 0;
+        for (int i = 0; i < chave.length() && no != SEM_NO; i++) {
+            no = filho(no, chave.charAt(i));
+        }
+        return no;
+    }
+
+    public void inserir(String chave, long ingredienteId) {
+        int no = 0;
+        for (int i = 0; i < chave.length(); i++) {
+            no = filhoOuNovo(no, chave.charAt(i));
+        }
+        for (long id : terminais[no]) {
+            if (id == ingredienteId) {
+                return;
+            }
+        }
+        long[] atual = terminais[no];
+        long[] novos = Arrays.copyOf(atual, atual.length + 1);
+        novos[atual.length] = ingredienteId;
+        terminais[no] = novos;
+        invalidarCaminho(no);
+    }
+
+    // Os nós ficam na árvore, vazios: nomes removidos costumam voltar com outra grafia
+    public void remover(String chave, long ingredienteId) {
+        int no = descer(chave);
+        if (no == SEM_NO) {
+            return;
+        }
+        long[] atual = terminais[no];
+        long[] restantes = Arrays.stream(atual).filter(id -> id != ingredienteId).toArray();
+        if (restantes.length != atual.length) {
+            terminais[no] = restantes.length == 0 ? VAZIO : restantes;
+            invalidarCaminho(no);
+        }
+    }
+
+    private void invalidarCaminho(int no) {
+        for (int n = no; n != SEM_NO; n = pai[n]) {
+            melhores[n] = null;
+        }
+    }
+
+    // Troca a medida de uso e recalcula todos os caches de uma vez, fora do caminho das consultas
+    public void atualizarUso(LongUnaryOperator novoUso) {
+        uso = novoUso;
+        Arrays.fill(melhores, 0, nos, null);
+        melhoresDe(0);
+    }
+
+    public List<Long> sugerir(String prefixo, int limite) {
+        int no = descer(prefixo);
+        if (no == SEM_NO) {
+            return List.of();
+        }
+        long[] cache = melhoresDe(no);
+        List<Long> resultado = new ArrayList<>(Math.min(limite, cache.length));
+        for (int i = 0; i < cache.length && i < limite; i++) {
+            resultado.add(cache[i]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Sugestões para prefixos a até uma edição (inserção, remoção ou troca de um caractere) do
+     * digitado. Os que casam exatamente vêm primeiro; depois, por uso.
+     */
+    public List<Sugestao> sugerirAproximado(String prefixo, int limite) {
+        Map<Long, Integer> distancias = new HashMap<>();
+        int exato = descer(prefixo);
+        if (exato != SEM_NO) {
+            coletar(exato, 0, distancias);
+        }
+        int[] linhaRaiz = new int[prefixo.length() + 1];
+        for (int j = 0; j <= prefixo.length(); j++) {
+            linhaRaiz[j] = j;
+        }
+        if (linhaRaiz[prefixo.length()] <= 1) {
+            coletar(0, linhaRaiz[prefixo.length()], distancias);
+        } else {
+            for (int f = primeiroFilho[0]; f != SEM_NO; f = proximoIrmao[f]) {
+                aproximar(f, prefixo, linhaRaiz, distancias);
+            }
+        }
+        List<Sugestao> sugestoes = new ArrayList<>(distancias.size());
+        distancias.forEach((id, distancia) -> sugestoes.add(new Sugestao(id, distancia)));
+        sugestoes.sort(Comparator.comparingInt(Sugestao::distancia)
+                .thenComparing(sugestao -> uso.applyAsLong(sugestao.ingredienteId()), Comparator.reverseOrder())
+                .thenComparingLong(Sugestao::ingredienteId));
+        return sugestoes.size() <= limite ? sugestoes : List.copyOf(sugestoes.subList(0, limite));
+    }
+
+    private void aproximar(int no, String prefixo, int[] linhaAnterior, Map<Long, Integer> distancias) {
+        int n = prefixo.length();
+        int[] linha = new int[n + 1];
+        linha[0] = linhaAnterior[0] + 1;
+        int minimo = linha[0];
+        for (int j = 1; j <= n; j++) {
+            int troca = linhaAnterior[j - 1] + (prefixo.charAt(j - 1) == rotulo[no] ? 0 : 1);
+            linha[j] = Math.min(troca, Math.min(linhaAnterior[j] + 1, linha[j - 1] + 1));
+            minimo = Math.min(minimo, linha[j]);
+        }
+        if (linha[n] <= 1) {
+            // O caminho até aqui já casa com o prefixo: a subárvore inteira entra. Descer mais só
+            // acharia distância 0, e o nó exato já foi coletado
+            coletar(no, linha[n], distancias);
+            return;
+        }
+        if (minimo > 1) {
+            return;
+        }
+        for (int f = primeiroFilho[no]; f != SEM_NO; f = proximoIrmao[f]) {
+            aproximar(f, prefixo, linha, distancias);
+        }
+    }
+
+    private void coletar(int no, int distancia, Map<Long, Integer> distancias) {
+        for (long id : melhoresDe(no)) {
+            distancias.merge(id, distancia, Math::min);
+        }
+    }
+
+    private long[] melhoresDe(int no) {
+        long[] cache = melhores[no];
+        if (cache != null) {
+            return cache;
+        }
+        int unicoFilho = primeiroFilho[no];
+        if (terminais[no].length == 0 && unicoFilho != SEM_NO && proximoIrmao[unicoFilho] == SEM_NO) {
+            // Nó de passagem (a maioria numa árvore de nomes): compartilha o vetor do filho
+            cache = melhoresDe(unicoFilho);
+        } else {
+            long[] ids = new long[MAXIMO_SUGESTOES];
+            long[] usos = new long[MAXIMO_SUGESTOES];
+            int tamanho = 0;
+            for (long id : terminais[no]) {
+                tamanho = inserirOrdenado(ids, usos, tamanho, id);
+            }
+            for (int f = primeiroFilho[no]; f != SEM_NO; f = proximoIrmao[f]) {
+                for (long id : melhoresDe(f)) {
+                    tamanho = inserirOrdenado(ids, usos, tamanho, id);
+                }
+            }
+            cache = Arrays.copyOf(ids, tamanho);
+        }
+        melhores[no] = cache;
+        return cache;
+    }
+
+    // Inserção em vetor ordenado por uso decrescente e id crescente, limitado a MAXIMO_SUGESTOES
+    private int inserirOrdenado(long[] ids, long[] usos, int tamanho, long id) {
+        for (int i = 0; i < tamanho; i++) {
+            if (ids[i] == id) {
+                return tamanho;
+            }
+        }
+        long usoId = uso.applyAsLong(id);
+        int posicao = tamanho;
+        while (posicao > 0 && (usos[posicao - 1] < usoId || (usos[posicao - 1] == usoId && ids[posicao - 1] > id))) {
+            posicao--;
+        }
+        if (posicao >= ids.length) {
+            return tamanho;
+        }
+        int novoTamanho = Math.min(tamanho + 1, ids.length);
+        System.arraycopy(ids, posicao, ids, posicao + 1, novoTamanho - posicao - 1);
+        System.arraycopy(usos, posicao, usos, posicao + 1, novoTamanho - posicao - 1);
+        ids[posicao] = id;
+        usos[posicao] = usoId;
+        return novoTamanho;
+    }
+
+    public int totalNos() {
+        return nos;
+    }
+
+    public record Sugestao(long ingredienteId, int distancia) {
+    }
+}
@@ -0,0 +1,79 @@
+package org.grupo1.gestordereceitas.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para chaves {@code long}: responde "talvez exista" ou "certamente não existe"
+ * usando poucos bits por elemento. Inserções e consultas são seguras entre threads sem locks.
+ */
+public class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long totalBits;
+    private final int funcoesHash;
+    private final long capacidade;
+
+    public FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        long elementos = Math.max(capacidade, 1);
+        double ln2 = Math.log(2);
+        long bitsNecessarios = (long) Math.ceil(-elementos * Math.log(taxaFalsoPositivo) / (ln2 * ln2));
+        int palavras = (int) Math.max(1, (bitsNecessarios + 63) / 64);
+
+        this.bits = new AtomicLongArray(palavras);
+        this.totalBits = (long) palavras * 64;
+        this.funcoesHash = (int) Math.max(1, Math.round((double) totalBits / elementos * ln2));
+        this.capacidade = elementos;
+    }
+
+    public void adicionar(long chave) {
+        long hash = misturar(chave);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoesHash; i++) {
+            long posicao = posicao(h1 + i * h2);
+            int palavra = (int) (posicao >>> 6);
+            long mascara = 1L << posicao;
+            long atual = bits.get(palavra);
+            while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara)) {
+                atual = bits.get(palavra);
+            }
+        }
+    }
+
+    public boolean podeConter(long chave) {
+        long hash = misturar(chave);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoesHash; i++) {
+            long posicao = posicao(h1 + i * h2);
+            if ((bits.get((int) (posicao >>> 6)) & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long posicao(int hashCombinado) {
+        return (hashCombinado & Integer.MAX_VALUE) % totalBits;
+    }
+
+    // Finalizador do SplitMix64: espalha bem ids sequenciais
+    private static long misturar(long chave) {
+        long z = chave + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public long getCapacidade() {
+        return capacidade;
+    }
+
+    public long getTotalBits() {
+        return totalBits;
+    }
+
+    public int getFuncoesHash() {
+        return funcoesHash;
+    }
+}
@@ -0,0 +1,211 @@
+package org.grupo1.gestordereceitas.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.grupo1.gestordereceitas.dto.InvalidacaoEstatisticasDTO;
+import org.grupo1.gestordereceitas.event.AvaliacaoRegistradaEvent;
+import org.grupo1.gestordereceitas.event.BuscaSalvaAlteradaEvent;
+import org.grupo1.gestordereceitas.event.CategoriaAlteradaEvent;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.event.SubstituicaoAlteradaEvent;
+import org.grupo1.gestordereceitas.model.*;
+import org.grupo1.gestordereceitas.repository.InvalidacaoCacheRepository;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invalidação dos caches entre instâncias que compartilham o mesmo banco, sem broker externo.
+ * <p>
+ * Toda escrita no catálogo grava uma linha em {@code invalidacao_cache} na mesma transação;
+ * cada instância lê periodicamente as linhas com id acima do seu cursor, ignorando as próprias
+ * escritas. Para as demais, remove as entidades do segundo nível do Hibernate e republica
+ * localmente o mesmo evento da escrita, marcado como remoto: cada cache ou índice em memória se
+ * atualiza pelo seu próprio listener, como faria após uma escrita local, e quem grava na
+ * transação da escrita (como este log) ignora os eventos remotos.
+ * <p>
+ * Ids de identidade são reservados antes do commit, então uma transação lenta pode aparecer no
+ * log depois de ids maiores. O cursor só avança sobre ids contíguos; uma lacuna é aguardada por
+ * uma janela de tempo antes de ser considerada um rollback e pulada.
+ */
+@Component
+public class InvalidacaoDistribuida {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidacaoDistribuida.class);
+
+    private static final String REGIAO_INGREDIENTES_DA_RECEITA = Receita.class.getName() + ".receitaIngredientes";
+
+    private final InvalidacaoCacheRepository invalidacaoCacheRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+    private final long janelaLacunaNanos;
+    private final Duration retencao;
+
+    private final String origem = UUID.randomUUID().toString();
+
+    // Estado do cursor, protegido pelo lock do objeto. -1 indica que ainda não foi posicionado
+    private long cursor = -1;
+    private final TreeSet<Long> aplicadasAlemDoCursor = new TreeSet<>();
+    private long lacunaDesde;
+
+    private final LongAdder aplicadas = new LongAdder();
+    private final LongAdder idsPulados = new LongAdder();
+
+    public InvalidacaoDistribuida(InvalidacaoCacheRepository invalidacaoCacheRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  EntityManagerFactory entityManagerFactory,
+                                  @Value("${gestor.cache.invalidacao.janela-lacuna-ms:10000}") long janelaLacunaMs,
+                                  @Value("${gestor.cache.invalidacao.retencao-ms:3600000}") long retencaoMs) {
+        this.invalidacaoCacheRepository = invalidacaoCacheRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.janelaLacunaNanos = Duration.ofMillis(janelaLacunaMs).toNanos();
+        this.retencao = Duration.ofMillis(retencaoMs);
+    }
+
+    // Os listeners rodam de forma síncrona, dentro da transação que publicou o evento. Eventos
+    // remotos vieram deste log e não são registrados de novo
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        registrar(TipoInvalidacao.RECEITA, event.receitaId());
+    }
+
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onCategoriaAlterada(CategoriaAlteradaEvent event) {
+        registrar(TipoInvalidacao.CATEGORIA, event.categoriaId());
+    }
+
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onIngredienteAlterado(IngredienteAlteradoEvent event) {
+        registrar(TipoInvalidacao.INGREDIENTE, event.ingredienteId());
+    }
+
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onSubstituicaoAlterada(SubstituicaoAlteradaEvent event) {
+        registrar(TipoInvalidacao.SUBSTITUICAO, event.substituicaoId());
+    }
+
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onBuscaSalvaAlterada(BuscaSalvaAlteradaEvent event) {
+        registrar(TipoInvalidacao.BUSCA_SALVA, event.buscaSalvaId());
+    }
+
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onAvaliacaoRegistrada(AvaliacaoRegistradaEvent event) {
+        registrar(TipoInvalidacao.AVALIACAO, event.receitaId());
+    }
+
+    private void registrar(TipoInvalidacao tipo, Long entidadeId) {
+        invalidacaoCacheRepository.save(new InvalidacaoCache(null, tipo, entidadeId, origem, Instant.now()));
+    }
+
+    // O que já está no log na subida não precisa ser aplicado: os caches ainda estão vazios
+    @EventListener(ApplicationStartedEvent.class)
+    public synchronized void posicionar() {
+        if (cursor < 0) {
+            cursor = invalidacaoCacheRepository.findUltimoId();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gestor.cache.invalidacao.intervalo-ms:1000}")
+    public synchronized void sincronizar() {
+        if (cursor < 0) {
+            posicionar();
+            return;
+        }
+        List<InvalidacaoCache> novas = invalidacaoCacheRepository.findTop500ByIdGreaterThanOrderByIdAsc(cursor);
+        for (InvalidacaoCache invalidacao : novas) {
+            if (aplicadasAlemDoCursor.add(invalidacao.getId()) && !origem.equals(invalidacao.getOrigem())) {
+                aplicar(invalidacao);
+                aplicadas.increment();
+            }
+        }
+        avancarCursor();
+    }
+
+    private void avancarCursor() {
+        while (!aplicadasAlemDoCursor.isEmpty()) {
+            long menor = aplicadasAlemDoCursor.first();
+            if (menor == cursor + 1) {
+                aplicadasAlemDoCursor.pollFirst();
+                cursor = menor;
+                lacunaDesde = 0;
+                continue;
+            }
+            long agora = System.nanoTime();
+            if (lacunaDesde == 0) {
+                lacunaDesde = agora;
+            }
+            if (agora - lacunaDesde < janelaLacunaNanos) {
+                return;
+            }
+            log.debug("Ids {} a {} do log de invalidação pulados após a janela de espera", cursor + 1, menor - 1);
+            idsPulados.add(menor - cursor - 1);
+            cursor = menor - 1;
+            lacunaDesde = 0;
+        }
+    }
+
+    // Fora de transação: os listeners pós-commit recebem o evento na hora (fallbackExecution)
+    private void aplicar(InvalidacaoCache invalidacao) {
+        Long id = invalidacao.getEntidadeId();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        switch (invalidacao.getTipo()) {
+            case RECEITA -> {
+                sessionFactory.getCache().evictCollectionData(REGIAO_INGREDIENTES_DA_RECEITA, id);
+                sessionFactory.getCache().evictEntityData(ReceitaIngrediente.class);
+                eventPublisher.publishEvent(new ReceitaAlteradaEvent(id, true));
+            }
+            case CATEGORIA -> {
+                sessionFactory.getCache().evictEntityData(Categoria.class, id);
+                eventPublisher.publishEvent(new CategoriaAlteradaEvent(id, true));
+            }
+            case INGREDIENTE -> {
+                sessionFactory.getCache().evictEntityData(Ingrediente.class, id);
+                eventPublisher.publishEvent(new IngredienteAlteradoEvent(id, true));
+            }
+            case SUBSTITUICAO -> eventPublisher.publishEvent(new SubstituicaoAlteradaEvent(id, true));
+            case BUSCA_SALVA -> eventPublisher.publishEvent(new BuscaSalvaAlteradaEvent(id, true));
+            case AVALIACAO -> eventPublisher.publishEvent(new AvaliacaoRegistradaEvent(id, true));
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${gestor.cache.invalidacao.intervalo-limpeza-ms:600000}")
+    public void limpar() {
+        int removidas = invalidacaoCacheRepository.deleteByCriadaEmBefore(Instant.now().minus(retencao));
+        if (removidas > 0) {
+            log.debug("{} registros antigos removidos do log de invalidação", removidas);
+        }
+    }
+
+    public synchronized InvalidacaoEstatisticasDTO estatisticas() {
+        InvalidacaoEstatisticasDTO dto = new InvalidacaoEstatisticasDTO();
+        dto.setOrigem(origem);
+        dto.setCursor(cursor);
+        dto.setAguardandoLacuna(aplicadasAlemDoCursor.size());
+        dto.setAplicadas(aplicadas.sum());
+        dto.setIdsPulados(idsPulados.sum());
+        return dto;
+    }
+}
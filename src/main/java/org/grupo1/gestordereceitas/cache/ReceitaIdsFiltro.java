@@ -0,0 +1,190 @@
+package org.grupo1.gestordereceitas.cache;
+
+import org.grupo1.gestordereceitas.dto.FiltroReceitasEstatisticasDTO;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom com os IDs de receitas existentes, usado para responder 404 sem ir ao banco
+ * quando o ID certamente não existe.
+ * <p>
+ * É montado na subida da aplicação e recebe cada receita criada antes do commit, de modo que
+ * nunca há falso negativo. Exclusões não podem ser removidas de um filtro de Bloom: elas apenas
+ * aumentam os falsos positivos (que seguem para o banco) e pedem uma reconstrução quando
+ * se acumulam, assim como o crescimento além da capacidade planejada. A reconstrução roda em
+ * segundo plano, fora da transação e da requisição de quem cruzou o limite.
+ * <p>
+ * Um ID registrado ainda não está commitado, então a leitura da reconstrução pode não vê-lo.
+ * Por isso os IDs cuja transação ainda não terminou quando a reconstrução começa, e os registrados
+ * durante ela, são levados para o filtro novo.
+ * <p>
+ * Receitas criadas em outra instância só entram no filtro quando o log de invalidação é aplicado
+ * aqui (ver InvalidacaoDistribuida). Como os IDs são crescentes, o filtro só nega IDs até o maior
+ * que já conhece; acima dele a receita pode ter acabado de ser criada em outra instância e a
+ * consulta segue para o banco ({@link #alemDoMaiorConhecido}). Resta uma janela de um ciclo de
+ * sincronização para o caso raro de um ID menor commitado depois de um maior.
+ */
+@Component
+public class ReceitaIdsFiltro {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceitaIdsFiltro.class);
+
+    private final ReceitaRepository receitaRepository;
+    private final double taxaFalsoPositivo;
+    private final long capacidadeMinima;
+
+    // null até a primeira construção: enquanto isso toda consulta segue para o banco
+    private volatile FiltroBloom filtro;
+    private final AtomicLong elementos = new AtomicLong();
+    private final AtomicLong exclusoes = new AtomicLong();
+    private final AtomicLong maiorIdConhecido = new AtomicLong();
+    private final LongAdder rejeicoes = new LongAdder();
+
+    private final AtomicBoolean reconstrucaoPendente = new AtomicBoolean();
+    private final Object reconstrucao = new Object();
+
+    // Protegidos pelo lock do objeto: IDs registrados cuja transação ainda não terminou, e os que a
+    // reconstrução em andamento precisa levar para o filtro novo
+    private final Set<Long> naoCommitados = new HashSet<>();
+    private boolean reconstruindo;
+    private final List<Long> levarParaOFiltroNovo = new ArrayList<>();
+
+    public ReceitaIdsFiltro(ReceitaRepository receitaRepository,
+                            @Value("${gestor.cache.filtro-receitas.taxa-falso-positivo:0.01}") double taxaFalsoPositivo,
+                            @Value("${gestor.cache.filtro-receitas.capacidade-minima:100000}") long capacidadeMinima) {
+        this.receitaRepository = receitaRepository;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.capacidadeMinima = capacidadeMinima;
+    }
+
+    @Scheduled(fixedDelayString = "${gestor.cache.filtro-receitas.intervalo-reconstrucao-ms:1000}")
+    public void reconstruirSePendente() {
+        if (reconstrucaoPendente.getAndSet(false)) {
+            reconstruir();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        // Uma reconstrução por vez, sem segurar o lock do objeto, que os registros usam, durante a leitura
+        synchronized (reconstrucao) {
+            reconstruirFiltro();
+        }
+    }
+
+    private void reconstruirFiltro() {
+        synchronized (this) {
+            reconstruindo = true;
+            levarParaOFiltroNovo.clear();
+            levarParaOFiltroNovo.addAll(naoCommitados);
+        }
+
+        List<Long> ids = receitaRepository.findAllIds();
+        FiltroBloom novo = new FiltroBloom(Math.max(capacidadeMinima, ids.size() * 2L), taxaFalsoPositivo);
+        for (Long id : ids) {
+            novo.adicionar(id);
+            maiorIdConhecido.accumulateAndGet(id, Math::max);
+        }
+
+        synchronized (this) {
+            for (Long id : levarParaOFiltroNovo) {
+                novo.adicionar(id);
+            }
+            elementos.set(ids.size() + levarParaOFiltroNovo.size());
+            exclusoes.set(0);
+            levarParaOFiltroNovo.clear();
+            reconstruindo = false;
+            filtro = novo;
+        }
+        log.info("Filtro de IDs de receitas montado com {} receitas ({} bits, {} funções de hash)",
+                ids.size(), novo.getTotalBits(), novo.getFuncoesHash());
+    }
+
+    public boolean certamenteNaoExiste(Long id) {
+        FiltroBloom atual = filtro;
+        if (id == null || atual == null || alemDoMaiorConhecido(id) || atual.podeConter(id)) {
+            return false;
+        }
+        rejeicoes.increment();
+        return true;
+    }
+
+    // ID acima de todos os que este filtro já viu: pode ser de uma receita criada em outra instância
+    // que ainda não chegou pelo log de invalidação, e que nem o filtro nem os modelos em memória conhecem
+    public boolean alemDoMaiorConhecido(Long id) {
+        return id != null && filtro != null && id > maiorIdConhecido.get();
+    }
+
+    // Chamado pelo ReceitaService logo após inserir a receita, ainda dentro da transação
+    public void registrar(Long id) {
+        maiorIdConhecido.accumulateAndGet(id, Math::max);
+        synchronized (this) {
+            if (reconstruindo) {
+                levarParaOFiltroNovo.add(id);
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive() && naoCommitados.add(id)) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        synchronized (ReceitaIdsFiltro.this) {
+                            naoCommitados.remove(id);
+                        }
+                    }
+                });
+            }
+            FiltroBloom atual = filtro;
+            if (atual == null) {
+                return;
+            }
+            atual.adicionar(id);
+            if (elementos.incrementAndGet() > atual.getCapacidade()) {
+                reconstrucaoPendente.set(true);
+            }
+        }
+    }
+
+    // A receita pode ter sido criada em outra instância: o filtro não pode negá-la
+    @EventListener(condition = "#event.remoto()")
+    public void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        registrar(event.receitaId());
+    }
+
+    public void registrarExclusao() {
+        FiltroBloom atual = filtro;
+        if (atual != null && exclusoes.incrementAndGet() > atual.getCapacidade() / 4) {
+            reconstrucaoPendente.set(true);
+        }
+    }
+
+    public FiltroReceitasEstatisticasDTO estatisticas() {
+        FiltroBloom atual = filtro;
+        FiltroReceitasEstatisticasDTO dto = new FiltroReceitasEstatisticasDTO();
+        dto.setMontado(atual != null);
+        dto.setElementos(elementos.get());
+        dto.setExclusoesPendentes(exclusoes.get());
+        dto.setRejeicoes(rejeicoes.sum());
+        if (atual != null) {
+            dto.setCapacidade(atual.getCapacidade());
+            dto.setTotalBits(atual.getTotalBits());
+            dto.setFuncoesHash(atual.getFuncoesHash());
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,375 @@
+package org.grupo1.gestordereceitas.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.grupo1.gestordereceitas.dto.ReceitaIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.dto.RespostaCacheEstatisticasDTO;
+import org.grupo1.gestordereceitas.event.CategoriaAlteradaEvent;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache das respostas GET já serializadas em JSON (e em gzip), limitado pelo total de bytes.
+ * <p>
+ * Cada entrada carrega tags com as entidades das quais depende; as escritas feitas pelos
+ * services publicam eventos que, após o commit, invalidam somente as entradas afetadas.
+ * Um {@code If-None-Match} que bate com o ETag da entrada em cache é respondido com 304
+ * sem consultar o banco. Falhas concorrentes da mesma chave são agrupadas em uma única carga
+ * ({@link SingleFlight}), evitando a avalanche de consultas logo após uma invalidação.
+ * <p>
+ * Cada invalidação marca as tags afetadas com o instante de um relógio lógico. Uma carga só é
+ * guardada se nenhuma das suas tags foi invalidada depois que ela começou, e quem chega depois
+ * de uma invalidação que atinge a carga em andamento não aproveita o seu resultado: escritas em
+ * outras entidades não descartam a carga nem separam as requisições da chave.
+ */
+@Component
+public class RespostaCache {
+
+    public static final String TAG_CATEGORIAS = "categorias";
+    public static final String TAG_INGREDIENTES = "ingredientes";
+    public static final String TAG_LISTA_RECEITAS = "lista-receitas";
+    // Toda resposta de receita embute o nome da categoria
+    public static final String TAG_NOMES_CATEGORIA = "nomes-categoria";
+
+    private static final int TAMANHO_MINIMO_GZIP = 256;
+
+    private final ObjectMapper objectMapper;
+    private final long capacidadeBytes;
+    private final SingleFlight<String, CargaResposta> singleFlight;
+
+    // Ordem de acesso: o primeiro elemento é o menos usado recentemente
+    private final LinkedHashMap<String, RespostaSerializada> entradas = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Set<String>> chavesPorTag = new HashMap<>();
+    private long bytesUsados;
+
+    // Relógio lógico das invalidações, avançado sob o lock do objeto. Os mapas guardam o instante
+    // da última invalidação de cada tag e chave; crescem no máximo até o número de entidades e são
+    // esvaziados por limpar(), cujo instante vale para todas
+    private final AtomicLong relogio = new AtomicLong();
+    private final Map<String, Long> tagInvalidadaEm = new HashMap<>();
+    private final Map<String, Long> chaveInvalidadaEm = new HashMap<>();
+    private long limpoEm;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder naoModificados = new LongAdder();
+    private final LongAdder evicoes = new LongAdder();
+
+    public RespostaCache(ObjectMapper objectMapper,
+                         @Value("${gestor.cache.respostas.capacidade-bytes:33554432}") long capacidadeBytes,
+                         @Value("${gestor.cache.respostas.timeout-carga-ms:5000}") long timeoutCargaMs) {
+        this.objectMapper = objectMapper;
+        this.capacidadeBytes = capacidadeBytes;
+        this.singleFlight = new SingleFlight<>(Duration.ofMillis(timeoutCargaMs));
+    }
+
+    public static String tagReceita(Long receitaId) {
+        return "receita:" + receitaId;
+    }
+
+    public static String tagIngrediente(Long ingredienteId) {
+        return "ingrediente:" + ingredienteId;
+    }
+
+    public static Set<String> tagsReceita(ReceitaResponseDTO receita) {
+        Set<String> tags = new HashSet<>();
+        tags.add(tagReceita(receita.getId()));
+        tags.add(TAG_NOMES_CATEGORIA);
+        if (receita.getIngredientes() != null) {
+            for (ReceitaIngredienteDTO ingrediente : receita.getIngredientes()) {
+                tags.add(tagIngrediente(ingrediente.getIngredienteId()));
+            }
+        }
+        return tags;
+    }
+
+    public static Set<String> tagsListaReceitas(List<ReceitaResponseDTO> receitas) {
+        Set<String> tags = new HashSet<>();
+        tags.add(TAG_LISTA_RECEITAS);
+        tags.add(TAG_NOMES_CATEGORIA);
+        for (ReceitaResponseDTO receita : receitas) {
+            if (receita.getIngredientes() != null) {
+                for (ReceitaIngredienteDTO ingrediente : receita.getIngredientes()) {
+                    tags.add(tagIngrediente(ingrediente.getIngredienteId()));
+                }
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Responde a partir do cache ou, na falta, executa o carregador, serializa o resultado e o
+     * guarda sob a chave informada com as tags calculadas a partir dele.
+     */
+    public <T> ResponseEntity<byte[]> responder(HttpServletRequest request,
+                                                String chave,
+                                                Supplier<T> carregador,
+                                                Function<T, Set<String>> tags) {
+        RespostaSerializada resposta = buscar(chave);
+        if (resposta != null) {
+            acertos.increment();
+        } else {
+            falhas.increment();
+            long chegada = relogio.get();
+            CargaResposta carga;
+            do {
+                carga = singleFlight.executar(chave, () -> {
+                    long inicio = relogio.get();
+                    T valor = carregador.get();
+                    RespostaSerializada nova = serializar(valor, tags.apply(valor));
+                    guardar(chave, nova, inicio);
+                    return new CargaResposta(nova, inicio);
+                });
+                // Carga compartilhada iniciada antes de uma invalidação que a atinge: a próxima
+                // começa depois da chegada desta requisição, então o laço termina
+            } while (carga.inicio() < chegada && desatualizada(chave, carga.resposta().tags(), carga.inicio()));
+            resposta = carga.resposta();
+        }
+        return montarResposta(request, resposta);
+    }
+
+    private ResponseEntity<byte[]> montarResposta(HttpServletRequest request, RespostaSerializada resposta) {
+        if (etagCorresponde(request.getHeader(HttpHeaders.IF_NONE_MATCH), resposta.etag())) {
+            naoModificados.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(resposta.etag())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(resposta.etag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (resposta.corpoGzip() != null && aceitaGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(resposta.corpoGzip());
+        }
+        return builder.body(resposta.corpo());
+    }
+
+    private RespostaSerializada serializar(Object valor, Set<String> tags) {
+        byte[] corpo;
+        try {
+            corpo = objectMapper.writeValueAsBytes(valor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar resposta", e);
+        }
+        byte[] corpoGzip = null;
+        if (corpo.length >= TAMANHO_MINIMO_GZIP) {
+            byte[] comprimido = gzip(corpo);
+            if (comprimido.length < corpo.length) {
+                corpoGzip = comprimido;
+            }
+        }
+        return new RespostaSerializada(corpo, corpoGzip, calcularEtag(corpo), Set.copyOf(tags));
+    }
+
+    synchronized RespostaSerializada buscar(String chave) {
+        return entradas.get(chave);
+    }
+
+    synchronized void guardar(String chave, RespostaSerializada resposta, long inicio) {
+        // Uma escrita que afeta a entrada aconteceu durante a carga: o valor pode estar desatualizado
+        if (desatualizada(chave, resposta.tags(), inicio)) {
+            return;
+        }
+        long tamanho = resposta.tamanhoEmBytes();
+        if (tamanho > capacidadeBytes / 8) {
+            return;
+        }
+        remover(chave);
+        entradas.put(chave, resposta);
+        bytesUsados += tamanho;
+        for (String tag : resposta.tags()) {
+            chavesPorTag.computeIfAbsent(tag, t -> new HashSet<>()).add(chave);
+        }
+
+        Iterator<Map.Entry<String, RespostaSerializada>> iterator = entradas.entrySet().iterator();
+        while (bytesUsados > capacidadeBytes && iterator.hasNext()) {
+            Map.Entry<String, RespostaSerializada> maisAntiga = iterator.next();
+            iterator.remove();
+            descontar(maisAntiga.getKey(), maisAntiga.getValue());
+            evicoes.increment();
+        }
+    }
+
+    long instanteAtual() {
+        return relogio.get();
+    }
+
+    // Alguma invalidação que atinge a chave ou suas tags aconteceu depois do instante informado
+    private synchronized boolean desatualizada(String chave, Set<String> tags, long instante) {
+        if (limpoEm > instante || chaveInvalidadaEm.getOrDefault(chave, 0L) > instante) {
+            return true;
+        }
+        for (String tag : tags) {
+            if (tagInvalidadaEm.getOrDefault(tag, 0L) > instante) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Cópia das entradas da menos para a mais usada recentemente
+    synchronized List<Map.Entry<String, RespostaSerializada>> exportar() {
+        List<Map.Entry<String, RespostaSerializada>> copia = new ArrayList<>(entradas.size());
+        for (Map.Entry<String, RespostaSerializada> entrada : entradas.entrySet()) {
+            copia.add(Map.entry(entrada.getKey(), entrada.getValue()));
+        }
+        return copia;
+    }
+
+    public synchronized void invalidarTag(String tag) {
+        tagInvalidadaEm.put(tag, relogio.incrementAndGet());
+        Set<String> chaves = chavesPorTag.remove(tag);
+        if (chaves != null) {
+            for (String chave : chaves) {
+                remover(chave);
+            }
+        }
+    }
+
+    public synchronized void invalidarChave(String chave) {
+        chaveInvalidadaEm.put(chave, relogio.incrementAndGet());
+        remover(chave);
+    }
+
+    public synchronized void limpar() {
+        limpoEm = relogio.incrementAndGet();
+        tagInvalidadaEm.clear();
+        chaveInvalidadaEm.clear();
+        entradas.clear();
+        chavesPorTag.clear();
+        bytesUsados = 0;
+    }
+
+    private void remover(String chave) {
+        RespostaSerializada anterior = entradas.remove(chave);
+        if (anterior != null) {
+            descontar(chave, anterior);
+        }
+    }
+
+    private void descontar(String chave, RespostaSerializada resposta) {
+        bytesUsados -= resposta.tamanhoEmBytes();
+        for (String tag : resposta.tags()) {
+            Set<String> chaves = chavesPorTag.get(tag);
+            if (chaves != null) {
+                chaves.remove(chave);
+                if (chaves.isEmpty()) {
+                    chavesPorTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        invalidarTag(tagReceita(event.receitaId()));
+        invalidarTag(TAG_LISTA_RECEITAS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriaAlterada(CategoriaAlteradaEvent event) {
+        invalidarTag(TAG_CATEGORIAS);
+        invalidarTag(TAG_NOMES_CATEGORIA);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIngredienteAlterado(IngredienteAlteradoEvent event) {
+        invalidarTag(TAG_INGREDIENTES);
+        invalidarTag(tagIngrediente(event.ingredienteId()));
+    }
+
+    public synchronized RespostaCacheEstatisticasDTO estatisticas() {
+        RespostaCacheEstatisticasDTO dto = new RespostaCacheEstatisticasDTO();
+        dto.setEntradas(entradas.size());
+        dto.setBytesUsados(bytesUsados);
+        dto.setCapacidadeBytes(capacidadeBytes);
+        dto.setAcertos(acertos.sum());
+        dto.setFalhas(falhas.sum());
+        dto.setNaoModificados(naoModificados.sum());
+        dto.setEvicoes(evicoes.sum());
+        dto.setCargasCompartilhadas(singleFlight.cargasCompartilhadas());
+        dto.setEsperasExpiradas(singleFlight.esperasExpiradas());
+        return dto;
+    }
+
+    private record CargaResposta(RespostaSerializada resposta, long inicio) {
+    }
+
+    static boolean etagCorresponde(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*")) {
+                return true;
+            }
+            // If-None-Match usa comparação fraca: W/"x" corresponde a "x"
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacao : acceptEncoding.split(",")) {
+            String[] partes = codificacao.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase("gzip")) {
+                return partes.length < 2 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String calcularEtag(byte[] corpo) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(corpo);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] corpo) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(corpo.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(corpo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,181 @@
+package org.grupo1.gestordereceitas.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.grupo1.gestordereceitas.model.VersaoCatalogo;
+import org.grupo1.gestordereceitas.service.VersaoCatalogoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Salva o cache de respostas em arquivo no desligamento e o recarrega na subida, antes de a
+ * aplicação ficar pronta, para que um novo deploy não comece com o cache frio.
+ * <p>
+ * O arquivo é escrito e lido de forma sequencial, em um único fluxo bufferizado, e carrega a
+ * versão e o marcador do catálogo do momento em que foi salvo: se o catálogo mudou desde então,
+ * o arquivo inteiro é descartado e nenhuma entrada antiga é servida.
+ * As entradas são gravadas da menos para a mais usada, preservando a ordem do LRU.
+ */
+@Component
+public class RespostaCachePersistencia {
+
+    private static final Logger log = LoggerFactory.getLogger(RespostaCachePersistencia.class);
+
+    private static final int ASSINATURA = 0x47524331; // "GRC1"
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final RespostaCache respostaCache;
+    private final VersaoCatalogoService versaoCatalogoService;
+    private final Path arquivo;
+    private final boolean habilitada;
+
+    public RespostaCachePersistencia(RespostaCache respostaCache,
+                                     VersaoCatalogoService versaoCatalogoService,
+                                     @Value("${gestor.cache.respostas.arquivo:./data/cache-respostas.bin}") String arquivo,
+                                     @Value("${gestor.cache.respostas.persistir:true}") boolean habilitada) {
+        this.respostaCache = respostaCache;
+        this.versaoCatalogoService = versaoCatalogoService;
+        this.arquivo = Path.of(arquivo);
+        this.habilitada = habilitada;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void carregar() {
+        if (!habilitada || !Files.isRegularFile(arquivo)) {
+            return;
+        }
+        // Capturado antes da leitura da versão: uma invalidação posterior impede a restauração
+        long instante = respostaCache.instanteAtual();
+        VersaoCatalogo versao = versaoCatalogoService.atual();
+
+        int restauradas = 0;
+        try (DataInputStream entrada = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(arquivo), TAMANHO_BUFFER))) {
+            if (entrada.readInt() != ASSINATURA) {
+                log.warn("Arquivo de cache {} ignorado: formato desconhecido", arquivo);
+                return;
+            }
+            String marcador = entrada.readUTF();
+            long versaoSalva = entrada.readLong();
+            if (!marcador.equals(versao.getMarcador()) || versaoSalva != versao.getVersao()) {
+                log.info("Arquivo de cache {} descartado: catálogo mudou desde que foi salvo", arquivo);
+                return;
+            }
+
+            int total = entrada.readInt();
+            for (int i = 0; i < total; i++) {
+                String chave = entrada.readUTF();
+                respostaCache.guardar(chave, lerResposta(entrada), instante);
+                restauradas++;
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao ler o arquivo de cache {}; seguindo com o cache vazio", arquivo, e);
+            respostaCache.limpar();
+            return;
+        } finally {
+            apagar();
+        }
+        log.info("{} respostas restauradas do arquivo de cache {}", restauradas, arquivo);
+    }
+
+    // Roda depois que o servidor web parou de aceitar requisições: não há escritas concorrentes
+    @PreDestroy
+    public void salvar() {
+        if (!habilitada) {
+            return;
+        }
+        // A versão é lida antes da cópia: uma escrita entre as duas faz o arquivo ser descartado
+        VersaoCatalogo versao;
+        try {
+            versao = versaoCatalogoService.atual();
+        } catch (RuntimeException e) {
+            log.warn("Cache de respostas não foi salvo: versão do catálogo indisponível", e);
+            return;
+        }
+        List<Map.Entry<String, RespostaSerializada>> entradas = respostaCache.exportar();
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            try (DataOutputStream saida = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporario), TAMANHO_BUFFER))) {
+                saida.writeInt(ASSINATURA);
+                saida.writeUTF(versao.getMarcador());
+                saida.writeLong(versao.getVersao());
+                saida.writeInt(entradas.size());
+                for (Map.Entry<String, RespostaSerializada> entrada : entradas) {
+                    saida.writeUTF(entrada.getKey());
+                    escreverResposta(saida, entrada.getValue());
+                }
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("{} respostas salvas no arquivo de cache {}", entradas.size(), arquivo);
+        } catch (IOException e) {
+            log.warn("Falha ao salvar o arquivo de cache {}", arquivo, e);
+        }
+    }
+
+    private static void escreverResposta(DataOutputStream saida, RespostaSerializada resposta) throws IOException {
+        saida.writeUTF(resposta.etag());
+        saida.writeInt(resposta.tags().size());
+        for (String tag : resposta.tags()) {
+            saida.writeUTF(tag);
+        }
+        escreverBytes(saida, resposta.corpo());
+        escreverBytes(saida, resposta.corpoGzip());
+    }
+
+    private static RespostaSerializada lerResposta(DataInputStream entrada) throws IOException {
+        String etag = entrada.readUTF();
+        int totalTags = entrada.readInt();
+        Set<String> tags = new HashSet<>(totalTags * 2);
+        for (int i = 0; i < totalTags; i++) {
+            tags.add(entrada.readUTF());
+        }
+        byte[] corpo = lerBytes(entrada);
+        byte[] corpoGzip = lerBytes(entrada);
+        return new RespostaSerializada(corpo, corpoGzip, etag, Set.copyOf(tags));
+    }
+
+    // Tamanho -1 representa a ausência da variante gzip
+    private static void escreverBytes(DataOutputStream saida, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            saida.writeInt(-1);
+            return;
+        }
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+
+    private static byte[] lerBytes(DataInputStream entrada) throws IOException {
+        int tamanho = entrada.readInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        entrada.readFully(bytes);
+        return bytes;
+    }
+
+    private void apagar() {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            log.warn("Não foi possível apagar o arquivo de cache {}", arquivo, e);
+        }
+    }
+}
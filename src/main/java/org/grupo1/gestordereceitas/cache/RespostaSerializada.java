@@ -0,0 +1,19 @@
+package org.grupo1.gestordereceitas.cache;
+
+import java.util.Set;
+
+// Resposta JSON já serializada, com a variante gzip (quando compensa) e o ETag forte do conteúdo
+public record RespostaSerializada(byte[] corpo, byte[] corpoGzip, String etag, Set<String> tags) {
+
+    // Estimativa do espaço ocupado pela entrada, usada no limite em bytes do cache
+    public long tamanhoEmBytes() {
+        long tamanho = 64L + corpo.length + etag.length();
+        if (corpoGzip != null) {
+            tamanho += corpoGzip.length;
+        }
+        for (String tag : tags) {
+            tamanho += 32L + tag.length();
+        }
+        return tamanho;
+    }
+}
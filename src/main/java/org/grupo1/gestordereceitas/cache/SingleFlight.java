@@ -0,0 +1,87 @@
+package org.grupo1.gestordereceitas.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa cargas concorrentes da mesma chave: a primeira thread executa o carregador e as demais
+ * aguardam e recebem o mesmo resultado (ou a mesma exceção).
+ * <p>
+ * O controle por chave é feito só com {@link ConcurrentHashMap#putIfAbsent}, sem locks. Quem espera
+ * mais que o timeout desiste da carga compartilhada e executa o carregador por conta própria, para
+ * que uma carga travada não segure todas as requisições da chave.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    private final LongAdder compartilhadas = new LongAdder();
+    private final LongAdder expiradas = new LongAdder();
+
+    public SingleFlight(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public V executar(K chave, Supplier<V> carregador) {
+        CompletableFuture<V> minha = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, minha);
+        if (existente == null) {
+            return carregar(chave, minha, carregador);
+        }
+
+        compartilhadas.increment();
+        try {
+            return existente.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            expiradas.increment();
+            return carregador.get();
+        } catch (ExecutionException e) {
+            throw relancar(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando carga da chave " + chave, e);
+        }
+    }
+
+    private V carregar(K chave, CompletableFuture<V> minha, Supplier<V> carregador) {
+        try {
+            V valor = carregador.get();
+            minha.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            minha.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, minha);
+        }
+    }
+
+    private static RuntimeException relancar(Throwable causa) {
+        if (causa instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (causa instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(causa);
+    }
+
+    public int cargasEmAndamento() {
+        return emAndamento.size();
+    }
+
+    public long cargasCompartilhadas() {
+        return compartilhadas.sum();
+    }
+
+    public long esperasExpiradas() {
+        return expiradas.sum();
+    }
+}
@@ -0,0 +1,73 @@
+package org.grupo1.gestordereceitas.carga;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.grupo1.gestordereceitas.service.CopiaCatalogoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Popula um banco vazio na subida: restaura a cópia binária do catálogo, se existir, e cai para o
+ * data.sql quando não há cópia ou ela está corrompida. Uma cópia em versão de formato desconhecida
+ * interrompe a subida: trocar silenciosamente o catálogo gravado pelo data.sql perderia os dados.
+ * <p>
+ * Depende do EntityManagerFactory para rodar depois de o Hibernate criar as tabelas e antes de os
+ * modelos em memória serem carregados (ApplicationStartedEvent).
+ */
+@Component
+public class CargaInicialCatalogo {
+
+    private static final Logger log = LoggerFactory.getLogger(CargaInicialCatalogo.class);
+
+    private final DataSource dataSource;
+    private final CopiaCatalogoService copiaCatalogoService;
+    private final boolean habilitada;
+
+    public CargaInicialCatalogo(DataSource dataSource,
+                                CopiaCatalogoService copiaCatalogoService,
+                                EntityManagerFactory entityManagerFactory,
+                                @Value("${gestor.carga-inicial.habilitada:false}") boolean habilitada) {
+        this.dataSource = dataSource;
+        this.copiaCatalogoService = copiaCatalogoService;
+        this.habilitada = habilitada;
+    }
+
+    @PostConstruct
+    public void carregar() {
+        if (!habilitada || !catalogoVazio()) {
+            return;
+        }
+        Path arquivo = copiaCatalogoService.arquivoPadrao();
+        if (Files.isRegularFile(arquivo)) {
+            try {
+                copiaCatalogoService.restaurar(arquivo);
+                return;
+            } catch (VersaoCopiaNaoSuportadaException e) {
+                throw new IllegalStateException("Cópia do catálogo " + arquivo + " não pode ser lida por esta versão", e);
+            } catch (Exception e) {
+                log.warn("Falha ao restaurar a cópia do catálogo {}; usando o data.sql", arquivo, e);
+            }
+        }
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("data.sql"));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(dataSource);
+        log.info("Catálogo carregado do data.sql");
+    }
+
+    private boolean catalogoVazio() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Long linhas = jdbcTemplate.queryForObject(
+                "select (select count(*) from receita) + (select count(*) from categoria)"
+                        + " + (select count(*) from ingrediente)", Long.class);
+        return linhas == null || linhas == 0;
+    }
+}
@@ -0,0 +1,67 @@
+package org.grupo1.gestordereceitas.carga;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+import static org.grupo1.gestordereceitas.carga.FormatoCopiaCatalogo.*;
+
+// Grava a cópia do catálogo em um fluxo bufferizado, seção a seção (ver FormatoCopiaCatalogo)
+public class EscritorCopiaCatalogo implements Closeable {
+
+    private static final int TAMANHO_BUFFER = 256 * 1024;
+
+    private final DataOutputStream saida;
+
+    public EscritorCopiaCatalogo(OutputStream destino) throws IOException {
+        this.saida = new DataOutputStream(new BufferedOutputStream(destino, TAMANHO_BUFFER));
+        saida.writeInt(ASSINATURA);
+        saida.writeInt(VERSAO_FORMATO);
+    }
+
+    public void iniciarLinha() throws IOException {
+        saida.writeByte(LINHA);
+    }
+
+    public void terminarSecao() throws IOException {
+        saida.writeByte(FIM_SECAO);
+    }
+
+    public void escreverInt(int valor) throws IOException {
+        saida.writeInt(valor);
+    }
+
+    public void escreverLong(long valor) throws IOException {
+        saida.writeLong(valor);
+    }
+
+    public void escreverDouble(double valor) throws IOException {
+        saida.writeDouble(valor);
+    }
+
+    public void escreverReferencia(Long id) throws IOException {
+        saida.writeLong(id != null ? id : SEM_REFERENCIA);
+    }
+
+    public void escreverTexto(String texto) throws IOException {
+        escreverBytes(texto != null ? texto.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    public void escreverBytes(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            saida.writeInt(-1);
+            return;
+        }
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+
+    public long bytesEscritos() {
+        return saida.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        saida.writeInt(ASSINATURA);
+        saida.close();
+    }
+}
@@ -0,0 +1,41 @@
+package org.grupo1.gestordereceitas.carga;
+
+import org.grupo1.gestordereceitas.service.CopiaCatalogoService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Exportação pela linha de comando, sem servidor no ar:
+ * {@code java -jar gestor.jar --gestor.catalogo.copia.exportar-para=./data/catalogo.bin --server.port=0}.
+ * A aplicação sobe, grava a cópia e encerra.
+ */
+@Component
+public class ExportacaoCatalogoCli implements ApplicationRunner {
+
+    private final CopiaCatalogoService copiaCatalogoService;
+    private final ConfigurableApplicationContext contexto;
+    private final String destino;
+
+    public ExportacaoCatalogoCli(CopiaCatalogoService copiaCatalogoService,
+                                 ConfigurableApplicationContext contexto,
+                                 @Value("${gestor.catalogo.copia.exportar-para:}") String destino) {
+        this.copiaCatalogoService = copiaCatalogoService;
+        this.contexto = contexto;
+        this.destino = destino;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (destino.isBlank()) {
+            return;
+        }
+        copiaCatalogoService.exportar(Path.of(destino));
+        System.exit(SpringApplication.exit(contexto));
+    }
+}
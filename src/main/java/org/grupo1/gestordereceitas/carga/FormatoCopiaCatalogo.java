@@ -0,0 +1,48 @@
+package org.grupo1.gestordereceitas.carga;
+
+/**
+ * Formato binário da cópia do catálogo, gravado por {@link EscritorCopiaCatalogo} e lido por
+ * {@link LeitorCopiaCatalogo}.
+ * <p>
+ * Inteiros em big-endian. Textos e blobs: tamanho em {@code int} ({@code -1} para nulo) e os bytes,
+ * textos em UTF-8. Chaves estrangeiras nulas são gravadas como {@code -1}. Depois do cabeçalho vêm
+ * as seções na ordem de {@link Secao}; cada linha de uma seção é precedida do byte
+ * {@link #LINHA} e a seção termina com {@link #FIM_SECAO}, o que permite exportar em um único
+ * passe, sem contar as linhas antes. O arquivo termina com a assinatura repetida, para detectar
+ * cópias truncadas.
+ * <p>
+ * A descrição e o snapshot das receitas são copiados como estão gravados no banco (já
+ * comprimidos), junto com os dicionários de compressão de que dependem.
+ * <p>
+ * O escritor grava sempre {@link #VERSAO_FORMATO}; o leitor aceita também as versões anteriores,
+ * desde {@link #VERSAO_MINIMA}: seções e campos marcados "desde a versão N" são pulados nas cópias
+ * mais antigas e ficam com o valor padrão.
+ */
+public final class FormatoCopiaCatalogo {
+
+    public static final int ASSINATURA = 0x47525331; // "GRS1"
+    public static final int VERSAO_FORMATO = 3;
+    public static final int VERSAO_MINIMA = 1;
+
+    public static final byte LINHA = 1;
+    public static final byte FIM_SECAO = 0;
+
+    public static final long SEM_REFERENCIA = -1L;
+
+    /** Seções na ordem em que aparecem no arquivo (e em que precisam ser inseridas). */
+    public enum Secao {
+        VERSAO_CATALOGO,   // id (long), marcador (texto), versao (long)
+        DICIONARIOS,       // versao (int), conteudo (blob), amostras (int), criadoEm (long, epoch ms ou -1)
+        CATEGORIAS,        // id (long), nome (texto)
+        INGREDIENTES,      // id (long), nome (texto)
+        RECEITAS,          // id, nome, descricao (blob), tempoDePreparo (int), categoriaId, snapshot (blob),
+                           // porcoes (int, 0 se não informado; desde a versão 3)
+        LINHAS_INGREDIENTES, // id, receitaId, ingredienteId, quantidade (texto), unidadeMedida (texto)
+        SUBSTITUICOES,     // id, ingredienteId, substitutoId, peso (double); desde a versão 2
+        NUTRICAO_INGREDIENTES // ingredienteId, calorias, proteinas, carboidratos, gorduras, fibras, sodio,
+                              // gramasPorUnidade (double, -1 se não informado); desde a versão 3
+    }
+
+    private FormatoCopiaCatalogo() {
+    }
+}
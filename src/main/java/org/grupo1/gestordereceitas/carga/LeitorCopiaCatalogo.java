@@ -0,0 +1,92 @@
+package org.grupo1.gestordereceitas.carga;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.grupo1.gestordereceitas.carga.FormatoCopiaCatalogo.*;
+
+/**
+ * Lê a cópia do catálogo mapeada em memória: o arquivo é percorrido direto das páginas do sistema
+ * operacional, sem chamadas de leitura nem buffers intermediários (ver FormatoCopiaCatalogo).
+ * Cópias de até 2 GB, o limite de um único mapeamento. Quem lê as seções consulta {@link #versao()}
+ * para saber quais seções e campos a cópia tem.
+ */
+public class LeitorCopiaCatalogo {
+
+    private final MappedByteBuffer buffer;
+    private final int versao;
+
+    public LeitorCopiaCatalogo(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Cópia do catálogo maior que 2 GB: " + arquivo);
+            }
+            // O mapeamento continua válido depois de o canal ser fechado
+            this.buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        if (buffer.remaining() < 12 || buffer.getInt() != ASSINATURA) {
+            throw new IOException("Arquivo não é uma cópia do catálogo: " + arquivo);
+        }
+        this.versao = buffer.getInt();
+        if (versao < VERSAO_MINIMA || versao > VERSAO_FORMATO) {
+            throw new VersaoCopiaNaoSuportadaException("Versão de formato " + versao + " não suportada (aceitas: "
+                    + VERSAO_MINIMA + " a " + VERSAO_FORMATO + "): " + arquivo);
+        }
+        if (buffer.getInt(buffer.limit() - Integer.BYTES) != ASSINATURA) {
+            throw new IOException("Cópia do catálogo incompleta: " + arquivo);
+        }
+    }
+
+    // true enquanto houver linhas na seção atual; consome o marcador de fim da seção
+    public boolean proximaLinha() throws IOException {
+        byte marcador = buffer.get();
+        if (marcador != LINHA && marcador != FIM_SECAO) {
+            throw new IOException("Cópia do catálogo corrompida na posição " + (buffer.position() - 1));
+        }
+        return marcador == LINHA;
+    }
+
+    public int lerInt() {
+        return buffer.getInt();
+    }
+
+    public long lerLong() {
+        return buffer.getLong();
+    }
+
+    public double lerDouble() {
+        return buffer.getDouble();
+    }
+
+    public Long lerReferencia() {
+        long id = buffer.getLong();
+        return id == SEM_REFERENCIA ? null : id;
+    }
+
+    public String lerTexto() {
+        byte[] bytes = lerBytes();
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    public byte[] lerBytes() {
+        int tamanho = buffer.getInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    public int versao() {
+        return versao;
+    }
+
+    public long tamanho() {
+        return buffer.capacity();
+    }
+}
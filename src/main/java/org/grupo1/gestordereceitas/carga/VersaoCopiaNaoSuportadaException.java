@@ -0,0 +1,11 @@
+package org.grupo1.gestordereceitas.carga;
+
+import java.io.IOException;
+
+// Cópia gravada em uma versão de formato que este leitor não conhece (em geral, por uma versão mais nova da aplicação)
+public class VersaoCopiaNaoSuportadaException extends IOException {
+
+    public VersaoCopiaNaoSuportadaException(String message) {
+        super(message);
+    }
+}
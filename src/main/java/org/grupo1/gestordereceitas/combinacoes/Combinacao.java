@@ -0,0 +1,8 @@
+package org.grupo1.gestordereceitas.combinacoes;
+
+/**
+ * Um ingrediente usado junto com o consultado: em quantas receitas os dois aparecem e que fração
+ * das receitas do consultado isso representa.
+ */
+public record Combinacao(long ingredienteId, long receitasJuntos, double percentual) {
+}
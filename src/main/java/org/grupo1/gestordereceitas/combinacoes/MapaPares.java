@@ -0,0 +1,150 @@
+package org.grupo1.gestordereceitas.combinacoes;
+
+/**
+ * Contadores por par de ingredientes em endereçamento aberto com sondagem linear, sobre vetores
+ * de {@code long}: nenhum objeto por par. O par (a, b) vira a chave {@code min << 32 | max},
+ * então (a, b) e (b, a) são o mesmo contador. A chave 0 marca posição vazia; IDs começam em 1.
+ * <p>
+ * Não é thread-safe.
+ */
+final class MapaPares {
+
+    private static final double CARGA_MAXIMA = 0.6;
+
+    private long[] chaves;
+    private long[] valores;
+    private int bits;
+    private int tamanho;
+
+    MapaPares() {
+        this(16);
+    }
+
+    MapaPares(int capacidadeInicial) {
+        bits = Math.max(4, 64 - Long.numberOfLeadingZeros(Math.max(1, (long) (capacidadeInicial / CARGA_MAXIMA))));
+        chaves = new long[1 << bits];
+        valores = new long[1 << bits];
+    }
+
+    static long chave(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    static int primeiro(long chave) {
+        return (int) (chave >>> 32);
+    }
+
+    static int segundo(long chave) {
+        return (int) chave;
+    }
+
+    long valor(long chave) {
+        for (int i = posicao(chave); ; i = (i + 1) & mascara()) {
+            if (chaves[i] == chave) {
+                return valores[i];
+            }
+            if (chaves[i] == 0) {
+                return 0;
+            }
+        }
+    }
+
+    /** Soma {@code delta} ao contador do par e devolve o novo valor; contadores que chegam a zero saem do mapa. */
+    long somar(long chave, long delta) {
+        int i = posicao(chave);
+        while (chaves[i] != 0 && chaves[i] != chave) {
+            i = (i + 1) & mascara();
+        }
+        if (chaves[i] == 0) {
+            if (delta <= 0) {
+                return 0;
+            }
+            chaves[i] = chave;
+            valores[i] = delta;
+            if (++tamanho > chaves.length * CARGA_MAXIMA) {
+                redimensionar();
+            }
+            return delta;
+        }
+        long novo = valores[i] + delta;
+        if (novo > 0) {
+            valores[i] = novo;
+            return novo;
+        }
+        remover(i);
+        return 0;
+    }
+
+    void juntar(MapaPares outro) {
+        for (int i = 0; i < outro.chaves.length; i++) {
+            if (outro.chaves[i] != 0) {
+                somar(outro.chaves[i], outro.valores[i]);
+            }
+        }
+    }
+
+    void paraCada(ConsumidorPar consumidor) {
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != 0) {
+                consumidor.aceitar(chaves[i], valores[i]);
+            }
+        }
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    // Remoção com deslocamento para trás: sem lápides, as buscas continuam parando na primeira posição vazia
+    private void remover(int vazia) {
+        tamanho--;
+        int i = vazia;
+        while (true) {
+            i = (i + 1) & mascara();
+            if (chaves[i] == 0) {
+                break;
+            }
+            int ideal = posicao(chaves[i]);
+            // Move se a posição ideal não está entre a vazia (exclusive) e a atual (inclusive), circularmente
+            if (((i - ideal) & mascara()) >= ((i - vazia) & mascara())) {
+                chaves[vazia] = chaves[i];
+                valores[vazia] = valores[i];
+                vazia = i;
+            }
+        }
+        chaves[vazia] = 0;
+        valores[vazia] = 0;
+    }
+
+    private void redimensionar() {
+        long[] antigasChaves = chaves;
+        long[] antigosValores = valores;
+        bits++;
+        chaves = new long[1 << bits];
+        valores = new long[1 << bits];
+        for (int j = 0; j < antigasChaves.length; j++) {
+            if (antigasChaves[j] != 0) {
+                int i = posicao(antigasChaves[j]);
+                while (chaves[i] != 0) {
+                    i = (i + 1) & mascara();
+                }
+                chaves[i] = antigasChaves[j];
+                valores[i] = antigosValores[j];
+            }
+        }
+    }
+
+    // Hash de Fibonacci: os bits altos do produto espalham bem chaves sequenciais
+    private int posicao(long chave) {
+        return (int) ((chave * 0x9E3779B97F4A7C15L) >>> (64 - bits));
+    }
+
+    private int mascara() {
+        return chaves.length - 1;
+    }
+
+    @FunctionalInterface
+    interface ConsumidorPar {
+        void aceitar(long chave, long valor);
+    }
+}
@@ -0,0 +1,353 @@
+package org.grupo1.gestordereceitas.combinacoes;
+
+import org.grupo1.gestordereceitas.analitico.IngredienteDaReceita;
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Matriz esparsa de coocorrência de ingredientes: para cada par, em quantas receitas os dois
+ * aparecem juntos, num {@link MapaPares}. Cada ingrediente mantém a lista dos seus vizinhos e um
+ * heap de mínimo com os {@link #MAXIMO_COMBINACOES} mais frequentes, então a leitura custa O(K).
+ * <p>
+ * Como nas {@link org.grupo1.gestordereceitas.estatisticas.EstatisticasCatalogo}, o ReceitaService
+ * informa os ingredientes anteriores e os novos de cada receita alterada e só os pares que
+ * entraram ou saíram são somados, depois do commit. Um par que perde receitas e está no heap
+ * obriga a remontar o heap daquele ingrediente a partir dos vizinhos, já que outro pode ter
+ * passado à frente. A reconstrução completa (na subida, periódica e sob demanda) conta os pares
+ * em paralelo, um mapa por fatia de receitas, e corrige escritas de outras instâncias.
+ */
+@Component
+public class MatrizCoocorrencia {
+
+    private static final Logger log = LoggerFactory.getLogger(MatrizCoocorrencia.class);
+
+    public static final int MAXIMO_COMBINACOES = 20;
+
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Estado estado = new Estado(new MapaPares());
+    private volatile long duracaoUltimaReconstrucaoMs;
+
+    public MatrizCoocorrencia(ReceitaIngredienteRepository receitaIngredienteRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // --- Consultas ---
+
+    public List<Combinacao> combinacoes(long ingredienteId, int limite) {
+        lock.readLock().lock();
+        try {
+            Linha[] linhas = estado.linhas;
+            if (ingredienteId >= linhas.length || linhas[(int) ingredienteId] == null) {
+                return List.of();
+            }
+            Linha linha = linhas[(int) ingredienteId];
+            List<Combinacao> combinacoes = new ArrayList<>(linha.topTamanho);
+            for (int i = 0; i < linha.topTamanho; i++) {
+                combinacoes.add(new Combinacao(linha.topIds[i], linha.topContagens[i],
+                        linha.receitas == 0 ? 0 : (double) linha.topContagens[i] / linha.receitas));
+            }
+            combinacoes.sort(Comparator.comparingLong(Combinacao::receitasJuntos).reversed()
+                    .thenComparingLong(Combinacao::ingredienteId));
+            return combinacoes.size() <= limite ? combinacoes : combinacoes.subList(0, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Situacao situacao() {
+        lock.readLock().lock();
+        try {
+            long ingredientes = Arrays.stream(estado.linhas).filter(Objects::nonNull).count();
+            return new Situacao(ingredientes, estado.pares.tamanho(), duracaoUltimaReconstrucaoMs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Atualização incremental ---
+
+    // anterior null para receita criada, nova null para receita excluída
+    public void registrar(ContribuicaoReceita anterior, ContribuicaoReceita nova) {
+        long[] antes = anterior == null ? new long[0] : anterior.ingredienteIds();
+        long[] depois = nova == null ? new long[0] : nova.ingredienteIds();
+        if (Arrays.equals(antes, depois)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(antes, depois);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aplicar(antes, depois);
+            }
+        });
+    }
+
+    private synchronized void aplicar(long[] antes, long[] depois) {
+        lock.writeLock().lock();
+        try {
+            estado.somarReceita(antes, -1);
+            estado.somarReceita(depois, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --- Reconstrução ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Scheduled(initialDelayString = "${gestor.combinacoes.intervalo-reconstrucao-ms:1800000}",
+            fixedDelayString = "${gestor.combinacoes.intervalo-reconstrucao-ms:1800000}")
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        List<long[]> receitas = transactionTemplate.execute(status ->
+                agrupar(receitaIngredienteRepository.findIngredientesDistintosPorReceita()));
+
+        // Um mapa por fatia de receitas, contados em paralelo e somados no fim
+        int fatias = Math.max(1, Math.min(receitas.size() / 1000, Runtime.getRuntime().availableProcessors() * 4));
+        MapaPares novosPares = IntStream.range(0, fatias).parallel()
+                .mapToObj(fatia -> contarPares(receitas, fatia, fatias))
+                .reduce((a, b) -> {
+                    a.juntar(b);
+                    return a;
+                })
+                .orElseGet(MapaPares::new);
+
+        Estado novo = new Estado(novosPares);
+        for (long[] ingredientes : receitas) {
+            for (long id : ingredientes) {
+                novo.linha(Math.toIntExact(id)).receitas++;
+            }
+        }
+        novosPares.paraCada((chave, valor) -> {
+            novo.linha(MapaPares.primeiro(chave)).adicionarVizinho(MapaPares.segundo(chave));
+            novo.linha(MapaPares.segundo(chave)).adicionarVizinho(MapaPares.primeiro(chave));
+        });
+        Arrays.stream(novo.linhas).parallel().filter(Objects::nonNull).forEach(novo::remontarTop);
+
+        lock.writeLock().lock();
+        try {
+            estado = novo;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        duracaoUltimaReconstrucaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        log.info("Matriz de coocorrência montada: {} receitas, {} pares em {} ms",
+                receitas.size(), novosPares.tamanho(), duracaoUltimaReconstrucaoMs);
+    }
+
+    // As linhas vêm ordenadas por receita
+    static List<long[]> agrupar(List<IngredienteDaReceita> linhas) {
+        List<long[]> receitas = new ArrayList<>();
+        int inicio = 0;
+        for (int i = 1; i <= linhas.size(); i++) {
+            if (i == linhas.size() || !linhas.get(i).receitaId().equals(linhas.get(inicio).receitaId())) {
+                long[] ingredientes = new long[i - inicio];
+                for (int k = inicio; k < i; k++) {
+                    ingredientes[k - inicio] = linhas.get(k).ingredienteId();
+                }
+                receitas.add(ingredientes);
+                inicio = i;
+            }
+        }
+        return receitas;
+    }
+
+    private static MapaPares contarPares(List<long[]> receitas, int fatia, int fatias) {
+        MapaPares contagem = new MapaPares();
+        for (int r = fatia; r < receitas.size(); r += fatias) {
+            long[] ingredientes = receitas.get(r);
+            for (int i = 0; i < ingredientes.length; i++) {
+                for (int j = i + 1; j < ingredientes.length; j++) {
+                    contagem.somar(MapaPares.chave(Math.toIntExact(ingredientes[i]), Math.toIntExact(ingredientes[j])), 1);
+                }
+            }
+        }
+        return contagem;
+    }
+
+    public record Situacao(long ingredientes, int pares, long duracaoUltimaReconstrucaoMs) {
+    }
+
+    /** Pares e linhas de uma matriz; trocados inteiros pela reconstrução. */
+    private static final class Estado {
+
+        final MapaPares pares;
+        // Indexado pelo ID do ingrediente
+        Linha[] linhas = new Linha[0];
+
+        Estado(MapaPares pares) {
+            this.pares = pares;
+        }
+
+        void somarReceita(long[] ingredientes, int delta) {
+            for (long id : ingredientes) {
+                linha(Math.toIntExact(id)).receitas += delta;
+            }
+            for (int i = 0; i < ingredientes.length; i++) {
+                for (int j = i + 1; j < ingredientes.length; j++) {
+                    somarPar((int) ingredientes[i], (int) ingredientes[j], delta);
+                }
+            }
+        }
+
+        void somarPar(int a, int b, int delta) {
+            long novo = pares.somar(MapaPares.chave(a, b), delta);
+            long anterior = novo - delta;
+            ajustar(linha(a), b, anterior, novo);
+            ajustar(linha(b), a, anterior, novo);
+        }
+
+        void ajustar(Linha linha, int vizinho, long anterior, long novo) {
+            if (anterior == 0 && novo > 0) {
+                linha.adicionarVizinho(vizinho);
+            } else if (anterior > 0 && novo == 0) {
+                linha.removerVizinho(vizinho);
+            }
+            int posicao = linha.posicaoNoTop(vizinho);
+            if (novo > anterior) {
+                if (posicao >= 0) {
+                    linha.topContagens[posicao] = novo;
+                    linha.descer(posicao);
+                } else {
+                    linha.oferecer(vizinho, novo);
+                }
+            } else if (posicao >= 0) {
+                remontarTop(linha);
+            }
+        }
+
+        void remontarTop(Linha linha) {
+            linha.topTamanho = 0;
+            for (int k = 0; k < linha.grau; k++) {
+                int vizinho = linha.vizinhos[k];
+                linha.oferecer(vizinho, pares.valor(MapaPares.chave(linha.id, vizinho)));
+            }
+        }
+
+        Linha linha(int id) {
+            if (id >= linhas.length) {
+                linhas = Arrays.copyOf(linhas, Math.max(id + 1, linhas.length * 2));
+            }
+            if (linhas[id] == null) {
+                linhas[id] = new Linha(id);
+            }
+            return linhas[id];
+        }
+    }
+
+    /** Vizinhos e heap de mínimo dos mais frequentes de um ingrediente. */
+    private static final class Linha {
+
+        final int id;
+        long receitas;
+        int[] vizinhos = new int[4];
+        int grau;
+        final int[] topIds = new int[MAXIMO_COMBINACOES];
+        final long[] topContagens = new long[MAXIMO_COMBINACOES];
+        int topTamanho;
+
+        Linha(int id) {
+            this.id = id;
+        }
+
+        void adicionarVizinho(int vizinho) {
+            if (grau == vizinhos.length) {
+                vizinhos = Arrays.copyOf(vizinhos, grau * 2);
+            }
+            vizinhos[grau++] = vizinho;
+        }
+
+        void removerVizinho(int vizinho) {
+            for (int k = 0; k < grau; k++) {
+                if (vizinhos[k] == vizinho) {
+                    vizinhos[k] = vizinhos[--grau];
+                    return;
+                }
+            }
+        }
+
+        int posicaoNoTop(int vizinho) {
+            for (int k = 0; k < topTamanho; k++) {
+                if (topIds[k] == vizinho) {
+                    return k;
+                }
+            }
+            return -1;
+        }
+
+        void oferecer(int vizinho, long contagem) {
+            if (topTamanho < MAXIMO_COMBINACOES) {
+                topIds[topTamanho] = vizinho;
+                topContagens[topTamanho] = contagem;
+                subir(topTamanho++);
+            } else if (contagem > topContagens[0]) {
+                topIds[0] = vizinho;
+                topContagens[0] = contagem;
+                descer(0);
+            }
+        }
+
+        void subir(int i) {
+            while (i > 0) {
+                int pai = (i - 1) / 2;
+                if (topContagens[pai] <= topContagens[i]) {
+                    return;
+                }
+                trocar(pai, i);
+                i = pai;
+            }
+        }
+
+        void descer(int i) {
+            while (true) {
+                int menor = i;
+                int esquerdo = 2 * i + 1;
+                int direito = esquerdo + 1;
+                if (esquerdo < topTamanho && topContagens[esquerdo] < topContagens[menor]) {
+                    menor = esquerdo;
+                }
+                if (direito < topTamanho && topContagens[direito] < topContagens[menor]) {
+                    menor = direito;
+                }
+                if (menor == i) {
+                    return;
+                }
+                trocar(i, menor);
+                i = menor;
+            }
+        }
+
+        private void trocar(int a, int b) {
+            int id = topIds[a];
+            topIds[a] = topIds[b];
+            topIds[b] = id;
+            long contagem = topContagens[a];
+            topContagens[a] = topContagens[b];
+            topContagens[b] = contagem;
+        }
+    }
+}
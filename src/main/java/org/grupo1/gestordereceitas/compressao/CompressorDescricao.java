@@ -0,0 +1,245 @@
+package org.grupo1.gestordereceitas.compressao;
+
+import org.grupo1.gestordereceitas.dto.CompressaoBenchmarkDTO;
+import org.grupo1.gestordereceitas.dto.CompressaoEstatisticasDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressão das descrições das receitas com DEFLATE e um dicionário compartilhado versionado.
+ * <p>
+ * Formato gravado na coluna:
+ * <ul>
+ *   <li>{@code 0xFF}, versão do dicionário (2 bytes) e o fluxo DEFLATE sem cabeçalho;</li>
+ *   <li>qualquer outro primeiro byte: o texto em UTF-8, sem compressão. É o caso de textos curtos
+ *   ou que não diminuem, e das linhas inseridas diretamente por SQL (data.sql). {@code 0xFF}
+ *   nunca aparece em UTF-8, então os dois formatos não se confundem.</li>
+ * </ul>
+ * Deflater e Inflater são reaproveitados por thread: criá-los a cada valor custa mais que comprimir
+ * uma descrição.
+ */
+@Component
+public class CompressorDescricao {
+
+    static final int MARCADOR_COMPRIMIDO = 0xFF;
+    static final int VERSAO_TEXTO_PURO = -1;
+
+    // Abaixo disso o cabeçalho e o fim do fluxo DEFLATE anulam o ganho
+    private static final int TAMANHO_MINIMO = 32;
+    private static final int CABECALHO = 3;
+
+    private static final ThreadLocal<Deflater> DEFLATERS =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_COMPRESSION, true));
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private final DicionariosDescricao dicionarios;
+
+    private final LongAdder escritas = new LongAdder();
+    private final LongAdder leituras = new LongAdder();
+    private final LongAdder bytesOriginais = new LongAdder();
+    private final LongAdder bytesGravados = new LongAdder();
+    private final LongAdder nanosEscrita = new LongAdder();
+    private final LongAdder nanosLeitura = new LongAdder();
+
+    // Recebe um valor derivado do trabalho medido no benchmark, para que o JIT não o elimine
+    private volatile long sumidouro;
+
+    public CompressorDescricao(DicionariosDescricao dicionarios) {
+        this.dicionarios = dicionarios;
+    }
+
+    public byte[] comprimir(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        long inicio = System.nanoTime();
+        byte[] original = texto.getBytes(StandardCharsets.UTF_8);
+        byte[] gravado = comprimir(original, dicionarios.versaoAtiva());
+        escritas.increment();
+        bytesOriginais.add(original.length);
+        bytesGravados.add(gravado.length);
+        nanosEscrita.add(System.nanoTime() - inicio);
+        return gravado;
+    }
+
+    public String descomprimir(byte[] valor) {
+        if (valor == null) {
+            return null;
+        }
+        long inicio = System.nanoTime();
+        String texto = new String(descomprimirBytes(valor), StandardCharsets.UTF_8);
+        leituras.increment();
+        nanosLeitura.add(System.nanoTime() - inicio);
+        return texto;
+    }
+
+    // Versão do dicionário usada em um valor gravado, ou VERSAO_TEXTO_PURO
+    public static int versao(byte[] valor) {
+        if (valor == null || valor.length < CABECALHO || (valor[0] & 0xFF) != MARCADOR_COMPRIMIDO) {
+            return VERSAO_TEXTO_PURO;
+        }
+        return ((valor[1] & 0xFF) << 8) | (valor[2] & 0xFF);
+    }
+
+    // Regrava um valor com o dicionário ativo; null quando não há o que mudar
+    public byte[] recomprimir(byte[] gravado) {
+        int versaoAtiva = dicionarios.versaoAtiva();
+        if (gravado == null || versao(gravado) == versaoAtiva) {
+            return null;
+        }
+        byte[] novo = comprimir(descomprimirBytes(gravado), versaoAtiva);
+        return Arrays.equals(novo, gravado) ? null : novo;
+    }
+
+    // Sem contabilizar nas estatísticas: usado também pelo benchmark e pela recompressão
+    byte[] comprimir(byte[] original, int versao) {
+        if (original.length < TAMANHO_MINIMO) {
+            return original;
+        }
+        Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        byte[] dicionario = dicionarios.dicionario(versao);
+        // Um treino sobre um corpus sem repetições produz um dicionário vazio
+        if (dicionario.length > 0) {
+            deflater.setDictionary(dicionario);
+        }
+        deflater.setInput(original);
+        deflater.finish();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(original.length);
+        saida.write(MARCADOR_COMPRIMIDO);
+        saida.write(versao >>> 8);
+        saida.write(versao);
+        byte[] buffer = new byte[Math.max(64, original.length)];
+        while (!deflater.finished()) {
+            int tamanho = deflater.deflate(buffer);
+            saida.write(buffer, 0, tamanho);
+            if (saida.size() >= original.length) {
+                return original;
+            }
+        }
+        return saida.toByteArray();
+    }
+
+    byte[] descomprimirBytes(byte[] valor) {
+        int versao = versao(valor);
+        if (versao == VERSAO_TEXTO_PURO) {
+            return valor;
+        }
+        Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        // Sem cabeçalho zlib o Inflater não pede o dicionário: ele é definido antes da entrada
+        byte[] dicionario = dicionarios.dicionario(versao);
+        if (dicionario.length > 0) {
+            inflater.setDictionary(dicionario);
+        }
+        inflater.setInput(valor, CABECALHO, valor.length - CABECALHO);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(valor.length * 4);
+        byte[] buffer = new byte[Math.max(256, valor.length * 4)];
+        try {
+            while (!inflater.finished()) {
+                int tamanho = inflater.inflate(buffer);
+                if (tamanho == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Descrição comprimida truncada (dicionário versão " + versao + ")");
+                }
+                saida.write(buffer, 0, tamanho);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Descrição comprimida inválida (dicionário versão " + versao + ")", e);
+        }
+        return saida.toByteArray();
+    }
+
+    /**
+     * Mede, sobre o corpus informado, a taxa de compressão com e sem o dicionário ativo e o custo
+     * médio de CPU por gravação e por leitura (ida e volta completas, incluindo a codificação UTF-8).
+     * A primeira rodada aquece o JIT e não entra na média.
+     */
+    public CompressaoBenchmarkDTO medir(List<String> corpus, int rodadas) {
+        int versao = dicionarios.versaoAtiva();
+        byte[][] originais = new byte[corpus.size()][];
+        byte[][] comprimidos = new byte[corpus.size()][];
+        long bytesOriginais = 0;
+        long bytesComDicionario = 0;
+        long bytesSemDicionario = 0;
+        for (int i = 0; i < originais.length; i++) {
+            originais[i] = corpus.get(i).getBytes(StandardCharsets.UTF_8);
+            comprimidos[i] = comprimir(originais[i], versao);
+            bytesOriginais += originais[i].length;
+            bytesComDicionario += comprimidos[i].length;
+            bytesSemDicionario += tamanhoSemDicionario(originais[i]);
+        }
+
+        long nanosEscrita = 0;
+        long nanosLeitura = 0;
+        long checagem = 0;
+        for (int rodada = 0; rodada <= rodadas; rodada++) {
+            long inicio = System.nanoTime();
+            for (String texto : corpus) {
+                checagem += comprimir(texto.getBytes(StandardCharsets.UTF_8), versao).length;
+            }
+            long meio = System.nanoTime();
+            for (byte[] comprimido : comprimidos) {
+                checagem += new String(descomprimirBytes(comprimido), StandardCharsets.UTF_8).length();
+            }
+            long fim = System.nanoTime();
+            if (rodada > 0) {
+                nanosEscrita += meio - inicio;
+                nanosLeitura += fim - meio;
+            }
+        }
+        sumidouro = checagem;
+        long operacoes = Math.max(1, (long) rodadas * corpus.size());
+
+        CompressaoBenchmarkDTO dto = new CompressaoBenchmarkDTO();
+        dto.setVersaoDicionario(versao);
+        dto.setDescricoes(corpus.size());
+        dto.setRodadas(rodadas);
+        dto.setBytesOriginais(bytesOriginais);
+        dto.setBytesSemDicionario(bytesSemDicionario);
+        dto.setBytesComDicionario(bytesComDicionario);
+        dto.setTaxaSemDicionario(bytesSemDicionario == 0 ? 0.0 : (double) bytesOriginais / bytesSemDicionario);
+        dto.setTaxaComDicionario(bytesComDicionario == 0 ? 0.0 : (double) bytesOriginais / bytesComDicionario);
+        dto.setNanosPorEscrita(nanosEscrita / operacoes);
+        dto.setNanosPorLeitura(nanosLeitura / operacoes);
+        return dto;
+    }
+
+    // Mesmo formato e mesmas regras, mas sem dicionário: referência para o benchmark
+    private static int tamanhoSemDicionario(byte[] original) {
+        if (original.length < TAMANHO_MINIMO) {
+            return original.length;
+        }
+        Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        deflater.setInput(original);
+        deflater.finish();
+        byte[] buffer = new byte[original.length + 64];
+        int tamanho = CABECALHO;
+        while (!deflater.finished()) {
+            tamanho += deflater.deflate(buffer);
+        }
+        return Math.min(tamanho, original.length);
+    }
+
+    public CompressaoEstatisticasDTO estatisticas() {
+        CompressaoEstatisticasDTO dto = new CompressaoEstatisticasDTO();
+        dto.setVersaoDicionarioAtiva(dicionarios.versaoAtiva());
+        dto.setEscritas(escritas.sum());
+        dto.setLeituras(leituras.sum());
+        dto.setBytesOriginais(bytesOriginais.sum());
+        dto.setBytesGravados(bytesGravados.sum());
+        dto.setTaxaCompressao(dto.getBytesGravados() == 0 ? 0.0 : (double) dto.getBytesOriginais() / dto.getBytesGravados());
+        dto.setNanosMedioEscrita(dto.getEscritas() == 0 ? 0 : nanosEscrita.sum() / dto.getEscritas());
+        dto.setNanosMedioLeitura(dto.getLeituras() == 0 ? 0 : nanosLeitura.sum() / dto.getLeituras());
+        return dto;
+    }
+}
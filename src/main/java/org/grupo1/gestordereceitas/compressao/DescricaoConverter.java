@@ -0,0 +1,25 @@
+package org.grupo1.gestordereceitas.compressao;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Comprime a descrição da receita na gravação e a descomprime na leitura (ver CompressorDescricao)
+@Converter
+public class DescricaoConverter implements AttributeConverter<String, byte[]> {
+
+    private final CompressorDescricao compressor;
+
+    public DescricaoConverter(CompressorDescricao compressor) {
+        this.compressor = compressor;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String descricao) {
+        return compressor.comprimir(descricao);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] valor) {
+        return compressor.descomprimir(valor);
+    }
+}
@@ -0,0 +1,78 @@
+package org.grupo1.gestordereceitas.compressao;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versões do dicionário de compressão das descrições, carregadas sob demanda e mantidas em memória.
+ * <p>
+ * A versão 0 vem do classpath; as demais ficam na tabela {@code dicionario_compressao} e são lidas
+ * por JDBC, sem passar pelo JPA, porque este componente é usado pelo conversor da entidade
+ * {@code Receita}. Uma versão treinada em outra instância é carregada na primeira leitura de uma
+ * descrição gravada com ela.
+ */
+@Component
+public class DicionariosDescricao {
+
+    public static final int VERSAO_BASE = 0;
+
+    private static final String RECURSO_BASE = "compressao/dicionario-descricoes-v0.txt";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Integer, byte[]> dicionarios = new ConcurrentHashMap<>();
+
+    // null até a primeira compressão consultar o banco
+    private volatile Integer versaoAtiva;
+
+    public DicionariosDescricao(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        dicionarios.put(VERSAO_BASE, lerBase());
+    }
+
+    public byte[] dicionario(int versao) {
+        byte[] dicionario = dicionarios.computeIfAbsent(versao, this::buscar);
+        if (dicionario == null) {
+            throw new IllegalStateException("Dicionário de compressão versão " + versao + " não encontrado");
+        }
+        return dicionario;
+    }
+
+    public int versaoAtiva() {
+        Integer versao = versaoAtiva;
+        if (versao == null) {
+            Integer ultima = jdbcTemplate.queryForObject("select max(versao) from dicionario_compressao", Integer.class);
+            versao = ultima != null ? ultima : VERSAO_BASE;
+            versaoAtiva = versao;
+        }
+        return versao;
+    }
+
+    // Chamado depois do commit do treino: as próximas gravações passam a usar a nova versão
+    public void ativar(int versao, byte[] conteudo) {
+        dicionarios.put(versao, conteudo);
+        versaoAtiva = versao;
+    }
+
+    private byte[] buscar(int versao) {
+        List<byte[]> encontrados = jdbcTemplate.query("select conteudo from dicionario_compressao where versao = ?",
+                (rs, linha) -> rs.getBytes(1), versao);
+        return encontrados.isEmpty() ? null : encontrados.getFirst();
+    }
+
+    private static byte[] lerBase() {
+        try (InputStream entrada = new ClassPathResource(RECURSO_BASE).getInputStream()) {
+            return entrada.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Dicionário base de compressão não encontrado: " + RECURSO_BASE, e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.grupo1.gestordereceitas.compressao;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Monta um dicionário DEFLATE a partir de um corpus de descrições.
+ * <p>
+ * Conta as sequências de 1 a {@value #PALAVRAS_MAXIMAS} palavras do corpus, pontua cada uma pelos
+ * bytes que economiza ((ocorrências - 1) × tamanho) e escolhe as melhores até o tamanho máximo,
+ * ignorando as já contidas em outra escolhida. O DEFLATE alcança o dicionário por distância, e
+ * distâncias curtas custam menos bits: as sequências de maior pontuação ficam no fim.
+ * <p>
+ * O espaço que sobrar é preenchido com o final do dicionário base, antes das sequências treinadas,
+ * para que um corpus pequeno não produza um dicionário pior que o base.
+ */
+public final class TreinadorDicionario {
+
+    static final int PALAVRAS_MAXIMAS = 4;
+    private static final int TAMANHO_MINIMO_SEQUENCIA = 4;
+    private static final int CANDIDATAS_MAXIMAS = 20_000;
+
+    private TreinadorDicionario() {
+    }
+
+    public static byte[] treinar(List<String> corpus, byte[] base, int tamanhoMaximo) {
+        Map<String, Integer> ocorrencias = new HashMap<>();
+        for (String texto : corpus) {
+            if (texto == null) {
+                continue;
+            }
+            String[] palavras = texto.trim().split("\\s+");
+            for (int inicio = 0; inicio < palavras.length; inicio++) {
+                StringBuilder sequencia = new StringBuilder();
+                for (int n = 0; n < PALAVRAS_MAXIMAS && inicio + n < palavras.length; n++) {
+                    if (n > 0) {
+                        sequencia.append(' ');
+                    }
+                    sequencia.append(palavras[inicio + n]);
+                    if (sequencia.length() >= TAMANHO_MINIMO_SEQUENCIA) {
+                        ocorrencias.merge(sequencia.toString(), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        List<Map.Entry<String, Integer>> candidatas = new ArrayList<>();
+        for (Map.Entry<String, Integer> entrada : ocorrencias.entrySet()) {
+            if (entrada.getValue() > 1) {
+                candidatas.add(entrada);
+            }
+        }
+        candidatas.sort(Comparator.comparingLong(TreinadorDicionario::pontuacao).reversed()
+                .thenComparing(Map.Entry::getKey));
+        if (candidatas.size() > CANDIDATAS_MAXIMAS) {
+            candidatas = candidatas.subList(0, CANDIDATAS_MAXIMAS);
+        }
+
+        List<String> escolhidas = new ArrayList<>();
+        int tamanho = 0;
+        for (Map.Entry<String, Integer> candidata : candidatas) {
+            String sequencia = candidata.getKey();
+            int bytes = sequencia.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (tamanho + bytes > tamanhoMaximo) {
+                continue;
+            }
+            if (contidaEmAlguma(sequencia, escolhidas)) {
+                continue;
+            }
+            escolhidas.add(sequencia);
+            tamanho += bytes;
+        }
+
+        ByteArrayOutputStream dicionario = new ByteArrayOutputStream(tamanhoMaximo);
+        int espacoBase = Math.min(base.length, tamanhoMaximo - tamanho);
+        dicionario.write(base, base.length - espacoBase, espacoBase);
+        // Da menor para a maior pontuação
+        for (int i = escolhidas.size() - 1; i >= 0; i--) {
+            dicionario.writeBytes(escolhidas.get(i).getBytes(StandardCharsets.UTF_8));
+            dicionario.write(' ');
+        }
+        return dicionario.toByteArray();
+    }
+
+    private static long pontuacao(Map.Entry<String, Integer> candidata) {
+        return (long) (candidata.getValue() - 1) * candidata.getKey().length();
+    }
+
+    private static boolean contidaEmAlguma(String sequencia, List<String> escolhidas) {
+        for (String escolhida : escolhidas) {
+            if (escolhida.contains(sequencia)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
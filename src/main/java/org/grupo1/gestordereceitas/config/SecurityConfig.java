@@ -2,6 +2,7 @@ package org.grupo1.gestordereceitas.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -18,6 +19,9 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin)) // permite H2 em iframe
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/h2-console/**").permitAll() // libera H2 Console
+                        // avaliar e remover avaliação exigem usuário: a avaliação fica em nome dele
+                        .requestMatchers(HttpMethod.PUT, "/receitas/*/avaliacoes").authenticated()
+                        .requestMatchers(HttpMethod.DELETE, "/receitas/*/avaliacoes").authenticated()
                         .requestMatchers("/receitas/**").permitAll()  // libera endpoints de receitas
                         .requestMatchers("/categorias/**").permitAll()  // libera endpoints de categorias
                         .requestMatchers("/ingredientes/**").permitAll()  // libera endpoints de ingredientes
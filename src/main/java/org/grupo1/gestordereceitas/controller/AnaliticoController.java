@@ -0,0 +1,92 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.*;
+import org.grupo1.gestordereceitas.service.RelatorioAnaliticoService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/analitico")
+@Tag(name = "Analítico", description = "Relatórios agregados sobre um snapshot colunar do catálogo")
+public class AnaliticoController {
+
+    private final RelatorioAnaliticoService relatorioService;
+
+    public AnaliticoController(RelatorioAnaliticoService relatorioService) {
+        this.relatorioService = relatorioService;
+    }
+
+    @Operation(
+            summary = "Situação do snapshot analítico",
+            description = "Retorna quando o snapshot usado pelos relatórios foi gerado, seu tamanho e quanto a última geração levou."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/snapshot")
+    public SnapshotAnaliticoDTO snapshot() {
+        return relatorioService.snapshot();
+    }
+
+    @Operation(
+            summary = "Gerar snapshot analítico",
+            description = "Gera agora um novo snapshot a partir do banco, sem esperar a geração periódica."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Snapshot gerado com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @PostMapping("/snapshot")
+    public SnapshotAnaliticoDTO gerarSnapshot() {
+        return relatorioService.gerarSnapshot();
+    }
+
+    @Operation(
+            summary = "Uso de ingredientes por categoria",
+            description = "Retorna, para cada categoria, a quantidade de receitas e os ingredientes usados no maior número delas."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Snapshot ainda não gerado"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/relatorios/uso-ingredientes-por-categoria")
+    public RelatorioAnaliticoDTO<UsoPorCategoriaDTO> usoPorCategoria(@RequestParam(defaultValue = "10") int limite) {
+        return relatorioService.usoPorCategoria(limite);
+    }
+
+    @Operation(
+            summary = "Distribuição dos tempos de preparo",
+            description = "Retorna, por categoria, quantas receitas caem em cada faixa de tempo de preparo. A última faixa inclui todos os tempos acima dela."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Faixas inválidas ou snapshot ainda não gerado"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/relatorios/tempos")
+    public RelatorioAnaliticoDTO<DistribuicaoTemposDTO> distribuicaoTempos(@RequestParam(defaultValue = "15") int largura,
+                                                                          @RequestParam(defaultValue = "12") int faixas) {
+        return relatorioService.distribuicaoTempos(largura, faixas);
+    }
+
+    @Operation(
+            summary = "Ingredientes usados em conjunto",
+            description = "Retorna os ingredientes que mais aparecem nas mesmas receitas que o ingrediente informado."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Snapshot ainda não gerado"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária"),
+            @ApiResponse(responseCode = "404", description = "Ingrediente não encontrado no snapshot")
+    })
+    @GetMapping("/relatorios/co-uso")
+    public RelatorioAnaliticoDTO<UsoIngredienteDTO> coUso(@RequestParam Long ingredienteId,
+                                                         @RequestParam(defaultValue = "10") int limite) {
+        return relatorioService.coUso(ingredienteId, limite);
+    }
+}
@@ -0,0 +1,47 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.IndiceBuscaDTO;
+import org.grupo1.gestordereceitas.service.BuscaReceitaService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/busca")
+@Tag(name = "Busca", description = "Manutenção do índice da busca textual de receitas")
+public class BuscaController {
+
+    private final BuscaReceitaService buscaReceitaService;
+
+    public BuscaController(BuscaReceitaService buscaReceitaService) {
+        this.buscaReceitaService = buscaReceitaService;
+    }
+
+    @Operation(
+            summary = "Situação do índice de busca",
+            description = "Retorna a quantidade de receitas, termos e postagens do índice e quanto levou a última reconstrução."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/indice")
+    public IndiceBuscaDTO indice() {
+        return buscaReceitaService.estatisticasIndice();
+    }
+
+    @Operation(
+            summary = "Reconstruir o índice de busca",
+            description = "Monta o índice novamente a partir do banco. As buscas continuam respondendo com o índice anterior até a troca."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Índice reconstruído com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @PostMapping("/indice")
+    public IndiceBuscaDTO reconstruir() {
+        return buscaReceitaService.reconstruirIndice();
+    }
+}
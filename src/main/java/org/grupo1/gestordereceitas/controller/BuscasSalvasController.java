@@ -0,0 +1,84 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.BuscaSalvaDTO;
+import org.grupo1.gestordereceitas.dto.BuscaSalvaRequestDTO;
+import org.grupo1.gestordereceitas.dto.NotificacoesBuscaDTO;
+import org.grupo1.gestordereceitas.service.BuscaSalvaService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/buscas-salvas")
+@Tag(name = "Buscas salvas", description = "Filtros de receitas salvos e avisos de receitas novas ou alteradas que os atendem")
+public class BuscasSalvasController {
+
+    private final BuscaSalvaService buscaSalvaService;
+
+    public BuscasSalvasController(BuscaSalvaService buscaSalvaService) {
+        this.buscaSalvaService = buscaSalvaService;
+    }
+
+    @Operation(summary = "Lista as buscas salvas de um usuário", description = "Retorna as buscas salvas do usuário, da mais antiga para a mais nova.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Usuário não informado"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping
+    public List<BuscaSalvaDTO> listar(@RequestParam String usuario) {
+        return buscaSalvaService.listar(usuario);
+    }
+
+    @Operation(
+            summary = "Salva uma busca",
+            description = "Salva um filtro de receitas (categoria, faixa de tempo de preparo em minutos e ingredientes que a receita "
+                    + "precisa ter, todos opcionais e combinados). Cada receita criada ou alterada que passar a atender o filtro "
+                    + "gera um aviso para o usuário."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Busca salva com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Usuário ou nome não informado, ou faixa de tempo inválida"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária"),
+            @ApiResponse(responseCode = "404", description = "Categoria ou ingrediente não encontrado")
+    })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public BuscaSalvaDTO criar(@RequestBody BuscaSalvaRequestDTO dto) {
+        return buscaSalvaService.criar(dto);
+    }
+
+    @Operation(summary = "Remove uma busca salva", description = "Exclui a busca e os avisos que ela gerou.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Busca removida com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária"),
+            @ApiResponse(responseCode = "404", description = "Busca salva não encontrada")
+    })
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deletar(@PathVariable Long id) {
+        buscaSalvaService.deletar(id);
+    }
+
+    @Operation(
+            summary = "Consulta os avisos de um usuário",
+            description = "Retorna os avisos com id maior que depois, do mais antigo para o mais novo. O cursor da resposta é o "
+                    + "valor de depois para a próxima consulta. Avisos aparecem alguns segundos depois da escrita na receita."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Avisos retornados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Usuário não informado ou limite inválido"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/notificacoes")
+    public NotificacoesBuscaDTO notificacoes(@RequestParam String usuario,
+                                             @RequestParam(defaultValue = "0") long depois,
+                                             @RequestParam(defaultValue = "50") int limite) {
+        return buscaSalvaService.notificacoes(usuario, depois, limite);
+    }
+}
@@ -0,0 +1,92 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.CacheEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.CatalogoLeituraEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.FiltroReceitasEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.InvalidacaoEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.RespostaCacheEstatisticasDTO;
+import org.grupo1.gestordereceitas.service.CacheService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cache")
+@Tag(name = "Cache", description = "Monitoramento dos caches da aplicação")
+public class CacheController {
+
+    private final CacheService cacheService;
+
+    public CacheController(CacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @Operation(
+            summary = "Estatísticas do cache de segundo nível",
+            description = "Retorna acertos, falhas e inserções do cache de segundo nível, no total e por região."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/estatisticas")
+    public CacheEstatisticasDTO estatisticas() {
+        return cacheService.estatisticasSegundoNivel();
+    }
+
+    @Operation(
+            summary = "Estatísticas do cache de respostas",
+            description = "Retorna ocupação em bytes, acertos, falhas, respostas 304 e evicções do cache de respostas serializadas."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/respostas")
+    public RespostaCacheEstatisticasDTO estatisticasRespostas() {
+        return cacheService.estatisticasRespostas();
+    }
+
+    @Operation(
+            summary = "Estatísticas do filtro de IDs de receitas",
+            description = "Retorna o dimensionamento do filtro de Bloom de receitas e quantas buscas ele respondeu sem consultar o banco."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/filtro-receitas")
+    public FiltroReceitasEstatisticasDTO estatisticasFiltroReceitas() {
+        return cacheService.estatisticasFiltroReceitas();
+    }
+
+    @Operation(
+            summary = "Estado da invalidação entre instâncias",
+            description = "Retorna o cursor desta instância no log de invalidação compartilhado e quantas invalidações de outras instâncias ela já aplicou."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estado retornado com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/invalidacoes")
+    public InvalidacaoEstatisticasDTO estatisticasInvalidacao() {
+        return cacheService.estatisticasInvalidacao();
+    }
+
+    @Operation(
+            summary = "Estatísticas do modelo de leitura em memória",
+            description = "Retorna quantas receitas, ingredientes e categorias estão no modelo de leitura e a estimativa de memória ocupada, no total e por 100 mil receitas."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/catalogo")
+    public CatalogoLeituraEstatisticasDTO estatisticasCatalogoLeitura() {
+        return cacheService.estatisticasCatalogoLeitura();
+    }
+}
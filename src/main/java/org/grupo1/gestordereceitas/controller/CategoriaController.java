@@ -1,15 +1,21 @@
 package org.grupo1.gestordereceitas.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.grupo1.gestordereceitas.cache.RespostaCache;
 import org.grupo1.gestordereceitas.model.Categoria;
 import org.grupo1.gestordereceitas.service.CategoriaService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/categorias")
@@ -17,9 +23,11 @@ import java.util.List;
 public class CategoriaController {
 
     private final CategoriaService categoriaService;
+    private final RespostaCache respostaCache;
 
-    public CategoriaController(CategoriaService categoriaService) {
+    public CategoriaController(CategoriaService categoriaService, RespostaCache respostaCache) {
         this.categoriaService = categoriaService;
+        this.respostaCache = respostaCache;
     }
 
     @Operation(
@@ -27,11 +35,14 @@ public class CategoriaController {
             description = "Retorna uma lista com todas as categorias de receitas cadastradas."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Categoria.class)))),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada desde o ETag informado")
     })
     @GetMapping
-    public List<Categoria> listarTodas() {
-        return categoriaService.listarTodas();
+    public ResponseEntity<byte[]> listarTodas(HttpServletRequest request) {
+        return respostaCache.responder(request, "categorias",
+                categoriaService::listarTodas, categorias -> Set.of(RespostaCache.TAG_CATEGORIAS));
     }
 
     @Operation(
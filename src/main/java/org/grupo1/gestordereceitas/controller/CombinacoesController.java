@@ -0,0 +1,48 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.MatrizCombinacoesDTO;
+import org.grupo1.gestordereceitas.service.CombinacaoService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/combinacoes")
+@Tag(name = "Combinações", description = "Manutenção da matriz de ingredientes usados juntos")
+public class CombinacoesController {
+
+    private final CombinacaoService combinacaoService;
+
+    public CombinacoesController(CombinacaoService combinacaoService) {
+        this.combinacaoService = combinacaoService;
+    }
+
+    @Operation(
+            summary = "Situação da matriz de combinações",
+            description = "Retorna quantos ingredientes e pares de ingredientes a matriz tem e quanto levou a última reconstrução."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/matriz")
+    public MatrizCombinacoesDTO matriz() {
+        return combinacaoService.situacao();
+    }
+
+    @Operation(
+            summary = "Reconstruir a matriz de combinações",
+            description = "Conta novamente, em paralelo, os pares de ingredientes de todas as receitas do banco. "
+                    + "As consultas continuam respondendo com a matriz anterior até a troca."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matriz reconstruída com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @PostMapping("/matriz")
+    public MatrizCombinacoesDTO reconstruir() {
+        return combinacaoService.reconstruir();
+    }
+}
@@ -0,0 +1,79 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.CompressaoBenchmarkDTO;
+import org.grupo1.gestordereceitas.dto.CompressaoEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.DicionarioCompressaoDTO;
+import org.grupo1.gestordereceitas.dto.RecompressaoDTO;
+import org.grupo1.gestordereceitas.service.CompressaoDescricaoService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/compressao")
+@Tag(name = "Compressão", description = "Compressão das descrições das receitas com dicionário versionado")
+public class CompressaoController {
+
+    private final CompressaoDescricaoService compressaoService;
+
+    public CompressaoController(CompressaoDescricaoService compressaoService) {
+        this.compressaoService = compressaoService;
+    }
+
+    @Operation(
+            summary = "Estatísticas da compressão",
+            description = "Retorna a versão ativa do dicionário, a taxa de compressão das descrições gravadas e o tempo médio de compressão e descompressão desde a subida."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/estatisticas")
+    public CompressaoEstatisticasDTO estatisticas() {
+        return compressaoService.estatisticas();
+    }
+
+    @Operation(
+            summary = "Treinar nova versão do dicionário",
+            description = "Monta um novo dicionário a partir das descrições cadastradas e passa a usá-lo nas próximas gravações. Descrições já gravadas continuam legíveis."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Dicionário treinado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Nenhuma descrição cadastrada"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @PostMapping("/dicionarios")
+    @ResponseStatus(HttpStatus.CREATED)
+    public DicionarioCompressaoDTO treinarDicionario() {
+        return compressaoService.treinarDicionario();
+    }
+
+    @Operation(
+            summary = "Recomprimir descrições",
+            description = "Regrava com o dicionário ativo as descrições comprimidas com versões anteriores ou ainda sem compressão."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recompressão concluída"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @PostMapping("/recompressao")
+    public RecompressaoDTO recomprimir() {
+        return compressaoService.recomprimir();
+    }
+
+    @Operation(
+            summary = "Benchmark da compressão",
+            description = "Mede sobre as descrições cadastradas a taxa de compressão com e sem o dicionário ativo e o custo médio por gravação e por leitura."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Benchmark executado com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping("/benchmark")
+    public CompressaoBenchmarkDTO benchmark(@RequestParam(defaultValue = "20") int rodadas) {
+        return compressaoService.benchmark(rodadas);
+    }
+}
@@ -0,0 +1,36 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.CopiaCatalogoDTO;
+import org.grupo1.gestordereceitas.service.CopiaCatalogoService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/catalogo")
+@Tag(name = "Cópia do catálogo", description = "Exportação do catálogo em formato binário para cargas rápidas")
+public class CopiaCatalogoController {
+
+    private final CopiaCatalogoService copiaCatalogoService;
+
+    public CopiaCatalogoController(CopiaCatalogoService copiaCatalogoService) {
+        this.copiaCatalogoService = copiaCatalogoService;
+    }
+
+    @Operation(
+            summary = "Exportar cópia do catálogo",
+            description = "Grava o catálogo inteiro, de forma consistente, no arquivo de cópia configurado. Na próxima subida com o banco vazio, a cópia é restaurada no lugar do data.sql."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Cópia gravada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @PostMapping("/copias")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CopiaCatalogoDTO exportar() {
+        return copiaCatalogoService.exportar();
+    }
+}
@@ -0,0 +1,37 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.EstatisticasCatalogoDTO;
+import org.grupo1.gestordereceitas.service.EstatisticasService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/estatisticas")
+@Tag(name = "Estatísticas", description = "Indicadores do catálogo de receitas")
+public class EstatisticasController {
+
+    private final EstatisticasService estatisticasService;
+
+    public EstatisticasController(EstatisticasService estatisticasService) {
+        this.estatisticasService = estatisticasService;
+    }
+
+    @Operation(
+            summary = "Estatísticas do catálogo",
+            description = "Retorna a quantidade de receitas e o tempo de preparo médio e percentis (p50, p90, p99) por categoria e os ingredientes mais usados. Os valores são mantidos em memória a cada escrita e reconciliados periodicamente com o banco."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping
+    public EstatisticasCatalogoDTO estatisticas(@RequestParam(defaultValue = "10") int ingredientes) {
+        return estatisticasService.estatisticas(ingredientes);
+    }
+}
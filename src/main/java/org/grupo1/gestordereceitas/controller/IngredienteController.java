@@ -1,15 +1,29 @@
 package org.grupo1.gestordereceitas.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import org.grupo1.gestordereceitas.cache.RespostaCache;
+import org.grupo1.gestordereceitas.dto.CombinacaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.NutricaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.SubstitutoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.SugestaoIngredienteDTO;
 import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.service.CombinacaoService;
 import org.grupo1.gestordereceitas.service.IngredienteService;
+import org.grupo1.gestordereceitas.service.NutricaoService;
+import org.grupo1.gestordereceitas.service.SubstituicaoService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/ingredientes")
@@ -17,18 +31,45 @@ import java.util.List;
 public class IngredienteController {
 
     private final IngredienteService ingredienteService;
+    private final RespostaCache respostaCache;
+    private final CombinacaoService combinacaoService;
+    private final SubstituicaoService substituicaoService;
+    private final NutricaoService nutricaoService;
 
-    public IngredienteController(IngredienteService ingredienteService) {
+    public IngredienteController(IngredienteService ingredienteService, RespostaCache respostaCache,
+                                 CombinacaoService combinacaoService, SubstituicaoService substituicaoService,
+                                 NutricaoService nutricaoService) {
         this.ingredienteService = ingredienteService;
+        this.respostaCache = respostaCache;
+        this.combinacaoService = combinacaoService;
+        this.substituicaoService = substituicaoService;
+        this.nutricaoService = nutricaoService;
     }
 
     @Operation(summary = "Lista todos os ingredientes", description = "Retorna uma lista de todos os ingredientes cadastrados.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Ingrediente.class)))),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada desde o ETag informado")
     })
     @GetMapping
-    public List<Ingrediente> listarTodos() {
-        return ingredienteService.listarTodos();
+    public ResponseEntity<byte[]> listarTodos(HttpServletRequest request) {
+        return respostaCache.responder(request, "ingredientes",
+                ingredienteService::listarTodos, ingredientes -> Set.of(RespostaCache.TAG_INGREDIENTES));
+    }
+
+    @Operation(summary = "Sugere ingredientes pelo início do nome",
+            description = "Retorna os ingredientes cujo nome (ou uma de suas palavras) começa com o prefixo, sem diferenciar acentos, "
+                    + "ordenados pelo número de receitas que os usam. Com aproximado=true, aceita um erro de digitação no prefixo.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido")
+    })
+    @GetMapping("/autocomplete")
+    public List<SugestaoIngredienteDTO> autocompletar(@RequestParam(defaultValue = "") String prefix,
+                                                      @RequestParam(defaultValue = "10") int limite,
+                                                      @RequestParam(defaultValue = "false") boolean aproximado) {
+        return ingredienteService.autocompletar(prefix, limite, aproximado);
     }
 
     @Operation(summary = "Busca um ingrediente pelo ID", description = "Retorna os detalhes de um ingrediente específico se ele existir.")
@@ -41,6 +82,56 @@ public class IngredienteController {
         return ingredienteService.buscarPorId(id);
     }
 
+    @Operation(summary = "Lista os ingredientes que combinam com um ingrediente",
+            description = "Retorna os ingredientes usados com mais frequência nas mesmas receitas que o ingrediente informado, "
+                    + "com o número de receitas em comum e a fração das receitas do ingrediente que isso representa.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Combinações retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido"),
+            @ApiResponse(responseCode = "404", description = "Ingrediente não encontrado")
+    })
+    @GetMapping("/{id}/combinacoes")
+    public List<CombinacaoIngredienteDTO> combinacoes(@PathVariable Long id, @RequestParam(defaultValue = "10") int limite) {
+        return combinacaoService.combinacoes(id, limite);
+    }
+
+    @Operation(summary = "Lista os substitutos de um ingrediente",
+            description = "Retorna os ingredientes que podem ser usados no lugar do ingrediente informado, do melhor para o pior. "
+                    + "Inclui substituições de dois saltos, com peso igual ao produto dos pesos e o ingrediente intermediário em via.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Substitutos retornados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido"),
+            @ApiResponse(responseCode = "404", description = "Ingrediente não encontrado")
+    })
+    @GetMapping("/{id}/substitutos")
+    public List<SubstitutoIngredienteDTO> substitutos(@PathVariable Long id, @RequestParam(defaultValue = "10") int limite) {
+        return substituicaoService.substitutos(id, limite);
+    }
+
+    @Operation(summary = "Consulta a informação nutricional de um ingrediente",
+            description = "Retorna os valores por 100 g (ou 100 ml) e o peso de uma unidade do ingrediente, se cadastrado.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Informação nutricional retornada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Ingrediente não encontrado ou sem informação nutricional")
+    })
+    @GetMapping("/{id}/nutricao")
+    public NutricaoIngredienteDTO nutricao(@PathVariable Long id) {
+        return nutricaoService.nutricaoDoIngrediente(id);
+    }
+
+    @Operation(summary = "Grava a informação nutricional de um ingrediente",
+            description = "Cria ou substitui os valores por 100 g (ou 100 ml) do ingrediente. Os totais das receitas que o "
+                    + "usam são recalculados em segundo plano, logo depois da resposta; receitasAfetadas informa quantas são.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Informação nutricional gravada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Valores ausentes ou negativos"),
+            @ApiResponse(responseCode = "404", description = "Ingrediente não encontrado")
+    })
+    @PutMapping("/{id}/nutricao")
+    public NutricaoIngredienteDTO salvarNutricao(@PathVariable Long id, @RequestBody NutricaoIngredienteDTO dto) {
+        return nutricaoService.salvarNutricaoDoIngrediente(id, dto);
+    }
+
     @Operation(summary = "Cria um novo ingrediente", description = "Cadastra um novo ingrediente no sistema.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Ingrediente criado com sucesso"),
@@ -0,0 +1,44 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.PlanoDTO;
+import org.grupo1.gestordereceitas.dto.PlanoRequestDTO;
+import org.grupo1.gestordereceitas.service.PlanoService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/planos")
+@Tag(name = "Planos", description = "Planos de refeições montados a partir do catálogo")
+public class PlanosController {
+
+    private final PlanoService planoService;
+
+    public PlanosController(PlanoService planoService) {
+        this.planoService = planoService;
+    }
+
+    @Operation(
+            summary = "Monta um plano de refeições",
+            description = "Escolhe uma receita diferente para cada dia (7 por padrão), respeitando o tempo máximo de preparo "
+                    + "por dia, o mínimo de dias de cada categoria e os ingredientes excluídos, com a menor lista de compras "
+                    + "possível (ingredientes da despensa não contam) e, no empate, o menor tempo total. A busca é heurística "
+                    + "e paralela: devolve o melhor plano encontrado dentro de orcamentoMs. Se as cotas não puderem ser "
+                    + "cumpridas, diasFaltandoNasCotas informa quantos dias faltaram."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Plano montado"),
+            @ApiResponse(responseCode = "400", description = "Restrições inválidas ou receitas insuficientes para os dias pedidos"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária"),
+            @ApiResponse(responseCode = "404", description = "Categoria de uma cota não encontrada")
+    })
+    @PostMapping
+    public PlanoDTO montar(@RequestBody PlanoRequestDTO dto) {
+        return planoService.montar(dto);
+    }
+}
@@ -1,15 +1,39 @@
 package org.grupo1.gestordereceitas.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.grupo1.gestordereceitas.cache.RespostaCache;
+import org.grupo1.gestordereceitas.dto.AvaliacaoRequestDTO;
+import org.grupo1.gestordereceitas.dto.BuscaReceitasDTO;
+import org.grupo1.gestordereceitas.dto.ConsultaDespensaDTO;
+import org.grupo1.gestordereceitas.dto.NutricaoReceitaDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaAvaliadaDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaPopularDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaRequestDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaSimilarDTO;
+import org.grupo1.gestordereceitas.dto.ReceitasDespensaDTO;
+import org.grupo1.gestordereceitas.dto.RelatorioDuplicatasDTO;
+import org.grupo1.gestordereceitas.dto.ResumoAvaliacoesDTO;
+import org.grupo1.gestordereceitas.service.AvaliacaoService;
+import org.grupo1.gestordereceitas.service.BuscaReceitaService;
+import org.grupo1.gestordereceitas.service.DespensaService;
+import org.grupo1.gestordereceitas.service.DuplicataService;
+import org.grupo1.gestordereceitas.service.NutricaoService;
+import org.grupo1.gestordereceitas.service.PopularidadeService;
 import org.grupo1.gestordereceitas.service.ReceitaService;
+import org.grupo1.gestordereceitas.service.SimilaridadeService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -18,9 +42,29 @@ import java.util.List;
 public class ReceitaController {
 
     private final ReceitaService receitaService;
+    private final RespostaCache respostaCache;
+    private final BuscaReceitaService buscaReceitaService;
+    private final DespensaService despensaService;
+    private final SimilaridadeService similaridadeService;
+    private final PopularidadeService popularidadeService;
+    private final AvaliacaoService avaliacaoService;
+    private final NutricaoService nutricaoService;
+    private final DuplicataService duplicataService;
 
-    public ReceitaController(ReceitaService receitaService) {
+    public ReceitaController(ReceitaService receitaService, RespostaCache respostaCache,
+                             BuscaReceitaService buscaReceitaService, DespensaService despensaService,
+                             SimilaridadeService similaridadeService, PopularidadeService popularidadeService,
+                             AvaliacaoService avaliacaoService, NutricaoService nutricaoService,
+                             DuplicataService duplicataService) {
         this.receitaService = receitaService;
+        this.respostaCache = respostaCache;
+        this.buscaReceitaService = buscaReceitaService;
+        this.despensaService = despensaService;
+        this.similaridadeService = similaridadeService;
+        this.popularidadeService = popularidadeService;
+        this.avaliacaoService = avaliacaoService;
+        this.nutricaoService = nutricaoService;
+        this.duplicataService = duplicataService;
     }
 
     @Operation(
@@ -28,33 +72,215 @@ public class ReceitaController {
             description = "Retorna uma lista contendo todas as receitas cadastradas no sistema."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReceitaResponseDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada desde o ETag informado")
     })
     @GetMapping
-    public List<ReceitaResponseDTO> listarTodas() {
-        return receitaService.listarTodas();
+    public ResponseEntity<byte[]> listarTodas(HttpServletRequest request) {
+        return respostaCache.responder(request, "receitas",
+                receitaService::listarTodas, RespostaCache::tagsListaReceitas);
     }
 
     @Operation(
             summary = "Busca uma receita pelo ID",
-            description = "Retorna os detalhes de uma receita específica, caso ela exista."
+            description = "Retorna os detalhes de uma receita específica, caso ela exista. "
+                    + "A resposta é servida do cache com ETag; If-None-Match com o ETag atual retorna 304. "
+                    + "Cada consulta bem-sucedida conta como uma visualização da receita."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Receita encontrada com sucesso"),
+            @ApiResponse(responseCode = "200", description = "Receita encontrada com sucesso",
+                    content = @Content(schema = @Schema(implementation = ReceitaResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Receita não modificada desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Receita não encontrada")
     })
     @GetMapping("/{id}")
-    public ReceitaResponseDTO buscarPorId(@PathVariable Long id) {
-        return receitaService.buscarPorId(id);
+    public ResponseEntity<byte[]> buscarPorId(@PathVariable Long id, HttpServletRequest request) {
+        ResponseEntity<byte[]> resposta = respostaCache.responder(request, "receitas/" + id,
+                () -> receitaService.buscarPorId(id), RespostaCache::tagsReceita);
+        // Um 304 também é uma visualização: o cliente mostrou a cópia que já tinha
+        popularidadeService.registrarVisualizacao(id);
+        return resposta;
+    }
+
+    @Operation(
+            summary = "Lista as receitas mais vistas",
+            description = "Retorna as receitas com mais visualizações desde sempre. As contagens são gravadas em lotes "
+                    + "e podem estar alguns segundos atrasadas."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Receitas retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido")
+    })
+    @GetMapping("/populares")
+    public List<ReceitaPopularDTO> populares(@RequestParam(defaultValue = "10") int limite) {
+        return popularidadeService.populares(limite);
+    }
+
+    @Operation(
+            summary = "Lista as receitas em alta",
+            description = "Retorna as receitas mais vistas recentemente: cada visualização perde metade do peso a cada "
+                    + "meia-vida configurada (6 horas por padrão)."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Receitas retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido")
+    })
+    @GetMapping("/em-alta")
+    public List<ReceitaPopularDTO> emAlta(@RequestParam(defaultValue = "10") int limite) {
+        return popularidadeService.emAlta(limite);
+    }
+
+    @Operation(
+            summary = "Lista receitas possivelmente duplicadas",
+            description = "Retorna pares de receitas com nome e ingredientes parecidos (similaridade de Jaccard entre as "
+                    + "palavras do nome, os ingredientes e as quantidades normalizadas), dos mais parecidos para os menos. "
+                    + "Os candidatos vêm de um índice em memória, sem comparar todas as receitas entre si; identicas indica "
+                    + "a mesma impressão digital."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório retornado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Similaridade mínima ou limite inválidos")
+    })
+    @GetMapping("/duplicatas")
+    public RelatorioDuplicatasDTO duplicatas(@RequestParam(defaultValue = "0.8") double similaridadeMinima,
+                                             @RequestParam(defaultValue = "50") int limite) {
+        return duplicataService.relatorio(similaridadeMinima, limite);
+    }
+
+    @Operation(
+            summary = "Consulta os valores nutricionais de uma receita",
+            description = "Retorna energia, macronutrientes, fibras e sódio da receita inteira e por porção, somados a partir "
+                    + "das quantidades dos ingredientes. Linhas sem quantidade numérica (\"a gosto\") ou com unidade que não "
+                    + "dá para converter em gramas, e ingredientes sem informação nutricional, ficam de fora e são contados."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Valores nutricionais retornados com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Receita não encontrada")
+    })
+    @GetMapping("/{id}/nutricao")
+    public NutricaoReceitaDTO nutricao(@PathVariable Long id) {
+        return nutricaoService.nutricaoDaReceita(id);
+    }
+
+    @Operation(
+            summary = "Lista receitas parecidas",
+            description = "Retorna as receitas mais parecidas com a informada, combinando a semelhança dos ingredientes "
+                    + "(Jaccard), a mesma categoria e a proximidade do tempo de preparo."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Receitas parecidas retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido"),
+            @ApiResponse(responseCode = "404", description = "Receita não encontrada")
+    })
+    @GetMapping("/{id}/similares")
+    public List<ReceitaSimilarDTO> similares(@PathVariable Long id, @RequestParam(defaultValue = "10") int limite) {
+        return similaridadeService.similares(id, limite);
+    }
+
+    @Operation(
+            summary = "Lista as receitas mais bem avaliadas",
+            description = "Ordena as receitas avaliadas pela média bayesiana das notas, que aproxima da média geral "
+                    + "as receitas com poucas avaliações. categoriaId restringe a uma categoria e mediaMinima descarta "
+                    + "as receitas com média simples abaixo do valor."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Receitas retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido"),
+            @ApiResponse(responseCode = "404", description = "Categoria não encontrada")
+    })
+    @GetMapping("/melhores-avaliadas")
+    public List<ReceitaAvaliadaDTO> melhoresAvaliadas(@RequestParam(required = false) Long categoriaId,
+                                                      @RequestParam(defaultValue = "0") double mediaMinima,
+                                                      @RequestParam(defaultValue = "10") int limite) {
+        return avaliacaoService.melhores(categoriaId, mediaMinima, limite);
+    }
+
+    @Operation(
+            summary = "Resume as avaliações de uma receita",
+            description = "Retorna a quantidade de avaliações, a média simples e a pontuação usada na ordenação."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resumo retornado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Receita não encontrada")
+    })
+    @GetMapping("/{id}/avaliacoes")
+    public ResumoAvaliacoesDTO resumoAvaliacoes(@PathVariable Long id) {
+        return avaliacaoService.resumo(id);
+    }
+
+    @Operation(
+            summary = "Avalia uma receita",
+            description = "Registra a nota (de 1 a 5) do usuário autenticado para a receita. Se ele já tinha "
+                    + "avaliado a receita, a nota anterior é substituída."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Avaliação registrada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Nota fora da escala"),
+            @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+            @ApiResponse(responseCode = "404", description = "Receita não encontrada")
+    })
+    @PutMapping("/{id}/avaliacoes")
+    public ResumoAvaliacoesDTO avaliar(@PathVariable Long id, @RequestBody AvaliacaoRequestDTO dto, Principal usuario) {
+        return avaliacaoService.avaliar(id, usuario.getName(), dto);
+    }
+
+    @Operation(
+            summary = "Remove a avaliação do usuário",
+            description = "Apaga a nota que o usuário autenticado deu à receita e retorna o resumo atualizado."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Avaliação removida com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+            @ApiResponse(responseCode = "404", description = "Receita ou avaliação não encontrada")
+    })
+    @DeleteMapping("/{id}/avaliacoes")
+    public ResumoAvaliacoesDTO removerAvaliacao(@PathVariable Long id, Principal usuario) {
+        return avaliacaoService.remover(id, usuario.getName());
+    }
+
+    @Operation(
+            summary = "Busca receitas por texto",
+            description = "Procura o texto no nome, na descrição, na categoria e nos ingredientes das receitas, "
+                    + "sem diferenciar acentos nem singular e plural, e retorna os resultados mais relevantes primeiro."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Texto da busca ausente ou paginação inválida")
+    })
+    @GetMapping("/busca")
+    public BuscaReceitasDTO buscar(@RequestParam String q,
+                                   @RequestParam(defaultValue = "0") int pagina,
+                                   @RequestParam(defaultValue = "10") int tamanho) {
+        return buscaReceitaService.buscar(q, pagina, tamanho);
+    }
+
+    @Operation(
+            summary = "Busca receitas pelos ingredientes disponíveis",
+            description = "Recebe os ingredientes que o usuário tem (e, opcionalmente, os que devem ser evitados) e retorna "
+                    + "as receitas que usam ao menos um deles e nenhum dos excluídos, das que faltam menos ingredientes "
+                    + "para as que faltam mais. maximoFaltando limita quantos ingredientes podem faltar. Com "
+                    + "permitirSubstituicao=true, até um ingrediente que a despensa consegue substituir conta como disponível."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Nenhum ingrediente informado ou paginação inválida")
+    })
+    @PostMapping("/com-ingredientes")
+    public ReceitasDespensaDTO buscarPorIngredientes(@RequestBody ConsultaDespensaDTO consulta) {
+        return despensaService.buscar(consulta);
     }
 
     @Operation(
             summary = "Cria uma nova receita",
-            description = "Cadastra uma nova receita com as informações fornecidas no corpo da requisição."
+            description = "Cadastra uma nova receita com as informações fornecidas no corpo da requisição. Uma receita "
+                    + "idêntica a outra já cadastrada (mesmo nome e ingredientes, ignorando caixa, acentos, ordem e a unidade "
+                    + "das quantidades conversíveis) é recusada, a menos que permitirDuplicata seja true; nesse caso "
+                    + "duplicataDe traz o ID da receita existente."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Receita criada com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos para criação da receita")
+            @ApiResponse(responseCode = "400", description = "Dados inválidos para criação da receita ou receita duplicada")
     })
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
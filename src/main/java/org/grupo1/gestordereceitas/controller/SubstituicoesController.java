@@ -0,0 +1,76 @@
+package org.grupo1.gestordereceitas.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.grupo1.gestordereceitas.dto.SubstituicaoDTO;
+import org.grupo1.gestordereceitas.dto.SubstituicaoRequestDTO;
+import org.grupo1.gestordereceitas.service.SubstituicaoService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/substituicoes")
+@Tag(name = "Substituições", description = "Curadoria das substituições entre ingredientes")
+public class SubstituicoesController {
+
+    private final SubstituicaoService substituicaoService;
+
+    public SubstituicoesController(SubstituicaoService substituicaoService) {
+        this.substituicaoService = substituicaoService;
+    }
+
+    @Operation(summary = "Lista as substituições cadastradas", description = "Retorna todas as arestas do grafo de substituições.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária")
+    })
+    @GetMapping
+    public List<SubstituicaoDTO> listarTodas() {
+        return substituicaoService.listarTodas();
+    }
+
+    @Operation(
+            summary = "Cadastra uma substituição",
+            description = "Indica que o substituto pode ser usado no lugar do ingrediente, com peso entre 0 (exclusive) e 1. "
+                    + "A relação vale só nesse sentido."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Substituição criada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Peso inválido, par repetido ou ingrediente substituindo a si mesmo"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária"),
+            @ApiResponse(responseCode = "404", description = "Ingrediente não encontrado")
+    })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public SubstituicaoDTO criar(@RequestBody SubstituicaoRequestDTO dto) {
+        return substituicaoService.criar(dto);
+    }
+
+    @Operation(summary = "Altera o peso de uma substituição", description = "Substitui o peso da aresta pelo informado.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Substituição atualizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Peso inválido"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária"),
+            @ApiResponse(responseCode = "404", description = "Substituição não encontrada")
+    })
+    @PutMapping("/{id}")
+    public SubstituicaoDTO atualizar(@PathVariable Long id, @RequestBody SubstituicaoRequestDTO dto) {
+        return substituicaoService.atualizarPeso(id, dto.getPeso());
+    }
+
+    @Operation(summary = "Remove uma substituição", description = "Exclui a aresta do grafo de substituições.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Substituição removida com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Autenticação necessária"),
+            @ApiResponse(responseCode = "404", description = "Substituição não encontrada")
+    })
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deletar(@PathVariable Long id) {
+        substituicaoService.deletar(id);
+    }
+}
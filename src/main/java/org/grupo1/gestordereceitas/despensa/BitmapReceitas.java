@@ -0,0 +1,283 @@
+package org.grupo1.gestordereceitas.despensa;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Conjunto compactado de IDs de receita no estilo Roaring: os 16 bits altos de cada ID escolhem
+ * um bloco de 65.536 IDs e os 16 bits baixos ficam num contêiner desse bloco. Um bloco com até
+ * {@link #LIMITE_VETOR} IDs é um vetor ordenado de {@code char}; acima disso, um mapa de 1.024
+ * palavras de 64 bits. Cada representação é a menor para a sua faixa de cardinalidade, e a união,
+ * a diferença e a contagem trabalham bloco a bloco, sem visitar IDs ausentes.
+ * <p>
+ * Não é thread-safe: quem a usa sincroniza o acesso.
+ */
+public class BitmapReceitas {
+
+    static final int LIMITE_VETOR = 4096;
+    private static final int PALAVRAS_BLOCO = 1024;
+
+    private char[] chaves = new char[4];
+    // char[] (vetor ordenado) ou long[] (mapa de bits), alinhado com chaves
+    private Object[] conteineres = new Object[4];
+    // Cardinalidade de cada contêiner; para os vetores é também o tamanho usado
+    private int[] cardinalidades = new int[4];
+    private int blocos;
+
+    public void adicionar(int id) {
+        char chave = (char) (id >>> 16);
+        char baixo = (char) id;
+        int i = buscarBloco(chave);
+        if (i < 0) {
+            i = -i - 1;
+            inserirBloco(i, chave, new char[4], 0);
+        }
+        if (conteineres[i] instanceof long[] bits) {
+            long mascara = 1L << baixo;
+            if ((bits[baixo >>> 6] & mascara) == 0) {
+                bits[baixo >>> 6] |= mascara;
+                cardinalidades[i]++;
+            }
+            return;
+        }
+        char[] vetor = (char[]) conteineres[i];
+        int n = cardinalidades[i];
+        int posicao = Arrays.binarySearch(vetor, 0, n, baixo);
+        if (posicao >= 0) {
+            return;
+        }
+        posicao = -posicao - 1;
+        if (n == LIMITE_VETOR) {
+            long[] bits = paraBits(vetor, n);
+            bits[baixo >>> 6] |= 1L << baixo;
+            conteineres[i] = bits;
+            cardinalidades[i] = n + 1;
+            return;
+        }
+        if (n == vetor.length) {
+            vetor = Arrays.copyOf(vetor, Math.min(LIMITE_VETOR, n * 2));
+            conteineres[i] = vetor;
+        }
+        System.arraycopy(vetor, posicao, vetor, posicao + 1, n - posicao);
+        vetor[posicao] = baixo;
+        cardinalidades[i] = n + 1;
+    }
+
+    public void remover(int id) {
+        int i = buscarBloco((char) (id >>> 16));
+        if (i < 0) {
+            return;
+        }
+        char baixo = (char) id;
+        if (conteineres[i] instanceof long[] bits) {
+            long mascara = 1L << baixo;
+            if ((bits[baixo >>> 6] & mascara) != 0) {
+                bits[baixo >>> 6] &= ~mascara;
+                cardinalidades[i]--;
+                if (cardinalidades[i] <= LIMITE_VETOR) {
+                    conteineres[i] = paraVetor(bits, cardinalidades[i]);
+                }
+            }
+        } else {
+            char[] vetor = (char[]) conteineres[i];
+            int n = cardinalidades[i];
+            int posicao = Arrays.binarySearch(vetor, 0, n, baixo);
+            if (posicao < 0) {
+                return;
+            }
+            System.arraycopy(vetor, posicao + 1, vetor, posicao, n - posicao - 1);
+            cardinalidades[i] = n - 1;
+        }
+        if (cardinalidades[i] == 0) {
+            removerBloco(i);
+        }
+    }
+
+    public boolean contem(int id) {
+        int i = buscarBloco((char) (id >>> 16));
+        if (i < 0) {
+            return false;
+        }
+        char baixo = (char) id;
+        if (conteineres[i] instanceof long[] bits) {
+            return (bits[baixo >>> 6] & (1L << baixo)) != 0;
+        }
+        return Arrays.binarySearch((char[]) conteineres[i], 0, cardinalidades[i], baixo) >= 0;
+    }
+
+    public long cardinalidade() {
+        long total = 0;
+        for (int i = 0; i < blocos; i++) {
+            total += cardinalidades[i];
+        }
+        return total;
+    }
+
+    public boolean vazio() {
+        return blocos == 0;
+    }
+
+    public void paraCada(IntConsumer acao) {
+        for (int i = 0; i < blocos; i++) {
+            int alto = chaves[i] << 16;
+            if (conteineres[i] instanceof long[] bits) {
+                for (int p = 0; p < PALAVRAS_BLOCO; p++) {
+                    long palavra = bits[p];
+                    while (palavra != 0) {
+                        acao.accept(alto | (p << 6) | Long.numberOfTrailingZeros(palavra));
+                        palavra &= palavra - 1;
+                    }
+                }
+            } else {
+                char[] vetor = (char[]) conteineres[i];
+                for (int j = 0; j < cardinalidades[i]; j++) {
+                    acao.accept(alto | vetor[j]);
+                }
+            }
+        }
+    }
+
+    /** Acrescenta a este conjunto todos os IDs de {@code outro}. */
+    public void unir(BitmapReceitas outro) {
+        for (int j = 0; j < outro.blocos; j++) {
+            char chave = outro.chaves[j];
+            int i = buscarBloco(chave);
+            if (i < 0) {
+                inserirBloco(-i - 1, chave, copiar(outro.conteineres[j], outro.cardinalidades[j]), outro.cardinalidades[j]);
+                continue;
+            }
+            long[] bits = comoBits(i);
+            if (outro.conteineres[j] instanceof long[] outrosBits) {
+                for (int p = 0; p < PALAVRAS_BLOCO; p++) {
+                    bits[p] |= outrosBits[p];
+                }
+            } else {
+                char[] vetor = (char[]) outro.conteineres[j];
+                for (int k = 0; k < outro.cardinalidades[j]; k++) {
+                    bits[vetor[k] >>> 6] |= 1L << vetor[k];
+                }
+            }
+            normalizar(i, bits);
+        }
+    }
+
+    /** Remove deste conjunto todos os IDs de {@code outro}. */
+    public void subtrair(BitmapReceitas outro) {
+        for (int j = 0; j < outro.blocos; j++) {
+            int i = buscarBloco(outro.chaves[j]);
+            if (i < 0) {
+                continue;
+            }
+            long[] bits = comoBits(i);
+            if (outro.conteineres[j] instanceof long[] outrosBits) {
+                for (int p = 0; p < PALAVRAS_BLOCO; p++) {
+                    bits[p] &= ~outrosBits[p];
+                }
+            } else {
+                char[] vetor = (char[]) outro.conteineres[j];
+                for (int k = 0; k < outro.cardinalidades[j]; k++) {
+                    bits[vetor[k] >>> 6] &= ~(1L << vetor[k]);
+                }
+            }
+            normalizar(i, bits);
+            if (cardinalidades[i] == 0) {
+                removerBloco(i);
+            }
+        }
+    }
+
+    public BitmapReceitas copia() {
+        BitmapReceitas copia = new BitmapReceitas();
+        copia.chaves = Arrays.copyOf(chaves, Math.max(4, blocos));
+        copia.cardinalidades = Arrays.copyOf(cardinalidades, Math.max(4, blocos));
+        copia.conteineres = new Object[Math.max(4, blocos)];
+        for (int i = 0; i < blocos; i++) {
+            copia.conteineres[i] = copiar(conteineres[i], cardinalidades[i]);
+        }
+        copia.blocos = blocos;
+        return copia;
+    }
+
+    /** Bytes ocupados pelos contêineres, para acompanhar a compactação. */
+    public long tamanhoEmBytes() {
+        long bytes = 0;
+        for (int i = 0; i < blocos; i++) {
+            bytes += conteineres[i] instanceof long[] ? PALAVRAS_BLOCO * 8L : cardinalidades[i] * 2L;
+        }
+        return bytes;
+    }
+
+    // --- Blocos e contêineres ---
+
+    private int buscarBloco(char chave) {
+        return Arrays.binarySearch(chaves, 0, blocos, chave);
+    }
+
+    private void inserirBloco(int i, char chave, Object conteiner, int cardinalidade) {
+        if (blocos == chaves.length) {
+            chaves = Arrays.copyOf(chaves, blocos * 2);
+            conteineres = Arrays.copyOf(conteineres, blocos * 2);
+            cardinalidades = Arrays.copyOf(cardinalidades, blocos * 2);
+        }
+        System.arraycopy(chaves, i, chaves, i + 1, blocos - i);
+        System.arraycopy(conteineres, i, conteineres, i + 1, blocos - i);
+        System.arraycopy(cardinalidades, i, cardinalidades, i + 1, blocos - i);
+        chaves[i] = chave;
+        conteineres[i] = conteiner;
+        cardinalidades[i] = cardinalidade;
+        blocos++;
+    }
+
+    private void removerBloco(int i) {
+        System.arraycopy(chaves, i + 1, chaves, i, blocos - i - 1);
+        System.arraycopy(conteineres, i + 1, conteineres, i, blocos - i - 1);
+        System.arraycopy(cardinalidades, i + 1, cardinalidades, i, blocos - i - 1);
+        blocos--;
+        conteineres[blocos] = null;
+    }
+
+    // As operações entre conjuntos passam pelo mapa de bits e voltam à menor representação
+    private long[] comoBits(int i) {
+        if (conteineres[i] instanceof long[] bits) {
+            return bits;
+        }
+        return paraBits((char[]) conteineres[i], cardinalidades[i]);
+    }
+
+    private void normalizar(int i, long[] bits) {
+        int cardinalidade = 0;
+        for (long palavra : bits) {
+            cardinalidade += Long.bitCount(palavra);
+        }
+        cardinalidades[i] = cardinalidade;
+        conteineres[i] = cardinalidade > LIMITE_VETOR ? bits : paraVetor(bits, cardinalidade);
+    }
+
+    private static long[] paraBits(char[] vetor, int n) {
+        long[] bits = new long[PALAVRAS_BLOCO];
+        for (int k = 0; k < n; k++) {
+            bits[vetor[k] >>> 6] |= 1L << vetor[k];
+        }
+        return bits;
+    }
+
+    private static char[] paraVetor(long[] bits, int cardinalidade) {
+        char[] vetor = new char[Math.max(4, cardinalidade)];
+        int n = 0;
+        for (int p = 0; p < PALAVRAS_BLOCO; p++) {
+            long palavra = bits[p];
+            while (palavra != 0) {
+                vetor[n++] = (char) ((p << 6) | Long.numberOfTrailingZeros(palavra));
+                palavra &= palavra - 1;
+            }
+        }
+        return vetor;
+    }
+
+    private static Object copiar(Object conteiner, int cardinalidade) {
+        if (conteiner instanceof long[] bits) {
+            return bits.clone();
+        }
+        return Arrays.copyOf((char[]) conteiner, Math.max(4, cardinalidade));
+    }
+}
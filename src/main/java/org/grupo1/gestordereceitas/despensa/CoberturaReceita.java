@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.despensa;
+
+/**
+ * Quantos dos ingredientes distintos da receita estão na despensa consultada e quantos (zero ou
+ * um) são cobertos por uma substituição.
+ */
+public record CoberturaReceita(long receitaId, int disponiveis, int substituidos, int total) {
+
+    public CoberturaReceita(long receitaId, int disponiveis, int total) {
+        this(receitaId, disponiveis, 0, total);
+    }
+
+    public int faltando() {
+        return total - disponiveis - substituidos;
+    }
+}
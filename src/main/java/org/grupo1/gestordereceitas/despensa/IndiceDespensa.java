@@ -0,0 +1,301 @@
+package org.grupo1.gestordereceitas.despensa;
+
+import org.grupo1.gestordereceitas.analitico.IngredienteDaReceita;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de ingrediente para receitas, com um {@link BitmapReceitas} por ingrediente,
+ * para responder "o que dá para fazer com o que tenho em casa".
+ * <p>
+ * As receitas candidatas são a união dos conjuntos dos ingredientes da despensa menos a união
+ * dos excluídos; a cobertura de cada candidata é contada percorrendo os conjuntos da despensa.
+ * Nenhuma receita sem ingrediente em comum com a despensa é visitada.
+ * <p>
+ * Montado na subida e atualizado após o commit de cada escrita em receitas. Escritores são
+ * serializados pelo lock do objeto; as consultas usam o lock de leitura.
+ */
+@Component
+public class IndiceDespensa {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceDespensa.class);
+
+    private static final long[] SEM_INGREDIENTES = new long[0];
+
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, BitmapReceitas> receitasPorIngrediente = new HashMap<>();
+    // Ingredientes distintos de cada receita, ordenados, indexados pelo ID da receita
+    private long[][] ingredientesDaReceita = new long[1024][];
+    private long receitas;
+
+    public IndiceDespensa(ReceitaIngredienteRepository receitaIngredienteRepository) {
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+    }
+
+    // --- Consultas ---
+
+    /**
+     * Receitas que usam ao menos um ingrediente da despensa e nenhum dos excluídos, das que faltam
+     * menos ingredientes para as que faltam mais; no empate, a que usa mais da despensa e depois
+     * o menor ID. {@code maximoFaltando} negativo não limita.
+     */
+    public ResultadoDespensa buscar(Set<Long> despensa, Set<Long> excluidos, int maximoFaltando,
+                                    int deslocamento, int limite) {
+        return buscar(despensa, Set.of(), excluidos, maximoFaltando, deslocamento, limite);
+    }
+
+    /**
+     * Como {@link #buscar(Set, Set, int, int, int)}, mas um ingrediente da receita que esteja em
+     * {@code substituiveis} (fora da despensa, mas que ela consegue substituir) deixa de contar
+     * como faltando. No máximo uma substituição por receita.
+     */
+    public ResultadoDespensa buscar(Set<Long> despensa, Set<Long> substituiveis, Set<Long> excluidos,
+                                    int maximoFaltando, int deslocamento, int limite) {
+        lock.readLock().lock();
+        try {
+            BitmapReceitas candidatas = new BitmapReceitas();
+            List<BitmapReceitas> conjuntosDespensa = new ArrayList<>(despensa.size());
+            for (Long ingredienteId : despensa) {
+                BitmapReceitas conjunto = receitasPorIngrediente.get(ingredienteId);
+                if (conjunto != null) {
+                    conjuntosDespensa.add(conjunto);
+                    candidatas.unir(conjunto);
+                }
+            }
+            List<BitmapReceitas> conjuntosSubstituiveis = new ArrayList<>(substituiveis.size());
+            for (Long ingredienteId : substituiveis) {
+                BitmapReceitas conjunto = despensa.contains(ingredienteId) ? null : receitasPorIngrediente.get(ingredienteId);
+                if (conjunto != null) {
+                    conjuntosSubstituiveis.add(conjunto);
+                    candidatas.unir(conjunto);
+                }
+            }
+            for (Long ingredienteId : excluidos) {
+                BitmapReceitas conjunto = receitasPorIngrediente.get(ingredienteId);
+                if (conjunto != null) {
+                    candidatas.subtrair(conjunto);
+                }
+            }
+            if (candidatas.vazio()) {
+                return new ResultadoDespensa(0, List.of());
+            }
+
+            int[] disponiveis = new int[ingredientesDaReceita.length];
+            for (BitmapReceitas conjunto : conjuntosDespensa) {
+                conjunto.paraCada(id -> disponiveis[id]++);
+            }
+            // Só importa se a receita tem algum ingrediente substituível: marca 1, não conta
+            byte[] substituivel = conjuntosSubstituiveis.isEmpty() ? null : new byte[ingredientesDaReceita.length];
+            for (BitmapReceitas conjunto : conjuntosSubstituiveis) {
+                conjunto.paraCada(id -> substituivel[id] = 1);
+            }
+            return ranquear(candidatas, disponiveis, substituivel, maximoFaltando, deslocamento, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Heap com as deslocamento + limite melhores: O(candidatas · log(deslocamento + limite)), sem
+    // alocar nada por candidata
+    private ResultadoDespensa ranquear(BitmapReceitas candidatas, int[] disponiveis, byte[] substituivel,
+                                       int maximoFaltando, int deslocamento, int limite) {
+        MelhoresCoberturas melhores = new MelhoresCoberturas(deslocamento + limite);
+        long[] total = {0};
+        candidatas.paraCada(id -> {
+            int substituidos = substituivel != null ? substituivel[id] : 0;
+            int faltando = ingredientesDaReceita[id].length - disponiveis[id] - substituidos;
+            if (maximoFaltando < 0 || faltando <= maximoFaltando) {
+                total[0]++;
+                melhores.oferecer(faltando, disponiveis[id], id);
+            }
+        });
+        long[] chaves = melhores.ordenadas();
+        List<CoberturaReceita> pagina = new ArrayList<>(Math.max(0, chaves.length - deslocamento));
+        for (int k = deslocamento; k < chaves.length; k++) {
+            int id = MelhoresCoberturas.receitaId(chaves[k]);
+            pagina.add(new CoberturaReceita(id, disponiveis[id], substituivel != null ? substituivel[id] : 0,
+                    ingredientesDaReceita[id].length));
+        }
+        return new ResultadoDespensa(total[0], pagina);
+    }
+
+    public long[] ingredientesDaReceita(long receitaId) {
+        lock.readLock().lock();
+        try {
+            long[] ingredientes = receitaId < ingredientesDaReceita.length
+                    ? ingredientesDaReceita[(int) receitaId] : null;
+            return ingredientes == null ? SEM_INGREDIENTES : ingredientes.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Montagem e atualização (escritores) ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        Map<Long, List<Long>> porReceita = new HashMap<>();
+        for (IngredienteDaReceita linha : receitaIngredienteRepository.findIngredientesDistintosPorReceita()) {
+            porReceita.computeIfAbsent(linha.receitaId(), id -> new ArrayList<>()).add(linha.ingredienteId());
+        }
+        lock.writeLock().lock();
+        try {
+            receitasPorIngrediente.clear();
+            ingredientesDaReceita = new long[1024][];
+            receitas = 0;
+            porReceita.forEach(this::indexar);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de despensa montado: {} receitas, {} ingredientes em {} ms",
+                receitas, receitasPorIngrediente.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        Long receitaId = event.receitaId();
+        List<Long> ingredientes = new ArrayList<>();
+        for (LinhaIngredienteReceita linha : receitaIngredienteRepository.findLinhasLeituraByReceitaIdIn(List.of(receitaId))) {
+            ingredientes.add(linha.ingredienteId());
+        }
+        substituir(receitaId, ingredientes);
+    }
+
+    void substituir(Long receitaId, Collection<Long> ingredientes) {
+        lock.writeLock().lock();
+        try {
+            desindexar(receitaId);
+            indexar(receitaId, ingredientes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Chamados com o lock de escrita
+    private void indexar(Long receitaId, Collection<Long> ingredientes) {
+        long[] distintos = ingredientes.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+        if (distintos.length == 0) {
+            return;
+        }
+        int id = Math.toIntExact(receitaId);
+        if (id >= ingredientesDaReceita.length) {
+            ingredientesDaReceita = Arrays.copyOf(ingredientesDaReceita, Math.max(id + 1, ingredientesDaReceita.length * 2));
+        }
+        ingredientesDaReceita[id] = distintos;
+        receitas++;
+        for (long ingredienteId : distintos) {
+            receitasPorIngrediente.computeIfAbsent(ingredienteId, chave -> new BitmapReceitas()).adicionar(id);
+        }
+    }
+
+    private void desindexar(Long receitaId) {
+        if (receitaId >= ingredientesDaReceita.length || ingredientesDaReceita[receitaId.intValue()] == null) {
+            return;
+        }
+        int id = receitaId.intValue();
+        for (long ingredienteId : ingredientesDaReceita[id]) {
+            BitmapReceitas conjunto = receitasPorIngrediente.get(ingredienteId);
+            conjunto.remover(id);
+            if (conjunto.vazio()) {
+                receitasPorIngrediente.remove(ingredienteId);
+            }
+        }
+        ingredientesDaReceita[id] = null;
+        receitas--;
+    }
+
+    /**
+     * Heap de máximo limitado sobre chaves {@code long} em que a menor chave é a melhor cobertura:
+     * faltando nos 16 bits altos, o complemento de disponíveis nos 16 seguintes e o ID da receita
+     * nos 32 baixos.
+     */
+    private static final class MelhoresCoberturas {
+
+        private final long[] heap;
+        private int tamanho;
+
+        MelhoresCoberturas(int capacidade) {
+            heap = new long[capacidade];
+        }
+
+        void oferecer(int faltando, int disponiveis, int receitaId) {
+            if (heap.length == 0) {
+                return;
+            }
+            long chave = ((long) Math.min(faltando, 0xFFFF) << 48)
+                    | ((long) (0xFFFF - Math.min(disponiveis, 0xFFFF)) << 32)
+                    | Integer.toUnsignedLong(receitaId);
+            if (tamanho < heap.length) {
+                heap[tamanho] = chave;
+                subir(tamanho++);
+            } else if (chave < heap[0]) {
+                heap[0] = chave;
+                descer(0);
+            }
+        }
+
+        long[] ordenadas() {
+            long[] ordenadas = Arrays.copyOf(heap, tamanho);
+            Arrays.sort(ordenadas);
+            return ordenadas;
+        }
+
+        static int receitaId(long chave) {
+            return (int) chave;
+        }
+
+        private void subir(int i) {
+            while (i > 0) {
+                int pai = (i - 1) / 2;
+                if (heap[pai] >= heap[i]) {
+                    return;
+                }
+                trocar(pai, i);
+                i = pai;
+            }
+        }
+
+        private void descer(int i) {
+            while (true) {
+                int maior = i;
+                int esquerdo = 2 * i + 1;
+                int direito = esquerdo + 1;
+                if (esquerdo < tamanho && heap[esquerdo] > heap[maior]) {
+                    maior = esquerdo;
+                }
+                if (direito < tamanho && heap[direito] > heap[maior]) {
+                    maior = direito;
+                }
+                if (maior == i) {
+                    return;
+                }
+                trocar(i, maior);
+                i = maior;
+            }
+        }
+
+        private void trocar(int a, int b) {
+            long temporario = heap[a];
+            heap[a] = heap[b];
+            heap[b] = temporario;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.grupo1.gestordereceitas.despensa;
+
+import java.util.List;
+
+/** Uma página de receitas ranqueadas pela cobertura, com o total de receitas que atendem à consulta. */
+public record ResultadoDespensa(long total, List<CoberturaReceita> receitas) {
+}
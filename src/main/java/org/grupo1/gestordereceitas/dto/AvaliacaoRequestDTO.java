@@ -0,0 +1,10 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AvaliacaoRequestDTO {
+    private int nota;
+}
@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BuscaReceitasDTO {
+    private String consulta;
+    private int pagina;
+    private int tamanho;
+    private long total;
+    private List<ResultadoBuscaDTO> resultados;
+}
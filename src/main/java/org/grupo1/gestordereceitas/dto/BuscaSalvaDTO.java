@@ -0,0 +1,20 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+public class BuscaSalvaDTO {
+    private Long id;
+    private String usuario;
+    private String nome;
+    private Long categoriaId;
+    private Integer tempoMinimo;
+    private Integer tempoMaximo;
+    private List<Long> ingredientes;
+    private Instant criadaEm;
+}
@@ -0,0 +1,17 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BuscaSalvaRequestDTO {
+    private String usuario;
+    private String nome;
+    private Long categoriaId;
+    private Integer tempoMinimo;
+    private Integer tempoMaximo;
+    private List<Long> ingredientes;
+}
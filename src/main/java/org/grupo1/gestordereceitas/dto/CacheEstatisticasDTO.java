@@ -0,0 +1,17 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CacheEstatisticasDTO {
+    private boolean estatisticasHabilitadas;
+    private long acertos;
+    private long falhas;
+    private long insercoes;
+    private double taxaAcerto;
+    private List<CacheRegiaoDTO> regioes;
+}
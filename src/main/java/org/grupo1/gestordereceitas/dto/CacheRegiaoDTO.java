@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CacheRegiaoDTO {
+    private String regiao;
+    private long acertos;
+    private long falhas;
+    private long insercoes;
+    private double taxaAcerto;
+}
@@ -0,0 +1,21 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CatalogoLeituraEstatisticasDTO {
+    private boolean habilitado;
+    private boolean disponivel;
+    private int receitas;
+    private int ingredientes;
+    private int categorias;
+    private long linhasIngredientes;
+    private long bytesEstimados;
+    private long bytesPor100MilReceitas;
+    private long duracaoUltimaCargaMs;
+    private int slabsTextos;
+    private long bytesForaDoHeap;
+    private long bytesTextosVivos;
+}
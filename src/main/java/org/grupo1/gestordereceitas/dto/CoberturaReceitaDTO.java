@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CoberturaReceitaDTO {
+    private int ingredientesDisponiveis;
+    private int totalIngredientes;
+    private List<Long> ingredientesFaltando;
+    private SubstituicaoAplicadaDTO substituicao;
+    private ReceitaResponseDTO receita;
+}
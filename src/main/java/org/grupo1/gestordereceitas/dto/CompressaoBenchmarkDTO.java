@@ -0,0 +1,19 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CompressaoBenchmarkDTO {
+    private int versaoDicionario;
+    private int descricoes;
+    private int rodadas;
+    private long bytesOriginais;
+    private long bytesSemDicionario;
+    private long bytesComDicionario;
+    private double taxaSemDicionario;
+    private double taxaComDicionario;
+    private long nanosPorEscrita;
+    private long nanosPorLeitura;
+}
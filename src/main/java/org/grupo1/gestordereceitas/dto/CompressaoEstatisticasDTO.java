@@ -0,0 +1,17 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CompressaoEstatisticasDTO {
+    private int versaoDicionarioAtiva;
+    private long escritas;
+    private long leituras;
+    private long bytesOriginais;
+    private long bytesGravados;
+    private double taxaCompressao;
+    private long nanosMedioEscrita;
+    private long nanosMedioLeitura;
+}
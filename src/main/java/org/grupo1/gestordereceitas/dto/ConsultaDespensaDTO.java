@@ -0,0 +1,18 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ConsultaDespensaDTO {
+    private List<Long> ingredientes;
+    private List<Long> excluir;
+    private Integer maximoFaltando;
+    // Conta como disponível até um ingrediente da receita que a despensa consegue substituir
+    private boolean permitirSubstituicao;
+    private int pagina = 0;
+    private int tamanho = 10;
+}
@@ -0,0 +1,19 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CopiaCatalogoDTO {
+    private String arquivo;
+    private long categorias;
+    private long ingredientes;
+    private long receitas;
+    private long linhasIngredientes;
+    private long substituicoes;
+    private long nutricaoIngredientes;
+    private long dicionarios;
+    private long bytes;
+    private long duracaoMs;
+}
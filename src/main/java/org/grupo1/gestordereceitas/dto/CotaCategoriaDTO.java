@@ -0,0 +1,11 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CotaCategoriaDTO {
+    private Long categoriaId;
+    private int minimoDias;
+}
@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DiaPlanoDTO {
+    private int dia;
+    private Long receitaId;
+    // Nula quando a receita foi excluída depois de o plano ser calculado (receitaIndisponivel)
+    private ReceitaResponseDTO receita;
+    private boolean receitaIndisponivel;
+}
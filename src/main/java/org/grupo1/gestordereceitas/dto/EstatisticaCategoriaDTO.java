@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EstatisticaCategoriaDTO {
+    private Long categoriaId;
+    private String categoria;
+    private long receitas;
+    private double tempoMedio;
+    private int tempoP50;
+    private int tempoP90;
+    private int tempoP99;
+}
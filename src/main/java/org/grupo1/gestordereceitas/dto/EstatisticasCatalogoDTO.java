@@ -0,0 +1,17 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+public class EstatisticasCatalogoDTO {
+    private long totalReceitas;
+    private List<EstatisticaCategoriaDTO> categorias;
+    private List<UsoIngredienteDTO> ingredientesMaisUsados;
+    private Instant ultimaReconciliacao;
+    private long divergenciasUltimaReconciliacao;
+}
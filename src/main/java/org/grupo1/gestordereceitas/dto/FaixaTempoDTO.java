@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FaixaTempoDTO {
+    private int inicio;
+    // null na última faixa, que é aberta
+    private Integer fim;
+    private long receitas;
+}
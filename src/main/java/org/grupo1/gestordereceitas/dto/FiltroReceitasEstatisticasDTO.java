@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FiltroReceitasEstatisticasDTO {
+    private boolean montado;
+    private long capacidade;
+    private long elementos;
+    private long exclusoesPendentes;
+    private long totalBits;
+    private int funcoesHash;
+    private long rejeicoes;
+}
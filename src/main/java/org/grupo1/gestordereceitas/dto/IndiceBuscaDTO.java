@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class IndiceBuscaDTO {
+    private int receitas;
+    private int documentosRemovidos;
+    private int termos;
+    private long postagens;
+    private long duracaoUltimaReconstrucaoMs;
+}
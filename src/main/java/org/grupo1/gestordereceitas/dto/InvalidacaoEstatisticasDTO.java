@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class InvalidacaoEstatisticasDTO {
+    private String origem;
+    private long cursor;
+    private int aguardandoLacuna;
+    private long aplicadas;
+    private long idsPulados;
+}
@@ -0,0 +1,12 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MatrizCombinacoesDTO {
+    private long ingredientes;
+    private int pares;
+    private long duracaoUltimaReconstrucaoMs;
+}
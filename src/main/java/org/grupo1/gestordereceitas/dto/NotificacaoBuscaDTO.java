@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class NotificacaoBuscaDTO {
+    private Long id;
+    private Long buscaSalvaId;
+    private Long receitaId;
+    private boolean receitaNova;
+    private Instant criadaEm;
+}
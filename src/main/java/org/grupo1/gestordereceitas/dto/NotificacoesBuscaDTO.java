@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class NotificacoesBuscaDTO {
+    private List<NotificacaoBuscaDTO> notificacoes;
+    // Valor de "depois" para a próxima consulta
+    private long cursor;
+}
@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class NutricaoIngredienteDTO {
+    private Long ingredienteId;
+    private ValoresNutricionaisDTO porCemGramas;
+    private Double gramasPorUnidade;
+    // Preenchido na resposta da gravação: receitas cujo recálculo foi agendado
+    private Long receitasAfetadas;
+}
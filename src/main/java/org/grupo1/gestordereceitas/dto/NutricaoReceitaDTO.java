@@ -0,0 +1,19 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class NutricaoReceitaDTO {
+    private Long receitaId;
+    private int porcoes;
+    private ValoresNutricionaisDTO total;
+    private ValoresNutricionaisDTO porPorcao;
+    private int linhasNaoConvertidas;
+    private int ingredientesSemNutricao;
+    // Nulo enquanto os totais ainda não foram gravados
+    private Instant calculadaEm;
+}
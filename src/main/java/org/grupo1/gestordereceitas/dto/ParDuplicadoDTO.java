@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ParDuplicadoDTO {
+    private Long receitaId;
+    private Long outraReceitaId;
+    private double similaridade;
+    // Mesma impressão digital: nome e ingredientes iguais depois da normalização
+    private boolean identicas;
+}
@@ -0,0 +1,21 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PlanoDTO {
+    private List<DiaPlanoDTO> dias;
+    private List<Long> listaDeCompras;
+    private long tempoTotal;
+    // Dias que faltaram para cumprir as cotas de categoria; 0 quando todas foram atendidas
+    private int diasFaltandoNasCotas;
+    private int receitasCandidatas;
+    private int rodadas;
+    private long trocasAvaliadas;
+    private boolean orcamentoEsgotado;
+    private long duracaoMs;
+}
@@ -0,0 +1,18 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PlanoRequestDTO {
+    private int dias = 7;
+    private Integer tempoMaximoPorDia;
+    private List<CotaCategoriaDTO> categorias;
+    private List<Long> excluir;
+    // Ingredientes que já estão em casa: não entram na lista de compras
+    private List<Long> despensa;
+    private int orcamentoMs = 1000;
+}
@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ReceitaAvaliadaDTO {
+    private double media;
+    private long quantidade;
+    private double pontuacao;
+    private ReceitaResponseDTO receita;
+}
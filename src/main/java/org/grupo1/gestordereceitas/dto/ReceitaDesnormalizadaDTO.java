@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Colunas da tabela receita lidas sem joins: a categoria e os ingredientes vêm do snapshot
+@Getter
+@AllArgsConstructor
+public class ReceitaDesnormalizadaDTO {
+    private Long id;
+    private String nome;
+    private String descricao;
+    private int tempoDePreparo;
+    private Integer porcoes;
+    private byte[] snapshot;
+}
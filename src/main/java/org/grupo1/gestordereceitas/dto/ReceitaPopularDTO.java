@@ -0,0 +1,12 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ReceitaPopularDTO {
+    private long visualizacoes;
+    private double pontuacao;
+    private ReceitaResponseDTO receita;
+}
@@ -11,6 +11,9 @@ public class ReceitaRequestDTO {
     private String nome;
     private String descricao;
     private int tempoDePreparo;
+    private Integer porcoes;
     private Long categoriaId;
     private List<ReceitaIngredienteDTO> ingredientes;
+    // Grava mesmo que já exista uma receita idêntica, apenas avisando em duplicataDe
+    private boolean permitirDuplicata;
 }
\ No newline at end of file
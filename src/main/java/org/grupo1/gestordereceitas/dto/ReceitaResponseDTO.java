@@ -1,5 +1,6 @@
 package org.grupo1.gestordereceitas.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,6 +13,11 @@ public class ReceitaResponseDTO {
     private String nome;
     private String descricao;
     private int tempoDePreparo;
+    // Rendimento informado na escrita; nulo vale como uma porção
+    private Integer porcoes;
     private String categoria;
     private List<ReceitaIngredienteDTO> ingredientes;
+    // Só nas respostas de escrita: ID da receita idêntica já existente, quando permitida a duplicata
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long duplicataDe;
 }
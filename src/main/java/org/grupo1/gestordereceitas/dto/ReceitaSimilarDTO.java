@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ReceitaSimilarDTO {
+    private double similaridade;
+    private double jaccardIngredientes;
+    private int ingredientesEmComum;
+    private ReceitaResponseDTO receita;
+}
@@ -0,0 +1,15 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ReceitasDespensaDTO {
+    private int pagina;
+    private int tamanho;
+    private long total;
+    private List<CoberturaReceitaDTO> resultados;
+}
@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RecompressaoDTO {
+    private int versaoDicionario;
+    private long verificadas;
+    private long recomprimidas;
+    private long bytesAntes;
+    private long bytesDepois;
+}
@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+public class RelatorioAnaliticoDTO<T> {
+    // Data do snapshot sobre o qual o relatório foi calculado
+    private Instant snapshotGeradoEm;
+    private long duracaoMs;
+    private List<T> itens;
+}
@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class RelatorioDuplicatasDTO {
+    private double similaridadeMinima;
+    private long paresAvaliados;
+    private List<ParDuplicadoDTO> pares;
+}
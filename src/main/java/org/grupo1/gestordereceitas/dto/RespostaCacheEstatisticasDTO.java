@@ -0,0 +1,18 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RespostaCacheEstatisticasDTO {
+    private int entradas;
+    private long bytesUsados;
+    private long capacidadeBytes;
+    private long acertos;
+    private long falhas;
+    private long naoModificados;
+    private long evicoes;
+    private long cargasCompartilhadas;
+    private long esperasExpiradas;
+}
@@ -0,0 +1,11 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ResultadoBuscaDTO {
+    private double pontuacao;
+    private ReceitaResponseDTO receita;
+}
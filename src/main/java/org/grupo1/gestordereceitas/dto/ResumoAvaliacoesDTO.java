@@ -0,0 +1,15 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ResumoAvaliacoesDTO {
+    private Long receitaId;
+    private long quantidade;
+    // Média simples das notas; 0 sem avaliações
+    private double media;
+    // Média bayesiana usada na ordenação
+    private double pontuacao;
+}
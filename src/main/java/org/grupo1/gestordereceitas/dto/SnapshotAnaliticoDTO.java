@@ -0,0 +1,19 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class SnapshotAnaliticoDTO {
+    private boolean disponivel;
+    private Instant geradoEm;
+    private long receitas;
+    private long linhasIngredientes;
+    private long categorias;
+    private long ingredientes;
+    private long bytesArquivo;
+    private long duracaoGeracaoMs;
+}
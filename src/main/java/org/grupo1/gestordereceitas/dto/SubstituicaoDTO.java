@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SubstituicaoDTO {
+    private Long id;
+    private IngredienteDTO ingrediente;
+    private IngredienteDTO substituto;
+    private double peso;
+}
@@ -0,0 +1,14 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SubstitutoIngredienteDTO {
+    private Long id;
+    private String nome;
+    private double peso;
+    // Ingrediente intermediário quando a substituição passa por dois saltos; nulo se for direta
+    private IngredienteDTO via;
+}
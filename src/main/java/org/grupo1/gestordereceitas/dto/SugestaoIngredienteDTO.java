@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SugestaoIngredienteDTO {
+    private Long id;
+    private String nome;
+    private long receitas;
+    private boolean aproximada;
+}
@@ -0,0 +1,12 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UsoIngredienteDTO {
+    private Long ingredienteId;
+    private String nome;
+    private long receitas;
+}
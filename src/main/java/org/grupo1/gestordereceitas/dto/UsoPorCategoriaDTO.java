@@ -0,0 +1,15 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UsoPorCategoriaDTO {
+    private Long categoriaId;
+    private String categoria;
+    private long receitas;
+    private List<UsoIngredienteDTO> ingredientes;
+}
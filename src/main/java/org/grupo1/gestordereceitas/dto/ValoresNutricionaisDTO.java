@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ValoresNutricionaisDTO {
+    private double calorias;
+    private double proteinas;
+    private double carboidratos;
+    private double gorduras;
+    private double fibras;
+    // Em miligramas
+    private double sodio;
+}
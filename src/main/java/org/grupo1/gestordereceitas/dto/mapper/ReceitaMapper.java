@@ -24,6 +24,7 @@ public class ReceitaMapper {
         receita.setNome(dto.getNome());
         receita.setDescricao(dto.getDescricao());
         receita.setTempoDePreparo(dto.getTempoDePreparo());
+        receita.setPorcoes(dto.getPorcoes());
         receita.setCategoria(categoria);
 
         if (dto.getIngredientes() != null) {
@@ -58,6 +59,7 @@ public class ReceitaMapper {
         dto.setNome(receita.getNome());
         dto.setDescricao(receita.getDescricao());
         dto.setTempoDePreparo(receita.getTempoDePreparo());
+        dto.setPorcoes(receita.getPorcoes());
         dto.setCategoria(receita.getCategoria() != null ? receita.getCategoria().getNome() : null);
 
         if (receita.getReceitaIngredientes() != null) {
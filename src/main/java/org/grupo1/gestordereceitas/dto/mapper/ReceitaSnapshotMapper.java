@@ -0,0 +1,96 @@
+package org.grupo1.gestordereceitas.dto.mapper;
+
+import org.grupo1.gestordereceitas.dto.ReceitaDesnormalizadaDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializa o nome da categoria e as linhas de ingredientes de uma receita em um bloco binário
+ * compacto, guardado na própria linha da receita.
+ * <p>
+ * Formato: byte de versão, categoria, quantidade de linhas e, por linha, id do ingrediente,
+ * nome, quantidade e unidade. Textos opcionais são precedidos de um byte de presença.
+ */
+public class ReceitaSnapshotMapper {
+
+    private static final byte FORMATO = 1;
+
+    private ReceitaSnapshotMapper() {
+    }
+
+    public static byte[] serializar(Receita receita) {
+        List<ReceitaIngrediente> linhas = new ArrayList<>();
+        if (receita.getReceitaIngredientes() != null) {
+            for (ReceitaIngrediente ri : receita.getReceitaIngredientes()) {
+                // Mesmo critério do ReceitaMapper.toDTO
+                if (ri != null && ri.getIngrediente() != null) {
+                    linhas.add(ri);
+                }
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + linhas.size() * 48);
+        try (DataOutputStream saida = new DataOutputStream(bytes)) {
+            saida.writeByte(FORMATO);
+            escreverTexto(saida, receita.getCategoria() != null ? receita.getCategoria().getNome() : null);
+            saida.writeShort(linhas.size());
+            for (ReceitaIngrediente ri : linhas) {
+                saida.writeLong(ri.getIngrediente().getId());
+                escreverTexto(saida, ri.getIngrediente().getNome());
+                escreverTexto(saida, ri.getQuantidade());
+                escreverTexto(saida, ri.getUnidadeMedida());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ReceitaResponseDTO toDTO(ReceitaDesnormalizadaDTO linha) {
+        ReceitaResponseDTO dto = new ReceitaResponseDTO();
+        dto.setId(linha.getId());
+        dto.setNome(linha.getNome());
+        dto.setDescricao(linha.getDescricao());
+        dto.setTempoDePreparo(linha.getTempoDePreparo());
+        dto.setPorcoes(linha.getPorcoes());
+
+        try (DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(linha.getSnapshot()))) {
+            byte formato = entrada.readByte();
+            if (formato != FORMATO) {
+                throw new IllegalStateException("Formato de snapshot desconhecido: " + formato);
+            }
+            dto.setCategoria(lerTexto(entrada));
+            int total = entrada.readUnsignedShort();
+            List<ReceitaIngredienteDTO> ingredientes = new ArrayList<>(total);
+            for (int i = 0; i < total; i++) {
+                ReceitaIngredienteDTO ingDTO = new ReceitaIngredienteDTO();
+                ingDTO.setIngredienteId(entrada.readLong());
+                ingDTO.setNome(lerTexto(entrada));
+                ingDTO.setQuantidade(lerTexto(entrada));
+                ingDTO.setUnidade(lerTexto(entrada));
+                ingredientes.add(ingDTO);
+            }
+            dto.setIngredientes(ingredientes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dto;
+    }
+
+    private static void escreverTexto(DataOutputStream saida, String texto) throws IOException {
+        saida.writeBoolean(texto != null);
+        if (texto != null) {
+            saida.writeUTF(texto);
+        }
+    }
+
+    private static String lerTexto(DataInputStream entrada) throws IOException {
+        return entrada.readBoolean() ? entrada.readUTF() : null;
+    }
+}
@@ -0,0 +1,122 @@
+package org.grupo1.gestordereceitas.duplicatas;
+
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
+import org.grupo1.gestordereceitas.nutricao.ConversorUnidades;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalDouble;
+
+/**
+ * Forma normalizada do conteúdo de uma receita: nome sem acentos, caixa ou pontuação e as linhas
+ * de ingredientes ordenadas pelo ID do ingrediente, cada uma com a quantidade em gramas quando a
+ * medida é conversível ("1 xícara" e "240 ml" empatam) ou com o texto normalizado. Descrição,
+ * categoria e tempo de preparo ficam de fora.
+ * <p>
+ * A impressão digital é o SHA-256 dessa forma, para a checagem exata; os termos (palavras do nome,
+ * ingredientes e ingredientes com quantidade) alimentam a comparação aproximada do
+ * {@link IndiceDuplicatas}.
+ */
+public final class ImpressaoDigitalReceita {
+
+    private ImpressaoDigitalReceita() {
+    }
+
+    public static String calcular(Receita receita) {
+        return calcular(receita.getNome(), linhas(receita));
+    }
+
+    public static String calcular(String nome, List<LinhaIngredienteReceita> linhas) {
+        StringBuilder forma = new StringBuilder(normalizarNome(nome));
+        for (String linha : linhasNormalizadas(linhas)) {
+            forma.append('\n').append(linha);
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(forma.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /** Hashes de 64 bits dos termos da receita, sem repetição e ordenados. */
+    public static long[] termos(String nome, List<LinhaIngredienteReceita> linhas) {
+        List<String> termos = new ArrayList<>();
+        for (String palavra : normalizarNome(nome).split(" ")) {
+            if (!palavra.isEmpty()) {
+                termos.add("n:" + palavra);
+            }
+        }
+        for (LinhaIngredienteReceita linha : linhas) {
+            termos.add("i:" + linha.ingredienteId());
+        }
+        for (String linha : linhasNormalizadas(linhas)) {
+            termos.add("q:" + linha);
+        }
+        return termos.stream().mapToLong(ImpressaoDigitalReceita::hash).distinct().sorted().toArray();
+    }
+
+    static List<LinhaIngredienteReceita> linhas(Receita receita) {
+        List<LinhaIngredienteReceita> linhas = new ArrayList<>();
+        if (receita.getReceitaIngredientes() != null) {
+            for (ReceitaIngrediente ri : receita.getReceitaIngredientes()) {
+                if (ri != null && ri.getIngrediente() != null) {
+                    linhas.add(new LinhaIngredienteReceita(receita.getId(), ri.getIngrediente().getId(),
+                            ri.getQuantidade(), ri.getUnidadeMedida()));
+                }
+            }
+        }
+        return linhas;
+    }
+
+    // "ingredienteId:quantidade", ordenadas pelo ID e depois pela quantidade
+    private static List<String> linhasNormalizadas(List<LinhaIngredienteReceita> linhas) {
+        List<LinhaIngredienteReceita> ordenadas = new ArrayList<>(linhas);
+        ordenadas.sort(Comparator.comparing(LinhaIngredienteReceita::ingredienteId)
+                .thenComparing(ImpressaoDigitalReceita::quantidade));
+        return ordenadas.stream().map(linha -> linha.ingredienteId() + ":" + quantidade(linha)).toList();
+    }
+
+    private static String quantidade(LinhaIngredienteReceita linha) {
+        OptionalDouble gramas = ConversorUnidades.gramas(linha.quantidade(), linha.unidadeMedida(), null);
+        if (gramas.isPresent()) {
+            return String.format(Locale.ROOT, "%.2fg", gramas.getAsDouble());
+        }
+        return normalizar(linha.quantidade()) + " " + normalizar(linha.unidadeMedida());
+    }
+
+    // Só letras e dígitos: "Bolo de Cenoura!" e "bolo de cenoura" empatam
+    private static String normalizarNome(String nome) {
+        return normalizar(nome).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    // Quantidades e unidades mantêm frações e decimais ("1/2", "0,5")
+    private static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return semAcentos.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9,./]+", " ")
+                .trim();
+    }
+
+    // FNV-1a de 64 bits sobre o UTF-8 do termo
+    private static long hash(String termo) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : termo.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
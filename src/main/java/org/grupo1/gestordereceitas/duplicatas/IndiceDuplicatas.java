@@ -0,0 +1,209 @@
+package org.grupo1.gestordereceitas.duplicatas;
+
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.grupo1.gestordereceitas.similaridade.AssinaturaMinHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Receitas quase duplicadas, pelos termos da {@link ImpressaoDigitalReceita} (palavras do nome,
+ * ingredientes e ingredientes com quantidade), sem comparar todos os pares.
+ * <p>
+ * Cada receita guarda a {@link AssinaturaMinHash} dos seus termos, dividida em {@link #FAIXAS}
+ * faixas de {@link #LINHAS_POR_FAIXA} posições; só pares que dividem algum balde são comparados,
+ * com o Jaccard exato dos termos. Com 4 linhas por faixa, pares acima de ~0,5 quase sempre se
+ * encontram e pares pouco parecidos raramente colidem.
+ * <p>
+ * Montado na subida e atualizado após o commit de cada escrita em receitas: a escrita nunca
+ * compara a receita com as demais. Escritores são serializados pelo lock do objeto; o relatório
+ * usa o lock de leitura.
+ */
+@Component
+public class IndiceDuplicatas {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceDuplicatas.class);
+
+    static final int LINHAS_POR_FAIXA = 4;
+    static final int FAIXAS = AssinaturaMinHash.FUNCOES / LINHAS_POR_FAIXA;
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entrada> receitas = new HashMap<>();
+    // Chave do balde (faixa e valores da faixa) para os IDs das receitas nele
+    private final Map<Long, long[]> baldes = new HashMap<>();
+
+    public IndiceDuplicatas(ReceitaRepository receitaRepository,
+                            ReceitaIngredienteRepository receitaIngredienteRepository) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+    }
+
+    // --- Consultas ---
+
+    /** Pares com similaridade de ao menos {@code similaridadeMinima}, dos mais parecidos para os menos. */
+    public RelatorioDuplicatas relatorio(double similaridadeMinima, int limite) {
+        Comparator<ParDuplicado> ordem = Comparator.comparingDouble(ParDuplicado::similaridade)
+                .thenComparing(ParDuplicado::receitaId, Comparator.reverseOrder())
+                .thenComparing(ParDuplicado::outraReceitaId, Comparator.reverseOrder());
+        PriorityQueue<ParDuplicado> heap = new PriorityQueue<>(limite + 1, ordem);
+        long avaliados = 0;
+        lock.readLock().lock();
+        try {
+            Set<Par> vistos = new HashSet<>();
+            for (long[] balde : baldes.values()) {
+                for (int i = 0; i < balde.length; i++) {
+                    for (int j = i + 1; j < balde.length; j++) {
+                        Par par = new Par(Math.min(balde[i], balde[j]), Math.max(balde[i], balde[j]));
+                        if (!vistos.add(par)) {
+                            continue;
+                        }
+                        avaliados++;
+                        Entrada a = receitas.get(par.receitaId());
+                        Entrada b = receitas.get(par.outraReceitaId());
+                        double similaridade = jaccard(a.termos(), b.termos());
+                        if (similaridade < similaridadeMinima) {
+                            continue;
+                        }
+                        heap.add(new ParDuplicado(par.receitaId(), par.outraReceitaId(), similaridade,
+                                a.impressao().equals(b.impressao())));
+                        if (heap.size() > limite) {
+                            heap.poll();
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<ParDuplicado> pares = new ArrayList<>(heap);
+        pares.sort(ordem.reversed());
+        return new RelatorioDuplicatas(avaliados, pares);
+    }
+
+    // Jaccard de dois vetores ordenados e sem repetição
+    static double jaccard(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int comuns = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                comuns++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int uniao = a.length + b.length - comuns;
+        return uniao == 0 ? 1 : (double) comuns / uniao;
+    }
+
+    // --- Montagem e atualização (escritores) ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        Map<Long, List<LinhaIngredienteReceita>> linhas = new HashMap<>();
+        for (LinhaIngredienteReceita linha : receitaIngredienteRepository.findLinhasLeitura()) {
+            linhas.computeIfAbsent(linha.receitaId(), id -> new ArrayList<>()).add(linha);
+        }
+        List<NomeReceita> nomes = receitaRepository.findNomes();
+        lock.writeLock().lock();
+        try {
+            receitas.clear();
+            baldes.clear();
+            for (NomeReceita receita : nomes) {
+                atualizar(receita.id(), receita.nome(), linhas.getOrDefault(receita.id(), List.of()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de duplicatas montado: {} receitas, {} baldes em {} ms",
+                receitas.size(), baldes.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        Long receitaId = event.receitaId();
+        String nome = receitaRepository.findNomeById(receitaId).orElse(null);
+        List<LinhaIngredienteReceita> linhas = nome == null ? List.of()
+                : receitaIngredienteRepository.findLinhasLeituraByReceitaId(receitaId);
+        lock.writeLock().lock();
+        try {
+            atualizar(receitaId, nome, linhas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Chamado com o lock de escrita; nome nulo remove a receita
+    void atualizar(Long receitaId, String nome, List<LinhaIngredienteReceita> linhas) {
+        Entrada anterior = receitas.remove(receitaId);
+        if (anterior != null) {
+            for (int faixa = 0; faixa < FAIXAS; faixa++) {
+                sairDoBalde(chaveBalde(faixa, anterior.assinatura()), receitaId);
+            }
+        }
+        if (nome == null) {
+            return;
+        }
+        long[] termos = ImpressaoDigitalReceita.termos(nome, linhas);
+        int[] assinatura = AssinaturaMinHash.calcular(termos);
+        receitas.put(receitaId, new Entrada(termos, assinatura, ImpressaoDigitalReceita.calcular(nome, linhas)));
+        for (int faixa = 0; faixa < FAIXAS; faixa++) {
+            baldes.merge(chaveBalde(faixa, assinatura), new long[]{receitaId}, IndiceDuplicatas::juntar);
+        }
+    }
+
+    private void sairDoBalde(long chave, long receitaId) {
+        long[] ids = baldes.get(chave);
+        if (ids == null) {
+            return;
+        }
+        long[] restantes = Arrays.stream(ids).filter(id -> id != receitaId).toArray();
+        if (restantes.length == 0) {
+            baldes.remove(chave);
+        } else {
+            baldes.put(chave, restantes);
+        }
+    }
+
+    private static long[] juntar(long[] atuais, long[] novo) {
+        long[] juntos = Arrays.copyOf(atuais, atuais.length + 1);
+        juntos[atuais.length] = novo[0];
+        return juntos;
+    }
+
+    private static long chaveBalde(int faixa, int[] assinatura) {
+        long chave = faixa;
+        for (int linha = 0; linha < LINHAS_POR_FAIXA; linha++) {
+            chave = AssinaturaMinHash.misturar(chave * 31 + assinatura[faixa * LINHAS_POR_FAIXA + linha]);
+        }
+        return chave;
+    }
+
+    private record Entrada(long[] termos, int[] assinatura, String impressao) {
+    }
+
+    private record Par(long receitaId, long outraReceitaId) {
+    }
+}
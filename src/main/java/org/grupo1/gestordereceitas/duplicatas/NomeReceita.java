@@ -0,0 +1,4 @@
+package org.grupo1.gestordereceitas.duplicatas;
+
+public record NomeReceita(Long id, String nome) {
+}
@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.duplicatas;
+
+// receitaId < outraReceitaId; identicas quando as impressões digitais são iguais
+public record ParDuplicado(long receitaId, long outraReceitaId, double similaridade, boolean identicas) {
+}
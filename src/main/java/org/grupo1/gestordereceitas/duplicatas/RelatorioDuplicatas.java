@@ -0,0 +1,6 @@
+package org.grupo1.gestordereceitas.duplicatas;
+
+import java.util.List;
+
+public record RelatorioDuplicatas(long paresAvaliados, List<ParDuplicado> pares) {
+}
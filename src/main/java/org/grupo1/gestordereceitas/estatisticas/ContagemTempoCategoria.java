@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+// Quantidade de receitas de uma categoria com um mesmo tempo de preparo, usada na reconciliação
+public record ContagemTempoCategoria(Long categoriaId, int tempoDePreparo, long receitas) {
+}
@@ -0,0 +1,41 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * O que uma receita soma às estatísticas do catálogo: sua categoria, seu tempo de preparo e os
+ * ingredientes distintos que usa. Uma alteração é aplicada como a remoção da contribuição anterior
+ * seguida da soma da nova.
+ */
+public record ContribuicaoReceita(Long categoriaId, int tempoDePreparo, long[] ingredienteIds) {
+
+    public static ContribuicaoReceita de(Receita receita) {
+        long[] ids = receita.getReceitaIngredientes() == null ? new long[0] : receita.getReceitaIngredientes().stream()
+                // Mesmo critério do ReceitaMapper.toDTO
+                .filter(ri -> ri != null && ri.getIngrediente() != null)
+                .map(ReceitaIngrediente::getIngrediente)
+                .mapToLong(ingrediente -> ingrediente.getId())
+                .distinct()
+                .sorted()
+                .toArray();
+        Long categoriaId = receita.getCategoria() != null ? receita.getCategoria().getId() : null;
+        return new ContribuicaoReceita(categoriaId, receita.getTempoDePreparo(), ids);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ContribuicaoReceita outra
+                && tempoDePreparo == outra.tempoDePreparo
+                && Objects.equals(categoriaId, outra.categoriaId)
+                && Arrays.equals(ingredienteIds, outra.ingredienteIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(categoriaId, tempoDePreparo) + Arrays.hashCode(ingredienteIds);
+    }
+}
@@ -0,0 +1,186 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Estatísticas do catálogo mantidas em memória e atualizadas a cada escrita de receita: quantidade
+ * de receitas e histograma dos tempos de preparo por categoria e quantidade de receitas por
+ * ingrediente. A leitura custa O(categorias), independente do tamanho do catálogo.
+ * <p>
+ * O ReceitaService informa a contribuição anterior e a nova de cada receita alterada; a diferença
+ * é aplicada depois do commit, para que um rollback não altere os contadores. Uma reconciliação
+ * periódica recalcula tudo com consultas agregadas e substitui os contadores, corrigindo escritas
+ * feitas por outras instâncias ou concorrentes com a própria reconciliação.
+ */
+@Component
+public class EstatisticasCatalogo {
+
+    private static final Logger log = LoggerFactory.getLogger(EstatisticasCatalogo.class);
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Protegidos pelo lock do objeto. A chave null agrupa as receitas sem categoria
+    private Map<Long, HistogramaTempo> categorias = new HashMap<>();
+    private Map<Long, Long> usoIngredientes = new HashMap<>();
+    private Instant ultimaReconciliacao;
+    private long divergencias;
+
+    public EstatisticasCatalogo(ReceitaRepository receitaRepository,
+                                ReceitaIngredienteRepository receitaIngredienteRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // anterior null para receita criada, nova null para receita excluída
+    public void registrar(ContribuicaoReceita anterior, ContribuicaoReceita nova) {
+        if (Objects.equals(anterior, nova)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicar(anterior, nova);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aplicar(anterior, nova);
+            }
+        });
+    }
+
+    private synchronized void aplicar(ContribuicaoReceita anterior, ContribuicaoReceita nova) {
+        if (anterior != null) {
+            somar(anterior, -1);
+        }
+        if (nova != null) {
+            somar(nova, 1);
+        }
+    }
+
+    private void somar(ContribuicaoReceita contribuicao, long delta) {
+        HistogramaTempo histograma = categorias.computeIfAbsent(contribuicao.categoriaId(), id -> new HistogramaTempo());
+        histograma.registrar(contribuicao.tempoDePreparo(), delta);
+        if (histograma.total() <= 0) {
+            categorias.remove(contribuicao.categoriaId());
+        }
+        for (long ingredienteId : contribuicao.ingredienteIds()) {
+            long receitas = usoIngredientes.getOrDefault(ingredienteId, 0L) + delta;
+            if (receitas > 0) {
+                usoIngredientes.put(ingredienteId, receitas);
+            } else {
+                usoIngredientes.remove(ingredienteId);
+            }
+        }
+    }
+
+    // Antes dos demais na subida: o autocompletar de ingredientes ranqueia por estes contadores
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationStartedEvent.class)
+    @Scheduled(initialDelayString = "${gestor.estatisticas.intervalo-reconciliacao-ms:300000}",
+            fixedDelayString = "${gestor.estatisticas.intervalo-reconciliacao-ms:300000}")
+    public void reconciliar() {
+        Map<Long, HistogramaTempo> novasCategorias = new HashMap<>();
+        Map<Long, Long> novoUso = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ContagemTempoCategoria contagem : receitaRepository.contarPorCategoriaETempo()) {
+                novasCategorias.computeIfAbsent(contagem.categoriaId(), id -> new HistogramaTempo())
+                        .registrar(contagem.tempoDePreparo(), contagem.receitas());
+            }
+            for (UsoIngrediente uso : receitaIngredienteRepository.contarReceitasPorIngrediente()) {
+                novoUso.put(uso.ingredienteId(), uso.receitas());
+            }
+        });
+
+        synchronized (this) {
+            // A primeira carga parte dos contadores vazios: não há o que corrigir
+            long encontradas = ultimaReconciliacao == null ? 0 : contarDivergencias(novasCategorias, novoUso);
+            if (encontradas > 0) {
+                log.info("Reconciliação das estatísticas do catálogo corrigiu {} contadores", encontradas);
+            }
+            categorias = novasCategorias;
+            usoIngredientes = novoUso;
+            divergencias = encontradas;
+            ultimaReconciliacao = Instant.now();
+        }
+    }
+
+    private long contarDivergencias(Map<Long, HistogramaTempo> novasCategorias, Map<Long, Long> novoUso) {
+        long encontradas = 0;
+        Set<Long> idsCategorias = new HashSet<>(categorias.keySet());
+        idsCategorias.addAll(novasCategorias.keySet());
+        for (Long id : idsCategorias) {
+            HistogramaTempo atual = categorias.get(id);
+            HistogramaTempo novo = novasCategorias.get(id);
+            if (atual == null || novo == null || !atual.igual(novo)) {
+                encontradas++;
+            }
+        }
+        Set<Long> idsIngredientes = new HashSet<>(usoIngredientes.keySet());
+        idsIngredientes.addAll(novoUso.keySet());
+        for (Long id : idsIngredientes) {
+            if (!Objects.equals(usoIngredientes.get(id), novoUso.get(id))) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+
+    // Cópia: quem usa para ranquear não segura o lock das estatísticas
+    public synchronized Map<Long, Long> usoIngredientes() {
+        return new HashMap<>(usoIngredientes);
+    }
+
+    public synchronized ResumoEstatisticas resumo(int limiteIngredientes) {
+        long totalReceitas = 0;
+        List<ResumoCategoria> resumos = new ArrayList<>(categorias.size());
+        for (Map.Entry<Long, HistogramaTempo> entrada : categorias.entrySet()) {
+            HistogramaTempo histograma = entrada.getValue();
+            totalReceitas += histograma.total();
+            resumos.add(new ResumoCategoria(entrada.getKey(), histograma.total(), histograma.media(),
+                    histograma.percentil(0.5), histograma.percentil(0.9), histograma.percentil(0.99)));
+        }
+        resumos.sort(Comparator.comparingLong(ResumoCategoria::receitas).reversed());
+        return new ResumoEstatisticas(totalReceitas, resumos, maisUsados(limiteIngredientes),
+                ultimaReconciliacao, divergencias);
+    }
+
+    // Heap com os limite maiores: O(ingredientes · log limite)
+    private List<UsoIngrediente> maisUsados(int limite) {
+        if (limite <= 0) {
+            return List.of();
+        }
+        Comparator<UsoIngrediente> ordem = Comparator.comparingLong(UsoIngrediente::receitas)
+                .thenComparing(UsoIngrediente::ingredienteId, Comparator.reverseOrder());
+        PriorityQueue<UsoIngrediente> heap = new PriorityQueue<>(limite + 1, ordem);
+        for (Map.Entry<Long, Long> entrada : usoIngredientes.entrySet()) {
+            heap.add(new UsoIngrediente(entrada.getKey(), entrada.getValue()));
+            if (heap.size() > limite) {
+                heap.poll();
+            }
+        }
+        List<UsoIngrediente> resultado = new ArrayList<>(heap);
+        resultado.sort(ordem.reversed());
+        return resultado;
+    }
+}
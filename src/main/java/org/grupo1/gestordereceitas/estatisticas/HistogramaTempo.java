@@ -0,0 +1,83 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+import java.util.Arrays;
+
+/**
+ * Histograma compacto dos tempos de preparo, em minutos, com faixas de largura crescente:
+ * 1 minuto até 1 hora, 5 minutos até 4 horas e 30 minutos até 24 horas. Tempos acima de 24 horas
+ * ficam na última faixa. Percentis são respondidos com o limite superior da faixa, então o erro é
+ * no máximo a largura dela.
+ * <p>
+ * Não é thread-safe: quem o usa sincroniza o acesso.
+ */
+public class HistogramaTempo {
+
+    private static final int[] LIMITES = montarLimites();
+
+    private final long[] contagens = new long[LIMITES.length];
+    private long total;
+    private long soma;
+
+    private static int[] montarLimites() {
+        int[] limites = new int[60 + 36 + 40];
+        int i = 0;
+        for (int minuto = 1; minuto <= 60; minuto++) {
+            limites[i++] = minuto;
+        }
+        for (int minuto = 65; minuto <= 240; minuto += 5) {
+            limites[i++] = minuto;
+        }
+        for (int minuto = 270; minuto <= 1440; minuto += 30) {
+            limites[i++] = minuto;
+        }
+        return limites;
+    }
+
+    static int faixa(int tempo) {
+        if (tempo <= 60) {
+            return Math.max(tempo, 1) - 1;
+        }
+        if (tempo <= 240) {
+            return 60 + (tempo - 61) / 5;
+        }
+        if (tempo <= 1440) {
+            return 96 + (tempo - 241) / 30;
+        }
+        return LIMITES.length - 1;
+    }
+
+    // delta +1 soma uma receita, -1 a remove
+    public void registrar(int tempo, long delta) {
+        contagens[faixa(tempo)] += delta;
+        total += delta;
+        soma += delta * tempo;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public double media() {
+        return total == 0 ? 0 : (double) soma / total;
+    }
+
+    // percentil entre 0 e 1
+    public int percentil(double percentil) {
+        if (total <= 0) {
+            return 0;
+        }
+        long posicao = Math.max(1, (long) Math.ceil(percentil * total));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= posicao) {
+                return LIMITES[i];
+            }
+        }
+        return LIMITES[LIMITES.length - 1];
+    }
+
+    boolean igual(HistogramaTempo outro) {
+        return total == outro.total && soma == outro.soma && Arrays.equals(contagens, outro.contagens);
+    }
+}
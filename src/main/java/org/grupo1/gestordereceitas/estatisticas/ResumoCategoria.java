@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+// Tempos em minutos; percentis com a precisão das faixas do HistogramaTempo
+public record ResumoCategoria(Long categoriaId, long receitas, double tempoMedio, int tempoP50, int tempoP90, int tempoP99) {
+}
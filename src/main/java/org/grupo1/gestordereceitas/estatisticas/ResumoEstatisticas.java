@@ -0,0 +1,11 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ResumoEstatisticas(long totalReceitas,
+                                 List<ResumoCategoria> categorias,
+                                 List<UsoIngrediente> ingredientesMaisUsados,
+                                 Instant ultimaReconciliacao,
+                                 long divergenciasUltimaReconciliacao) {
+}
@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+// Quantidade de receitas distintas que usam um ingrediente
+public record UsoIngrediente(Long ingredienteId, long receitas) {
+}
@@ -0,0 +1,10 @@
+package org.grupo1.gestordereceitas.event;
+
+// Publicado pelo AvaliacaoService quando a soma ou a quantidade de notas de uma receita muda
+// remoto indica uma escrita de outra instância, republicada pela InvalidacaoDistribuida
+public record AvaliacaoRegistradaEvent(Long receitaId, boolean remoto) {
+
+    public AvaliacaoRegistradaEvent(Long receitaId) {
+        this(receitaId, false);
+    }
+}
@@ -0,0 +1,10 @@
+package org.grupo1.gestordereceitas.event;
+
+// Publicado pelo BuscaSalvaService a cada criação ou exclusão de busca salva
+// remoto indica uma escrita de outra instância, republicada pela InvalidacaoDistribuida
+public record BuscaSalvaAlteradaEvent(Long buscaSalvaId, boolean remoto) {
+
+    public BuscaSalvaAlteradaEvent(Long buscaSalvaId) {
+        this(buscaSalvaId, false);
+    }
+}
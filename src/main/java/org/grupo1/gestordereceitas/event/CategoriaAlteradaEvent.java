@@ -0,0 +1,10 @@
+package org.grupo1.gestordereceitas.event;
+
+// Publicado pelo CategoriaService a cada criação, atualização ou exclusão de categoria
+// remoto indica uma escrita de outra instância, republicada pela InvalidacaoDistribuida
+public record CategoriaAlteradaEvent(Long categoriaId, boolean remoto) {
+
+    public CategoriaAlteradaEvent(Long categoriaId) {
+        this(categoriaId, false);
+    }
+}
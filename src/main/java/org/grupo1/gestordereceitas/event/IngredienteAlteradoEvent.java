@@ -0,0 +1,10 @@
+package org.grupo1.gestordereceitas.event;
+
+// Publicado pelo IngredienteService a cada criação, atualização ou exclusão de ingrediente
+// remoto indica uma escrita de outra instância, republicada pela InvalidacaoDistribuida
+public record IngredienteAlteradoEvent(Long ingredienteId, boolean remoto) {
+
+    public IngredienteAlteradoEvent(Long ingredienteId) {
+        this(ingredienteId, false);
+    }
+}
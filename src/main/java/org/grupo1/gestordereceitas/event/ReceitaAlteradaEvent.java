@@ -0,0 +1,10 @@
+package org.grupo1.gestordereceitas.event;
+
+// Publicado pelo ReceitaService a cada criação, atualização ou exclusão de receita
+// remoto indica uma escrita de outra instância, republicada pela InvalidacaoDistribuida
+public record ReceitaAlteradaEvent(Long receitaId, boolean remoto) {
+
+    public ReceitaAlteradaEvent(Long receitaId) {
+        this(receitaId, false);
+    }
+}
@@ -0,0 +1,10 @@
+package org.grupo1.gestordereceitas.event;
+
+// Publicado pelo SubstituicaoService a cada criação, atualização ou exclusão de substituição
+// remoto indica uma escrita de outra instância, republicada pela InvalidacaoDistribuida
+public record SubstituicaoAlteradaEvent(Long substituicaoId, boolean remoto) {
+
+    public SubstituicaoAlteradaEvent(Long substituicaoId) {
+        this(substituicaoId, false);
+    }
+}
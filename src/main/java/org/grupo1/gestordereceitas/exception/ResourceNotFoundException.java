@@ -2,6 +2,7 @@ package org.grupo1.gestordereceitas.exception;
 
 public class ResourceNotFoundException extends RuntimeException{
     public ResourceNotFoundException(String mensage){
-        super(mensage);
+        // Exceção esperada de negócio: sem captura de stack trace, que domina o custo de criá-la
+        super(mensage, null, false, false);
     }
 }
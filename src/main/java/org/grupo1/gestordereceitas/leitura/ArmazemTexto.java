@@ -0,0 +1,129 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Textos longos do modelo de leitura (descrições das receitas) guardados fora do heap, em UTF-8,
+ * em slabs de {@link ByteBuffer} diretos alocados sob demanda. Cada texto é gravado uma vez, com
+ * o tamanho como prefixo, e referenciado por um {@code long} (índice do slab nos 32 bits altos,
+ * deslocamento nos baixos); a {@link String} só é criada quando a resposta precisa dela.
+ * <p>
+ * O armazém só cresce: um texto substituído continua legível para fotografias antigas do
+ * catálogo e apenas deixa de ser contado como vivo. Quando o espaço morto supera o vivo, o
+ * {@link CatalogoLeitura} copia os textos vivos para um armazém novo; os slabs antigos são
+ * liberados pelo coletor quando nenhuma fotografia os referencia mais.
+ * <p>
+ * Gravação restrita aos escritores do catálogo. As leituras usam apenas acessos absolutos aos
+ * buffers e enxergam os bytes gravados antes da publicação da fotografia que contém a referência.
+ */
+final class ArmazemTexto {
+
+    static final long AUSENTE = -1L;
+
+    private static final int PREFIXO = Integer.BYTES;
+
+    private final int tamanhoSlab;
+    private volatile ByteBuffer[] slabs = new ByteBuffer[0];
+
+    // Estado dos escritores
+    private int posicaoNoUltimo;
+    private long bytesAlocados;
+    private long bytesGravados;
+    private long bytesVivos;
+
+    ArmazemTexto(int tamanhoSlab) {
+        this.tamanhoSlab = tamanhoSlab;
+    }
+
+    long gravar(String texto) {
+        if (texto == null) {
+            return AUSENTE;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        return gravar(bytes, 0, bytes.length);
+    }
+
+    // Copia um texto de outro armazém sem decodificá-lo (usado na compactação)
+    long copiar(ArmazemTexto origem, long referencia) {
+        if (referencia == AUSENTE) {
+            return AUSENTE;
+        }
+        ByteBuffer slab = origem.slabs[slab(referencia)];
+        int deslocamento = deslocamento(referencia);
+        byte[] bytes = new byte[slab.getInt(deslocamento)];
+        slab.get(deslocamento + PREFIXO, bytes, 0, bytes.length);
+        return gravar(bytes, 0, bytes.length);
+    }
+
+    private long gravar(byte[] bytes, int inicio, int tamanho) {
+        int necessario = PREFIXO + tamanho;
+        ByteBuffer[] atuais = slabs;
+        if (atuais.length == 0 || posicaoNoUltimo + necessario > atuais[atuais.length - 1].capacity()) {
+            // Textos maiores que um slab ganham um slab exclusivo do tamanho exato
+            ByteBuffer novo = ByteBuffer.allocateDirect(Math.max(tamanhoSlab, necessario));
+            ByteBuffer[] ampliados = new ByteBuffer[atuais.length + 1];
+            System.arraycopy(atuais, 0, ampliados, 0, atuais.length);
+            ampliados[atuais.length] = novo;
+            slabs = ampliados;
+            atuais = ampliados;
+            posicaoNoUltimo = 0;
+            bytesAlocados += novo.capacity();
+        }
+        int indice = atuais.length - 1;
+        ByteBuffer slab = atuais[indice];
+        slab.putInt(posicaoNoUltimo, tamanho);
+        slab.put(posicaoNoUltimo + PREFIXO, bytes, inicio, tamanho);
+        long referencia = ((long) indice << 32) | posicaoNoUltimo;
+        posicaoNoUltimo += necessario;
+        bytesGravados += necessario;
+        bytesVivos += necessario;
+        return referencia;
+    }
+
+    String ler(long referencia) {
+        if (referencia == AUSENTE) {
+            return null;
+        }
+        ByteBuffer slab = slabs[slab(referencia)];
+        int deslocamento = deslocamento(referencia);
+        byte[] bytes = new byte[slab.getInt(deslocamento)];
+        slab.get(deslocamento + PREFIXO, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // O texto continua legível: apenas deixa de contar como vivo
+    void liberar(long referencia) {
+        if (referencia != AUSENTE) {
+            bytesVivos -= PREFIXO + slabs[slab(referencia)].getInt(deslocamento(referencia));
+        }
+    }
+
+    boolean precisaCompactar() {
+        return bytesAlocados > tamanhoSlab && bytesGravados - bytesVivos > bytesVivos;
+    }
+
+    ArmazemTexto vazioComMesmoTamanhoDeSlab() {
+        return new ArmazemTexto(tamanhoSlab);
+    }
+
+    int totalSlabs() {
+        return slabs.length;
+    }
+
+    long bytesAlocados() {
+        return bytesAlocados;
+    }
+
+    long bytesVivos() {
+        return bytesVivos;
+    }
+
+    private static int slab(long referencia) {
+        return (int) (referencia >>> 32);
+    }
+
+    private static int deslocamento(long referencia) {
+        return (int) referencia;
+    }
+}
@@ -0,0 +1,56 @@
+package org.grupo1.gestordereceitas.leitura;
+
+/**
+ * Fotografia imutável do catálogo: categorias, ingredientes e receitas ordenados por id,
+ * mais o armazém fora do heap onde estão as descrições referenciadas pelas receitas.
+ * <p>
+ * Leitores acessam uma instância publicada sem nenhum lock; escritores produzem uma nova instância
+ * que compartilha tudo o que não mudou (a alteração de uma receita copia apenas o seu bloco em
+ * {@link ReceitasEmBlocos} e o índice de blocos, nunca as demais receitas).
+ */
+final class CatalogoImutavel {
+
+    final TabelaNomes categorias;
+    final TabelaNomes ingredientes;
+    final ReceitasEmBlocos receitas;
+    final ArmazemTexto textos;
+
+    CatalogoImutavel(TabelaNomes categorias, TabelaNomes ingredientes, ReceitasEmBlocos receitas, ArmazemTexto textos) {
+        this.categorias = categorias;
+        this.ingredientes = ingredientes;
+        this.receitas = receitas;
+        this.textos = textos;
+    }
+
+    ReceitaLeitura receita(int id) {
+        return receitas.buscar(id);
+    }
+
+    CatalogoImutavel comCategorias(TabelaNomes novas) {
+        return new CatalogoImutavel(novas, ingredientes, receitas, textos);
+    }
+
+    CatalogoImutavel comIngredientes(TabelaNomes novos) {
+        return new CatalogoImutavel(categorias, novos, receitas, textos);
+    }
+
+    CatalogoImutavel comReceita(ReceitaLeitura receita) {
+        return new CatalogoImutavel(categorias, ingredientes, receitas.com(receita), textos);
+    }
+
+    CatalogoImutavel semReceita(int id) {
+        ReceitasEmBlocos novas = receitas.sem(id);
+        return novas == receitas ? this : new CatalogoImutavel(categorias, ingredientes, novas, textos);
+    }
+
+    // Copia as descrições vivas para um armazém novo, sem o espaço dos textos substituídos
+    CatalogoImutavel compactarTextos() {
+        ArmazemTexto novosTextos = textos.vazioComMesmoTamanhoDeSlab();
+        ReceitaLeitura[] novas = new ReceitaLeitura[receitas.tamanho()];
+        int i = 0;
+        for (ReceitaLeitura receita : receitas) {
+            novas[i++] = receita.comDescricao(novosTextos.copiar(textos, receita.descricao));
+        }
+        return new CatalogoImutavel(categorias, ingredientes, ReceitasEmBlocos.de(novas), novosTextos);
+    }
+}
@@ -0,0 +1,304 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import org.grupo1.gestordereceitas.dto.CatalogoLeituraEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.event.CategoriaAlteradaEvent;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Modelo de leitura do catálogo (CQRS): todas as receitas, categorias e ingredientes em memória,
+ * em estruturas imutáveis baseadas em arrays, servindo as consultas sem passar pelo JPA.
+ * <p>
+ * As leituras fazem uma única leitura volátil da fotografia atual e não usam locks. Os escritores
+ * (carga inicial e atualizações após cada commit) são serializados pelo lock do objeto e publicam
+ * uma nova fotografia que troca apenas o que mudou. Os nomes e textos repetidos das linhas de
+ * ingredientes são internados, cada receita guarda os ids dos ingredientes em um {@code int[]} e as
+ * descrições ficam fora do heap, no {@link ArmazemTexto}, decodificadas apenas ao montar a resposta.
+ * <p>
+ * Ligado pelo {@code application.properties} distribuído ({@code gestor.leitura.catalogo-em-memoria};
+ * sem a propriedade fica desligado). Desligado, ou enquanto não estiver carregado, os services
+ * seguem consultando o banco.
+ */
+@Component
+public class CatalogoLeitura {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogoLeitura.class);
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final IngredienteRepository ingredienteRepository;
+    private final boolean habilitado;
+    private final int tamanhoSlabTextos;
+
+    // null até a carga inicial terminar
+    private volatile CatalogoImutavel catalogo;
+
+    // Usados somente pelos escritores, sob o lock do objeto
+    private Internador internador = new Internador();
+    private long duracaoUltimaCargaMs;
+
+    public CatalogoLeitura(ReceitaRepository receitaRepository,
+                           ReceitaIngredienteRepository receitaIngredienteRepository,
+                           CategoriaRepository categoriaRepository,
+                           IngredienteRepository ingredienteRepository,
+                           @Value("${gestor.leitura.catalogo-em-memoria:false}") boolean habilitado,
+                           @Value("${gestor.leitura.textos.tamanho-slab-bytes:1048576}") int tamanhoSlabTextos) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.ingredienteRepository = ingredienteRepository;
+        this.habilitado = habilitado;
+        this.tamanhoSlabTextos = tamanhoSlabTextos;
+    }
+
+    public boolean disponivel() {
+        return catalogo != null;
+    }
+
+    // --- Carga e atualização (escritores) ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    public synchronized void carregar() {
+        if (!habilitado) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        Internador novoInternador = new Internador();
+        ArmazemTexto textos = new ArmazemTexto(tamanhoSlabTextos);
+
+        TabelaNomes categorias = TabelaNomes.VAZIA;
+        for (Categoria categoria : categoriaRepository.findAll()) {
+            categorias = categorias.com(Math.toIntExact(categoria.getId()), novoInternador.internar(categoria.getNome()));
+        }
+        TabelaNomes ingredientes = TabelaNomes.VAZIA;
+        for (Ingrediente ingrediente : ingredienteRepository.findAll()) {
+            ingredientes = ingredientes.com(Math.toIntExact(ingrediente.getId()), novoInternador.internar(ingrediente.getNome()));
+        }
+
+        // As duas consultas vêm ordenadas pelo id da receita: as linhas são distribuídas em um único passe
+        List<LinhaReceita> linhasReceitas = receitaRepository.findLinhasLeitura();
+        List<LinhaIngredienteReceita> linhasIngredientes = receitaIngredienteRepository.findLinhasLeitura();
+        ReceitaLeitura[] receitas = new ReceitaLeitura[linhasReceitas.size()];
+        int proximaLinha = 0;
+        for (int i = 0; i < receitas.length; i++) {
+            LinhaReceita linha = linhasReceitas.get(i);
+            while (proximaLinha < linhasIngredientes.size()
+                    && linhasIngredientes.get(proximaLinha).receitaId() < linha.id()) {
+                proximaLinha++;
+            }
+            int fim = proximaLinha;
+            while (fim < linhasIngredientes.size() && linhasIngredientes.get(fim).receitaId().equals(linha.id())) {
+                fim++;
+            }
+            receitas[i] = montarReceita(linha, linhasIngredientes.subList(proximaLinha, fim), novoInternador, textos);
+            proximaLinha = fim;
+        }
+
+        internador = novoInternador;
+        catalogo = new CatalogoImutavel(categorias, ingredientes, ReceitasEmBlocos.de(receitas), textos);
+        duracaoUltimaCargaMs = (System.nanoTime() - inicio) / 1_000_000;
+        log.info("Modelo de leitura carregado: {} receitas, {} ingredientes, {} categorias em {} ms",
+                receitas.length, ingredientes.tamanho(), categorias.tamanho(), duracaoUltimaCargaMs);
+    }
+
+    // Roda antes dos demais listeners pós-commit, para que o cache de respostas recarregue do modelo já atualizado
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        CatalogoImutavel atual = catalogo;
+        if (atual == null) {
+            return;
+        }
+        Long id = event.receitaId();
+        ReceitaLeitura anterior = atual.receita(Math.toIntExact(id));
+        if (anterior != null) {
+            atual.textos.liberar(anterior.descricao);
+        }
+        Optional<LinhaReceita> linha = receitaRepository.findLinhaLeituraById(id);
+        CatalogoImutavel novo;
+        if (linha.isEmpty()) {
+            novo = atual.semReceita(Math.toIntExact(id));
+        } else {
+            List<LinhaIngredienteReceita> linhas = receitaIngredienteRepository.findLinhasLeituraByReceitaId(id);
+            novo = atual.comReceita(montarReceita(linha.get(), linhas, internador, atual.textos));
+        }
+        catalogo = novo.textos.precisaCompactar() ? novo.compactarTextos() : novo;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onCategoriaAlterada(CategoriaAlteradaEvent event) {
+        CatalogoImutavel atual = catalogo;
+        if (atual == null) {
+            return;
+        }
+        int id = Math.toIntExact(event.categoriaId());
+        catalogo = atual.comCategorias(categoriaRepository.findById(event.categoriaId())
+                .map(categoria -> atual.categorias.com(id, internador.internar(categoria.getNome())))
+                .orElseGet(() -> atual.categorias.sem(id)));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onIngredienteAlterado(IngredienteAlteradoEvent event) {
+        CatalogoImutavel atual = catalogo;
+        if (atual == null) {
+            return;
+        }
+        int id = Math.toIntExact(event.ingredienteId());
+        catalogo = atual.comIngredientes(ingredienteRepository.findById(event.ingredienteId())
+                .map(ingrediente -> atual.ingredientes.com(id, internador.internar(ingrediente.getNome())))
+                .orElseGet(() -> atual.ingredientes.sem(id)));
+    }
+
+    private static ReceitaLeitura montarReceita(LinhaReceita linha,
+                                                List<LinhaIngredienteReceita> linhas,
+                                                Internador internador,
+                                                ArmazemTexto textos) {
+        int total = linhas.size();
+        int[] ingredienteIds = new int[total];
+        String[] quantidades = new String[total];
+        String[] unidades = new String[total];
+        for (int i = 0; i < total; i++) {
+            LinhaIngredienteReceita linhaIngrediente = linhas.get(i);
+            ingredienteIds[i] = Math.toIntExact(linhaIngrediente.ingredienteId());
+            quantidades[i] = internador.internar(linhaIngrediente.quantidade());
+            unidades[i] = internador.internar(linhaIngrediente.unidadeMedida());
+        }
+        int categoriaId = linha.categoriaId() != null ? Math.toIntExact(linha.categoriaId()) : ReceitaLeitura.SEM_CATEGORIA;
+        return new ReceitaLeitura(Math.toIntExact(linha.id()), linha.nome(), textos.gravar(linha.descricao()),
+                linha.tempoDePreparo(), linha.porcoes() != null ? linha.porcoes() : 0, categoriaId,
+                ingredienteIds, quantidades, unidades);
+    }
+
+    // --- Consultas (sem locks) ---
+
+    public List<ReceitaResponseDTO> listarReceitas() {
+        CatalogoImutavel atual = catalogo;
+        List<ReceitaResponseDTO> receitas = new ArrayList<>(atual.receitas.tamanho());
+        for (ReceitaLeitura receita : atual.receitas) {
+            receitas.add(toDTO(atual, receita));
+        }
+        return receitas;
+    }
+
+    public Optional<ReceitaResponseDTO> buscarReceita(Long id) {
+        CatalogoImutavel atual = catalogo;
+        if (!idValido(id)) {
+            return Optional.empty();
+        }
+        ReceitaLeitura receita = atual.receita(id.intValue());
+        return receita != null ? Optional.of(toDTO(atual, receita)) : Optional.empty();
+    }
+
+    public List<Categoria> listarCategorias() {
+        TabelaNomes categorias = catalogo.categorias;
+        List<Categoria> lista = new ArrayList<>(categorias.tamanho());
+        for (int i = 0; i < categorias.tamanho(); i++) {
+            lista.add(new Categoria((long) categorias.ids[i], categorias.nomes[i]));
+        }
+        return lista;
+    }
+
+    public Optional<Categoria> buscarCategoria(Long id) {
+        String nome = idValido(id) ? catalogo.categorias.nome(id.intValue()) : null;
+        return nome != null ? Optional.of(new Categoria(id, nome)) : Optional.empty();
+    }
+
+    public List<Ingrediente> listarIngredientes() {
+        TabelaNomes ingredientes = catalogo.ingredientes;
+        List<Ingrediente> lista = new ArrayList<>(ingredientes.tamanho());
+        for (int i = 0; i < ingredientes.tamanho(); i++) {
+            lista.add(new Ingrediente((long) ingredientes.ids[i], ingredientes.nomes[i]));
+        }
+        return lista;
+    }
+
+    public Optional<Ingrediente> buscarIngrediente(Long id) {
+        String nome = idValido(id) ? catalogo.ingredientes.nome(id.intValue()) : null;
+        return nome != null ? Optional.of(new Ingrediente(id, nome)) : Optional.empty();
+    }
+
+    private static boolean idValido(Long id) {
+        return id != null && id > 0 && id <= Integer.MAX_VALUE;
+    }
+
+    // Mesmo formato do ReceitaMapper.toDTO
+    private static ReceitaResponseDTO toDTO(CatalogoImutavel atual, ReceitaLeitura receita) {
+        ReceitaResponseDTO dto = new ReceitaResponseDTO();
+        dto.setId((long) receita.id);
+        dto.setNome(receita.nome);
+        dto.setDescricao(atual.textos.ler(receita.descricao));
+        dto.setTempoDePreparo(receita.tempoDePreparo);
+        dto.setPorcoes(receita.porcoes > 0 ? receita.porcoes : null);
+        dto.setCategoria(receita.categoriaId != ReceitaLeitura.SEM_CATEGORIA
+                ? atual.categorias.nome(receita.categoriaId) : null);
+
+        List<ReceitaIngredienteDTO> ingredientes = new ArrayList<>(receita.ingredienteIds.length);
+        for (int i = 0; i < receita.ingredienteIds.length; i++) {
+            ReceitaIngredienteDTO ingDTO = new ReceitaIngredienteDTO();
+            ingDTO.setIngredienteId((long) receita.ingredienteIds[i]);
+            ingDTO.setNome(atual.ingredientes.nome(receita.ingredienteIds[i]));
+            ingDTO.setQuantidade(receita.quantidades[i]);
+            ingDTO.setUnidade(receita.unidades[i]);
+            ingredientes.add(ingDTO);
+        }
+        dto.setIngredientes(ingredientes);
+        return dto;
+    }
+
+    // --- Monitoramento ---
+
+    public CatalogoLeituraEstatisticasDTO estatisticas() {
+        CatalogoImutavel atual = catalogo;
+        CatalogoLeituraEstatisticasDTO dto = new CatalogoLeituraEstatisticasDTO();
+        dto.setHabilitado(habilitado);
+        dto.setDisponivel(atual != null);
+        if (atual == null) {
+            return dto;
+        }
+        long linhas = 0;
+        for (ReceitaLeitura receita : atual.receitas) {
+            linhas += receita.ingredienteIds.length;
+        }
+        long bytes = PegadaMemoria.estimar(atual);
+        dto.setReceitas(atual.receitas.tamanho());
+        dto.setIngredientes(atual.ingredientes.tamanho());
+        dto.setCategorias(atual.categorias.tamanho());
+        dto.setLinhasIngredientes(linhas);
+        dto.setBytesEstimados(bytes);
+        dto.setBytesPor100MilReceitas(atual.receitas.tamanho() > 0 ? bytes * 100_000 / atual.receitas.tamanho() : 0);
+        synchronized (this) {
+            dto.setDuracaoUltimaCargaMs(duracaoUltimaCargaMs);
+            dto.setSlabsTextos(catalogo.textos.totalSlabs());
+            dto.setBytesForaDoHeap(catalogo.textos.bytesAlocados());
+            dto.setBytesTextosVivos(catalogo.textos.bytesVivos());
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,18 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Mantém uma única instância de cada texto repetido (nomes, quantidades, unidades). Uso restrito aos escritores
+final class Internador {
+
+    private final Map<String, String> textos = new HashMap<>();
+
+    String internar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String existente = textos.putIfAbsent(texto, texto);
+        return existente != null ? existente : texto;
+    }
+}
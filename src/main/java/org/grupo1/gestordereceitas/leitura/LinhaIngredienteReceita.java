@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.leitura;
+
+// Linha de receita_ingrediente usada na montagem do modelo de leitura
+public record LinhaIngredienteReceita(Long receitaId, Long ingredienteId, String quantidade, String unidadeMedida) {
+}
@@ -0,0 +1,6 @@
+package org.grupo1.gestordereceitas.leitura;
+
+// Colunas escalares da receita usadas na montagem do modelo de leitura
+public record LinhaReceita(Long id, String nome, String descricao, int tempoDePreparo, Long categoriaId,
+                           Integer porcoes) {
+}
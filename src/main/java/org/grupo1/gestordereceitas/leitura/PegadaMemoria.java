@@ -0,0 +1,86 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Estimativa do espaço ocupado no heap por uma fotografia do catálogo, para uma JVM de 64 bits
+ * com referências e ponteiros de classe comprimidos (cabeçalho de 12 bytes, referências de 4
+ * bytes, alinhamento de 8). Textos compartilhados pelo internador são contados uma única vez; as
+ * descrições, fora do heap, não entram na conta.
+ */
+final class PegadaMemoria {
+
+    private static final int CABECALHO_OBJETO = 12;
+    private static final int CABECALHO_ARRAY = 16;
+    private static final int REFERENCIA = 4;
+
+    // 12 de cabeçalho + id, tempoDePreparo e categoriaId + referência da descrição + 4 referências
+    private static final long RECEITA = alinhar(CABECALHO_OBJETO + 4 * 4 + 8 + 4 * REFERENCIA);
+    // 12 de cabeçalho + hash + coder + hashIsZero + referência ao byte[]
+    private static final long STRING = alinhar(CABECALHO_OBJETO + 4 + 1 + 1 + REFERENCIA);
+
+    private PegadaMemoria() {
+    }
+
+    static long estimar(CatalogoImutavel catalogo) {
+        Set<String> compartilhados = Collections.newSetFromMap(new IdentityHashMap<>());
+        long total = alinhar(CABECALHO_OBJETO + 4 * REFERENCIA)
+                + tabela(catalogo.categorias, compartilhados)
+                + tabela(catalogo.ingredientes, compartilhados)
+                + alinhar(CABECALHO_OBJETO + 2 * REFERENCIA + 4)
+                + array(catalogo.receitas.blocos.length, REFERENCIA)
+                + array(catalogo.receitas.primeirosIds.length, 4);
+        for (ReceitaLeitura[] bloco : catalogo.receitas.blocos) {
+            total += array(bloco.length, REFERENCIA);
+        }
+
+        for (ReceitaLeitura receita : catalogo.receitas) {
+            total += RECEITA + texto(receita.nome);
+            int linhas = receita.ingredienteIds.length;
+            total += array(linhas, 4) + 2 * array(linhas, REFERENCIA);
+            for (int i = 0; i < linhas; i++) {
+                total += textoCompartilhado(receita.quantidades[i], compartilhados)
+                        + textoCompartilhado(receita.unidades[i], compartilhados);
+            }
+        }
+        return total;
+    }
+
+    private static long tabela(TabelaNomes tabela, Set<String> compartilhados) {
+        long total = alinhar(CABECALHO_OBJETO + 2 * REFERENCIA)
+                + array(tabela.tamanho(), 4) + array(tabela.tamanho(), REFERENCIA);
+        for (String nome : tabela.nomes) {
+            total += textoCompartilhado(nome, compartilhados);
+        }
+        return total;
+    }
+
+    private static long textoCompartilhado(String texto, Set<String> compartilhados) {
+        return texto != null && compartilhados.add(texto) ? texto(texto) : 0;
+    }
+
+    // Strings compactas: 1 byte por caractere quando todos cabem em Latin-1
+    private static long texto(String texto) {
+        if (texto == null) {
+            return 0;
+        }
+        int bytesPorCaractere = 1;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > 0xFF) {
+                bytesPorCaractere = 2;
+                break;
+            }
+        }
+        return STRING + array(texto.length(), bytesPorCaractere);
+    }
+
+    private static long array(int tamanho, int bytesPorElemento) {
+        return alinhar(CABECALHO_ARRAY + (long) tamanho * bytesPorElemento);
+    }
+
+    private static long alinhar(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,40 @@
+package org.grupo1.gestordereceitas.leitura;
+
+/**
+ * Receita no modelo de leitura. Imutável: uma alteração gera uma nova instância.
+ * As linhas de ingredientes ficam em arrays paralelos; nomes são resolvidos no catálogo e a
+ * descrição é uma referência ao {@link ArmazemTexto} fora do heap.
+ */
+final class ReceitaLeitura {
+
+    static final int SEM_CATEGORIA = -1;
+
+    final int id;
+    final String nome;
+    final long descricao;
+    final int tempoDePreparo;
+    // 0 quando não informado (vale como uma porção)
+    final int porcoes;
+    final int categoriaId;
+    final int[] ingredienteIds;
+    final String[] quantidades;
+    final String[] unidades;
+
+    ReceitaLeitura(int id, String nome, long descricao, int tempoDePreparo, int porcoes, int categoriaId,
+                   int[] ingredienteIds, String[] quantidades, String[] unidades) {
+        this.id = id;
+        this.nome = nome;
+        this.descricao = descricao;
+        this.tempoDePreparo = tempoDePreparo;
+        this.porcoes = porcoes;
+        this.categoriaId = categoriaId;
+        this.ingredienteIds = ingredienteIds;
+        this.quantidades = quantidades;
+        this.unidades = unidades;
+    }
+
+    ReceitaLeitura comDescricao(long novaDescricao) {
+        return new ReceitaLeitura(id, nome, novaDescricao, tempoDePreparo, porcoes, categoriaId, ingredienteIds,
+                quantidades, unidades);
+    }
+}
@@ -0,0 +1,189 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Receitas do modelo de leitura ordenadas por id, divididas em blocos de até
+ * {@code 2 * TAMANHO_BLOCO} elementos. Imutável: incluir, trocar ou remover uma receita copia só o
+ * bloco onde ela está e o índice de blocos ({@code n / TAMANHO_BLOCO} referências); os demais
+ * blocos são compartilhados com a versão anterior.
+ */
+final class ReceitasEmBlocos implements Iterable<ReceitaLeitura> {
+
+    static final int TAMANHO_BLOCO = 512;
+
+    final ReceitaLeitura[][] blocos;
+    // Id da primeira receita de cada bloco, para a busca binária
+    final int[] primeirosIds;
+    private final int tamanho;
+
+    private ReceitasEmBlocos(ReceitaLeitura[][] blocos, int[] primeirosIds, int tamanho) {
+        this.blocos = blocos;
+        this.primeirosIds = primeirosIds;
+        this.tamanho = tamanho;
+    }
+
+    /** Recebe as receitas já ordenadas por id. */
+    static ReceitasEmBlocos de(ReceitaLeitura[] ordenadas) {
+        int total = (ordenadas.length + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO;
+        ReceitaLeitura[][] blocos = new ReceitaLeitura[total][];
+        int[] primeirosIds = new int[total];
+        for (int b = 0; b < total; b++) {
+            blocos[b] = Arrays.copyOfRange(ordenadas, b * TAMANHO_BLOCO, Math.min(ordenadas.length, (b + 1) * TAMANHO_BLOCO));
+            primeirosIds[b] = blocos[b][0].id;
+        }
+        return new ReceitasEmBlocos(blocos, primeirosIds, ordenadas.length);
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    ReceitaLeitura buscar(int id) {
+        int b = bloco(id);
+        if (b < 0) {
+            return null;
+        }
+        int posicao = posicao(blocos[b], id);
+        return posicao >= 0 ? blocos[b][posicao] : null;
+    }
+
+    ReceitasEmBlocos com(ReceitaLeitura receita) {
+        if (blocos.length == 0) {
+            return new ReceitasEmBlocos(new ReceitaLeitura[][]{{receita}}, new int[]{receita.id}, 1);
+        }
+        // Ids menores que o primeiro vão para o primeiro bloco
+        int b = Math.max(0, bloco(receita.id));
+        ReceitaLeitura[] atual = blocos[b];
+        int posicao = posicao(atual, receita.id);
+        if (posicao >= 0) {
+            ReceitaLeitura[] novo = atual.clone();
+            novo[posicao] = receita;
+            return substituir(b, novo, tamanho);
+        }
+        int insercao = -posicao - 1;
+        ReceitaLeitura[] novo = new ReceitaLeitura[atual.length + 1];
+        System.arraycopy(atual, 0, novo, 0, insercao);
+        novo[insercao] = receita;
+        System.arraycopy(atual, insercao, novo, insercao + 1, atual.length - insercao);
+        if (novo.length <= 2 * TAMANHO_BLOCO) {
+            return substituir(b, novo, tamanho + 1);
+        }
+        return dividir(b, novo);
+    }
+
+    ReceitasEmBlocos sem(int id) {
+        int b = bloco(id);
+        if (b < 0) {
+            return this;
+        }
+        ReceitaLeitura[] atual = blocos[b];
+        int posicao = posicao(atual, id);
+        if (posicao < 0) {
+            return this;
+        }
+        if (atual.length == 1) {
+            ReceitaLeitura[][] novosBlocos = new ReceitaLeitura[blocos.length - 1][];
+            int[] novosIds = new int[primeirosIds.length - 1];
+            System.arraycopy(blocos, 0, novosBlocos, 0, b);
+            System.arraycopy(blocos, b + 1, novosBlocos, b, blocos.length - b - 1);
+            System.arraycopy(primeirosIds, 0, novosIds, 0, b);
+            System.arraycopy(primeirosIds, b + 1, novosIds, b, primeirosIds.length - b - 1);
+            return new ReceitasEmBlocos(novosBlocos, novosIds, tamanho - 1);
+        }
+        ReceitaLeitura[] novo = new ReceitaLeitura[atual.length - 1];
+        System.arraycopy(atual, 0, novo, 0, posicao);
+        System.arraycopy(atual, posicao + 1, novo, posicao, atual.length - posicao - 1);
+        return substituir(b, novo, tamanho - 1);
+    }
+
+    @Override
+    public Iterator<ReceitaLeitura> iterator() {
+        return new Iterator<>() {
+            private int bloco;
+            private int posicao;
+
+            @Override
+            public boolean hasNext() {
+                return bloco < blocos.length;
+            }
+
+            @Override
+            public ReceitaLeitura next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ReceitaLeitura receita = blocos[bloco][posicao++];
+                if (posicao == blocos[bloco].length) {
+                    bloco++;
+                    posicao = 0;
+                }
+                return receita;
+            }
+        };
+    }
+
+    private ReceitasEmBlocos substituir(int b, ReceitaLeitura[] novo, int novoTamanho) {
+        ReceitaLeitura[][] novosBlocos = blocos.clone();
+        novosBlocos[b] = novo;
+        int[] novosIds = primeirosIds;
+        if (novo[0].id != primeirosIds[b]) {
+            novosIds = primeirosIds.clone();
+            novosIds[b] = novo[0].id;
+        }
+        return new ReceitasEmBlocos(novosBlocos, novosIds, novoTamanho);
+    }
+
+    // O bloco passou do dobro do tamanho: vira dois blocos de TAMANHO_BLOCO
+    private ReceitasEmBlocos dividir(int b, ReceitaLeitura[] cheio) {
+        int meio = cheio.length / 2;
+        ReceitaLeitura[][] novosBlocos = new ReceitaLeitura[blocos.length + 1][];
+        int[] novosIds = new int[primeirosIds.length + 1];
+        System.arraycopy(blocos, 0, novosBlocos, 0, b);
+        System.arraycopy(blocos, b + 1, novosBlocos, b + 2, blocos.length - b - 1);
+        System.arraycopy(primeirosIds, 0, novosIds, 0, b);
+        System.arraycopy(primeirosIds, b + 1, novosIds, b + 2, primeirosIds.length - b - 1);
+        novosBlocos[b] = Arrays.copyOfRange(cheio, 0, meio);
+        novosBlocos[b + 1] = Arrays.copyOfRange(cheio, meio, cheio.length);
+        novosIds[b] = novosBlocos[b][0].id;
+        novosIds[b + 1] = novosBlocos[b + 1][0].id;
+        return new ReceitasEmBlocos(novosBlocos, novosIds, tamanho + 1);
+    }
+
+    // Último bloco cujo primeiro id é menor ou igual ao id, ou -1 se o id vem antes de todos
+    private int bloco(int id) {
+        int inicio = 0;
+        int fim = primeirosIds.length - 1;
+        int encontrado = -1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (primeirosIds[meio] <= id) {
+                encontrado = meio;
+                inicio = meio + 1;
+            } else {
+                fim = meio - 1;
+            }
+        }
+        return encontrado;
+    }
+
+    // Mesmo contrato de Arrays.binarySearch: posição, ou -(ponto de inserção) - 1
+    private static int posicao(ReceitaLeitura[] bloco, int id) {
+        int inicio = 0;
+        int fim = bloco.length - 1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            int idMeio = bloco[meio].id;
+            if (idMeio < id) {
+                inicio = meio + 1;
+            } else if (idMeio > id) {
+                fim = meio - 1;
+            } else {
+                return meio;
+            }
+        }
+        return -(inicio + 1);
+    }
+}
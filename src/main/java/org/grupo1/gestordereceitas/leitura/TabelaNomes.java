@@ -0,0 +1,62 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import java.util.Arrays;
+
+/**
+ * Tabela imutável id → nome em dois arrays paralelos ordenados por id (busca binária).
+ * Alterações devolvem uma nova tabela.
+ */
+final class TabelaNomes {
+
+    static final TabelaNomes VAZIA = new TabelaNomes(new int[0], new String[0]);
+
+    final int[] ids;
+    final String[] nomes;
+
+    TabelaNomes(int[] ids, String[] nomes) {
+        this.ids = ids;
+        this.nomes = nomes;
+    }
+
+    int tamanho() {
+        return ids.length;
+    }
+
+    String nome(int id) {
+        int posicao = Arrays.binarySearch(ids, id);
+        return posicao >= 0 ? nomes[posicao] : null;
+    }
+
+    TabelaNomes com(int id, String nome) {
+        int posicao = Arrays.binarySearch(ids, id);
+        if (posicao >= 0) {
+            String[] novosNomes = nomes.clone();
+            novosNomes[posicao] = nome;
+            return new TabelaNomes(ids, novosNomes);
+        }
+        int insercao = -posicao - 1;
+        int[] novosIds = new int[ids.length + 1];
+        String[] novosNomes = new String[nomes.length + 1];
+        System.arraycopy(ids, 0, novosIds, 0, insercao);
+        System.arraycopy(nomes, 0, novosNomes, 0, insercao);
+        novosIds[insercao] = id;
+        novosNomes[insercao] = nome;
+        System.arraycopy(ids, insercao, novosIds, insercao + 1, ids.length - insercao);
+        System.arraycopy(nomes, insercao, novosNomes, insercao + 1, nomes.length - insercao);
+        return new TabelaNomes(novosIds, novosNomes);
+    }
+
+    TabelaNomes sem(int id) {
+        int posicao = Arrays.binarySearch(ids, id);
+        if (posicao < 0) {
+            return this;
+        }
+        int[] novosIds = new int[ids.length - 1];
+        String[] novosNomes = new String[nomes.length - 1];
+        System.arraycopy(ids, 0, novosIds, 0, posicao);
+        System.arraycopy(nomes, 0, novosNomes, 0, posicao);
+        System.arraycopy(ids, posicao + 1, novosIds, posicao, ids.length - posicao - 1);
+        System.arraycopy(nomes, posicao + 1, novosNomes, posicao, nomes.length - posicao - 1);
+        return new TabelaNomes(novosIds, novosNomes);
+    }
+}
@@ -0,0 +1,43 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Nota de 1 a 5 dada por um usuário a uma receita; cada usuário tem no máximo uma avaliação por
+ * receita. A soma e a quantidade das notas ficam também na própria receita, atualizadas pelo
+ * AvaliacaoService na mesma transação.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "avaliacao",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"receita_id", "usuario"}))
+@AllArgsConstructor
+@NoArgsConstructor
+public class Avaliacao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Apagada pelo banco junto com a receita
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Receita receita;
+
+    // Identificador livre do autor; a aplicação não tem cadastro de usuários
+    @Column(nullable = false)
+    private String usuario;
+
+    private int nota;
+
+    private Instant atualizadaEm;
+}
@@ -0,0 +1,48 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Filtro de receitas salvo por um usuário para ser avisado quando uma receita nova ou alterada
+ * passar a atendê-lo. Todos os critérios informados precisam valer: a categoria, a faixa de tempo
+ * de preparo e a presença de todos os ingredientes. Categoria e ingredientes são guardados só pelo
+ * ID; um ID que deixar de existir simplesmente não corresponde a mais nenhuma receita.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "busca_salva")
+@AllArgsConstructor
+@NoArgsConstructor
+public class BuscaSalva {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Identificador livre do dono da busca; a aplicação não tem cadastro de usuários
+    private String usuario;
+
+    private String nome;
+
+    private Long categoriaId;
+
+    private Integer tempoMinimo;
+
+    private Integer tempoMaximo;
+
+    @ElementCollection
+    @CollectionTable(name = "busca_salva_ingrediente", joinColumns = @JoinColumn(name = "busca_salva_id"))
+    @Column(name = "ingrediente_id")
+    private Set<Long> ingredienteIds = new HashSet<>();
+
+    private Instant criadaEm;
+}
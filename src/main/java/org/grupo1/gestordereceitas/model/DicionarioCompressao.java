@@ -0,0 +1,35 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Dicionário compartilhado usado na compressão das descrições das receitas.
+ * <p>
+ * Cada treino grava uma nova versão e nunca altera as anteriores: toda descrição comprimida
+ * carrega a versão do dicionário com que foi gravada. A versão 0 é a base embutida na aplicação
+ * e não fica nesta tabela.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "dicionario_compressao")
+@AllArgsConstructor
+@NoArgsConstructor
+public class DicionarioCompressao {
+
+    @Id
+    private Integer versao;
+
+    @Column(length = 32768)
+    private byte[] conteudo;
+
+    private int amostras;
+
+    private Instant criadoEm;
+}
@@ -0,0 +1,36 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Registro do log de invalidação: uma linha por escrita no catálogo, gravada na mesma transação.
+ * O id crescente é o cursor com que cada instância acompanha o log.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "invalidacao_cache")
+@AllArgsConstructor
+@NoArgsConstructor
+public class InvalidacaoCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private TipoInvalidacao tipo;
+
+    private Long entidadeId;
+
+    // Instância que fez a escrita; ela já invalidou os próprios caches
+    private String origem;
+
+    private Instant criadaEm;
+}
@@ -0,0 +1,37 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Aviso de que uma receita passou a atender uma busca salva, gravado na mesma transação da
+ * escrita na receita. O id crescente é o cursor com que o usuário consulta os avisos novos.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "notificacao_busca", indexes = @Index(columnList = "usuario, id"))
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificacaoBusca {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String usuario;
+
+    private Long buscaSalvaId;
+
+    private Long receitaId;
+
+    // true quando a receita foi criada; false quando uma alteração a fez atender a busca
+    private boolean receitaNova;
+
+    private Instant criadaEm;
+}
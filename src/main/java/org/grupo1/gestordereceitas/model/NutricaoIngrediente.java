@@ -0,0 +1,37 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Informação nutricional de um ingrediente por 100 g (ou 100 ml, tratados como equivalentes).
+ * {@code gramasPorUnidade} converte as linhas medidas em unidades (uma cebola, um dente, uma
+ * caixa); sem ele essas linhas ficam de fora do cálculo.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "nutricao_ingrediente")
+@AllArgsConstructor
+@NoArgsConstructor
+public class NutricaoIngrediente {
+
+    @Id
+    private Long ingredienteId;
+
+    // Apagada pelo banco junto com o ingrediente
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Ingrediente ingrediente;
+
+    @Embedded
+    private ValoresNutricionais porCemGramas;
+
+    private Double gramasPorUnidade;
+}
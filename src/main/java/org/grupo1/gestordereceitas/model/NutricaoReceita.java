@@ -0,0 +1,38 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Totais nutricionais de uma receita, calculados a partir das linhas de ingredientes e gravados
+ * pelo RecalculoNutricional; as consultas só leem esta linha.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "nutricao_receita")
+@AllArgsConstructor
+@NoArgsConstructor
+public class NutricaoReceita {
+
+    // Sem chave estrangeira: a linha é removida pelo RecalculoNutricional quando a receita é excluída
+    @Id
+    private Long receitaId;
+
+    @Embedded
+    private ValoresNutricionais total;
+
+    private int porcoes;
+
+    // Linhas sem quantidade numérica ou com unidade que não dá para converter em gramas
+    private int linhasNaoConvertidas;
+
+    private int ingredientesSemNutricao;
+
+    private Instant calculadaEm;
+}
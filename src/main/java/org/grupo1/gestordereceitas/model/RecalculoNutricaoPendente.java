@@ -0,0 +1,31 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Ingrediente cuja informação nutricional mudou e cujas receitas ainda precisam ser recalculadas.
+ * Gravado na transação da alteração e apagado só depois do recálculo: uma queda no meio do
+ * caminho faz o trabalho ser repetido, nunca perdido.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "recalculo_nutricao_pendente")
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecalculoNutricaoPendente {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long ingredienteId;
+
+    private Instant criadoEm;
+}
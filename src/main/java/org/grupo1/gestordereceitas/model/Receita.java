@@ -6,6 +6,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.grupo1.gestordereceitas.compressao.DescricaoConverter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,7 +19,7 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "receita")
+@Table(name = "receita", indexes = @Index(name = "idx_receita_impressao_digital", columnList = "impressao_digital"))
 @AllArgsConstructor
 @NoArgsConstructor
 public class Receita {
@@ -25,12 +31,48 @@ public class Receita {
     @NotBlank
     private String nome;
 
+    // Gravada comprimida com o dicionário compartilhado (ver CompressorDescricao)
+    @Convert(converter = DescricaoConverter.class)
+    @Column(length = 65535)
     private String descricao;
     private int tempoDePreparo;
 
+    // Rendimento usado nos valores nutricionais por porção; nulo vale como uma porção
+    private Integer porcoes;
+
+    // Carregada por select separado (e não por join) para ser resolvida pelo cache de segundo nível
     @ManyToOne(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SELECT)
     private Categoria categoria;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "receita", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReceitaIngrediente> receitaIngredientes = new ArrayList<>();
+
+    // Cópia compacta do nome da categoria e das linhas de ingredientes (ver ReceitaSnapshotMapper),
+    // mantida pelos services para que a leitura por ID no banco seja uma única linha desta tabela
+    // (usada enquanto o modelo de leitura em memória não está disponível)
+    @Column(name = "snapshot_ingredientes", length = 65535)
+    private byte[] snapshot;
+
+    // SHA-256 do conteúdo normalizado (ver ImpressaoDigitalReceita), calculado pelos services a
+    // cada escrita; indexado para achar uma receita idêntica sem varrer a tabela
+    @Column(name = "impressao_digital", length = 64)
+    private String impressaoDigital;
+
+    // Agregados das avaliações, alterados só pelo AvaliacaoService com updates relativos
+    // (ver ReceitaRepository#somarAvaliacoes): salvar a receita nunca grava um valor lido antes
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private long somaNotas;
+
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private long quantidadeAvaliacoes;
+
+    // O snapshot e a impressão digital são calculados pelos services a partir dos demais campos
+    public Receita(Long id, String nome, String descricao, int tempoDePreparo,
+                   Categoria categoria, List<ReceitaIngrediente> receitaIngredientes) {
+        this(id, nome, descricao, tempoDePreparo, null, categoria, receitaIngredientes, null, null, 0, 0);
+    }
 }
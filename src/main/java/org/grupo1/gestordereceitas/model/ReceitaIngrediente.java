@@ -5,10 +5,16 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "receita_ingrediente")
 @AllArgsConstructor
 @NoArgsConstructor
@@ -22,7 +28,9 @@ public class ReceitaIngrediente {
     @JoinColumn(name = "receita_id")
     private Receita receita;
 
+    // Carregado por select separado para ser resolvido pelo cache de segundo nível
     @ManyToOne
+    @Fetch(FetchMode.SELECT)
     @JoinColumn(name = "ingrediente_id")
     private Ingrediente ingrediente;
 
@@ -0,0 +1,36 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Aresta curada do grafo de substituições: {@code substituto} pode ser usado no lugar de
+ * {@code ingrediente}, com um peso entre 0 (substituição ruim) e 1 (equivalente). A relação não
+ * é simétrica; a volta, quando fizer sentido, é outra aresta.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "substituicao",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"ingrediente_id", "substituto_id"}))
+@AllArgsConstructor
+@NoArgsConstructor
+public class Substituicao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "ingrediente_id")
+    private Ingrediente ingrediente;
+
+    @ManyToOne
+    @JoinColumn(name = "substituto_id")
+    private Ingrediente substituto;
+
+    private double peso;
+}
@@ -0,0 +1,11 @@
+package org.grupo1.gestordereceitas.model;
+
+// Entidade do catálogo cuja alteração foi registrada no log de invalidação
+public enum TipoInvalidacao {
+    RECEITA,
+    CATEGORIA,
+    INGREDIENTE,
+    SUBSTITUICAO,
+    BUSCA_SALVA,
+    AVALIACAO
+}
@@ -0,0 +1,42 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Energia (kcal), macronutrientes e fibras (g) e sódio (mg) de uma porção de alimento: 100 g ou
+ * 100 ml no cadastro do ingrediente, a receita inteira no total calculado.
+ */
+@Getter
+@Setter
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor
+public class ValoresNutricionais {
+
+    private double calorias;
+    private double proteinas;
+    private double carboidratos;
+    private double gorduras;
+    private double fibras;
+    private double sodio;
+
+    // Soma a contribuição de uma quantidade em gramas de um ingrediente com estes valores por 100 g
+    public void somar(ValoresNutricionais porCemGramas, double gramas) {
+        double fator = gramas / 100;
+        calorias += porCemGramas.calorias * fator;
+        proteinas += porCemGramas.proteinas * fator;
+        carboidratos += porCemGramas.carboidratos * fator;
+        gorduras += porCemGramas.gorduras * fator;
+        fibras += porCemGramas.fibras * fator;
+        sodio += porCemGramas.sodio * fator;
+    }
+
+    public ValoresNutricionais dividir(int partes) {
+        return new ValoresNutricionais(calorias / partes, proteinas / partes, carboidratos / partes,
+                gorduras / partes, fibras / partes, sodio / partes);
+    }
+}
@@ -0,0 +1,30 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Versão do catálogo (receitas, categorias e ingredientes), em uma única linha.
+ * <p>
+ * A versão conta as alterações; o marcador é sorteado a cada alteração e identifica o estado
+ * do catálogo mesmo quando o banco é recriado e a contagem recomeça. O estado da carga inicial
+ * (data.sql) tem marcador fixo, já que ela produz sempre os mesmos dados.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "versao_catalogo")
+@AllArgsConstructor
+@NoArgsConstructor
+public class VersaoCatalogo {
+
+    @Id
+    private Long id;
+
+    private String marcador;
+
+    private Long versao;
+}
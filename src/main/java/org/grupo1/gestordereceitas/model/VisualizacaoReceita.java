@@ -0,0 +1,31 @@
+package org.grupo1.gestordereceitas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Contagem de visualizações de uma receita, acumulada em lotes pelo ContadorVisualizacoes.
+ * A pontuação "em alta" decai exponencialmente: {@code pontuacao} é o valor no instante
+ * {@code referenciaMs} (epoch em milissegundos) e é trazida para o presente a cada soma.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "visualizacao_receita")
+@AllArgsConstructor
+@NoArgsConstructor
+public class VisualizacaoReceita {
+
+    // Sem chave estrangeira: a linha é removida junto com a receita pelo contador
+    @Id
+    private Long receitaId;
+
+    private long total;
+
+    private double pontuacao;
+
+    private long referenciaMs;
+}
@@ -0,0 +1,40 @@
+package org.grupo1.gestordereceitas.nutricao;
+
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.model.NutricaoIngrediente;
+import org.grupo1.gestordereceitas.model.ValoresNutricionais;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+/** Soma a contribuição de cada linha de ingrediente de uma receita. */
+public final class CalculadoraNutricional {
+
+    private CalculadoraNutricional() {
+    }
+
+    public static ResultadoNutricional calcular(List<LinhaIngredienteReceita> linhas,
+                                                Map<Long, NutricaoIngrediente> nutricaoPorIngrediente) {
+        ValoresNutricionais total = new ValoresNutricionais();
+        int naoConvertidas = 0;
+        Set<Long> semNutricao = new HashSet<>();
+        for (LinhaIngredienteReceita linha : linhas) {
+            NutricaoIngrediente nutricao = nutricaoPorIngrediente.get(linha.ingredienteId());
+            if (nutricao == null) {
+                semNutricao.add(linha.ingredienteId());
+                continue;
+            }
+            OptionalDouble gramas = ConversorUnidades.gramas(linha.quantidade(), linha.unidadeMedida(),
+                    nutricao.getGramasPorUnidade());
+            if (gramas.isEmpty()) {
+                naoConvertidas++;
+                continue;
+            }
+            total.somar(nutricao.getPorCemGramas(), gramas.getAsDouble());
+        }
+        return new ResultadoNutricional(total, naoConvertidas, semNutricao.size());
+    }
+}
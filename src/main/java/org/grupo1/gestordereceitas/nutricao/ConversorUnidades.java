@@ -0,0 +1,110 @@
+package org.grupo1.gestordereceitas.nutricao;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Converte a quantidade e a unidade livres de uma linha de ingrediente ("1/2", "colher(es) de
+ * sopa") em gramas. Medidas de volume usam densidade 1 (1 ml = 1 g), o que basta para o valor
+ * aproximado que a receita mostra. Qualquer unidade que não seja peso nem volume conhecido
+ * ("unidade", "caixa", "dentes", "pé") é tratada como contagem do próprio ingrediente e usa o peso
+ * por unidade cadastrado nele.
+ */
+public final class ConversorUnidades {
+
+    // Testadas na ordem: "colher de sopa" antes de "colher"
+    private static final Map<String, Double> GRAMAS_POR_MEDIDA = new LinkedHashMap<>();
+
+    static {
+        GRAMAS_POR_MEDIDA.put("miligrama", 0.001);
+        GRAMAS_POR_MEDIDA.put("mg", 0.001);
+        GRAMAS_POR_MEDIDA.put("quilograma", 1000.0);
+        GRAMAS_POR_MEDIDA.put("quilo", 1000.0);
+        GRAMAS_POR_MEDIDA.put("kg", 1000.0);
+        GRAMAS_POR_MEDIDA.put("grama", 1.0);
+        GRAMAS_POR_MEDIDA.put("g", 1.0);
+        GRAMAS_POR_MEDIDA.put("mililitro", 1.0);
+        GRAMAS_POR_MEDIDA.put("ml", 1.0);
+        GRAMAS_POR_MEDIDA.put("litro", 1000.0);
+        GRAMAS_POR_MEDIDA.put("l", 1000.0);
+        GRAMAS_POR_MEDIDA.put("xicara", 240.0);
+        GRAMAS_POR_MEDIDA.put("copo", 200.0);
+        GRAMAS_POR_MEDIDA.put("colher de sopa", 15.0);
+        GRAMAS_POR_MEDIDA.put("colher de sobremesa", 10.0);
+        GRAMAS_POR_MEDIDA.put("colher de cha", 5.0);
+        GRAMAS_POR_MEDIDA.put("colher de cafe", 2.5);
+    }
+
+    private ConversorUnidades() {
+    }
+
+    /** Gramas da linha, ou vazio quando a quantidade não é numérica ou a unidade não é conversível. */
+    public static OptionalDouble gramas(String quantidade, String unidadeMedida, Double gramasPorUnidade) {
+        OptionalDouble numero = quantidade(quantidade);
+        if (numero.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        Double porMedida = gramasPorMedida(unidadeMedida);
+        if (porMedida != null) {
+            return OptionalDouble.of(numero.getAsDouble() * porMedida);
+        }
+        if (gramasPorUnidade != null) {
+            return OptionalDouble.of(numero.getAsDouble() * gramasPorUnidade);
+        }
+        return OptionalDouble.empty();
+    }
+
+    // "2", "0,5", "2.5", "1/2" e "1 1/2"; "a gosto" e afins ficam vazios
+    static OptionalDouble quantidade(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return OptionalDouble.empty();
+        }
+        double total = 0;
+        for (String parte : texto.trim().split("\\s+")) {
+            try {
+                int barra = parte.indexOf('/');
+                if (barra >= 0) {
+                    double denominador = Double.parseDouble(parte.substring(barra + 1));
+                    if (denominador == 0) {
+                        return OptionalDouble.empty();
+                    }
+                    total += Double.parseDouble(parte.substring(0, barra)) / denominador;
+                } else {
+                    total += Double.parseDouble(parte.replace(',', '.'));
+                }
+            } catch (NumberFormatException e) {
+                return OptionalDouble.empty();
+            }
+        }
+        return total > 0 ? OptionalDouble.of(total) : OptionalDouble.empty();
+    }
+
+    // null quando a unidade não é peso nem volume: a linha conta unidades do ingrediente
+    static Double gramasPorMedida(String unidadeMedida) {
+        if (unidadeMedida == null) {
+            return null;
+        }
+        String unidade = normalizar(unidadeMedida);
+        for (Map.Entry<String, Double> medida : GRAMAS_POR_MEDIDA.entrySet()) {
+            String nome = medida.getKey();
+            if (unidade.equals(nome) || unidade.equals(nome + "s")
+                    || unidade.startsWith(nome + " ") || unidade.startsWith(nome + "s ")) {
+                return medida.getValue();
+            }
+        }
+        return null;
+    }
+
+    // "Colher(es) de Chá" -> "colher de cha"; "xícaras (chá)" -> "xicaras cha"
+    private static String normalizar(String texto) {
+        String semAcentos = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return semAcentos.toLowerCase()
+                .replaceAll("\\((e?s|res)\\)", "")
+                .replace("colheres", "colher")
+                .replaceAll("[()]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+}
@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.nutricao;
+
+// Rendimento de uma receita, lido junto com as linhas no recálculo
+public record PorcoesReceita(Long receitaId, Integer porcoes) {
+}
@@ -0,0 +1,179 @@
+package org.grupo1.gestordereceitas.nutricao;
+
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.model.NutricaoIngrediente;
+import org.grupo1.gestordereceitas.model.NutricaoReceita;
+import org.grupo1.gestordereceitas.model.RecalculoNutricaoPendente;
+import org.grupo1.gestordereceitas.repository.NutricaoIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.NutricaoReceitaRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.grupo1.gestordereceitas.repository.RecalculoNutricaoPendenteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Mantém os totais nutricionais gravados em {@code nutricao_receita}.
+ * <p>
+ * A receita alterada é recalculada na própria transação da escrita: são poucas linhas. Já a
+ * alteração da informação nutricional de um ingrediente pode atingir muitas receitas; ela só grava
+ * um {@link RecalculoNutricaoPendente}, e este componente, em segundo plano, expande os pendentes
+ * nas receitas que usam cada ingrediente e as recalcula em lotes, cada lote na própria transação.
+ * Os pendentes só são apagados depois dos lotes, então uma queda faz o trabalho ser repetido.
+ * <p>
+ * Recalcular é idempotente: duas instâncias processando o mesmo pendente gravam o mesmo total.
+ */
+@Component
+public class RecalculoNutricional {
+
+    private static final Logger log = LoggerFactory.getLogger(RecalculoNutricional.class);
+
+    static final int TAMANHO_LOTE = 100;
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+    private final NutricaoIngredienteRepository nutricaoIngredienteRepository;
+    private final NutricaoReceitaRepository nutricaoReceitaRepository;
+    private final RecalculoNutricaoPendenteRepository pendenteRepository;
+    private final TransactionTemplate transacao;
+
+    private volatile boolean completarReceitasSemNutricao;
+
+    public RecalculoNutricional(ReceitaRepository receitaRepository,
+                                ReceitaIngredienteRepository receitaIngredienteRepository,
+                                NutricaoIngredienteRepository nutricaoIngredienteRepository,
+                                NutricaoReceitaRepository nutricaoReceitaRepository,
+                                RecalculoNutricaoPendenteRepository pendenteRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+        this.nutricaoIngredienteRepository = nutricaoIngredienteRepository;
+        this.nutricaoReceitaRepository = nutricaoReceitaRepository;
+        this.pendenteRepository = pendenteRepository;
+        this.transacao = new TransactionTemplate(transactionManager);
+    }
+
+    // Roda de forma síncrona, dentro da transação que alterou a receita; a instância que escreveu já
+    // gravou os totais
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        recalcular(List.of(event.receitaId()));
+    }
+
+    // Na transação de quem alterou o ingrediente
+    @Transactional
+    public void agendar(Long ingredienteId) {
+        pendenteRepository.save(new RecalculoNutricaoPendente(null, ingredienteId, Instant.now()));
+    }
+
+    /** Calcula sem gravar: usado enquanto a receita ainda não tem totais. */
+    @Transactional(readOnly = true)
+    public ResultadoNutricional calcular(Long receitaId) {
+        List<LinhaIngredienteReceita> linhas = receitaIngredienteRepository.findLinhasLeituraByReceitaId(receitaId);
+        return CalculadoraNutricional.calcular(linhas, nutricaoDosIngredientes(linhas));
+    }
+
+    // Depois da carga do catálogo: receitas vindas do data.sql ou de uma cópia ainda não têm totais
+    @EventListener(ApplicationReadyEvent.class)
+    public void completarDepoisDaCarga() {
+        completarReceitasSemNutricao = true;
+    }
+
+    @Scheduled(fixedDelayString = "${gestor.nutricao.intervalo-recalculo-ms:1000}")
+    public synchronized void processarPendentes() {
+        if (completarReceitasSemNutricao) {
+            completarReceitasSemNutricao = false;
+            List<Long> semNutricao = nutricaoReceitaRepository.findReceitaIdsSemNutricao();
+            recalcularEmLotes(semNutricao);
+            if (!semNutricao.isEmpty()) {
+                log.info("Totais nutricionais calculados para {} receitas sem valores gravados", semNutricao.size());
+            }
+        }
+
+        List<RecalculoNutricaoPendente> pendentes = pendenteRepository.findTop100ByOrderByIdAsc();
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        Set<Long> ingredientes = new HashSet<>();
+        for (RecalculoNutricaoPendente pendente : pendentes) {
+            ingredientes.add(pendente.getIngredienteId());
+        }
+        List<Long> receitas = receitaIngredienteRepository.findReceitaIdsByIngredienteIdIn(ingredientes);
+        recalcularEmLotes(receitas);
+        transacao.executeWithoutResult(status -> pendenteRepository.deleteAllInBatch(pendentes));
+        log.debug("{} receitas recalculadas para {} ingredientes alterados em {} ms", receitas.size(),
+                ingredientes.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private void recalcularEmLotes(List<Long> receitaIds) {
+        for (int i = 0; i < receitaIds.size(); i += TAMANHO_LOTE) {
+            List<Long> lote = receitaIds.subList(i, Math.min(i + TAMANHO_LOTE, receitaIds.size()));
+            transacao.executeWithoutResult(status -> recalcular(lote));
+        }
+    }
+
+    // Chamado dentro de uma transação; receitas que não existem mais perdem os totais
+    void recalcular(Collection<Long> receitaIds) {
+        Map<Long, Integer> porcoes = new HashMap<>();
+        for (PorcoesReceita receita : receitaRepository.findPorcoesByIdIn(receitaIds)) {
+            porcoes.put(receita.receitaId(), receita.porcoes() == null ? 1 : receita.porcoes());
+        }
+        Map<Long, List<LinhaIngredienteReceita>> linhasPorReceita = new HashMap<>();
+        List<LinhaIngredienteReceita> linhas = porcoes.isEmpty() ? List.of()
+                : receitaIngredienteRepository.findLinhasLeituraByReceitaIdIn(porcoes.keySet());
+        for (LinhaIngredienteReceita linha : linhas) {
+            linhasPorReceita.computeIfAbsent(linha.receitaId(), id -> new ArrayList<>()).add(linha);
+        }
+        Map<Long, NutricaoIngrediente> nutricao = nutricaoDosIngredientes(linhas);
+
+        Instant agora = Instant.now();
+        List<NutricaoReceita> calculadas = new ArrayList<>(porcoes.size());
+        for (Map.Entry<Long, Integer> receita : porcoes.entrySet()) {
+            ResultadoNutricional resultado = CalculadoraNutricional.calcular(
+                    linhasPorReceita.getOrDefault(receita.getKey(), List.of()), nutricao);
+            calculadas.add(new NutricaoReceita(receita.getKey(), resultado.total(), receita.getValue(),
+                    resultado.linhasNaoConvertidas(), resultado.ingredientesSemNutricao(), agora));
+        }
+        if (!calculadas.isEmpty()) {
+            nutricaoReceitaRepository.saveAll(calculadas);
+        }
+
+        Set<Long> excluidas = new TreeSet<>(receitaIds);
+        excluidas.removeAll(porcoes.keySet());
+        if (!excluidas.isEmpty()) {
+            nutricaoReceitaRepository.deleteAllByIdInBatch(excluidas);
+        }
+    }
+
+    private Map<Long, NutricaoIngrediente> nutricaoDosIngredientes(List<LinhaIngredienteReceita> linhas) {
+        Set<Long> ingredientes = new HashSet<>();
+        for (LinhaIngredienteReceita linha : linhas) {
+            ingredientes.add(linha.ingredienteId());
+        }
+        Map<Long, NutricaoIngrediente> nutricao = new HashMap<>();
+        for (NutricaoIngrediente item : nutricaoIngredienteRepository.findAllById(ingredientes)) {
+            nutricao.put(item.getIngredienteId(), item);
+        }
+        return nutricao;
+    }
+}
@@ -0,0 +1,6 @@
+package org.grupo1.gestordereceitas.nutricao;
+
+import org.grupo1.gestordereceitas.model.ValoresNutricionais;
+
+public record ResultadoNutricional(ValoresNutricionais total, int linhasNaoConvertidas, int ingredientesSemNutricao) {
+}
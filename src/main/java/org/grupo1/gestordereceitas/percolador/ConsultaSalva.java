@@ -0,0 +1,63 @@
+package org.grupo1.gestordereceitas.percolador;
+
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.model.BuscaSalva;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Forma compacta de uma busca salva, como indexada pelo {@link PercoladorBuscas}: faixa de tempo
+ * fechada (sem limite vira 0 e {@link Integer#MAX_VALUE}) e ingredientes exigidos ordenados.
+ */
+public record ConsultaSalva(long id, String usuario, Long categoriaId, int tempoMinimo, int tempoMaximo,
+                            long[] ingredienteIds) {
+
+    public static ConsultaSalva de(BuscaSalva busca, Collection<Long> ingredienteIds) {
+        return new ConsultaSalva(busca.getId(), busca.getUsuario(), busca.getCategoriaId(),
+                busca.getTempoMinimo() != null ? busca.getTempoMinimo() : 0,
+                busca.getTempoMaximo() != null ? busca.getTempoMaximo() : Integer.MAX_VALUE,
+                ingredienteIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray());
+    }
+
+    public boolean corresponde(ContribuicaoReceita receita) {
+        if (receita == null) {
+            return false;
+        }
+        if (categoriaId != null && !categoriaId.equals(receita.categoriaId())) {
+            return false;
+        }
+        if (receita.tempoDePreparo() < tempoMinimo || receita.tempoDePreparo() > tempoMaximo) {
+            return false;
+        }
+        // Os dois arrays estão ordenados
+        long[] daReceita = receita.ingredienteIds();
+        int j = 0;
+        for (long exigido : ingredienteIds) {
+            while (j < daReceita.length && daReceita[j] < exigido) {
+                j++;
+            }
+            if (j == daReceita.length || daReceita[j] != exigido) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ConsultaSalva outra
+                && id == outra.id
+                && tempoMinimo == outra.tempoMinimo
+                && tempoMaximo == outra.tempoMaximo
+                && Objects.equals(usuario, outra.usuario)
+                && Objects.equals(categoriaId, outra.categoriaId)
+                && Arrays.equals(ingredienteIds, outra.ingredienteIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(id, usuario, categoriaId, tempoMinimo, tempoMaximo) + Arrays.hashCode(ingredienteIds);
+    }
+}
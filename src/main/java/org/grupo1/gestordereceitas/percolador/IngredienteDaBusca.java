@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.percolador;
+
+// Par busca salva/ingrediente exigido, lido de uma vez na montagem do percolador
+public record IngredienteDaBusca(Long buscaSalvaId, Long ingredienteId) {
+}
@@ -0,0 +1,230 @@
+package org.grupo1.gestordereceitas.percolador;
+
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.event.BuscaSalvaAlteradaEvent;
+import org.grupo1.gestordereceitas.model.BuscaSalva;
+import org.grupo1.gestordereceitas.repository.BuscaSalvaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido das buscas salvas (percolação): em vez de rodar todas as buscas a cada escrita,
+ * cada busca é indexada por um único critério, e a receita escrita só é comparada com as buscas
+ * das listas que ela pode atender.
+ * <p>
+ * Uma busca com ingredientes fica na lista do ingrediente exigido com menos buscas no momento da
+ * inclusão (toda receita que a atende contém esse ingrediente); sem ingredientes, na lista da
+ * categoria; sem categoria, nas faixas de tempo que a sua faixa cobre; sem nenhum critério, na
+ * lista das que atendem qualquer receita. Como cada busca está em uma só lista por receita, as
+ * candidatas não se repetem.
+ * <p>
+ * Montado na subida e atualizado após o commit de cada alteração em buscas salvas. Escritores são
+ * serializados pelo lock do objeto; a percolação usa o lock de leitura.
+ */
+@Component
+public class PercoladorBuscas {
+
+    private static final Logger log = LoggerFactory.getLogger(PercoladorBuscas.class);
+
+    static final int LARGURA_FAIXA_TEMPO = 5;
+    static final int FAIXAS_TEMPO = 72; // a última faixa acumula tudo a partir de 6 horas
+
+    private final BuscaSalvaRepository buscaSalvaRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, ConsultaSalva> consultas = new HashMap<>();
+    private final Map<Long, List<ConsultaSalva>> porIngrediente = new HashMap<>();
+    private final Map<Long, List<ConsultaSalva>> porCategoria = new HashMap<>();
+    private final List<List<ConsultaSalva>> porFaixaTempo = new ArrayList<>(FAIXAS_TEMPO);
+    private final List<ConsultaSalva> semCriterio = new ArrayList<>();
+    // Ingrediente em cuja lista cada busca foi indexada
+    private final Map<Long, Long> ingredienteIndexado = new HashMap<>();
+
+    private final LongAdder percolacoes = new LongAdder();
+    private final LongAdder candidatasAvaliadas = new LongAdder();
+
+    public PercoladorBuscas(BuscaSalvaRepository buscaSalvaRepository) {
+        this.buscaSalvaRepository = buscaSalvaRepository;
+        for (int i = 0; i < FAIXAS_TEMPO; i++) {
+            porFaixaTempo.add(new ArrayList<>());
+        }
+    }
+
+    // --- Consulta ---
+
+    /**
+     * Buscas que a receita passou a atender com a escrita: atendidas por {@code nova} e não por
+     * {@code anterior} ({@code null} para receita nova). Exclusões ({@code nova} nula) não avisam.
+     */
+    public List<ConsultaSalva> percolar(ContribuicaoReceita anterior, ContribuicaoReceita nova) {
+        if (nova == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<ConsultaSalva> atendidas = new ArrayList<>();
+            int[] avaliadas = {0};
+            for (long ingredienteId : nova.ingredienteIds()) {
+                avaliar(porIngrediente.get(ingredienteId), anterior, nova, atendidas, avaliadas);
+            }
+            if (nova.categoriaId() != null) {
+                avaliar(porCategoria.get(nova.categoriaId()), anterior, nova, atendidas, avaliadas);
+            }
+            avaliar(porFaixaTempo.get(faixa(nova.tempoDePreparo())), anterior, nova, atendidas, avaliadas);
+            avaliar(semCriterio, anterior, nova, atendidas, avaliadas);
+            percolacoes.increment();
+            candidatasAvaliadas.add(avaliadas[0]);
+            return atendidas;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void avaliar(List<ConsultaSalva> candidatas, ContribuicaoReceita anterior, ContribuicaoReceita nova,
+                                List<ConsultaSalva> atendidas, int[] avaliadas) {
+        if (candidatas == null) {
+            return;
+        }
+        avaliadas[0] += candidatas.size();
+        for (ConsultaSalva consulta : candidatas) {
+            if (consulta.corresponde(nova) && !consulta.corresponde(anterior)) {
+                atendidas.add(consulta);
+            }
+        }
+    }
+
+    public Situacao situacao() {
+        lock.readLock().lock();
+        try {
+            return new Situacao(consultas.size(), percolacoes.sum(), candidatasAvaliadas.sum());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Buscas indexadas e, desde a subida, quantas escritas foram percoladas e quantas buscas foram comparadas. */
+    public record Situacao(int buscas, long percolacoes, long candidatasAvaliadas) {
+    }
+
+    // --- Montagem e atualização (escritores) ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        Map<Long, List<Long>> ingredientes = new HashMap<>();
+        for (IngredienteDaBusca linha : buscaSalvaRepository.findIngredientesDasBuscas()) {
+            ingredientes.computeIfAbsent(linha.buscaSalvaId(), id -> new ArrayList<>()).add(linha.ingredienteId());
+        }
+        List<ConsultaSalva> lidas = new ArrayList<>();
+        for (BuscaSalva busca : buscaSalvaRepository.findAll()) {
+            lidas.add(ConsultaSalva.de(busca, ingredientes.getOrDefault(busca.getId(), List.of())));
+        }
+        lock.writeLock().lock();
+        try {
+            consultas.clear();
+            porIngrediente.clear();
+            porCategoria.clear();
+            for (List<ConsultaSalva> faixa : porFaixaTempo) {
+                faixa.clear();
+            }
+            semCriterio.clear();
+            ingredienteIndexado.clear();
+            lidas.forEach(this::indexar);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Percolador de buscas salvas montado: {} buscas em {} ms",
+                lidas.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onBuscaSalvaAlterada(BuscaSalvaAlteradaEvent event) {
+        ConsultaSalva consulta = buscaSalvaRepository.findById(event.buscaSalvaId())
+                .map(busca -> ConsultaSalva.de(busca, busca.getIngredienteIds()))
+                .orElse(null);
+        atualizar(event.buscaSalvaId(), consulta);
+    }
+
+    void atualizar(Long buscaSalvaId, ConsultaSalva consulta) {
+        lock.writeLock().lock();
+        try {
+            desindexar(buscaSalvaId);
+            if (consulta != null) {
+                indexar(consulta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Chamados com o lock de escrita
+    private void indexar(ConsultaSalva consulta) {
+        consultas.put(consulta.id(), consulta);
+        if (consulta.ingredienteIds().length > 0) {
+            long escolhido = consulta.ingredienteIds()[0];
+            int menor = Integer.MAX_VALUE;
+            for (long ingredienteId : consulta.ingredienteIds()) {
+                List<ConsultaSalva> lista = porIngrediente.get(ingredienteId);
+                int tamanho = lista == null ? 0 : lista.size();
+                if (tamanho < menor) {
+                    menor = tamanho;
+                    escolhido = ingredienteId;
+                }
+            }
+            porIngrediente.computeIfAbsent(escolhido, id -> new ArrayList<>()).add(consulta);
+            ingredienteIndexado.put(consulta.id(), escolhido);
+        } else if (consulta.categoriaId() != null) {
+            porCategoria.computeIfAbsent(consulta.categoriaId(), id -> new ArrayList<>()).add(consulta);
+        } else if (consulta.tempoMinimo() > 0 || consulta.tempoMaximo() < Integer.MAX_VALUE) {
+            for (int f = faixa(consulta.tempoMinimo()); f <= faixa(consulta.tempoMaximo()); f++) {
+                porFaixaTempo.get(f).add(consulta);
+            }
+        } else {
+            semCriterio.add(consulta);
+        }
+    }
+
+    private void desindexar(Long buscaSalvaId) {
+        ConsultaSalva consulta = consultas.remove(buscaSalvaId);
+        if (consulta == null) {
+            return;
+        }
+        Long ingredienteId = ingredienteIndexado.remove(buscaSalvaId);
+        if (ingredienteId != null) {
+            removerDaLista(porIngrediente, ingredienteId, consulta);
+        } else if (consulta.categoriaId() != null) {
+            removerDaLista(porCategoria, consulta.categoriaId(), consulta);
+        } else if (consulta.tempoMinimo() > 0 || consulta.tempoMaximo() < Integer.MAX_VALUE) {
+            for (int f = faixa(consulta.tempoMinimo()); f <= faixa(consulta.tempoMaximo()); f++) {
+                porFaixaTempo.get(f).remove(consulta);
+            }
+        } else {
+            semCriterio.remove(consulta);
+        }
+    }
+
+    private static void removerDaLista(Map<Long, List<ConsultaSalva>> indice, Long chave, ConsultaSalva consulta) {
+        List<ConsultaSalva> lista = indice.get(chave);
+        lista.remove(consulta);
+        if (lista.isEmpty()) {
+            indice.remove(chave);
+        }
+    }
+
+    static int faixa(int tempo) {
+        return Math.min(Math.max(tempo, 0) / LARGURA_FAIXA_TEMPO, FAIXAS_TEMPO - 1);
+    }
+}
@@ -0,0 +1,173 @@
+package org.grupo1.gestordereceitas.planos;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Estado de uma busca local sobre um {@link ProblemaPlano}, usado por uma única tarefa: um plano
+ * parcial ou completo com os contadores que tornam incremental o custo de trocar a receita de um
+ * dia (uso de cada ingrediente, dias de cada cota, violações, compras e tempo total).
+ */
+final class BuscaLocal {
+
+    // Acima disso cada troca avalia uma amostra aleatória em vez de todas as receitas
+    private static final int VARREDURA_COMPLETA = 512;
+    private static final int AMOSTRA = 256;
+
+    private final ProblemaPlano problema;
+    private final SplittableRandom aleatorio;
+
+    private final int[] plano;
+    private final boolean[] usada;
+    private final int[] uso;
+    private final int[] diasPorCota;
+    private int violacoes;
+    private int compras;
+    private long tempoTotal;
+    private long avaliadas;
+
+    BuscaLocal(ProblemaPlano problema, SplittableRandom aleatorio) {
+        this.problema = problema;
+        this.aleatorio = aleatorio;
+        this.plano = new int[problema.dias];
+        this.usada = new boolean[problema.receitas()];
+        this.uso = new int[problema.ingredienteIds.length];
+        this.diasPorCota = new int[problema.minimoPorCota.length];
+    }
+
+    /** Monta um plano do zero: o primeiro dia é sorteado e cada dia seguinte é o mais barato. */
+    void construir() {
+        limpar();
+        adicionar(0, aleatorio.nextInt(problema.receitas()));
+        for (int dia = 1; dia < problema.dias; dia++) {
+            int melhor = -1;
+            long custoMelhor = Long.MAX_VALUE;
+            int inicio = aleatorio.nextInt(problema.receitas());
+            for (int k = 0; k < problema.receitas(); k++) {
+                int receita = (inicio + k) % problema.receitas();
+                if (usada[receita]) {
+                    continue;
+                }
+                long custo = custoSeAdicionar(receita);
+                avaliadas++;
+                if (custo < custoMelhor) {
+                    melhor = receita;
+                    custoMelhor = custo;
+                }
+            }
+            adicionar(dia, melhor);
+        }
+    }
+
+    /** Parte de um plano conhecido, trocando {@code trocas} dias por receitas sorteadas. */
+    void partirDe(int[] receitas, int trocas) {
+        limpar();
+        for (int dia = 0; dia < receitas.length; dia++) {
+            adicionar(dia, receitas[dia]);
+        }
+        for (int t = 0; t < trocas; t++) {
+            int dia = aleatorio.nextInt(problema.dias);
+            int nova = aleatorio.nextInt(problema.receitas());
+            if (!usada[nova]) {
+                remover(plano[dia]);
+                adicionar(dia, nova);
+            }
+        }
+    }
+
+    /**
+     * Troca a receita de um dia pela que mais reduz o custo, dia a dia, até nenhuma troca melhorar
+     * o plano ou o prazo passar.
+     */
+    void melhorar(long prazoNanos) {
+        boolean melhorou = true;
+        while (melhorou && System.nanoTime() < prazoNanos) {
+            melhorou = false;
+            int primeiroDia = aleatorio.nextInt(problema.dias);
+            for (int d = 0; d < problema.dias; d++) {
+                int dia = (primeiroDia + d) % problema.dias;
+                int atual = plano[dia];
+                remover(atual);
+                int melhor = atual;
+                long custoMelhor = custoSeAdicionar(atual);
+                boolean completa = problema.receitas() <= VARREDURA_COMPLETA;
+                int tentativas = completa ? problema.receitas() : AMOSTRA;
+                int inicio = aleatorio.nextInt(problema.receitas());
+                for (int k = 0; k < tentativas; k++) {
+                    int receita = completa ? (inicio + k) % problema.receitas() : aleatorio.nextInt(problema.receitas());
+                    if (usada[receita] || receita == atual) {
+                        continue;
+                    }
+                    long custo = custoSeAdicionar(receita);
+                    avaliadas++;
+                    if (custo < custoMelhor) {
+                        melhor = receita;
+                        custoMelhor = custo;
+                    }
+                }
+                adicionar(dia, melhor);
+                melhorou |= melhor != atual;
+            }
+        }
+    }
+
+    SolucaoPlano solucao() {
+        return new SolucaoPlano(plano.clone(), violacoes, compras, tempoTotal);
+    }
+
+    long avaliadas() {
+        return avaliadas;
+    }
+
+    // Custo do plano atual com a receita somada, sem alterá-lo
+    private long custoSeAdicionar(int receita) {
+        int novas = 0;
+        for (int ingrediente : problema.ingredientes[receita]) {
+            if (uso[ingrediente] == 0) {
+                novas++;
+            }
+        }
+        int cota = problema.cota[receita];
+        int violacoesDepois = cota != ProblemaPlano.SEM_CATEGORIA && diasPorCota[cota] < problema.minimoPorCota[cota]
+                ? violacoes - 1 : violacoes;
+        return SolucaoPlano.custo(violacoesDepois, compras + novas, tempoTotal + problema.tempo[receita]);
+    }
+
+    private void adicionar(int dia, int receita) {
+        plano[dia] = receita;
+        usada[receita] = true;
+        for (int ingrediente : problema.ingredientes[receita]) {
+            if (uso[ingrediente]++ == 0) {
+                compras++;
+            }
+        }
+        int cota = problema.cota[receita];
+        if (cota != ProblemaPlano.SEM_CATEGORIA && diasPorCota[cota]++ < problema.minimoPorCota[cota]) {
+            violacoes--;
+        }
+        tempoTotal += problema.tempo[receita];
+    }
+
+    private void remover(int receita) {
+        usada[receita] = false;
+        for (int ingrediente : problema.ingredientes[receita]) {
+            if (--uso[ingrediente] == 0) {
+                compras--;
+            }
+        }
+        int cota = problema.cota[receita];
+        if (cota != ProblemaPlano.SEM_CATEGORIA && --diasPorCota[cota] < problema.minimoPorCota[cota]) {
+            violacoes++;
+        }
+        tempoTotal -= problema.tempo[receita];
+    }
+
+    private void limpar() {
+        Arrays.fill(usada, false);
+        Arrays.fill(uso, 0);
+        Arrays.fill(diasPorCota, 0);
+        violacoes = Arrays.stream(problema.minimoPorCota).sum();
+        compras = 0;
+        tempoTotal = 0;
+    }
+}
@@ -0,0 +1,79 @@
+package org.grupo1.gestordereceitas.planos;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Busca heurística de planos em paralelo, em um pool de fork/join próprio: a busca é dividida em
+ * rodadas curtas e cada rodada ocupa todas as threads do pool com buscas locais independentes,
+ * que partem do melhor plano das rodadas anteriores. Termina ao fim do orçamento de tempo ou
+ * quando várias rodadas seguidas não melhoram o plano, e devolve o melhor encontrado.
+ * <p>
+ * O pool não é o comum do fork/join (usado pelos relatórios analíticos) nem as threads do Tomcat,
+ * e por padrão deixa um processador livre; como cada rodada é curta, buscas simultâneas se
+ * alternam no pool em vez de uma esperar a outra terminar.
+ */
+@Component
+public class BuscaPlanos {
+
+    private static final long FATIA_NANOS = Duration.ofMillis(20).toNanos();
+    private static final int RODADAS_SEM_MELHORA = 20;
+
+    private final ForkJoinPool pool;
+
+    public BuscaPlanos(@Value("${gestor.planos.paralelismo:0}") int paralelismo) {
+        int threads = paralelismo > 0 ? paralelismo : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("planos-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /** O problema precisa ter ao menos tantas receitas quanto dias. */
+    public ResultadoBuscaPlano buscar(ProblemaPlano problema, Duration orcamento, long semente) {
+        long fim = System.nanoTime() + orcamento.toNanos();
+        int tarefas = pool.getParallelism();
+        LongAdder avaliadas = new LongAdder();
+        SolucaoPlano melhor = null;
+        int rodadas = 0;
+        int semMelhora = 0;
+        boolean esgotado = false;
+        while (true) {
+            long prazo = Math.min(fim, System.nanoTime() + FATIA_NANOS);
+            SolucaoPlano encontrada = pool.invoke(new RodadaBusca(problema, melhor,
+                    semente + (long) rodadas * tarefas, 0, tarefas, prazo, avaliadas));
+            rodadas++;
+            if (encontrada.melhorQue(melhor)) {
+                melhor = encontrada;
+                semMelhora = 0;
+            } else {
+                semMelhora++;
+            }
+            if (System.nanoTime() >= fim) {
+                esgotado = true;
+                break;
+            }
+            // Com tantas receitas quanto dias só existe um plano
+            if (semMelhora >= RODADAS_SEM_MELHORA || problema.receitas() == problema.dias()) {
+                break;
+            }
+        }
+        return new ResultadoBuscaPlano(melhor, rodadas, avaliadas.sum(), esgotado);
+    }
+
+    public int paralelismo() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.planos;
+
+// O que a busca de planos precisa de uma receita; ingredientes distintos e ordenados
+public record CandidatoPlano(long receitaId, Long categoriaId, int tempoDePreparo, long[] ingredienteIds) {
+}
@@ -0,0 +1,91 @@
+package org.grupo1.gestordereceitas.planos;
+
+import org.grupo1.gestordereceitas.analitico.ColunasReceita;
+import org.grupo1.gestordereceitas.analitico.IngredienteDaReceita;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Categoria, tempo de preparo e ingredientes de cada receita, em memória, para a busca de planos
+ * não ir ao banco a cada pedido. Montado na subida e atualizado após o commit de cada escrita em
+ * receitas; cada pedido copia os candidatos para um {@link ProblemaPlano} compacto.
+ */
+@Component
+public class CandidatosPlano {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidatosPlano.class);
+
+    private static final long[] SEM_INGREDIENTES = new long[0];
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+
+    // Escritores serializados pelo lock do objeto; leitores percorrem sem bloquear
+    private final Map<Long, CandidatoPlano> candidatos = new ConcurrentHashMap<>();
+
+    public CandidatosPlano(ReceitaRepository receitaRepository,
+                           ReceitaIngredienteRepository receitaIngredienteRepository) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+    }
+
+    public List<CandidatoPlano> candidatos() {
+        return new ArrayList<>(candidatos.values());
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        Map<Long, List<Long>> porReceita = new HashMap<>();
+        for (IngredienteDaReceita linha : receitaIngredienteRepository.findIngredientesDistintosPorReceita()) {
+            porReceita.computeIfAbsent(linha.receitaId(), id -> new ArrayList<>()).add(linha.ingredienteId());
+        }
+        Map<Long, CandidatoPlano> novos = new HashMap<>();
+        for (ColunasReceita receita : receitaRepository.findColunasAnaliticas()) {
+            novos.put(receita.id(), candidato(receita, porReceita.getOrDefault(receita.id(), List.of())));
+        }
+        candidatos.keySet().retainAll(novos.keySet());
+        candidatos.putAll(novos);
+        log.info("Candidatos para planos montados: {} receitas em {} ms",
+                candidatos.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        Long receitaId = event.receitaId();
+        ColunasReceita receita = receitaRepository.findColunasAnaliticasById(receitaId).orElse(null);
+        if (receita == null) {
+            candidatos.remove(receitaId);
+            return;
+        }
+        List<Long> ingredientes = new ArrayList<>();
+        for (LinhaIngredienteReceita linha : receitaIngredienteRepository.findLinhasLeituraByReceitaIdIn(List.of(receitaId))) {
+            ingredientes.add(linha.ingredienteId());
+        }
+        candidatos.put(receitaId, candidato(receita, ingredientes));
+    }
+
+    private static CandidatoPlano candidato(ColunasReceita receita, List<Long> ingredientes) {
+        long[] distintos = ingredientes.isEmpty() ? SEM_INGREDIENTES
+                : ingredientes.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+        return new CandidatoPlano(receita.id(), receita.categoriaId(), receita.tempoDePreparo(), distintos);
+    }
+}
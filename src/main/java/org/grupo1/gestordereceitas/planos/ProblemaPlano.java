@@ -0,0 +1,95 @@
+package org.grupo1.gestordereceitas.planos;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cópia compacta dos candidatos de um pedido, já filtrada pelas restrições: receitas, categorias
+ * e ingredientes viram índices densos e cada receita guarda só os ingredientes que precisariam
+ * ser comprados. Imutável depois de montado; as tarefas da busca o leem sem sincronização.
+ */
+public final class ProblemaPlano {
+
+    static final int SEM_CATEGORIA = -1;
+
+    final int dias;
+    final long[] receitaIds;
+    final int[] tempo;
+    // Índice da cota da categoria da receita, ou SEM_CATEGORIA se a categoria não tem cota
+    final int[] cota;
+    final int[][] ingredientes;
+    final int[] minimoPorCota;
+    final long[] ingredienteIds;
+
+    private ProblemaPlano(int dias, long[] receitaIds, int[] tempo, int[] cota, int[][] ingredientes,
+                          int[] minimoPorCota, long[] ingredienteIds) {
+        this.dias = dias;
+        this.receitaIds = receitaIds;
+        this.tempo = tempo;
+        this.cota = cota;
+        this.ingredientes = ingredientes;
+        this.minimoPorCota = minimoPorCota;
+        this.ingredienteIds = ingredienteIds;
+    }
+
+    public static ProblemaPlano montar(List<CandidatoPlano> candidatos, RestricoesPlano restricoes) {
+        Map<Long, Integer> cotas = new HashMap<>();
+        int[] minimoPorCota = new int[restricoes.minimoPorCategoria().size()];
+        restricoes.minimoPorCategoria().forEach((categoriaId, minimo) -> {
+            int indice = cotas.size();
+            cotas.put(categoriaId, indice);
+            minimoPorCota[indice] = minimo;
+        });
+
+        // Ordem estável: o mesmo catálogo e a mesma semente geram a mesma busca
+        List<CandidatoPlano> ordenados = candidatos.stream()
+                .filter(c -> restricoes.tempoMaximoPorDia() == null || c.tempoDePreparo() <= restricoes.tempoMaximoPorDia())
+                .filter(c -> Arrays.stream(c.ingredienteIds()).noneMatch(id -> restricoes.excluidos().contains(id)))
+                .sorted((a, b) -> Long.compare(a.receitaId(), b.receitaId()))
+                .toList();
+
+        int total = ordenados.size();
+        long[] receitaIds = new long[total];
+        int[] tempo = new int[total];
+        int[] cota = new int[total];
+        int[][] ingredientes = new int[total][];
+        Map<Long, Integer> indiceIngrediente = new HashMap<>();
+        for (int r = 0; r < total; r++) {
+            CandidatoPlano candidato = ordenados.get(r);
+            receitaIds[r] = candidato.receitaId();
+            tempo[r] = candidato.tempoDePreparo();
+            cota[r] = candidato.categoriaId() == null ? SEM_CATEGORIA : cotas.getOrDefault(candidato.categoriaId(), SEM_CATEGORIA);
+            ingredientes[r] = Arrays.stream(candidato.ingredienteIds())
+                    .filter(id -> !restricoes.despensa().contains(id))
+                    .mapToInt(id -> indiceIngrediente.computeIfAbsent(id, chave -> indiceIngrediente.size()))
+                    .toArray();
+        }
+        long[] ingredienteIds = new long[indiceIngrediente.size()];
+        indiceIngrediente.forEach((id, indice) -> ingredienteIds[indice] = id);
+        return new ProblemaPlano(restricoes.dias(), receitaIds, tempo, cota, ingredientes, minimoPorCota, ingredienteIds);
+    }
+
+    public int dias() {
+        return dias;
+    }
+
+    public int receitas() {
+        return receitaIds.length;
+    }
+
+    public long receitaId(int receita) {
+        return receitaIds[receita];
+    }
+
+    /** Ingredientes a comprar para as receitas do plano, sem repetição e ordenados. */
+    public long[] listaDeCompras(int[] plano) {
+        return Arrays.stream(plano)
+                .flatMap(r -> Arrays.stream(ingredientes[r]))
+                .distinct()
+                .mapToLong(i -> ingredienteIds[i])
+                .sorted()
+                .toArray();
+    }
+}
@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.planos;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Restrições de um plano: uma receita por dia, sem repetir; {@code tempoMaximoPorDia} nulo não
+ * limita; {@code minimoPorCategoria} é o número mínimo de dias de cada categoria; ingredientes da
+ * despensa não entram na lista de compras.
+ */
+public record RestricoesPlano(int dias, Integer tempoMaximoPorDia, Map<Long, Integer> minimoPorCategoria,
+                              Set<Long> excluidos, Set<Long> despensa) {
+}
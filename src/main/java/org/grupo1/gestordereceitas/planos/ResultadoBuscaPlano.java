@@ -0,0 +1,4 @@
+package org.grupo1.gestordereceitas.planos;
+
+public record ResultadoBuscaPlano(SolucaoPlano melhor, int rodadas, long avaliadas, boolean orcamentoEsgotado) {
+}
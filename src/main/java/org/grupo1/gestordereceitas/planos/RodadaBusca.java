@@ -0,0 +1,66 @@
+package org.grupo1.gestordereceitas.planos;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uma rodada da busca: divide as sementes [inicio, fim) ao meio até sobrar uma por tarefa; cada
+ * folha repete buscas locais, ora do zero, ora perturbando o melhor plano das rodadas anteriores,
+ * até o prazo da rodada, e devolve o melhor que achou.
+ */
+final class RodadaBusca extends RecursiveTask<SolucaoPlano> {
+
+    private static final long serialVersionUID = 1L;
+
+    // ForkJoinTask é Serializable, mas a rodada nunca é serializada: só roda no pool da busca
+    private final transient ProblemaPlano problema;
+    private final transient SolucaoPlano partida;
+    private final long semente;
+    private final int inicio;
+    private final int fim;
+    private final long prazoNanos;
+    private final LongAdder avaliadas;
+
+    RodadaBusca(ProblemaPlano problema, SolucaoPlano partida, long semente, int inicio, int fim,
+                long prazoNanos, LongAdder avaliadas) {
+        this.problema = problema;
+        this.partida = partida;
+        this.semente = semente;
+        this.inicio = inicio;
+        this.fim = fim;
+        this.prazoNanos = prazoNanos;
+        this.avaliadas = avaliadas;
+    }
+
+    @Override
+    protected SolucaoPlano compute() {
+        if (fim - inicio > 1) {
+            int meio = (inicio + fim) >>> 1;
+            RodadaBusca esquerda = new RodadaBusca(problema, partida, semente, inicio, meio, prazoNanos, avaliadas);
+            esquerda.fork();
+            SolucaoPlano direita = new RodadaBusca(problema, partida, semente, meio, fim, prazoNanos, avaliadas).compute();
+            SolucaoPlano melhorEsquerda = esquerda.join();
+            return melhorEsquerda.melhorQue(direita) ? melhorEsquerda : direita;
+        }
+
+        SplittableRandom aleatorio = new SplittableRandom(semente + inicio);
+        BuscaLocal busca = new BuscaLocal(problema, aleatorio);
+        SolucaoPlano melhor = null;
+        // Ao menos uma busca por folha, mesmo com o prazo vencido
+        do {
+            if (partida == null || aleatorio.nextBoolean()) {
+                busca.construir();
+            } else {
+                busca.partirDe(partida.receitas(), 1 + aleatorio.nextInt(Math.max(1, problema.dias / 2)));
+            }
+            busca.melhorar(prazoNanos);
+            SolucaoPlano encontrada = busca.solucao();
+            if (encontrada.melhorQue(melhor)) {
+                melhor = encontrada;
+            }
+        } while (System.nanoTime() < prazoNanos);
+        avaliadas.add(busca.avaliadas());
+        return melhor;
+    }
+}
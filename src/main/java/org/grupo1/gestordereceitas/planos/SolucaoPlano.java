@@ -0,0 +1,23 @@
+package org.grupo1.gestordereceitas.planos;
+
+/**
+ * Um plano e seu custo, comparado nesta ordem: dias que faltam para as cotas de categoria,
+ * ingredientes a comprar e tempo total de preparo. {@code receitas} são índices do
+ * {@link ProblemaPlano}, um por dia.
+ */
+public record SolucaoPlano(int[] receitas, int violacoes, int compras, long tempoTotal) {
+
+    public long custo() {
+        return custo(violacoes, compras, tempoTotal);
+    }
+
+    public boolean melhorQue(SolucaoPlano outra) {
+        return outra == null || custo() < outra.custo();
+    }
+
+    // Os três critérios empacotados em um long: violações nos bits altos, depois compras (31 bits)
+    // e o tempo total (27 bits, saturado)
+    static long custo(int violacoes, int compras, long tempoTotal) {
+        return ((long) violacoes << 58) | ((long) compras << 27) | Math.min(tempoTotal, (1L << 27) - 1);
+    }
+}
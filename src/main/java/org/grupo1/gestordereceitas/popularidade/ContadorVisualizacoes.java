@@ -0,0 +1,243 @@
+package org.grupo1.gestordereceitas.popularidade;
+
+import jakarta.annotation.PreDestroy;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conta as visualizações de receitas e mantém os rankings de populares (total de visualizações) e
+ * em alta (visualizações com decaimento exponencial).
+ * <p>
+ * Contar uma visualização é só um incremento em um {@link LongAdder} por receita, sem lock nem
+ * escrita no banco. Periodicamente, o que foi contado desde a última gravação é somado à tabela
+ * {@code visualizacao_receita} em um lote, e só então entra nos rankings: o que se perde em uma
+ * queda é limitado ao intervalo de gravação.
+ * <p>
+ * A pontuação em alta é guardada em unidades de um instante de referência: uma visualização no
+ * instante t vale {@code exp((t - referencia) / tau)}. Assim as pontuações só crescem e o
+ * decaimento não muda a ordem, o que permite manter as melhores K incrementalmente; a referência
+ * é avançada antes de os valores estourarem. Os rankings publicados são fotografias imutáveis,
+ * lidas em O(K).
+ * <p>
+ * Cada instância soma as próprias contagens ao banco e recarrega os totais de todas
+ * periodicamente.
+ */
+@Component
+public class ContadorVisualizacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(ContadorVisualizacoes.class);
+
+    public static final int MAXIMO_RANKING = 100;
+
+    // exp(500) ainda cabe com folga em um double
+    private static final double LIMITE_EXPOENTE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transacao;
+    private final ReceitaRepository receitaRepository;
+    private final double tauMs;
+
+    private final ConcurrentHashMap<Long, Contador> contadores = new ConcurrentHashMap<>();
+
+    // Estado dos rankings, protegido pelo lock do objeto
+    private final Map<Long, Long> totais = new HashMap<>();
+    private final Map<Long, Double> pontuacoes = new HashMap<>();
+    private long referenciaMs = System.currentTimeMillis();
+    private final MelhoresK melhoresPopulares = new MelhoresK(MAXIMO_RANKING);
+    private final MelhoresK melhoresEmAlta = new MelhoresK(MAXIMO_RANKING);
+
+    private volatile Ranking populares = Ranking.VAZIO;
+    private volatile Ranking emAlta = Ranking.VAZIO;
+
+    public ContadorVisualizacoes(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 ReceitaRepository receitaRepository,
+                                 @Value("${gestor.receitas.em-alta.meia-vida-ms:21600000}") long meiaVidaMs) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.receitaRepository = receitaRepository;
+        this.tauMs = meiaVidaMs / Math.log(2);
+    }
+
+    // --- Caminho quente ---
+
+    public void registrar(long receitaId) {
+        contadores.computeIfAbsent(receitaId, id -> new Contador()).visualizacoes.increment();
+    }
+
+    // --- Consultas ---
+
+    /** Receitas mais vistas, com o total de visualizações gravado até a última gravação. */
+    public Ranking populares() {
+        return populares;
+    }
+
+    /** Receitas em alta, com a pontuação no instante da última gravação. */
+    public Ranking emAlta() {
+        return emAlta;
+    }
+
+    // --- Gravação e carga ---
+
+    @Scheduled(fixedDelayString = "${gestor.receitas.visualizacoes.intervalo-gravacao-ms:5000}")
+    public synchronized void gravar() {
+        long agora = System.currentTimeMillis();
+        List<Long> receitas = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        contadores.forEach((receitaId, contador) -> {
+            long delta = contador.visualizacoes.sum() - contador.gravadas;
+            if (delta > 0) {
+                receitas.add(receitaId);
+                deltas.add(delta);
+            }
+        });
+        if (receitas.isEmpty()) {
+            return;
+        }
+        try {
+            transacao.executeWithoutResult(status -> persistir(receitas, deltas, agora));
+        } catch (RuntimeException e) {
+            // As contagens continuam pendentes e vão na próxima gravação
+            log.warn("Falha ao gravar {} contagens de visualizações", receitas.size(), e);
+            return;
+        }
+        if ((agora - referenciaMs) / tauMs > LIMITE_EXPOENTE) {
+            avancarReferencia(agora);
+        }
+        for (int i = 0; i < receitas.size(); i++) {
+            long receitaId = receitas.get(i);
+            long delta = deltas.get(i);
+            Contador contador = contadores.get(receitaId);
+            if (contador != null) {
+                contador.gravadas += delta;
+            }
+            melhoresPopulares.oferecer(receitaId, totais.merge(receitaId, delta, Long::sum));
+            melhoresEmAlta.oferecer(receitaId,
+                    pontuacoes.merge(receitaId, delta * Math.exp((agora - referenciaMs) / tauMs), Double::sum));
+        }
+        publicar(agora);
+    }
+
+    private void persistir(List<Long> receitas, List<Long> deltas, long agora) {
+        List<Object[]> atualizacoes = new ArrayList<>(receitas.size());
+        for (int i = 0; i < receitas.size(); i++) {
+            atualizacoes.add(new Object[]{deltas.get(i), agora, tauMs, deltas.get(i), agora, receitas.get(i)});
+        }
+        int[] atualizadas = jdbcTemplate.batchUpdate(
+                "update visualizacao_receita set total = total + ?, "
+                        + "pontuacao = pontuacao * exp((referencia_ms - ?) / ?) + ?, referencia_ms = ? "
+                        + "where receita_id = ?", atualizacoes);
+        List<Object[]> insercoes = new ArrayList<>();
+        for (int i = 0; i < atualizadas.length; i++) {
+            if (atualizadas[i] == 0) {
+                insercoes.add(new Object[]{receitas.get(i), deltas.get(i), (double) deltas.get(i), agora});
+            }
+        }
+        if (!insercoes.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "insert into visualizacao_receita (receita_id, total, pontuacao, referencia_ms) values (?, ?, ?, ?)",
+                    insercoes);
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void carregar() {
+        recarregar();
+    }
+
+    // Traz as contagens gravadas pelas outras instâncias
+    @Scheduled(initialDelayString = "${gestor.receitas.visualizacoes.intervalo-recarga-ms:600000}",
+            fixedDelayString = "${gestor.receitas.visualizacoes.intervalo-recarga-ms:600000}")
+    public synchronized void recarregar() {
+        gravar();
+        long agora = System.currentTimeMillis();
+        totais.clear();
+        pontuacoes.clear();
+        referenciaMs = agora;
+        jdbcTemplate.query("select receita_id, total, pontuacao, referencia_ms from visualizacao_receita", rs -> {
+            long receitaId = rs.getLong(1);
+            totais.put(receitaId, rs.getLong(2));
+            pontuacoes.put(receitaId, rs.getDouble(3) * Math.exp((rs.getLong(4) - agora) / tauMs));
+        });
+        remontar();
+        publicar(agora);
+        log.debug("Contagens de visualizações recarregadas: {} receitas", totais.size());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        gravar();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        Long receitaId = event.receitaId();
+        if (receitaRepository.existsById(receitaId)) {
+            return;
+        }
+        contadores.remove(receitaId);
+        totais.remove(receitaId);
+        pontuacoes.remove(receitaId);
+        jdbcTemplate.update("delete from visualizacao_receita where receita_id = ?", receitaId);
+        boolean estavaNosRankings = melhoresPopulares.remover(receitaId) | melhoresEmAlta.remover(receitaId);
+        if (estavaNosRankings) {
+            remontar();
+            publicar(System.currentTimeMillis());
+        }
+    }
+
+    // Chamados com o lock do objeto
+
+    private void avancarReferencia(long agora) {
+        double fator = Math.exp((referenciaMs - agora) / tauMs);
+        pontuacoes.replaceAll((receitaId, pontuacao) -> pontuacao * fator);
+        referenciaMs = agora;
+        remontar();
+    }
+
+    private void remontar() {
+        melhoresPopulares.limpar();
+        melhoresEmAlta.limpar();
+        totais.forEach(melhoresPopulares::oferecer);
+        pontuacoes.forEach(melhoresEmAlta::oferecer);
+    }
+
+    private void publicar(long agora) {
+        populares = melhoresPopulares.ranking();
+        Ranking emUnidadesDaReferencia = melhoresEmAlta.ranking();
+        double fator = Math.exp((referenciaMs - agora) / tauMs);
+        double[] valores = emUnidadesDaReferencia.valores();
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] *= fator;
+        }
+        emAlta = emUnidadesDaReferencia;
+    }
+
+    private static final class Contador {
+        private final LongAdder visualizacoes = new LongAdder();
+        // Só lido e escrito pela gravação, sob o lock do objeto
+        private long gravadas;
+    }
+}
@@ -0,0 +1,67 @@
+package org.grupo1.gestordereceitas.popularidade;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * As K receitas de maior valor, mantidas incrementalmente. Vale para valores que só crescem
+ * (contagens e pontuações em unidades de uma referência fixa): uma receita fora das K melhores
+ * só entra quando o próprio valor aumenta, então basta oferecer as que mudaram.
+ * Não é thread-safe; o ContadorVisualizacoes o usa só dentro do próprio lock.
+ */
+class MelhoresK {
+
+    private record Item(long receitaId, double valor) {
+    }
+
+    private static final Comparator<Item> ORDEM = Comparator.comparingDouble(Item::valor).reversed()
+            .thenComparingLong(Item::receitaId);
+
+    private final int k;
+    private final TreeSet<Item> itens = new TreeSet<>(ORDEM);
+    private final Map<Long, Item> porReceita = new HashMap<>();
+
+    MelhoresK(int k) {
+        this.k = k;
+    }
+
+    void oferecer(long receitaId, double valor) {
+        Item atual = porReceita.get(receitaId);
+        if (atual != null) {
+            itens.remove(atual);
+        } else if (itens.size() == k && valor <= itens.last().valor()) {
+            return;
+        }
+        Item novo = new Item(receitaId, valor);
+        itens.add(novo);
+        porReceita.put(receitaId, novo);
+        if (itens.size() > k) {
+            porReceita.remove(itens.pollLast().receitaId());
+        }
+    }
+
+    // true se a receita estava entre as K: quem chama precisa remontar a partir de todos os valores
+    boolean remover(long receitaId) {
+        Item atual = porReceita.remove(receitaId);
+        return atual != null && itens.remove(atual);
+    }
+
+    void limpar() {
+        itens.clear();
+        porReceita.clear();
+    }
+
+    Ranking ranking() {
+        long[] ids = new long[itens.size()];
+        double[] valores = new double[itens.size()];
+        int i = 0;
+        for (Item item : itens) {
+            ids[i] = item.receitaId();
+            valores[i] = item.valor();
+            i++;
+        }
+        return new Ranking(ids, valores);
+    }
+}
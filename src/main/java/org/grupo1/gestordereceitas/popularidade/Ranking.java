@@ -0,0 +1,11 @@
+package org.grupo1.gestordereceitas.popularidade;
+
+/** Fotografia imutável de um ranking: IDs de receitas e valores, do maior para o menor. */
+public record Ranking(long[] receitaIds, double[] valores) {
+
+    static final Ranking VAZIO = new Ranking(new long[0], new double[0]);
+
+    public int tamanho() {
+        return receitaIds.length;
+    }
+}
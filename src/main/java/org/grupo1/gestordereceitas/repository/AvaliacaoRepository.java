@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.Avaliacao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AvaliacaoRepository extends JpaRepository<Avaliacao, Long> {
+
+    Optional<Avaliacao> findByReceitaIdAndUsuario(Long receitaId, String usuario);
+}
@@ -0,0 +1,21 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.BuscaSalva;
+import org.grupo1.gestordereceitas.percolador.IngredienteDaBusca;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BuscaSalvaRepository extends JpaRepository<BuscaSalva, Long> {
+
+    @EntityGraph(attributePaths = "ingredienteIds")
+    List<BuscaSalva> findByUsuarioOrderByIdAsc(String usuario);
+
+    @Query("select new org.grupo1.gestordereceitas.percolador.IngredienteDaBusca(b.id, i) " +
+            "from BuscaSalva b join b.ingredienteIds i")
+    List<IngredienteDaBusca> findIngredientesDasBuscas();
+}
@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.DicionarioCompressao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DicionarioCompressaoRepository extends JpaRepository<DicionarioCompressao, Integer> {
+
+    @Query("select coalesce(max(d.versao), 0) from DicionarioCompressao d")
+    int findUltimaVersao();
+}
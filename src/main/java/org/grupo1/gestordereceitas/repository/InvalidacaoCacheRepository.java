@@ -0,0 +1,24 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.InvalidacaoCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface InvalidacaoCacheRepository extends JpaRepository<InvalidacaoCache, Long> {
+
+    List<InvalidacaoCache> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("select coalesce(max(i.id), 0) from InvalidacaoCache i")
+    Long findUltimoId();
+
+    @Modifying
+    @Query("delete from InvalidacaoCache i where i.criadaEm < :limite")
+    int deleteByCriadaEmBefore(@Param("limite") Instant limite);
+}
@@ -0,0 +1,27 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.NotificacaoBusca;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface NotificacaoBuscaRepository extends JpaRepository<NotificacaoBusca, Long> {
+
+    List<NotificacaoBusca> findByUsuarioAndIdGreaterThanAndCriadaEmBeforeOrderByIdAsc(String usuario, Long depois,
+                                                                                  Instant criadaAntesDe, Limit limite);
+
+    @Modifying
+    @Query("delete from NotificacaoBusca n where n.buscaSalvaId = :buscaSalvaId")
+    int deleteByBuscaSalva(@Param("buscaSalvaId") Long buscaSalvaId);
+
+    @Modifying
+    @Query("delete from NotificacaoBusca n where n.criadaEm < :limite")
+    int deleteByCriadaEmBefore(@Param("limite") Instant limite);
+}
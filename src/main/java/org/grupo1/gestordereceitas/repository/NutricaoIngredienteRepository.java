@@ -0,0 +1,9 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.NutricaoIngrediente;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NutricaoIngredienteRepository extends JpaRepository<NutricaoIngrediente, Long> {
+}
@@ -0,0 +1,17 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.NutricaoReceita;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NutricaoReceitaRepository extends JpaRepository<NutricaoReceita, Long> {
+
+    // Receitas que ainda não têm totais gravados (carga inicial ou restauração de cópia)
+    @Query(value = "select r.id from receita r where not exists "
+            + "(select 1 from nutricao_receita n where n.receita_id = r.id) order by r.id", nativeQuery = true)
+    List<Long> findReceitaIdsSemNutricao();
+}
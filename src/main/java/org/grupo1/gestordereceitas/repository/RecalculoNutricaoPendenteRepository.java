@@ -0,0 +1,13 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.RecalculoNutricaoPendente;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecalculoNutricaoPendenteRepository extends JpaRepository<RecalculoNutricaoPendente, Long> {
+
+    List<RecalculoNutricaoPendente> findTop100ByOrderByIdAsc();
+}
@@ -1,9 +1,50 @@
 package org.grupo1.gestordereceitas.repository;
 
+import org.grupo1.gestordereceitas.analitico.IngredienteDaReceita;
+import org.grupo1.gestordereceitas.estatisticas.UsoIngrediente;
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
 import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ReceitaIngredienteRepository extends JpaRepository<ReceitaIngrediente, Long> {
+
+    // Linhas sem ingrediente ficam de fora, como no ReceitaMapper
+    @Query("select new org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita(" +
+            "r.id, i.id, ri.quantidade, ri.unidadeMedida) " +
+            "from ReceitaIngrediente ri join ri.receita r join ri.ingrediente i order by r.id, ri.id")
+    List<LinhaIngredienteReceita> findLinhasLeitura();
+
+    @Query("select new org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita(" +
+            "r.id, i.id, ri.quantidade, ri.unidadeMedida) " +
+            "from ReceitaIngrediente ri join ri.receita r join ri.ingrediente i where r.id = :receitaId order by ri.id")
+    List<LinhaIngredienteReceita> findLinhasLeituraByReceitaId(@Param("receitaId") Long receitaId);
+
+    @Query("select new org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita(" +
+            "r.id, i.id, ri.quantidade, ri.unidadeMedida) " +
+            "from ReceitaIngrediente ri join ri.receita r join ri.ingrediente i where r.id in :receitaIds order by r.id, ri.id")
+    List<LinhaIngredienteReceita> findLinhasLeituraByReceitaIdIn(@Param("receitaIds") Collection<Long> receitaIds);
+
+    @Query("select distinct ri.receita.id from ReceitaIngrediente ri where ri.ingrediente.id = :ingredienteId order by ri.receita.id")
+    List<Long> findReceitaIdsByIngredienteId(@Param("ingredienteId") Long ingredienteId);
+
+    @Query("select distinct ri.receita.id from ReceitaIngrediente ri where ri.ingrediente.id in :ingredienteIds order by ri.receita.id")
+    List<Long> findReceitaIdsByIngredienteIdIn(@Param("ingredienteIds") Collection<Long> ingredienteIds);
+
+    @Query("select count(distinct ri.receita.id) from ReceitaIngrediente ri where ri.ingrediente.id = :ingredienteId")
+    long contarReceitasPorIngredienteId(@Param("ingredienteId") Long ingredienteId);
+
+    @Query("select new org.grupo1.gestordereceitas.estatisticas.UsoIngrediente(i.id, count(distinct ri.receita.id)) " +
+            "from ReceitaIngrediente ri join ri.ingrediente i group by i.id")
+    List<UsoIngrediente> contarReceitasPorIngrediente();
+
+    @Query("select distinct new org.grupo1.gestordereceitas.analitico.IngredienteDaReceita(r.id, i.id) " +
+            "from ReceitaIngrediente ri join ri.receita r join ri.ingrediente i order by r.id, i.id")
+    List<IngredienteDaReceita> findIngredientesDistintosPorReceita();
 }
@@ -1,9 +1,114 @@
 package org.grupo1.gestordereceitas.repository;
 
+import jakarta.persistence.LockModeType;
+import org.grupo1.gestordereceitas.analitico.ColunasReceita;
+import org.grupo1.gestordereceitas.avaliacoes.AgregadoAvaliacoes;
+import org.grupo1.gestordereceitas.dto.ReceitaDesnormalizadaDTO;
+import org.grupo1.gestordereceitas.duplicatas.NomeReceita;
+import org.grupo1.gestordereceitas.estatisticas.ContagemTempoCategoria;
+import org.grupo1.gestordereceitas.leitura.LinhaReceita;
+import org.grupo1.gestordereceitas.nutricao.PorcoesReceita;
 import org.grupo1.gestordereceitas.model.Receita;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ReceitaRepository extends JpaRepository<Receita, Long> {
+
+    @Query("select r.id from Receita r")
+    List<Long> findAllIds();
+
+    // Somente colunas da própria receita: não dispara a carga da categoria nem dos ingredientes
+    @Query("select new org.grupo1.gestordereceitas.dto.ReceitaDesnormalizadaDTO(" +
+            "r.id, r.nome, r.descricao, r.tempoDePreparo, r.porcoes, r.snapshot) from Receita r where r.id = :id")
+    Optional<ReceitaDesnormalizadaDTO> findDesnormalizadaById(@Param("id") Long id);
+
+    List<Receita> findByCategoriaId(Long categoriaId);
+
+    @Query("select distinct ri.receita from ReceitaIngrediente ri where ri.ingrediente.id = :ingredienteId")
+    List<Receita> findByIngredienteId(@Param("ingredienteId") Long ingredienteId);
+
+    List<Receita> findTop100ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // Projeções escalares usadas na montagem do modelo de leitura em memória
+    @Query("select new org.grupo1.gestordereceitas.leitura.LinhaReceita(" +
+            "r.id, r.nome, r.descricao, r.tempoDePreparo, c.id, r.porcoes) from Receita r left join r.categoria c order by r.id")
+    List<LinhaReceita> findLinhasLeitura();
+
+    @Query("select new org.grupo1.gestordereceitas.leitura.LinhaReceita(" +
+            "r.id, r.nome, r.descricao, r.tempoDePreparo, c.id, r.porcoes) from Receita r left join r.categoria c where r.id = :id")
+    Optional<LinhaReceita> findLinhaLeituraById(@Param("id") Long id);
+
+    @Query("select new org.grupo1.gestordereceitas.leitura.LinhaReceita(" +
+            "r.id, r.nome, r.descricao, r.tempoDePreparo, c.id, r.porcoes) from Receita r left join r.categoria c where r.id in :ids order by r.id")
+    List<LinhaReceita> findLinhasLeituraByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select r.id from Receita r where r.categoria.id = :categoriaId order by r.id")
+    List<Long> findIdsByCategoriaId(@Param("categoriaId") Long categoriaId);
+
+    @Query("select r.descricao from Receita r where r.descricao is not null")
+    List<String> findAllDescricoes();
+
+    // Descrições como gravadas no banco, sem passar pelo conversor: usadas na recompressão
+    @Query(value = "select id, descricao from receita where id > :id order by id limit 100", nativeQuery = true)
+    List<Object[]> findDescricoesGravadasAposId(@Param("id") Long id);
+
+    // Só altera se a descrição ainda for a lida: uma gravação concorrente não é sobrescrita
+    @Modifying
+    @Query(value = "update receita set descricao = :nova where id = :id and descricao = :anterior", nativeQuery = true)
+    int substituirDescricaoGravada(@Param("id") Long id, @Param("anterior") byte[] anterior, @Param("nova") byte[] nova);
+
+    // Agregações usadas na reconciliação das estatísticas do catálogo
+    @Query("select new org.grupo1.gestordereceitas.estatisticas.ContagemTempoCategoria(" +
+            "c.id, r.tempoDePreparo, count(r)) from Receita r left join r.categoria c group by c.id, r.tempoDePreparo")
+    List<ContagemTempoCategoria> contarPorCategoriaETempo();
+
+    @Query("select new org.grupo1.gestordereceitas.analitico.ColunasReceita(r.id, r.tempoDePreparo, c.id) " +
+            "from Receita r left join r.categoria c order by r.id")
+    List<ColunasReceita> findColunasAnaliticas();
+
+    @Query("select new org.grupo1.gestordereceitas.analitico.ColunasReceita(r.id, r.tempoDePreparo, c.id) " +
+            "from Receita r left join r.categoria c where r.id = :id")
+    Optional<ColunasReceita> findColunasAnaliticasById(@Param("id") Long id);
+
+    // Trava a linha até o fim da transação: as avaliações de uma mesma receita são serializadas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Receita r where r.id = :id")
+    Optional<Receita> findParaAvaliacao(@Param("id") Long id);
+
+    // Relativo ao valor gravado, na mesma transação que grava a avaliação
+    @Modifying
+    @Query(value = "update receita set soma_notas = soma_notas + :soma, "
+            + "quantidade_avaliacoes = quantidade_avaliacoes + :quantidade where id = :id", nativeQuery = true)
+    int somarAvaliacoes(@Param("id") Long id, @Param("soma") long soma, @Param("quantidade") long quantidade);
+
+    @Query("select new org.grupo1.gestordereceitas.avaliacoes.AgregadoAvaliacoes(" +
+            "r.id, c.id, r.somaNotas, r.quantidadeAvaliacoes) from Receita r left join r.categoria c where r.id = :id")
+    Optional<AgregadoAvaliacoes> findAgregadoAvaliacoesById(@Param("id") Long id);
+
+    @Query("select new org.grupo1.gestordereceitas.avaliacoes.AgregadoAvaliacoes(" +
+            "r.id, c.id, r.somaNotas, r.quantidadeAvaliacoes) from Receita r left join r.categoria c " +
+            "where r.quantidadeAvaliacoes > 0")
+    List<AgregadoAvaliacoes> findAgregadosAvaliacoes();
+
+    @Query("select r.id from Receita r where r.impressaoDigital = :impressao order by r.id")
+    List<Long> findIdsByImpressaoDigital(@Param("impressao") String impressao, Limit limite);
+
+    @Query("select new org.grupo1.gestordereceitas.duplicatas.NomeReceita(r.id, r.nome) from Receita r")
+    List<NomeReceita> findNomes();
+
+    @Query("select r.nome from Receita r where r.id = :id")
+    Optional<String> findNomeById(@Param("id") Long id);
+
+    @Query("select new org.grupo1.gestordereceitas.nutricao.PorcoesReceita(r.id, r.porcoes) from Receita r where r.id in :ids")
+    List<PorcoesReceita> findPorcoesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,27 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.Substituicao;
+import org.grupo1.gestordereceitas.substituicoes.ArestaSubstituicao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SubstituicaoRepository extends JpaRepository<Substituicao, Long> {
+
+    @Query("select new org.grupo1.gestordereceitas.substituicoes.ArestaSubstituicao(s.ingrediente.id, s.substituto.id, s.peso) " +
+            "from Substituicao s")
+    List<ArestaSubstituicao> findArestas();
+
+    boolean existsByIngredienteIdAndSubstitutoId(Long ingredienteId, Long substitutoId);
+
+    List<Substituicao> findAllByOrderByIngredienteIdAscPesoDesc();
+
+    @Modifying
+    @Query("delete from Substituicao s where s.ingrediente.id = :ingredienteId or s.substituto.id = :ingredienteId")
+    int deleteEnvolvendo(@Param("ingredienteId") Long ingredienteId);
+}
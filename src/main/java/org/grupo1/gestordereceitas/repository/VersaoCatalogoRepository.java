@@ -0,0 +1,16 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.model.VersaoCatalogo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VersaoCatalogoRepository extends JpaRepository<VersaoCatalogo, Long> {
+
+    @Modifying
+    @Query("update VersaoCatalogo v set v.versao = v.versao + 1, v.marcador = :marcador where v.id = :id")
+    int incrementar(@Param("id") Long id, @Param("marcador") String marcador);
+}
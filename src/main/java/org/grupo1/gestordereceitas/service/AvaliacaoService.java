@@ -0,0 +1,156 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.avaliacoes.AgregadoAvaliacoes;
+import org.grupo1.gestordereceitas.avaliacoes.IndiceAvaliacoes;
+import org.grupo1.gestordereceitas.avaliacoes.ReceitaAvaliada;
+import org.grupo1.gestordereceitas.dto.AvaliacaoRequestDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaAvaliadaDTO;
+import org.grupo1.gestordereceitas.dto.ResumoAvaliacoesDTO;
+import org.grupo1.gestordereceitas.event.AvaliacaoRegistradaEvent;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.model.Avaliacao;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.repository.AvaliacaoRepository;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class AvaliacaoService {
+
+    private static final int NOTA_MINIMA = 1;
+    private static final int NOTA_MAXIMA = 5;
+    private static final int LIMITE_MAXIMO = 50;
+
+    private final AvaliacaoRepository avaliacaoRepository;
+    private final ReceitaRepository receitaRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final ReceitaService receitaService;
+    private final IndiceAvaliacoes indiceAvaliacoes;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AvaliacaoService(AvaliacaoRepository avaliacaoRepository,
+                            ReceitaRepository receitaRepository,
+                            CategoriaRepository categoriaRepository,
+                            ReceitaService receitaService,
+                            IndiceAvaliacoes indiceAvaliacoes,
+                            ApplicationEventPublisher eventPublisher) {
+        this.avaliacaoRepository = avaliacaoRepository;
+        this.receitaRepository = receitaRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.receitaService = receitaService;
+        this.indiceAvaliacoes = indiceAvaliacoes;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Registra a nota do usuário para a receita ou troca a que ele já tinha dado. A linha da receita
+     * fica travada até o commit, então duas requisições simultâneas do mesmo usuário não contam a
+     * nota duas vezes: a segunda já encontra a avaliação da primeira e soma só a diferença.
+     * O usuário vem da autenticação, nunca da requisição.
+     */
+    @Transactional
+    public ResumoAvaliacoesDTO avaliar(Long receitaId, String usuario, AvaliacaoRequestDTO dto) {
+        validarUsuario(usuario);
+        if (dto.getNota() < NOTA_MINIMA || dto.getNota() > NOTA_MAXIMA) {
+            throw new BusinessException("A nota deve estar entre " + NOTA_MINIMA + " e " + NOTA_MAXIMA + ".");
+        }
+        Receita receita = travarReceita(receitaId);
+
+        Optional<Avaliacao> existente = avaliacaoRepository.findByReceitaIdAndUsuario(receitaId, usuario);
+        long diferencaSoma;
+        long diferencaQuantidade;
+        if (existente.isPresent()) {
+            Avaliacao avaliacao = existente.get();
+            diferencaSoma = dto.getNota() - avaliacao.getNota();
+            diferencaQuantidade = 0;
+            avaliacao.setNota(dto.getNota());
+            avaliacao.setAtualizadaEm(Instant.now());
+        } else {
+            avaliacaoRepository.save(new Avaliacao(null, receita, usuario, dto.getNota(), Instant.now()));
+            diferencaSoma = dto.getNota();
+            diferencaQuantidade = 1;
+        }
+        return aplicar(receita, diferencaSoma, diferencaQuantidade);
+    }
+
+    @Transactional
+    public ResumoAvaliacoesDTO remover(Long receitaId, String usuario) {
+        validarUsuario(usuario);
+        Receita receita = travarReceita(receitaId);
+        Avaliacao avaliacao = avaliacaoRepository.findByReceitaIdAndUsuario(receitaId, usuario)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Avaliação de " + usuario + " para a receita com ID " + receitaId + " não encontrada"));
+        avaliacaoRepository.delete(avaliacao);
+        return aplicar(receita, -avaliacao.getNota(), -1);
+    }
+
+    @Transactional(readOnly = true)
+    public ResumoAvaliacoesDTO resumo(Long receitaId) {
+        AgregadoAvaliacoes agregado = receitaRepository.findAgregadoAvaliacoesById(receitaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + receitaId + " não encontrada"));
+        return paraResumo(receitaId, agregado.somaNotas(), agregado.quantidade());
+    }
+
+    public List<ReceitaAvaliadaDTO> melhores(Long categoriaId, double mediaMinima, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessException("Limite deve estar entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+        if (categoriaId != null && !categoriaRepository.existsById(categoriaId)) {
+            throw new ResourceNotFoundException("Categoria com ID " + categoriaId + " não encontrada");
+        }
+
+        List<ReceitaAvaliadaDTO> resultado = new ArrayList<>();
+        for (ReceitaAvaliada avaliada : indiceAvaliacoes.melhores(categoriaId, mediaMinima, limite)) {
+            try {
+                ReceitaAvaliadaDTO dto = new ReceitaAvaliadaDTO();
+                dto.setMedia(avaliada.media());
+                dto.setQuantidade(avaliada.quantidade());
+                dto.setPontuacao(avaliada.pontuacao());
+                dto.setReceita(receitaService.buscarPorId(avaliada.receitaId()));
+                resultado.add(dto);
+            } catch (ResourceNotFoundException e) {
+                // Excluída entre a consulta ao índice e a leitura
+            }
+        }
+        return resultado;
+    }
+
+    private Receita travarReceita(Long receitaId) {
+        return receitaRepository.findParaAvaliacao(receitaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + receitaId + " não encontrada"));
+    }
+
+    // A receita foi lida com a linha travada: os agregados lidos somados à diferença são os gravados
+    private ResumoAvaliacoesDTO aplicar(Receita receita, long diferencaSoma, long diferencaQuantidade) {
+        if (diferencaSoma != 0 || diferencaQuantidade != 0) {
+            receitaRepository.somarAvaliacoes(receita.getId(), diferencaSoma, diferencaQuantidade);
+            eventPublisher.publishEvent(new AvaliacaoRegistradaEvent(receita.getId()));
+        }
+        return paraResumo(receita.getId(), receita.getSomaNotas() + diferencaSoma,
+                receita.getQuantidadeAvaliacoes() + diferencaQuantidade);
+    }
+
+    private ResumoAvaliacoesDTO paraResumo(Long receitaId, long somaNotas, long quantidade) {
+        ResumoAvaliacoesDTO dto = new ResumoAvaliacoesDTO();
+        dto.setReceitaId(receitaId);
+        dto.setQuantidade(quantidade);
+        dto.setMedia(quantidade == 0 ? 0 : (double) somaNotas / quantidade);
+        dto.setPontuacao(indiceAvaliacoes.pontuacao(somaNotas, quantidade));
+        return dto;
+    }
+
+    private static void validarUsuario(String usuario) {
+        if (usuario == null || usuario.isBlank()) {
+            throw new BusinessException("Informe o usuário.");
+        }
+    }
+}
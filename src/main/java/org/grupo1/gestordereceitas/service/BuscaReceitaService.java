@@ -0,0 +1,74 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.busca.Acerto;
+import org.grupo1.gestordereceitas.busca.BuscaReceitas;
+import org.grupo1.gestordereceitas.busca.ResultadoBusca;
+import org.grupo1.gestordereceitas.dto.BuscaReceitasDTO;
+import org.grupo1.gestordereceitas.dto.IndiceBuscaDTO;
+import org.grupo1.gestordereceitas.dto.ResultadoBuscaDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class BuscaReceitaService {
+
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    private final BuscaReceitas buscaReceitas;
+    private final ReceitaService receitaService;
+
+    public BuscaReceitaService(BuscaReceitas buscaReceitas, ReceitaService receitaService) {
+        this.buscaReceitas = buscaReceitas;
+        this.receitaService = receitaService;
+    }
+
+    public BuscaReceitasDTO buscar(String consulta, int pagina, int tamanho) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new BusinessException("Informe o texto da busca.");
+        }
+        if (pagina < 0 || tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new BusinessException("Página deve ser maior ou igual a zero e tamanho entre 1 e " + TAMANHO_MAXIMO_PAGINA + ".");
+        }
+        ResultadoBusca resultado = buscaReceitas.buscar(consulta, pagina * tamanho, tamanho);
+
+        List<ResultadoBuscaDTO> resultados = new ArrayList<>(resultado.acertos().size());
+        for (Acerto acerto : resultado.acertos()) {
+            try {
+                ResultadoBuscaDTO item = new ResultadoBuscaDTO();
+                item.setPontuacao(acerto.pontuacao());
+                item.setReceita(receitaService.buscarPorId(acerto.receitaId()));
+                resultados.add(item);
+            } catch (ResourceNotFoundException e) {
+                // Excluída entre a consulta ao índice e a leitura
+            }
+        }
+
+        BuscaReceitasDTO dto = new BuscaReceitasDTO();
+        dto.setConsulta(consulta);
+        dto.setPagina(pagina);
+        dto.setTamanho(tamanho);
+        dto.setTotal(resultado.total());
+        dto.setResultados(resultados);
+        return dto;
+    }
+
+    public IndiceBuscaDTO estatisticasIndice() {
+        BuscaReceitas.EstatisticasIndice estatisticas = buscaReceitas.estatisticas();
+        IndiceBuscaDTO dto = new IndiceBuscaDTO();
+        dto.setReceitas(estatisticas.documentos());
+        dto.setDocumentosRemovidos(estatisticas.removidos());
+        dto.setTermos(estatisticas.termos());
+        dto.setPostagens(estatisticas.postagens());
+        dto.setDuracaoUltimaReconstrucaoMs(estatisticas.duracaoUltimaReconstrucaoMs());
+        return dto;
+    }
+
+    public IndiceBuscaDTO reconstruirIndice() {
+        buscaReceitas.reconstruir();
+        return estatisticasIndice();
+    }
+}
@@ -0,0 +1,186 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.BuscaSalvaDTO;
+import org.grupo1.gestordereceitas.dto.BuscaSalvaRequestDTO;
+import org.grupo1.gestordereceitas.dto.NotificacaoBuscaDTO;
+import org.grupo1.gestordereceitas.dto.NotificacoesBuscaDTO;
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.event.BuscaSalvaAlteradaEvent;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.model.BuscaSalva;
+import org.grupo1.gestordereceitas.model.NotificacaoBusca;
+import org.grupo1.gestordereceitas.percolador.ConsultaSalva;
+import org.grupo1.gestordereceitas.percolador.PercoladorBuscas;
+import org.grupo1.gestordereceitas.repository.BuscaSalvaRepository;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.NotificacaoBuscaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+@Service
+public class BuscaSalvaService {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscaSalvaService.class);
+
+    private static final int LIMITE_MAXIMO_NOTIFICACOES = 100;
+
+    private final BuscaSalvaRepository buscaSalvaRepository;
+    private final NotificacaoBuscaRepository notificacaoBuscaRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final IngredienteRepository ingredienteRepository;
+    private final PercoladorBuscas percoladorBuscas;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration janelaConsolidacao;
+    private final Duration retencaoNotificacoes;
+
+    public BuscaSalvaService(BuscaSalvaRepository buscaSalvaRepository,
+                             NotificacaoBuscaRepository notificacaoBuscaRepository,
+                             CategoriaRepository categoriaRepository,
+                             IngredienteRepository ingredienteRepository,
+                             PercoladorBuscas percoladorBuscas,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${gestor.buscas-salvas.janela-consolidacao-ms:2000}") long janelaConsolidacaoMs,
+                             @Value("${gestor.buscas-salvas.retencao-notificacoes-ms:604800000}") long retencaoNotificacoesMs) {
+        this.buscaSalvaRepository = buscaSalvaRepository;
+        this.notificacaoBuscaRepository = notificacaoBuscaRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.ingredienteRepository = ingredienteRepository;
+        this.percoladorBuscas = percoladorBuscas;
+        this.eventPublisher = eventPublisher;
+        this.janelaConsolidacao = Duration.ofMillis(janelaConsolidacaoMs);
+        this.retencaoNotificacoes = Duration.ofMillis(retencaoNotificacoesMs);
+    }
+
+    public List<BuscaSalvaDTO> listar(String usuario) {
+        validarUsuario(usuario);
+        return buscaSalvaRepository.findByUsuarioOrderByIdAsc(usuario).stream().map(BuscaSalvaService::paraDTO).toList();
+    }
+
+    @Transactional
+    public BuscaSalvaDTO criar(BuscaSalvaRequestDTO dto) {
+        validarUsuario(dto.getUsuario());
+        if (dto.getNome() == null || dto.getNome().isBlank()) {
+            throw new BusinessException("Informe o nome da busca.");
+        }
+        if ((dto.getTempoMinimo() != null && dto.getTempoMinimo() < 0) || (dto.getTempoMaximo() != null && dto.getTempoMaximo() < 0)) {
+            throw new BusinessException("Os tempos de preparo não podem ser negativos.");
+        }
+        if (dto.getTempoMinimo() != null && dto.getTempoMaximo() != null && dto.getTempoMinimo() > dto.getTempoMaximo()) {
+            throw new BusinessException("O tempo mínimo não pode ser maior que o máximo.");
+        }
+        if (dto.getCategoriaId() != null && !categoriaRepository.existsById(dto.getCategoriaId())) {
+            throw new ResourceNotFoundException("Categoria com ID " + dto.getCategoriaId() + " não encontrada");
+        }
+        List<Long> ingredientes = dto.getIngredientes() == null ? List.of() : dto.getIngredientes();
+        for (Long ingredienteId : ingredientes) {
+            if (ingredienteId == null || !ingredienteRepository.existsById(ingredienteId)) {
+                throw new ResourceNotFoundException("Ingrediente com ID " + ingredienteId + " não encontrado");
+            }
+        }
+
+        BuscaSalva busca = new BuscaSalva(null, dto.getUsuario(), dto.getNome(), dto.getCategoriaId(),
+                dto.getTempoMinimo(), dto.getTempoMaximo(), new HashSet<>(ingredientes), Instant.now());
+        BuscaSalva salva = buscaSalvaRepository.save(busca);
+        eventPublisher.publishEvent(new BuscaSalvaAlteradaEvent(salva.getId()));
+        return paraDTO(salva);
+    }
+
+    @Transactional
+    public void deletar(Long id) {
+        if (!buscaSalvaRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Busca salva com ID " + id + " não encontrada para exclusão");
+        }
+        notificacaoBuscaRepository.deleteByBuscaSalva(id);
+        buscaSalvaRepository.deleteById(id);
+        eventPublisher.publishEvent(new BuscaSalvaAlteradaEvent(id));
+    }
+
+    /**
+     * Grava um aviso para cada busca salva que a receita passou a atender. Chamado pelo
+     * ReceitaService dentro da transação da escrita: o aviso existe se e somente se a escrita for
+     * confirmada.
+     */
+    public void notificar(Long receitaId, ContribuicaoReceita anterior, ContribuicaoReceita nova) {
+        List<ConsultaSalva> atendidas = percoladorBuscas.percolar(anterior, nova);
+        if (atendidas.isEmpty()) {
+            return;
+        }
+        Instant agora = Instant.now();
+        List<NotificacaoBusca> notificacoes = new ArrayList<>(atendidas.size());
+        for (ConsultaSalva consulta : atendidas) {
+            notificacoes.add(new NotificacaoBusca(null, consulta.usuario(), consulta.id(), receitaId, anterior == null, agora));
+        }
+        notificacaoBuscaRepository.saveAll(notificacoes);
+    }
+
+    public NotificacoesBuscaDTO notificacoes(String usuario, long depois, int limite) {
+        validarUsuario(usuario);
+        if (limite < 1 || limite > LIMITE_MAXIMO_NOTIFICACOES) {
+            throw new BusinessException("Limite deve estar entre 1 e " + LIMITE_MAXIMO_NOTIFICACOES + ".");
+        }
+        // Ids são reservados antes do commit: um aviso recente pode ainda ter vizinhos de id menor não
+        // confirmados, que o cursor pularia. Só os gravados antes da janela de consolidação são entregues
+        Instant consolidadosAte = Instant.now().minus(janelaConsolidacao);
+        List<NotificacaoBuscaDTO> lidas = notificacaoBuscaRepository
+                .findByUsuarioAndIdGreaterThanAndCriadaEmBeforeOrderByIdAsc(usuario, depois, consolidadosAte, Limit.of(limite))
+                .stream()
+                .map(BuscaSalvaService::paraDTO)
+                .toList();
+        NotificacoesBuscaDTO dto = new NotificacoesBuscaDTO();
+        dto.setNotificacoes(lidas);
+        dto.setCursor(lidas.isEmpty() ? depois : lidas.getLast().getId());
+        return dto;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${gestor.buscas-salvas.intervalo-limpeza-ms:3600000}")
+    public void limparNotificacoesAntigas() {
+        int removidas = notificacaoBuscaRepository.deleteByCriadaEmBefore(Instant.now().minus(retencaoNotificacoes));
+        if (removidas > 0) {
+            log.debug("{} notificações de buscas salvas antigas removidas", removidas);
+        }
+    }
+
+    private static void validarUsuario(String usuario) {
+        if (usuario == null || usuario.isBlank()) {
+            throw new BusinessException("Informe o usuário.");
+        }
+    }
+
+    private static BuscaSalvaDTO paraDTO(BuscaSalva busca) {
+        BuscaSalvaDTO dto = new BuscaSalvaDTO();
+        dto.setId(busca.getId());
+        dto.setUsuario(busca.getUsuario());
+        dto.setNome(busca.getNome());
+        dto.setCategoriaId(busca.getCategoriaId());
+        dto.setTempoMinimo(busca.getTempoMinimo());
+        dto.setTempoMaximo(busca.getTempoMaximo());
+        dto.setIngredientes(busca.getIngredienteIds().stream().sorted().toList());
+        dto.setCriadaEm(busca.getCriadaEm());
+        return dto;
+    }
+
+    private static NotificacaoBuscaDTO paraDTO(NotificacaoBusca notificacao) {
+        NotificacaoBuscaDTO dto = new NotificacaoBuscaDTO();
+        dto.setId(notificacao.getId());
+        dto.setBuscaSalvaId(notificacao.getBuscaSalvaId());
+        dto.setReceitaId(notificacao.getReceitaId());
+        dto.setReceitaNova(notificacao.isReceitaNova());
+        dto.setCriadaEm(notificacao.getCriadaEm());
+        return dto;
+    }
+}
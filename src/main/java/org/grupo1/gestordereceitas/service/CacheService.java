@@ -0,0 +1,96 @@
+package org.grupo1.gestordereceitas.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.grupo1.gestordereceitas.cache.InvalidacaoDistribuida;
+import org.grupo1.gestordereceitas.cache.ReceitaIdsFiltro;
+import org.grupo1.gestordereceitas.cache.RespostaCache;
+import org.grupo1.gestordereceitas.dto.CacheEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.CacheRegiaoDTO;
+import org.grupo1.gestordereceitas.dto.CatalogoLeituraEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.FiltroReceitasEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.InvalidacaoEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.RespostaCacheEstatisticasDTO;
+import org.grupo1.gestordereceitas.leitura.CatalogoLeitura;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class CacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RespostaCache respostaCache;
+    private final ReceitaIdsFiltro receitaIdsFiltro;
+    private final InvalidacaoDistribuida invalidacaoDistribuida;
+    private final CatalogoLeitura catalogoLeitura;
+
+    public CacheService(EntityManagerFactory entityManagerFactory,
+                        RespostaCache respostaCache,
+                        ReceitaIdsFiltro receitaIdsFiltro,
+                        InvalidacaoDistribuida invalidacaoDistribuida,
+                        CatalogoLeitura catalogoLeitura) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.respostaCache = respostaCache;
+        this.receitaIdsFiltro = receitaIdsFiltro;
+        this.invalidacaoDistribuida = invalidacaoDistribuida;
+        this.catalogoLeitura = catalogoLeitura;
+    }
+
+    // Estatísticas do cache de segundo nível do Hibernate, no total e por região
+    public CacheEstatisticasDTO estatisticasSegundoNivel() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegiaoDTO> regioes = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(regiao -> toRegiaoDTO(regiao, statistics.getDomainDataRegionStatistics(regiao)))
+                .toList();
+
+        CacheEstatisticasDTO dto = new CacheEstatisticasDTO();
+        dto.setEstatisticasHabilitadas(statistics.isStatisticsEnabled());
+        dto.setAcertos(statistics.getSecondLevelCacheHitCount());
+        dto.setFalhas(statistics.getSecondLevelCacheMissCount());
+        dto.setInsercoes(statistics.getSecondLevelCachePutCount());
+        dto.setTaxaAcerto(taxaAcerto(dto.getAcertos(), dto.getFalhas()));
+        dto.setRegioes(regioes);
+        return dto;
+    }
+
+    // Estatísticas do cache de respostas serializadas
+    public RespostaCacheEstatisticasDTO estatisticasRespostas() {
+        return respostaCache.estatisticas();
+    }
+
+    // Estatísticas do filtro de Bloom de IDs de receitas
+    public FiltroReceitasEstatisticasDTO estatisticasFiltroReceitas() {
+        return receitaIdsFiltro.estatisticas();
+    }
+
+    // Posição desta instância no log de invalidação compartilhado
+    public InvalidacaoEstatisticasDTO estatisticasInvalidacao() {
+        return invalidacaoDistribuida.estatisticas();
+    }
+
+    // Tamanho e pegada estimada no heap do modelo de leitura em memória
+    public CatalogoLeituraEstatisticasDTO estatisticasCatalogoLeitura() {
+        return catalogoLeitura.estatisticas();
+    }
+
+    private CacheRegiaoDTO toRegiaoDTO(String regiao, CacheRegionStatistics regionStatistics) {
+        CacheRegiaoDTO dto = new CacheRegiaoDTO();
+        dto.setRegiao(regiao);
+        dto.setAcertos(regionStatistics.getHitCount());
+        dto.setFalhas(regionStatistics.getMissCount());
+        dto.setInsercoes(regionStatistics.getPutCount());
+        dto.setTaxaAcerto(taxaAcerto(dto.getAcertos(), dto.getFalhas()));
+        return dto;
+    }
+
+    private double taxaAcerto(long acertos, long falhas) {
+        long total = acertos + falhas;
+        return total == 0 ? 0.0 : (double) acertos / total;
+    }
+}
@@ -1,45 +1,84 @@
 package org.grupo1.gestordereceitas.service;
 
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
+import org.grupo1.gestordereceitas.event.CategoriaAlteradaEvent;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.leitura.CatalogoLeitura;
 import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Receita;
 import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class CategoriaService {
 
     private final CategoriaRepository categoriaRepository;
+    private final ReceitaRepository receitaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogoLeitura catalogoLeitura;
 
-    public CategoriaService(CategoriaRepository categoriaRepository) {
+    public CategoriaService(CategoriaRepository categoriaRepository,
+                            ReceitaRepository receitaRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            CatalogoLeitura catalogoLeitura) {
         this.categoriaRepository = categoriaRepository;
+        this.receitaRepository = receitaRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogoLeitura = catalogoLeitura;
     }
 
     public List<Categoria> listarTodas() {
+        if (catalogoLeitura.disponivel()) {
+            return catalogoLeitura.listarCategorias();
+        }
         return categoriaRepository.findAll();
     }
 
     public Categoria buscarPorId(Long id) {
+        if (catalogoLeitura.disponivel()) {
+            return catalogoLeitura.buscarCategoria(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Categoria com ID " + id + " não encontrada"));
+        }
         return categoriaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Categoria com ID " + id + " não encontrada"));
     }
 
+    @Transactional
     public Categoria salvar(Categoria categoria) {
-        return categoriaRepository.save(categoria);
+        Categoria salva = categoriaRepository.save(categoria);
+        eventPublisher.publishEvent(new CategoriaAlteradaEvent(salva.getId()));
+        return salva;
     }
 
+    @Transactional
     public Categoria atualizar(Long id, Categoria categoria) {
         Categoria existente = categoriaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Categoria com ID " + id + " não encontrada"));
+        String nomeAnterior = existente.getNome();
         existente.setNome(categoria.getNome());
-        return categoriaRepository.save(existente);
+        Categoria atualizada = categoriaRepository.save(existente);
+        // O nome da categoria faz parte do snapshot de cada receita dela
+        if (!Objects.equals(nomeAnterior, atualizada.getNome())) {
+            for (Receita receita : receitaRepository.findByCategoriaId(id)) {
+                receita.setSnapshot(ReceitaSnapshotMapper.serializar(receita));
+            }
+        }
+        eventPublisher.publishEvent(new CategoriaAlteradaEvent(id));
+        return atualizada;
     }
 
+    @Transactional
     public void deletar(Long id) {
         if (!categoriaRepository.existsById(id)) {
             throw new ResourceNotFoundException("Categoria com ID " + id + " não encontrada para exclusão");
         }
         categoriaRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoriaAlteradaEvent(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.combinacoes.Combinacao;
+import org.grupo1.gestordereceitas.combinacoes.MatrizCoocorrencia;
+import org.grupo1.gestordereceitas.dto.CombinacaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.MatrizCombinacoesDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CombinacaoService {
+
+    private final MatrizCoocorrencia matrizCoocorrencia;
+    private final IngredienteService ingredienteService;
+
+    public CombinacaoService(MatrizCoocorrencia matrizCoocorrencia, IngredienteService ingredienteService) {
+        this.matrizCoocorrencia = matrizCoocorrencia;
+        this.ingredienteService = ingredienteService;
+    }
+
+    public List<CombinacaoIngredienteDTO> combinacoes(Long ingredienteId, int limite) {
+        if (limite < 1 || limite > MatrizCoocorrencia.MAXIMO_COMBINACOES) {
+            throw new BusinessException("Limite deve estar entre 1 e " + MatrizCoocorrencia.MAXIMO_COMBINACOES + ".");
+        }
+        // Lança 404 para ingredientes inexistentes
+        ingredienteService.buscarPorId(ingredienteId);
+
+        List<CombinacaoIngredienteDTO> resultado = new ArrayList<>();
+        for (Combinacao combinacao : matrizCoocorrencia.combinacoes(ingredienteId, limite)) {
+            try {
+                Ingrediente ingrediente = ingredienteService.buscarPorId(combinacao.ingredienteId());
+                CombinacaoIngredienteDTO dto = new CombinacaoIngredienteDTO();
+                dto.setId(ingrediente.getId());
+                dto.setNome(ingrediente.getNome());
+                dto.setReceitasJuntos(combinacao.receitasJuntos());
+                dto.setPercentual(combinacao.percentual());
+                resultado.add(dto);
+            } catch (ResourceNotFoundException e) {
+                // Excluído entre a consulta à matriz e a leitura
+            }
+        }
+        return resultado;
+    }
+
+    public MatrizCombinacoesDTO situacao() {
+        MatrizCoocorrencia.Situacao situacao = matrizCoocorrencia.situacao();
+        MatrizCombinacoesDTO dto = new MatrizCombinacoesDTO();
+        dto.setIngredientes(situacao.ingredientes());
+        dto.setPares(situacao.pares());
+        dto.setDuracaoUltimaReconstrucaoMs(situacao.duracaoUltimaReconstrucaoMs());
+        return dto;
+    }
+
+    public MatrizCombinacoesDTO reconstruir() {
+        matrizCoocorrencia.reconstruir();
+        return situacao();
+    }
+}
@@ -0,0 +1,152 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
+import org.grupo1.gestordereceitas.compressao.TreinadorDicionario;
+import org.grupo1.gestordereceitas.dto.CompressaoBenchmarkDTO;
+import org.grupo1.gestordereceitas.dto.CompressaoEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.DicionarioCompressaoDTO;
+import org.grupo1.gestordereceitas.dto.RecompressaoDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.model.DicionarioCompressao;
+import org.grupo1.gestordereceitas.repository.DicionarioCompressaoRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manutenção da compressão das descrições: treino de novas versões do dicionário a partir do
+ * corpus atual, recompressão das linhas gravadas com versões anteriores e benchmark.
+ * <p>
+ * As linhas antigas continuam legíveis após um treino (cada uma indica a versão com que foi
+ * comprimida); a recompressão é opcional e roda em lotes por id, cada lote em sua transação.
+ */
+@Service
+public class CompressaoDescricaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressaoDescricaoService.class);
+
+    private static final int VERSAO_MAXIMA = 0xFFFF;
+    private static final int AMOSTRAS_BENCHMARK = 1_000;
+
+    private final ReceitaRepository receitaRepository;
+    private final DicionarioCompressaoRepository dicionarioRepository;
+    private final DicionariosDescricao dicionarios;
+    private final CompressorDescricao compressor;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoMaximoDicionario;
+    private final int amostrasTreino;
+
+    public CompressaoDescricaoService(ReceitaRepository receitaRepository,
+                                      DicionarioCompressaoRepository dicionarioRepository,
+                                      DicionariosDescricao dicionarios,
+                                      CompressorDescricao compressor,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${gestor.compressao.dicionario.tamanho-maximo-bytes:16384}") int tamanhoMaximoDicionario,
+                                      @Value("${gestor.compressao.dicionario.amostras-treino:20000}") int amostrasTreino) {
+        this.receitaRepository = receitaRepository;
+        this.dicionarioRepository = dicionarioRepository;
+        this.dicionarios = dicionarios;
+        this.compressor = compressor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoMaximoDicionario = tamanhoMaximoDicionario;
+        this.amostrasTreino = amostrasTreino;
+    }
+
+    public CompressaoEstatisticasDTO estatisticas() {
+        return compressor.estatisticas();
+    }
+
+    public DicionarioCompressaoDTO treinarDicionario() {
+        DicionarioCompressao novo = transactionTemplate.execute(status -> {
+            List<String> corpus = amostrar(receitaRepository.findAllDescricoes(), amostrasTreino);
+            if (corpus.isEmpty()) {
+                throw new BusinessException("Nenhuma descrição cadastrada para treinar o dicionário.");
+            }
+            int versao = dicionarioRepository.findUltimaVersao() + 1;
+            if (versao > VERSAO_MAXIMA) {
+                throw new BusinessException("Limite de versões do dicionário de compressão atingido.");
+            }
+            byte[] conteudo = TreinadorDicionario.treinar(corpus,
+                    dicionarios.dicionario(DicionariosDescricao.VERSAO_BASE), tamanhoMaximoDicionario);
+            return dicionarioRepository.save(new DicionarioCompressao(versao, conteudo, corpus.size(), Instant.now()));
+        });
+        // Ativado só depois do commit: nenhuma linha é gravada com uma versão que o banco não tem
+        dicionarios.ativar(novo.getVersao(), novo.getConteudo());
+        log.info("Dicionário de compressão versão {} treinado com {} descrições ({} bytes)",
+                novo.getVersao(), novo.getAmostras(), novo.getConteudo().length);
+
+        DicionarioCompressaoDTO dto = new DicionarioCompressaoDTO();
+        dto.setVersao(novo.getVersao());
+        dto.setTamanhoBytes(novo.getConteudo().length);
+        dto.setAmostras(novo.getAmostras());
+        return dto;
+    }
+
+    public RecompressaoDTO recomprimir() {
+        RecompressaoDTO resultado = new RecompressaoDTO();
+        resultado.setVersaoDicionario(dicionarios.versaoAtiva());
+        long ultimoId = 0;
+        while (true) {
+            long inicioLote = ultimoId;
+            Long fimLote = transactionTemplate.execute(status -> recomprimirLote(inicioLote, resultado));
+            if (fimLote == null) {
+                break;
+            }
+            ultimoId = fimLote;
+        }
+        if (resultado.getRecomprimidas() > 0) {
+            log.info("Descrições recomprimidas com o dicionário versão {}: {} de {} ({} → {} bytes)",
+                    resultado.getVersaoDicionario(), resultado.getRecomprimidas(), resultado.getVerificadas(),
+                    resultado.getBytesAntes(), resultado.getBytesDepois());
+        }
+        return resultado;
+    }
+
+    // Retorna o último id do lote, ou null quando não há mais receitas
+    private Long recomprimirLote(long aposId, RecompressaoDTO resultado) {
+        List<Object[]> linhas = receitaRepository.findDescricoesGravadasAposId(aposId);
+        if (linhas.isEmpty()) {
+            return null;
+        }
+        for (Object[] linha : linhas) {
+            Long id = ((Number) linha[0]).longValue();
+            byte[] gravada = (byte[]) linha[1];
+            resultado.setVerificadas(resultado.getVerificadas() + 1);
+            byte[] nova = compressor.recomprimir(gravada);
+            if (nova != null && receitaRepository.substituirDescricaoGravada(id, gravada, nova) == 1) {
+                resultado.setRecomprimidas(resultado.getRecomprimidas() + 1);
+                resultado.setBytesAntes(resultado.getBytesAntes() + gravada.length);
+                resultado.setBytesDepois(resultado.getBytesDepois() + nova.length);
+            }
+        }
+        return ((Number) linhas.getLast()[0]).longValue();
+    }
+
+    public CompressaoBenchmarkDTO benchmark(int rodadas) {
+        List<String> corpus = transactionTemplate.execute(status ->
+                amostrar(receitaRepository.findAllDescricoes(), AMOSTRAS_BENCHMARK));
+        return compressor.medir(corpus, Math.max(1, rodadas));
+    }
+
+    // Amostra espaçada uniformemente, preservando a ordem
+    private static List<String> amostrar(List<String> textos, int maximo) {
+        if (textos.size() <= maximo) {
+            return textos;
+        }
+        List<String> amostra = new ArrayList<>(maximo);
+        double passo = (double) textos.size() / maximo;
+        for (int i = 0; i < maximo; i++) {
+            amostra.add(textos.get((int) (i * passo)));
+        }
+        return amostra;
+    }
+}
@@ -0,0 +1,280 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.carga.EscritorCopiaCatalogo;
+import org.grupo1.gestordereceitas.carga.LeitorCopiaCatalogo;
+import org.grupo1.gestordereceitas.dto.CopiaCatalogoDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exporta o catálogo inteiro (categorias, ingredientes, receitas, linhas de ingredientes,
+ * substituições, informação nutricional dos ingredientes, versão do catálogo e dicionários de
+ * compressão) para um arquivo binário e o restaura em um banco vazio.
+ * <p>
+ * Trabalha direto sobre as tabelas, por JDBC: a exportação percorre cada tabela uma única vez em
+ * uma transação somente leitura com leitura repetível (uma fotografia consistente) e a restauração
+ * lê o arquivo mapeado em memória e insere em lotes, com os ids originais, em uma única transação.
+ * Os valores das colunas comprimidas são copiados sem descomprimir. Cópias de versões anteriores do
+ * formato são restauradas sem as seções que ainda não existiam.
+ */
+@Service
+public class CopiaCatalogoService {
+
+    private static final Logger log = LoggerFactory.getLogger(CopiaCatalogoService.class);
+
+    private static final int TAMANHO_LOTE = 1_000;
+    private static final int TAMANHO_PAGINA_LEITURA = 1_000;
+
+    private static final List<String> TABELAS_COM_IDENTIDADE =
+            List.of("categoria", "ingrediente", "receita", "receita_ingrediente", "substituicao");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leituraConsistente;
+    private final TransactionTemplate escrita;
+    private final Path arquivoPadrao;
+
+    public CopiaCatalogoService(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${gestor.catalogo.copia.arquivo:./data/catalogo.bin}") String arquivoPadrao) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(TAMANHO_PAGINA_LEITURA);
+        this.leituraConsistente = new TransactionTemplate(transactionManager);
+        this.leituraConsistente.setReadOnly(true);
+        this.leituraConsistente.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.escrita = new TransactionTemplate(transactionManager);
+        this.arquivoPadrao = Path.of(arquivoPadrao);
+    }
+
+    public Path arquivoPadrao() {
+        return arquivoPadrao;
+    }
+
+    public CopiaCatalogoDTO exportar() {
+        return exportar(arquivoPadrao);
+    }
+
+    public CopiaCatalogoDTO exportar(Path arquivo) {
+        long inicio = System.nanoTime();
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        CopiaCatalogoDTO resultado = new CopiaCatalogoDTO();
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            try (EscritorCopiaCatalogo escritor = new EscritorCopiaCatalogo(Files.newOutputStream(temporario))) {
+                leituraConsistente.executeWithoutResult(status -> escreverSecoes(escritor, resultado));
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            resultado.setBytes(Files.size(arquivo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao exportar o catálogo para " + arquivo, e);
+        }
+        resultado.setArquivo(arquivo.toString());
+        resultado.setDuracaoMs((System.nanoTime() - inicio) / 1_000_000);
+        log.info("Catálogo exportado para {}: {} receitas, {} linhas de ingredientes, {} bytes em {} ms",
+                arquivo, resultado.getReceitas(), resultado.getLinhasIngredientes(), resultado.getBytes(), resultado.getDuracaoMs());
+        return resultado;
+    }
+
+    private void escreverSecoes(EscritorCopiaCatalogo escritor, CopiaCatalogoDTO resultado) {
+        // Na ordem de FormatoCopiaCatalogo.Secao
+        exportarTabela(escritor, "select id, marcador, versao from versao_catalogo order by id", (rs, e) -> {
+            e.escreverLong(rs.getLong(1));
+            e.escreverTexto(rs.getString(2));
+            e.escreverLong(rs.getLong(3));
+        });
+        resultado.setDicionarios(exportarTabela(escritor,
+                "select versao, conteudo, amostras, criado_em from dicionario_compressao order by versao", (rs, e) -> {
+                    e.escreverInt(rs.getInt(1));
+                    e.escreverBytes(rs.getBytes(2));
+                    e.escreverInt(rs.getInt(3));
+                    Timestamp criadoEm = rs.getTimestamp(4);
+                    e.escreverLong(criadoEm != null ? criadoEm.getTime() : -1);
+                }));
+        resultado.setCategorias(exportarTabela(escritor, "select id, nome from categoria order by id", (rs, e) -> {
+            e.escreverLong(rs.getLong(1));
+            e.escreverTexto(rs.getString(2));
+        }));
+        resultado.setIngredientes(exportarTabela(escritor, "select id, nome from ingrediente order by id", (rs, e) -> {
+            e.escreverLong(rs.getLong(1));
+            e.escreverTexto(rs.getString(2));
+        }));
+        resultado.setReceitas(exportarTabela(escritor,
+                "select id, nome, descricao, tempo_de_preparo, categoria_id, snapshot_ingredientes, porcoes "
+                        + "from receita order by id",
+                (rs, e) -> {
+                    e.escreverLong(rs.getLong(1));
+                    e.escreverTexto(rs.getString(2));
+                    e.escreverBytes(rs.getBytes(3));
+                    e.escreverInt(rs.getInt(4));
+                    e.escreverReferencia(rs.getObject(5, Long.class));
+                    e.escreverBytes(rs.getBytes(6));
+                    // getInt devolve 0 para nulo
+                    e.escreverInt(rs.getInt(7));
+                }));
+        resultado.setLinhasIngredientes(exportarTabela(escritor,
+                "select id, receita_id, ingrediente_id, quantidade, unidade_medida from receita_ingrediente order by id",
+                (rs, e) -> {
+                    e.escreverLong(rs.getLong(1));
+                    e.escreverReferencia(rs.getObject(2, Long.class));
+                    e.escreverReferencia(rs.getObject(3, Long.class));
+                    e.escreverTexto(rs.getString(4));
+                    e.escreverTexto(rs.getString(5));
+                }));
+        resultado.setSubstituicoes(exportarTabela(escritor,
+                "select id, ingrediente_id, substituto_id, peso from substituicao order by id", (rs, e) -> {
+                    e.escreverLong(rs.getLong(1));
+                    e.escreverReferencia(rs.getObject(2, Long.class));
+                    e.escreverReferencia(rs.getObject(3, Long.class));
+                    e.escreverDouble(rs.getDouble(4));
+                }));
+        resultado.setNutricaoIngredientes(exportarTabela(escritor,
+                "select ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade "
+                        + "from nutricao_ingrediente order by ingrediente_id", (rs, e) -> {
+                    e.escreverLong(rs.getLong(1));
+                    for (int coluna = 2; coluna <= 7; coluna++) {
+                        e.escreverDouble(rs.getDouble(coluna));
+                    }
+                    Double gramasPorUnidade = rs.getObject(8, Double.class);
+                    e.escreverDouble(gramasPorUnidade != null ? gramasPorUnidade : -1);
+                }));
+    }
+
+    private long exportarTabela(EscritorCopiaCatalogo escritor, String sql, EscritaLinha escritaLinha) {
+        long[] linhas = {0};
+        jdbcTemplate.query(sql, rs -> {
+            try {
+                escritor.iniciarLinha();
+                escritaLinha.escrever(rs, escritor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            linhas[0]++;
+        });
+        try {
+            escritor.terminarSecao();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return linhas[0];
+    }
+
+    public CopiaCatalogoDTO restaurar(Path arquivo) throws IOException {
+        long inicio = System.nanoTime();
+        LeitorCopiaCatalogo leitor = new LeitorCopiaCatalogo(arquivo);
+        CopiaCatalogoDTO resultado = new CopiaCatalogoDTO();
+        escrita.executeWithoutResult(status -> lerSecoes(leitor, resultado));
+        // Fora da transação: no H2, um ALTER TABLE faz commit implícito
+        for (String tabela : TABELAS_COM_IDENTIDADE) {
+            Long proximo = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from " + tabela, Long.class);
+            jdbcTemplate.execute("alter table " + tabela + " alter column id restart with " + proximo);
+        }
+        resultado.setArquivo(arquivo.toString());
+        resultado.setBytes(leitor.tamanho());
+        resultado.setDuracaoMs((System.nanoTime() - inicio) / 1_000_000);
+        log.info("Catálogo restaurado de {}: {} receitas, {} linhas de ingredientes em {} ms",
+                arquivo, resultado.getReceitas(), resultado.getLinhasIngredientes(), resultado.getDuracaoMs());
+        return resultado;
+    }
+
+    private void lerSecoes(LeitorCopiaCatalogo leitor, CopiaCatalogoDTO resultado) {
+        inserir(leitor, "insert into versao_catalogo (id, marcador, versao) values (?, ?, ?)",
+                l -> new Object[]{l.lerLong(), l.lerTexto(), l.lerLong()});
+        resultado.setDicionarios(inserir(leitor,
+                "insert into dicionario_compressao (versao, conteudo, amostras, criado_em) values (?, ?, ?, ?)",
+                l -> {
+                    int versao = l.lerInt();
+                    byte[] conteudo = l.lerBytes();
+                    int amostras = l.lerInt();
+                    long criadoEm = l.lerLong();
+                    return new Object[]{versao, conteudo, amostras, criadoEm >= 0 ? new Timestamp(criadoEm) : null};
+                }));
+        resultado.setCategorias(inserir(leitor, "insert into categoria (id, nome) values (?, ?)",
+                l -> new Object[]{l.lerLong(), l.lerTexto()}));
+        resultado.setIngredientes(inserir(leitor, "insert into ingrediente (id, nome) values (?, ?)",
+                l -> new Object[]{l.lerLong(), l.lerTexto()}));
+        resultado.setReceitas(inserir(leitor,
+                "insert into receita (id, nome, descricao, tempo_de_preparo, categoria_id, snapshot_ingredientes, porcoes) "
+                        + "values (?, ?, ?, ?, ?, ?, ?)",
+                l -> {
+                    Object[] linha = {l.lerLong(), l.lerTexto(), l.lerBytes(), l.lerInt(), l.lerReferencia(), l.lerBytes(), null};
+                    // Antes da versão 3 não há porções: fica nulo (uma porção)
+                    int porcoes = l.versao() >= 3 ? l.lerInt() : 0;
+                    linha[6] = porcoes > 0 ? porcoes : null;
+                    return linha;
+                }));
+        resultado.setLinhasIngredientes(inserir(leitor,
+                "insert into receita_ingrediente (id, receita_id, ingrediente_id, quantidade, unidade_medida) "
+                        + "values (?, ?, ?, ?, ?)",
+                l -> new Object[]{l.lerLong(), l.lerReferencia(), l.lerReferencia(), l.lerTexto(), l.lerTexto()}));
+        if (leitor.versao() >= 2) {
+            resultado.setSubstituicoes(inserir(leitor,
+                    "insert into substituicao (id, ingrediente_id, substituto_id, peso) values (?, ?, ?, ?)",
+                    l -> new Object[]{l.lerLong(), l.lerReferencia(), l.lerReferencia(), l.lerDouble()}));
+        }
+        if (leitor.versao() < 3) {
+            // Sem informação nutricional: os ingredientes ficam sem valores até serem cadastrados
+            return;
+        }
+        resultado.setNutricaoIngredientes(inserir(leitor,
+                "insert into nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, "
+                        + "sodio, gramas_por_unidade) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                l -> {
+                    Object[] linha = {l.lerLong(), l.lerDouble(), l.lerDouble(), l.lerDouble(), l.lerDouble(),
+                            l.lerDouble(), l.lerDouble(), null};
+                    double gramasPorUnidade = l.lerDouble();
+                    linha[7] = gramasPorUnidade >= 0 ? gramasPorUnidade : null;
+                    return linha;
+                }));
+    }
+
+    private long inserir(LeitorCopiaCatalogo leitor, String sql, LeituraLinha leituraLinha) {
+        List<Object[]> lote = new ArrayList<>(TAMANHO_LOTE);
+        long total = 0;
+        try {
+            while (leitor.proximaLinha()) {
+                lote.add(leituraLinha.ler(leitor));
+                if (lote.size() == TAMANHO_LOTE) {
+                    jdbcTemplate.batchUpdate(sql, lote);
+                    total += lote.size();
+                    lote.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!lote.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, lote);
+            total += lote.size();
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface EscritaLinha {
+        void escrever(ResultSet rs, EscritorCopiaCatalogo escritor) throws SQLException, IOException;
+    }
+
+    @FunctionalInterface
+    private interface LeituraLinha {
+        Object[] ler(LeitorCopiaCatalogo leitor);
+    }
+}
@@ -0,0 +1,113 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.despensa.CoberturaReceita;
+import org.grupo1.gestordereceitas.despensa.IndiceDespensa;
+import org.grupo1.gestordereceitas.despensa.ResultadoDespensa;
+import org.grupo1.gestordereceitas.dto.CoberturaReceitaDTO;
+import org.grupo1.gestordereceitas.dto.ConsultaDespensaDTO;
+import org.grupo1.gestordereceitas.dto.ReceitasDespensaDTO;
+import org.grupo1.gestordereceitas.dto.SubstituicaoAplicadaDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.substituicoes.GrafoSubstituicoes;
+import org.grupo1.gestordereceitas.substituicoes.IndiceSubstituicoes;
+import org.grupo1.gestordereceitas.substituicoes.Substituto;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class DespensaService {
+
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    private final IndiceDespensa indiceDespensa;
+    private final ReceitaService receitaService;
+    private final IndiceSubstituicoes indiceSubstituicoes;
+
+    public DespensaService(IndiceDespensa indiceDespensa, ReceitaService receitaService,
+                           IndiceSubstituicoes indiceSubstituicoes) {
+        this.indiceDespensa = indiceDespensa;
+        this.receitaService = receitaService;
+        this.indiceSubstituicoes = indiceSubstituicoes;
+    }
+
+    public ReceitasDespensaDTO buscar(ConsultaDespensaDTO consulta) {
+        if (consulta.getIngredientes() == null || consulta.getIngredientes().isEmpty()) {
+            throw new BusinessException("Informe ao menos um ingrediente disponível.");
+        }
+        if (consulta.getPagina() < 0 || consulta.getTamanho() < 1 || consulta.getTamanho() > TAMANHO_MAXIMO_PAGINA) {
+            throw new BusinessException("Página deve ser maior ou igual a zero e tamanho entre 1 e " + TAMANHO_MAXIMO_PAGINA + ".");
+        }
+        if (consulta.getMaximoFaltando() != null && consulta.getMaximoFaltando() < 0) {
+            throw new BusinessException("O máximo de ingredientes faltando não pode ser negativo.");
+        }
+        Set<Long> despensa = new HashSet<>(consulta.getIngredientes());
+        Set<Long> excluidos = consulta.getExcluir() == null ? Set.of() : new HashSet<>(consulta.getExcluir());
+        int maximoFaltando = consulta.getMaximoFaltando() == null ? -1 : consulta.getMaximoFaltando();
+        // Um único grafo para a busca e para a escolha das substituições de cada resultado
+        GrafoSubstituicoes grafo = consulta.isPermitirSubstituicao() ? indiceSubstituicoes.grafo() : null;
+        Set<Long> substituiveis = grafo != null ? grafo.substituiveisPor(despensa) : Set.of();
+
+        ResultadoDespensa resultado = indiceDespensa.buscar(despensa, substituiveis, excluidos, maximoFaltando,
+                consulta.getPagina() * consulta.getTamanho(), consulta.getTamanho());
+
+        List<CoberturaReceitaDTO> resultados = new ArrayList<>(resultado.receitas().size());
+        for (CoberturaReceita cobertura : resultado.receitas()) {
+            try {
+                CoberturaReceitaDTO item = new CoberturaReceitaDTO();
+                item.setIngredientesDisponiveis(cobertura.disponiveis());
+                item.setTotalIngredientes(cobertura.total());
+                List<Long> faltando = faltando(cobertura.receitaId(), despensa);
+                if (cobertura.substituidos() > 0) {
+                    item.setSubstituicao(substituir(faltando, despensa, grafo));
+                }
+                item.setIngredientesFaltando(faltando);
+                item.setReceita(receitaService.buscarPorId(cobertura.receitaId()));
+                resultados.add(item);
+            } catch (ResourceNotFoundException e) {
+                // Excluída entre a consulta ao índice e a leitura
+            }
+        }
+
+        ReceitasDespensaDTO dto = new ReceitasDespensaDTO();
+        dto.setPagina(consulta.getPagina());
+        dto.setTamanho(consulta.getTamanho());
+        dto.setTotal(resultado.total());
+        dto.setResultados(resultados);
+        return dto;
+    }
+
+    private List<Long> faltando(long receitaId, Set<Long> despensa) {
+        List<Long> faltando = new ArrayList<>();
+        for (long ingredienteId : indiceDespensa.ingredientesDaReceita(receitaId)) {
+            if (!despensa.contains(ingredienteId)) {
+                faltando.add(ingredienteId);
+            }
+        }
+        return faltando;
+    }
+
+    // Escolhe, entre os que faltam, o ingrediente com o substituto de maior peso na despensa e o
+    // retira da lista
+    private SubstituicaoAplicadaDTO substituir(List<Long> faltando, Set<Long> despensa, GrafoSubstituicoes grafo) {
+        Long melhorIngrediente = null;
+        Substituto melhor = null;
+        for (Long ingredienteId : faltando) {
+            Substituto substituto = grafo.melhorSubstituto(ingredienteId, despensa);
+            if (substituto != null && (melhor == null || substituto.peso() > melhor.peso())) {
+                melhorIngrediente = ingredienteId;
+                melhor = substituto;
+            }
+        }
+        if (melhor == null) {
+            return null;
+        }
+        faltando.remove(melhorIngrediente);
+        SubstituicaoAplicadaDTO dto = new SubstituicaoAplicadaDTO();
+        dto.setIngredienteId(melhorIngrediente);
+        dto.setSubstitutoId(melhor.ingredienteId());
+        dto.setPeso(melhor.peso());
+        return dto;
+    }
+}
@@ -0,0 +1,46 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.ParDuplicadoDTO;
+import org.grupo1.gestordereceitas.dto.RelatorioDuplicatasDTO;
+import org.grupo1.gestordereceitas.duplicatas.IndiceDuplicatas;
+import org.grupo1.gestordereceitas.duplicatas.ParDuplicado;
+import org.grupo1.gestordereceitas.duplicatas.RelatorioDuplicatas;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DuplicataService {
+
+    private static final int LIMITE_MAXIMO = 500;
+
+    private final IndiceDuplicatas indiceDuplicatas;
+
+    public DuplicataService(IndiceDuplicatas indiceDuplicatas) {
+        this.indiceDuplicatas = indiceDuplicatas;
+    }
+
+    public RelatorioDuplicatasDTO relatorio(double similaridadeMinima, int limite) {
+        if (!(similaridadeMinima > 0 && similaridadeMinima <= 1)) {
+            throw new BusinessException("A similaridade mínima deve estar entre 0 (exclusivo) e 1.");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessException("Limite deve estar entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+        RelatorioDuplicatas relatorio = indiceDuplicatas.relatorio(similaridadeMinima, limite);
+
+        RelatorioDuplicatasDTO dto = new RelatorioDuplicatasDTO();
+        dto.setSimilaridadeMinima(similaridadeMinima);
+        dto.setParesAvaliados(relatorio.paresAvaliados());
+        dto.setPares(relatorio.pares().stream().map(DuplicataService::toDTO).toList());
+        return dto;
+    }
+
+    private static ParDuplicadoDTO toDTO(ParDuplicado par) {
+        ParDuplicadoDTO dto = new ParDuplicadoDTO();
+        dto.setReceitaId(par.receitaId());
+        dto.setOutraReceitaId(par.outraReceitaId());
+        dto.setSimilaridade(par.similaridade());
+        dto.setIdenticas(par.identicas());
+        return dto;
+    }
+}
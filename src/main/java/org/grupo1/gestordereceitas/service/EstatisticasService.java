@@ -0,0 +1,69 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.EstatisticaCategoriaDTO;
+import org.grupo1.gestordereceitas.dto.EstatisticasCatalogoDTO;
+import org.grupo1.gestordereceitas.dto.UsoIngredienteDTO;
+import org.grupo1.gestordereceitas.estatisticas.EstatisticasCatalogo;
+import org.grupo1.gestordereceitas.estatisticas.ResumoCategoria;
+import org.grupo1.gestordereceitas.estatisticas.ResumoEstatisticas;
+import org.grupo1.gestordereceitas.estatisticas.UsoIngrediente;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class EstatisticasService {
+
+    private final EstatisticasCatalogo estatisticasCatalogo;
+    private final CategoriaRepository categoriaRepository;
+    private final IngredienteRepository ingredienteRepository;
+
+    public EstatisticasService(EstatisticasCatalogo estatisticasCatalogo,
+                               CategoriaRepository categoriaRepository,
+                               IngredienteRepository ingredienteRepository) {
+        this.estatisticasCatalogo = estatisticasCatalogo;
+        this.categoriaRepository = categoriaRepository;
+        this.ingredienteRepository = ingredienteRepository;
+    }
+
+    public EstatisticasCatalogoDTO estatisticas(int limiteIngredientes) {
+        ResumoEstatisticas resumo = estatisticasCatalogo.resumo(limiteIngredientes);
+
+        // Só os nomes das categorias e dos ingredientes listados são buscados
+        Map<Long, String> nomesCategorias = categoriaRepository.findAllById(
+                        resumo.categorias().stream().map(ResumoCategoria::categoriaId).filter(id -> id != null).toList())
+                .stream().collect(Collectors.toMap(Categoria::getId, Categoria::getNome));
+        Map<Long, String> nomesIngredientes = ingredienteRepository.findAllById(
+                        resumo.ingredientesMaisUsados().stream().map(UsoIngrediente::ingredienteId).toList())
+                .stream().collect(Collectors.toMap(Ingrediente::getId, Ingrediente::getNome));
+
+        EstatisticasCatalogoDTO dto = new EstatisticasCatalogoDTO();
+        dto.setTotalReceitas(resumo.totalReceitas());
+        dto.setCategorias(resumo.categorias().stream().map(categoria -> {
+            EstatisticaCategoriaDTO item = new EstatisticaCategoriaDTO();
+            item.setCategoriaId(categoria.categoriaId());
+            item.setCategoria(nomesCategorias.get(categoria.categoriaId()));
+            item.setReceitas(categoria.receitas());
+            item.setTempoMedio(Math.round(categoria.tempoMedio() * 10) / 10.0);
+            item.setTempoP50(categoria.tempoP50());
+            item.setTempoP90(categoria.tempoP90());
+            item.setTempoP99(categoria.tempoP99());
+            return item;
+        }).toList());
+        dto.setIngredientesMaisUsados(resumo.ingredientesMaisUsados().stream().map(uso -> {
+            UsoIngredienteDTO item = new UsoIngredienteDTO();
+            item.setIngredienteId(uso.ingredienteId());
+            item.setNome(nomesIngredientes.get(uso.ingredienteId()));
+            item.setReceitas(uso.receitas());
+            return item;
+        }).toList());
+        dto.setUltimaReconciliacao(resumo.ultimaReconciliacao());
+        dto.setDivergenciasUltimaReconciliacao(resumo.divergenciasUltimaReconciliacao());
+        return dto;
+    }
+}
@@ -1,45 +1,115 @@
 package org.grupo1.gestordereceitas.service;
 
+import org.grupo1.gestordereceitas.busca.AutocompletarIngredientes;
+import org.grupo1.gestordereceitas.busca.SugestaoIngrediente;
+import org.grupo1.gestordereceitas.busca.TrieIngredientes;
+import org.grupo1.gestordereceitas.dto.SugestaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.exception.BusinessException;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.leitura.CatalogoLeitura;
 import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.model.Receita;
 import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.grupo1.gestordereceitas.repository.SubstituicaoRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class IngredienteService {
 
     private final IngredienteRepository ingredienteRepository;
+    private final ReceitaRepository receitaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogoLeitura catalogoLeitura;
+    private final AutocompletarIngredientes autocompletarIngredientes;
+    private final SubstituicaoRepository substituicaoRepository;
 
-    public IngredienteService(IngredienteRepository ingredienteRepository) {
+    public IngredienteService(IngredienteRepository ingredienteRepository,
+                              ReceitaRepository receitaRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              CatalogoLeitura catalogoLeitura,
+                              AutocompletarIngredientes autocompletarIngredientes,
+                              SubstituicaoRepository substituicaoRepository) {
         this.ingredienteRepository = ingredienteRepository;
+        this.receitaRepository = receitaRepository;
+        this.eventPublisher = eventPublisher;
+        this.catalogoLeitura = catalogoLeitura;
+        this.autocompletarIngredientes = autocompletarIngredientes;
+        this.substituicaoRepository = substituicaoRepository;
     }
 
     public List<Ingrediente> listarTodos() {
+        if (catalogoLeitura.disponivel()) {
+            return catalogoLeitura.listarIngredientes();
+        }
         return ingredienteRepository.findAll();
     }
 
     public Ingrediente buscarPorId(Long id) {
+        if (catalogoLeitura.disponivel()) {
+            return catalogoLeitura.buscarIngrediente(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ingrediente com ID " + id + " não encontrado"));
+        }
         return ingredienteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ingrediente com ID " + id + " não encontrado"));
     }
 
+    public List<SugestaoIngredienteDTO> autocompletar(String prefixo, int limite, boolean aproximado) {
+        if (limite < 1 || limite > TrieIngredientes.MAXIMO_SUGESTOES) {
+            throw new BusinessException("Limite deve estar entre 1 e " + TrieIngredientes.MAXIMO_SUGESTOES + ".");
+        }
+        List<SugestaoIngredienteDTO> sugestoes = new ArrayList<>();
+        for (SugestaoIngrediente sugestao : autocompletarIngredientes.sugerir(prefixo, limite, aproximado)) {
+            SugestaoIngredienteDTO dto = new SugestaoIngredienteDTO();
+            dto.setId(sugestao.ingredienteId());
+            dto.setNome(sugestao.nome());
+            dto.setReceitas(sugestao.receitas());
+            dto.setAproximada(sugestao.aproximada());
+            sugestoes.add(dto);
+        }
+        return sugestoes;
+    }
+
+    @Transactional
     public Ingrediente salvar(Ingrediente ingrediente) {
-        return ingredienteRepository.save(ingrediente);
+        Ingrediente salvo = ingredienteRepository.save(ingrediente);
+        eventPublisher.publishEvent(new IngredienteAlteradoEvent(salvo.getId()));
+        return salvo;
     }
 
+    @Transactional
     public Ingrediente atualizar(Long id, Ingrediente ingrediente) {
         Ingrediente existente = ingredienteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ingrediente com ID " + id + " não encontrado"));
+        String nomeAnterior = existente.getNome();
         existente.setNome(ingrediente.getNome());
-        return ingredienteRepository.save(existente);
+        Ingrediente atualizado = ingredienteRepository.save(existente);
+        // O nome do ingrediente faz parte do snapshot das receitas que o usam
+        if (!Objects.equals(nomeAnterior, atualizado.getNome())) {
+            for (Receita receita : receitaRepository.findByIngredienteId(id)) {
+                receita.setSnapshot(ReceitaSnapshotMapper.serializar(receita));
+            }
+        }
+        eventPublisher.publishEvent(new IngredienteAlteradoEvent(id));
+        return atualizado;
     }
 
+    @Transactional
     public void deletar(Long id) {
         if (!ingredienteRepository.existsById(id)) {
             throw new ResourceNotFoundException("Ingrediente com ID " + id + " não encontrado para exclusão");
         }
+        // As substituições do ingrediente saem junto; o grafo é remontado pelo evento
+        substituicaoRepository.deleteEnvolvendo(id);
         ingredienteRepository.deleteById(id);
+        eventPublisher.publishEvent(new IngredienteAlteradoEvent(id));
     }
 }
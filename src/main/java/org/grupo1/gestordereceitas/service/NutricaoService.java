@@ -0,0 +1,144 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.NutricaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.NutricaoReceitaDTO;
+import org.grupo1.gestordereceitas.dto.ValoresNutricionaisDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.model.NutricaoIngrediente;
+import org.grupo1.gestordereceitas.model.NutricaoReceita;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.model.ValoresNutricionais;
+import org.grupo1.gestordereceitas.nutricao.RecalculoNutricional;
+import org.grupo1.gestordereceitas.nutricao.ResultadoNutricional;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.NutricaoIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.NutricaoReceitaRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Service
+public class NutricaoService {
+
+    private final NutricaoReceitaRepository nutricaoReceitaRepository;
+    private final NutricaoIngredienteRepository nutricaoIngredienteRepository;
+    private final ReceitaRepository receitaRepository;
+    private final IngredienteRepository ingredienteRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+    private final RecalculoNutricional recalculoNutricional;
+
+    public NutricaoService(NutricaoReceitaRepository nutricaoReceitaRepository,
+                           NutricaoIngredienteRepository nutricaoIngredienteRepository,
+                           ReceitaRepository receitaRepository,
+                           IngredienteRepository ingredienteRepository,
+                           ReceitaIngredienteRepository receitaIngredienteRepository,
+                           RecalculoNutricional recalculoNutricional) {
+        this.nutricaoReceitaRepository = nutricaoReceitaRepository;
+        this.nutricaoIngredienteRepository = nutricaoIngredienteRepository;
+        this.receitaRepository = receitaRepository;
+        this.ingredienteRepository = ingredienteRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+        this.recalculoNutricional = recalculoNutricional;
+    }
+
+    @Transactional(readOnly = true)
+    public NutricaoReceitaDTO nutricaoDaReceita(Long receitaId) {
+        NutricaoReceita gravada = nutricaoReceitaRepository.findById(receitaId).orElse(null);
+        if (gravada != null) {
+            return paraDTO(receitaId, gravada.getTotal(), gravada.getPorcoes(), gravada.getLinhasNaoConvertidas(),
+                    gravada.getIngredientesSemNutricao(), gravada.getCalculadaEm());
+        }
+        // Ainda não gravada (ex.: logo depois da carga inicial): calcula sem gravar
+        Receita receita = receitaRepository.findById(receitaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + receitaId + " não encontrada"));
+        ResultadoNutricional resultado = recalculoNutricional.calcular(receitaId);
+        int porcoes = receita.getPorcoes() == null ? 1 : receita.getPorcoes();
+        return paraDTO(receitaId, resultado.total(), porcoes, resultado.linhasNaoConvertidas(),
+                resultado.ingredientesSemNutricao(), null);
+    }
+
+    @Transactional(readOnly = true)
+    public NutricaoIngredienteDTO nutricaoDoIngrediente(Long ingredienteId) {
+        if (!ingredienteRepository.existsById(ingredienteId)) {
+            throw new ResourceNotFoundException("Ingrediente com ID " + ingredienteId + " não encontrado");
+        }
+        NutricaoIngrediente nutricao = nutricaoIngredienteRepository.findById(ingredienteId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Ingrediente com ID " + ingredienteId + " não tem informação nutricional"));
+        return paraDTO(nutricao);
+    }
+
+    /**
+     * Grava a informação nutricional do ingrediente e agenda o recálculo das receitas que o usam,
+     * que roda em segundo plano: a requisição não espera por ele.
+     */
+    @Transactional
+    public NutricaoIngredienteDTO salvarNutricaoDoIngrediente(Long ingredienteId, NutricaoIngredienteDTO dto) {
+        ValoresNutricionaisDTO valores = dto.getPorCemGramas();
+        if (valores == null) {
+            throw new BusinessException("Informe os valores nutricionais por 100 g.");
+        }
+        if (valores.getCalorias() < 0 || valores.getProteinas() < 0 || valores.getCarboidratos() < 0
+                || valores.getGorduras() < 0 || valores.getFibras() < 0 || valores.getSodio() < 0) {
+            throw new BusinessException("Os valores nutricionais não podem ser negativos.");
+        }
+        if (dto.getGramasPorUnidade() != null && dto.getGramasPorUnidade() <= 0) {
+            throw new BusinessException("O peso por unidade deve ser maior que zero.");
+        }
+        if (!ingredienteRepository.existsById(ingredienteId)) {
+            throw new ResourceNotFoundException("Ingrediente com ID " + ingredienteId + " não encontrado");
+        }
+
+        NutricaoIngrediente nutricao = nutricaoIngredienteRepository.findById(ingredienteId).orElseGet(() -> {
+            NutricaoIngrediente nova = new NutricaoIngrediente();
+            nova.setIngrediente(ingredienteRepository.getReferenceById(ingredienteId));
+            return nova;
+        });
+        nutricao.setPorCemGramas(new ValoresNutricionais(valores.getCalorias(), valores.getProteinas(),
+                valores.getCarboidratos(), valores.getGorduras(), valores.getFibras(), valores.getSodio()));
+        nutricao.setGramasPorUnidade(dto.getGramasPorUnidade());
+        NutricaoIngrediente salva = nutricaoIngredienteRepository.save(nutricao);
+        recalculoNutricional.agendar(ingredienteId);
+
+        NutricaoIngredienteDTO resposta = paraDTO(salva);
+        resposta.setReceitasAfetadas(receitaIngredienteRepository.contarReceitasPorIngredienteId(ingredienteId));
+        return resposta;
+    }
+
+    private static NutricaoReceitaDTO paraDTO(Long receitaId, ValoresNutricionais total, int porcoes,
+                                              int linhasNaoConvertidas, int ingredientesSemNutricao,
+                                              Instant calculadaEm) {
+        NutricaoReceitaDTO dto = new NutricaoReceitaDTO();
+        dto.setReceitaId(receitaId);
+        dto.setPorcoes(porcoes);
+        dto.setTotal(paraDTO(total));
+        dto.setPorPorcao(paraDTO(total.dividir(porcoes)));
+        dto.setLinhasNaoConvertidas(linhasNaoConvertidas);
+        dto.setIngredientesSemNutricao(ingredientesSemNutricao);
+        dto.setCalculadaEm(calculadaEm);
+        return dto;
+    }
+
+    private static NutricaoIngredienteDTO paraDTO(NutricaoIngrediente nutricao) {
+        NutricaoIngredienteDTO dto = new NutricaoIngredienteDTO();
+        dto.setIngredienteId(nutricao.getIngredienteId());
+        dto.setPorCemGramas(paraDTO(nutricao.getPorCemGramas()));
+        dto.setGramasPorUnidade(nutricao.getGramasPorUnidade());
+        return dto;
+    }
+
+    private static ValoresNutricionaisDTO paraDTO(ValoresNutricionais valores) {
+        ValoresNutricionaisDTO dto = new ValoresNutricionaisDTO();
+        dto.setCalorias(valores.getCalorias());
+        dto.setProteinas(valores.getProteinas());
+        dto.setCarboidratos(valores.getCarboidratos());
+        dto.setGorduras(valores.getGorduras());
+        dto.setFibras(valores.getFibras());
+        dto.setSodio(valores.getSodio());
+        return dto;
+    }
+}
@@ -0,0 +1,120 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.CotaCategoriaDTO;
+import org.grupo1.gestordereceitas.dto.DiaPlanoDTO;
+import org.grupo1.gestordereceitas.dto.PlanoDTO;
+import org.grupo1.gestordereceitas.dto.PlanoRequestDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.planos.BuscaPlanos;
+import org.grupo1.gestordereceitas.planos.CandidatosPlano;
+import org.grupo1.gestordereceitas.planos.ProblemaPlano;
+import org.grupo1.gestordereceitas.planos.RestricoesPlano;
+import org.grupo1.gestordereceitas.planos.ResultadoBuscaPlano;
+import org.grupo1.gestordereceitas.planos.SolucaoPlano;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class PlanoService {
+
+    private static final int MAXIMO_DIAS = 14;
+    private static final int ORCAMENTO_MINIMO_MS = 10;
+
+    private final CandidatosPlano candidatosPlano;
+    private final BuscaPlanos buscaPlanos;
+    private final ReceitaService receitaService;
+    private final CategoriaRepository categoriaRepository;
+    private final int orcamentoMaximoMs;
+
+    public PlanoService(CandidatosPlano candidatosPlano, BuscaPlanos buscaPlanos, ReceitaService receitaService,
+                        CategoriaRepository categoriaRepository,
+                        @Value("${gestor.planos.orcamento-maximo-ms:10000}") int orcamentoMaximoMs) {
+        this.candidatosPlano = candidatosPlano;
+        this.buscaPlanos = buscaPlanos;
+        this.receitaService = receitaService;
+        this.categoriaRepository = categoriaRepository;
+        this.orcamentoMaximoMs = orcamentoMaximoMs;
+    }
+
+    public PlanoDTO montar(PlanoRequestDTO dto) {
+        long inicio = System.nanoTime();
+        RestricoesPlano restricoes = restricoes(dto);
+        if (dto.getOrcamentoMs() < ORCAMENTO_MINIMO_MS || dto.getOrcamentoMs() > orcamentoMaximoMs) {
+            throw new BusinessException("Orçamento deve estar entre " + ORCAMENTO_MINIMO_MS + " e " + orcamentoMaximoMs + " ms.");
+        }
+
+        ProblemaPlano problema = ProblemaPlano.montar(candidatosPlano.candidatos(), restricoes);
+        if (problema.receitas() < restricoes.dias()) {
+            throw new BusinessException("Só " + problema.receitas() + " receitas atendem às restrições; o plano precisa de "
+                    + restricoes.dias() + ".");
+        }
+        ResultadoBuscaPlano resultado = buscaPlanos.buscar(problema, Duration.ofMillis(dto.getOrcamentoMs()),
+                ThreadLocalRandom.current().nextLong());
+        SolucaoPlano melhor = resultado.melhor();
+
+        List<DiaPlanoDTO> dias = new ArrayList<>(restricoes.dias());
+        for (int dia = 0; dia < melhor.receitas().length; dia++) {
+            DiaPlanoDTO item = new DiaPlanoDTO();
+            item.setDia(dia + 1);
+            item.setReceitaId(problema.receitaId(melhor.receitas()[dia]));
+            try {
+                item.setReceita(receitaService.buscarPorId(item.getReceitaId()));
+            } catch (ResourceNotFoundException e) {
+                // Excluída entre a cópia dos candidatos e a leitura: o dia continua no plano, marcado
+                item.setReceitaIndisponivel(true);
+            }
+            dias.add(item);
+        }
+
+        PlanoDTO plano = new PlanoDTO();
+        plano.setDias(dias);
+        plano.setListaDeCompras(Arrays.stream(problema.listaDeCompras(melhor.receitas())).boxed().toList());
+        plano.setTempoTotal(melhor.tempoTotal());
+        plano.setDiasFaltandoNasCotas(melhor.violacoes());
+        plano.setReceitasCandidatas(problema.receitas());
+        plano.setRodadas(resultado.rodadas());
+        plano.setTrocasAvaliadas(resultado.avaliadas());
+        plano.setOrcamentoEsgotado(resultado.orcamentoEsgotado());
+        plano.setDuracaoMs((System.nanoTime() - inicio) / 1_000_000);
+        return plano;
+    }
+
+    private RestricoesPlano restricoes(PlanoRequestDTO dto) {
+        if (dto.getDias() < 1 || dto.getDias() > MAXIMO_DIAS) {
+            throw new BusinessException("O plano deve ter entre 1 e " + MAXIMO_DIAS + " dias.");
+        }
+        if (dto.getTempoMaximoPorDia() != null && dto.getTempoMaximoPorDia() < 1) {
+            throw new BusinessException("O tempo máximo por dia deve ser maior que zero.");
+        }
+        Map<Long, Integer> minimoPorCategoria = new LinkedHashMap<>();
+        for (CotaCategoriaDTO cota : dto.getCategorias() == null ? List.<CotaCategoriaDTO>of() : dto.getCategorias()) {
+            if (cota.getCategoriaId() == null || cota.getMinimoDias() < 1) {
+                throw new BusinessException("Cada cota precisa de uma categoria e de ao menos um dia.");
+            }
+            if (!categoriaRepository.existsById(cota.getCategoriaId())) {
+                throw new ResourceNotFoundException("Categoria com ID " + cota.getCategoriaId() + " não encontrada");
+            }
+            minimoPorCategoria.merge(cota.getCategoriaId(), cota.getMinimoDias(), Integer::sum);
+        }
+        int diasNasCotas = minimoPorCategoria.values().stream().mapToInt(Integer::intValue).sum();
+        if (diasNasCotas > dto.getDias()) {
+            throw new BusinessException("As cotas de categoria somam " + diasNasCotas + " dias, mais que os "
+                    + dto.getDias() + " do plano.");
+        }
+        Set<Long> excluidos = dto.getExcluir() == null ? Set.of() : new HashSet<>(dto.getExcluir());
+        Set<Long> despensa = dto.getDespensa() == null ? Set.of() : new HashSet<>(dto.getDespensa());
+        return new RestricoesPlano(dto.getDias(), dto.getTempoMaximoPorDia(), minimoPorCategoria, excluidos, despensa);
+    }
+}
@@ -0,0 +1,72 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.ReceitaPopularDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.popularidade.ContadorVisualizacoes;
+import org.grupo1.gestordereceitas.popularidade.Ranking;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class PopularidadeService {
+
+    private final ContadorVisualizacoes contadorVisualizacoes;
+    private final ReceitaService receitaService;
+
+    public PopularidadeService(ContadorVisualizacoes contadorVisualizacoes, ReceitaService receitaService) {
+        this.contadorVisualizacoes = contadorVisualizacoes;
+        this.receitaService = receitaService;
+    }
+
+    public void registrarVisualizacao(Long receitaId) {
+        contadorVisualizacoes.registrar(receitaId);
+    }
+
+    public List<ReceitaPopularDTO> populares(int limite) {
+        validarLimite(limite);
+        Ranking ranking = contadorVisualizacoes.populares();
+        List<ReceitaPopularDTO> resultado = new ArrayList<>();
+        for (int i = 0; i < ranking.tamanho() && resultado.size() < limite; i++) {
+            ReceitaPopularDTO dto = carregar(ranking.receitaIds()[i]);
+            if (dto != null) {
+                dto.setVisualizacoes((long) ranking.valores()[i]);
+                resultado.add(dto);
+            }
+        }
+        return resultado;
+    }
+
+    public List<ReceitaPopularDTO> emAlta(int limite) {
+        validarLimite(limite);
+        Ranking ranking = contadorVisualizacoes.emAlta();
+        List<ReceitaPopularDTO> resultado = new ArrayList<>();
+        for (int i = 0; i < ranking.tamanho() && resultado.size() < limite; i++) {
+            ReceitaPopularDTO dto = carregar(ranking.receitaIds()[i]);
+            if (dto != null) {
+                dto.setPontuacao(ranking.valores()[i]);
+                resultado.add(dto);
+            }
+        }
+        return resultado;
+    }
+
+    private static void validarLimite(int limite) {
+        if (limite < 1 || limite > ContadorVisualizacoes.MAXIMO_RANKING) {
+            throw new BusinessException("Limite deve estar entre 1 e " + ContadorVisualizacoes.MAXIMO_RANKING + ".");
+        }
+    }
+
+    private ReceitaPopularDTO carregar(long receitaId) {
+        try {
+            ReceitaPopularDTO dto = new ReceitaPopularDTO();
+            dto.setReceita(receitaService.buscarPorId(receitaId));
+            return dto;
+        } catch (ResourceNotFoundException e) {
+            // Excluída depois da última gravação
+            return null;
+        }
+    }
+}
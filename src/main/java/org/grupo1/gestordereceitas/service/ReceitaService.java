@@ -1,17 +1,29 @@
 package org.grupo1.gestordereceitas.service;
 
+import org.grupo1.gestordereceitas.cache.ReceitaIdsFiltro;
+import org.grupo1.gestordereceitas.combinacoes.MatrizCoocorrencia;
+import org.grupo1.gestordereceitas.dto.ReceitaDesnormalizadaDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaRequestDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
 import org.grupo1.gestordereceitas.dto.mapper.ReceitaMapper;
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
+import org.grupo1.gestordereceitas.duplicatas.ImpressaoDigitalReceita;
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.estatisticas.EstatisticasCatalogo;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
 import org.grupo1.gestordereceitas.exception.BusinessException;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.leitura.CatalogoLeitura;
 import org.grupo1.gestordereceitas.model.Categoria;
 import org.grupo1.gestordereceitas.model.Ingrediente;
 import org.grupo1.gestordereceitas.model.Receita;
 import org.grupo1.gestordereceitas.repository.CategoriaRepository;
 import org.grupo1.gestordereceitas.repository.IngredienteRepository;
 import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -21,29 +33,69 @@ public class ReceitaService {
     private final ReceitaRepository receitaRepository;
     private final CategoriaRepository categoriaRepository;
     private final IngredienteRepository ingredienteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReceitaIdsFiltro receitaIdsFiltro;
+    private final CatalogoLeitura catalogoLeitura;
+    private final EstatisticasCatalogo estatisticasCatalogo;
+    private final MatrizCoocorrencia matrizCoocorrencia;
+    private final BuscaSalvaService buscaSalvaService;
 
     public ReceitaService(ReceitaRepository receitaRepository,
                           CategoriaRepository categoriaRepository,
-                          IngredienteRepository ingredienteRepository) {
+                          IngredienteRepository ingredienteRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          ReceitaIdsFiltro receitaIdsFiltro,
+                          CatalogoLeitura catalogoLeitura,
+                          EstatisticasCatalogo estatisticasCatalogo,
+                          MatrizCoocorrencia matrizCoocorrencia,
+                          BuscaSalvaService buscaSalvaService) {
         this.receitaRepository = receitaRepository;
         this.categoriaRepository = categoriaRepository;
         this.ingredienteRepository = ingredienteRepository;
+        this.eventPublisher = eventPublisher;
+        this.receitaIdsFiltro = receitaIdsFiltro;
+        this.catalogoLeitura = catalogoLeitura;
+        this.estatisticasCatalogo = estatisticasCatalogo;
+        this.matrizCoocorrencia = matrizCoocorrencia;
+        this.buscaSalvaService = buscaSalvaService;
     }
 
     // Listar todas as receitas
     public List<ReceitaResponseDTO> listarTodas() {
+        if (catalogoLeitura.disponivel()) {
+            return catalogoLeitura.listarReceitas();
+        }
         return ReceitaMapper.toDTOList(receitaRepository.findAll());
     }
 
     // Buscar por ID
     public ReceitaResponseDTO buscarPorId(Long id) {
+        // IDs que certamente não existem são respondidos sem consultar o banco
+        if (receitaIdsFiltro.certamenteNaoExiste(id)) {
+            throw new ResourceNotFoundException("Receita com ID " + id + " não encontrada");
+        }
+        // Acima do maior ID conhecido, a receita pode ter sido criada em outra instância e ainda não
+        // estar no modelo de leitura: só o banco responde
+        if (catalogoLeitura.disponivel() && !receitaIdsFiltro.alemDoMaiorConhecido(id)) {
+            return catalogoLeitura.buscarReceita(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + id + " não encontrada"));
+        }
+        // Modelo de leitura desligado ou ainda carregando: uma única linha, com o snapshot
+        ReceitaDesnormalizadaDTO linha = receitaRepository.findDesnormalizadaById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + id + " não encontrada"));
+        if (linha.getSnapshot() != null) {
+            return ReceitaSnapshotMapper.toDTO(linha);
+        }
+        // Receita ainda sem snapshot (ex.: carga inicial antes da verificação): lê pelas tabelas normalizadas
         Receita receita = receitaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + id + " não encontrada"));
         return ReceitaMapper.toDTO(receita);
     }
 
     // Salvar receita
+    @Transactional
     public ReceitaResponseDTO salvar(ReceitaRequestDTO dto) {
+        validarPorcoes(dto);
         Categoria categoria = categoriaRepository.findById(dto.getCategoriaId())
                 .orElseThrow(() -> new ResourceNotFoundException("Categoria com ID " + dto.getCategoriaId() + " não encontrada"));
 
@@ -53,14 +105,24 @@ public class ReceitaService {
         }
 
         Receita receita = ReceitaMapper.toEntity(dto, categoria, ingredientes);
+        receita.setSnapshot(ReceitaSnapshotMapper.serializar(receita));
+        Long duplicataDe = registrarImpressaoDigital(receita, null, dto);
         Receita receitaSalva = receitaRepository.save(receita);
-        return ReceitaMapper.toDTO(receitaSalva);
+        receitaIdsFiltro.registrar(receitaSalva.getId());
+        registrarContribuicao(receitaSalva.getId(), null, ContribuicaoReceita.de(receitaSalva));
+        eventPublisher.publishEvent(new ReceitaAlteradaEvent(receitaSalva.getId()));
+        return comDuplicata(ReceitaMapper.toDTO(receitaSalva), duplicataDe);
     }
 
     // Atualizar receita (PUT)
+    @Transactional
     public ReceitaResponseDTO atualizar(Long id, ReceitaRequestDTO dto) {
+        validarPorcoes(dto);
         Receita receitaExistente = receitaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + id + " não encontrada"));
+        // Capturada antes do save: o merge altera a própria instância gerenciada
+        ContribuicaoReceita anterior = ContribuicaoReceita.de(receitaExistente);
+        String impressaoAnterior = receitaExistente.getImpressaoDigital();
 
         Categoria categoria = categoriaRepository.findById(dto.getCategoriaId())
                 .orElseThrow(() -> new ResourceNotFoundException("Categoria com ID " + dto.getCategoriaId() + " não encontrada"));
@@ -68,19 +130,28 @@ public class ReceitaService {
         List<Ingrediente> ingredientes = ingredienteRepository.findAll();
         Receita receitaAtualizada = ReceitaMapper.toEntity(dto, categoria, ingredientes);
         receitaAtualizada.setId(receitaExistente.getId()); // mantém o mesmo ID
+        receitaAtualizada.setSnapshot(ReceitaSnapshotMapper.serializar(receitaAtualizada));
+        Long duplicataDe = registrarImpressaoDigital(receitaAtualizada, impressaoAnterior, dto);
 
         Receita receitaSalva = receitaRepository.save(receitaAtualizada);
-        return ReceitaMapper.toDTO(receitaSalva);
+        registrarContribuicao(id, anterior, ContribuicaoReceita.de(receitaSalva));
+        eventPublisher.publishEvent(new ReceitaAlteradaEvent(id));
+        return comDuplicata(ReceitaMapper.toDTO(receitaSalva), duplicataDe);
     }
 
     // Atualizar parcialmente (PATCH)
+    @Transactional
     public ReceitaResponseDTO atualizarParcial(Long id, ReceitaRequestDTO dto) {
+        validarPorcoes(dto);
         Receita receita = receitaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Receita com ID " + id + " não encontrada"));
+        ContribuicaoReceita anterior = ContribuicaoReceita.de(receita);
+        String impressaoAnterior = receita.getImpressaoDigital();
 
         if (dto.getNome() != null) receita.setNome(dto.getNome());
         if (dto.getDescricao() != null) receita.setDescricao(dto.getDescricao());
         if (dto.getTempoDePreparo() > 0) receita.setTempoDePreparo(dto.getTempoDePreparo());
+        if (dto.getPorcoes() != null) receita.setPorcoes(dto.getPorcoes());
 
         if (dto.getCategoriaId() != null) {
             Categoria categoria = categoriaRepository.findById(dto.getCategoriaId())
@@ -96,15 +167,63 @@ public class ReceitaService {
             );
         }
 
+        receita.setSnapshot(ReceitaSnapshotMapper.serializar(receita));
+        Long duplicataDe = registrarImpressaoDigital(receita, impressaoAnterior, dto);
         Receita receitaSalva = receitaRepository.save(receita);
-        return ReceitaMapper.toDTO(receitaSalva);
+        registrarContribuicao(id, anterior, ContribuicaoReceita.de(receitaSalva));
+        eventPublisher.publishEvent(new ReceitaAlteradaEvent(id));
+        return comDuplicata(ReceitaMapper.toDTO(receitaSalva), duplicataDe);
     }
 
     // Deletar receita
+    @Transactional
     public void deletar(Long id) {
         if (!receitaRepository.existsById(id)) {
             throw new ResourceNotFoundException("Receita com ID " + id + " não encontrada para exclusão");
         }
+        ContribuicaoReceita anterior = receitaRepository.findById(id).map(ContribuicaoReceita::de).orElse(null);
         receitaRepository.deleteById(id);
+        receitaIdsFiltro.registrarExclusao();
+        registrarContribuicao(id, anterior, null);
+        eventPublisher.publishEvent(new ReceitaAlteradaEvent(id));
+    }
+
+    // Calcula a impressão digital e procura uma receita idêntica pelo índice da coluna: recusa a
+    // escrita, salvo com permitirDuplicata, e devolve o ID encontrado para o aviso na resposta. Só
+    // verifica quando o conteúdo muda, para não barrar a edição de duplicatas já aceitas
+    private Long registrarImpressaoDigital(Receita receita, String impressaoAnterior, ReceitaRequestDTO dto) {
+        String impressao = ImpressaoDigitalReceita.calcular(receita);
+        receita.setImpressaoDigital(impressao);
+        if (impressao.equals(impressaoAnterior)) {
+            return null;
+        }
+        Long duplicataDe = receitaRepository.findIdsByImpressaoDigital(impressao, Limit.of(2)).stream()
+                .filter(outra -> !outra.equals(receita.getId()))
+                .findFirst()
+                .orElse(null);
+        if (duplicataDe != null && !dto.isPermitirDuplicata()) {
+            throw new BusinessException("Já existe uma receita idêntica (ID " + duplicataDe
+                    + "). Envie permitirDuplicata para gravar mesmo assim.");
+        }
+        return duplicataDe;
+    }
+
+    private static ReceitaResponseDTO comDuplicata(ReceitaResponseDTO resposta, Long duplicataDe) {
+        resposta.setDuplicataDe(duplicataDe);
+        return resposta;
+    }
+
+    private static void validarPorcoes(ReceitaRequestDTO dto) {
+        if (dto.getPorcoes() != null && dto.getPorcoes() < 1) {
+            throw new BusinessException("A receita deve render ao menos uma porção.");
+        }
+    }
+
+    // Contadores derivados das receitas aplicam a diferença depois do commit; os avisos das buscas
+    // salvas são gravados na própria transação
+    private void registrarContribuicao(Long receitaId, ContribuicaoReceita anterior, ContribuicaoReceita nova) {
+        estatisticasCatalogo.registrar(anterior, nova);
+        matrizCoocorrencia.registrar(anterior, nova);
+        buscaSalvaService.notificar(receitaId, anterior, nova);
     }
 }
@@ -0,0 +1,118 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.analitico.*;
+import org.grupo1.gestordereceitas.dto.*;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Relatórios calculados só sobre o snapshot colunar: nenhuma consulta ao banco
+@Service
+public class RelatorioAnaliticoService {
+
+    private static final int MAXIMO_FAIXAS = 200;
+
+    private final SnapshotAnalitico snapshotAnalitico;
+
+    public RelatorioAnaliticoService(SnapshotAnalitico snapshotAnalitico) {
+        this.snapshotAnalitico = snapshotAnalitico;
+    }
+
+    public SnapshotAnaliticoDTO snapshot() {
+        return paraDTO(snapshotAnalitico.atual());
+    }
+
+    public SnapshotAnaliticoDTO gerarSnapshot() {
+        return paraDTO(snapshotAnalitico.gerar());
+    }
+
+    private SnapshotAnaliticoDTO paraDTO(SnapshotColunar snapshot) {
+        SnapshotAnaliticoDTO dto = new SnapshotAnaliticoDTO();
+        dto.setDisponivel(snapshot != null);
+        if (snapshot != null) {
+            dto.setGeradoEm(snapshot.geradoEm());
+            dto.setReceitas(snapshot.receitas());
+            dto.setLinhasIngredientes(snapshot.linhas());
+            dto.setCategorias(snapshot.categorias());
+            dto.setIngredientes(snapshot.ingredientes());
+        }
+        dto.setBytesArquivo(snapshotAnalitico.bytesArquivo());
+        dto.setDuracaoGeracaoMs(snapshotAnalitico.duracaoUltimaGeracaoMs());
+        return dto;
+    }
+
+    public RelatorioAnaliticoDTO<UsoPorCategoriaDTO> usoPorCategoria(int limite) {
+        return relatorio(snapshot -> RelatoriosColunares.usoPorCategoria(snapshot, limite).stream().map(uso -> {
+            UsoPorCategoriaDTO item = new UsoPorCategoriaDTO();
+            item.setCategoriaId(snapshot.categoriaId(uso.categoria()));
+            item.setCategoria(snapshot.categoriaNome(uso.categoria()));
+            item.setReceitas(uso.receitas());
+            item.setIngredientes(paraUsos(snapshot, uso.ingredientes()));
+            return item;
+        }).toList());
+    }
+
+    public RelatorioAnaliticoDTO<DistribuicaoTemposDTO> distribuicaoTempos(int largura, int faixas) {
+        if (largura <= 0 || faixas <= 0 || faixas > MAXIMO_FAIXAS) {
+            throw new BusinessException("Use largura maior que zero e de 1 a " + MAXIMO_FAIXAS + " faixas.");
+        }
+        return relatorio(snapshot -> RelatoriosColunares.distribuicaoTempos(snapshot, largura, faixas).stream().map(distribuicao -> {
+            DistribuicaoTemposDTO item = new DistribuicaoTemposDTO();
+            item.setCategoriaId(snapshot.categoriaId(distribuicao.categoria()));
+            item.setCategoria(snapshot.categoriaNome(distribuicao.categoria()));
+            item.setReceitas(distribuicao.receitas());
+            List<FaixaTempoDTO> faixasDTO = new ArrayList<>(faixas);
+            for (int i = 0; i < faixas; i++) {
+                FaixaTempoDTO faixa = new FaixaTempoDTO();
+                faixa.setInicio(i * largura);
+                faixa.setFim(i == faixas - 1 ? null : (i + 1) * largura);
+                faixa.setReceitas(distribuicao.receitasPorFaixa()[i]);
+                faixasDTO.add(faixa);
+            }
+            item.setFaixas(faixasDTO);
+            return item;
+        }).toList());
+    }
+
+    // O próprio ingrediente fica de fora da lista
+    public RelatorioAnaliticoDTO<UsoIngredienteDTO> coUso(Long ingredienteId, int limite) {
+        return relatorio(snapshot -> {
+            int codigo = snapshot.codigoIngrediente(ingredienteId);
+            if (codigo < 0) {
+                throw new ResourceNotFoundException("Ingrediente com ID " + ingredienteId + " não encontrado no snapshot analítico");
+            }
+            long[] totais = RelatoriosColunares.coUso(snapshot, codigo);
+            totais[codigo] = 0;
+            return paraUsos(snapshot, RelatoriosColunares.maiores(totais, 0, totais.length, limite));
+        });
+    }
+
+    private static List<UsoIngredienteDTO> paraUsos(SnapshotColunar snapshot, List<Contagem> contagens) {
+        return contagens.stream().map(contagem -> {
+            UsoIngredienteDTO uso = new UsoIngredienteDTO();
+            uso.setIngredienteId(snapshot.ingredienteId(contagem.codigo()));
+            uso.setNome(snapshot.ingredienteNome(contagem.codigo()));
+            uso.setReceitas(contagem.total());
+            return uso;
+        }).toList();
+    }
+
+    private <T> RelatorioAnaliticoDTO<T> relatorio(Function<SnapshotColunar, List<T>> calculo) {
+        // Um único snapshot por relatório, mesmo que outro seja publicado no meio do cálculo
+        SnapshotColunar snapshot = snapshotAnalitico.atual();
+        if (snapshot == null) {
+            throw new BusinessException("Snapshot analítico ainda não foi gerado.");
+        }
+        long inicio = System.nanoTime();
+        List<T> itens = calculo.apply(snapshot);
+        RelatorioAnaliticoDTO<T> dto = new RelatorioAnaliticoDTO<>();
+        dto.setSnapshotGeradoEm(snapshot.geradoEm());
+        dto.setDuracaoMs((System.nanoTime() - inicio) / 1_000_000);
+        dto.setItens(itens);
+        return dto;
+    }
+}
@@ -0,0 +1,48 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.ReceitaSimilarDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.similaridade.IndiceSimilaridade;
+import org.grupo1.gestordereceitas.similaridade.ReceitaSimilar;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class SimilaridadeService {
+
+    private static final int LIMITE_MAXIMO = 50;
+
+    private final IndiceSimilaridade indiceSimilaridade;
+    private final ReceitaService receitaService;
+
+    public SimilaridadeService(IndiceSimilaridade indiceSimilaridade, ReceitaService receitaService) {
+        this.indiceSimilaridade = indiceSimilaridade;
+        this.receitaService = receitaService;
+    }
+
+    public List<ReceitaSimilarDTO> similares(Long receitaId, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessException("Limite deve estar entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+        // Lança 404 para receitas inexistentes antes de consultar o índice
+        receitaService.buscarPorId(receitaId);
+
+        List<ReceitaSimilarDTO> resultado = new ArrayList<>();
+        for (ReceitaSimilar similar : indiceSimilaridade.similares(receitaId, limite)) {
+            try {
+                ReceitaSimilarDTO dto = new ReceitaSimilarDTO();
+                dto.setSimilaridade(similar.similaridade());
+                dto.setJaccardIngredientes(similar.jaccard());
+                dto.setIngredientesEmComum(similar.ingredientesEmComum());
+                dto.setReceita(receitaService.buscarPorId(similar.receitaId()));
+                resultado.add(dto);
+            } catch (ResourceNotFoundException e) {
+                // Excluída entre a consulta ao índice e a leitura
+            }
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,137 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.IngredienteDTO;
+import org.grupo1.gestordereceitas.dto.SubstituicaoDTO;
+import org.grupo1.gestordereceitas.dto.SubstituicaoRequestDTO;
+import org.grupo1.gestordereceitas.dto.SubstitutoIngredienteDTO;
+import org.grupo1.gestordereceitas.event.SubstituicaoAlteradaEvent;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.model.Substituicao;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.SubstituicaoRepository;
+import org.grupo1.gestordereceitas.substituicoes.GrafoSubstituicoes;
+import org.grupo1.gestordereceitas.substituicoes.IndiceSubstituicoes;
+import org.grupo1.gestordereceitas.substituicoes.Substituto;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class SubstituicaoService {
+
+    private final SubstituicaoRepository substituicaoRepository;
+    private final IngredienteRepository ingredienteRepository;
+    private final IngredienteService ingredienteService;
+    private final IndiceSubstituicoes indiceSubstituicoes;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SubstituicaoService(SubstituicaoRepository substituicaoRepository,
+                               IngredienteRepository ingredienteRepository,
+                               IngredienteService ingredienteService,
+                               IndiceSubstituicoes indiceSubstituicoes,
+                               ApplicationEventPublisher eventPublisher) {
+        this.substituicaoRepository = substituicaoRepository;
+        this.ingredienteRepository = ingredienteRepository;
+        this.ingredienteService = ingredienteService;
+        this.indiceSubstituicoes = indiceSubstituicoes;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<SubstitutoIngredienteDTO> substitutos(Long ingredienteId, int limite) {
+        if (limite < 1 || limite > GrafoSubstituicoes.MAXIMO_SUBSTITUTOS) {
+            throw new BusinessException("Limite deve estar entre 1 e " + GrafoSubstituicoes.MAXIMO_SUBSTITUTOS + ".");
+        }
+        // Lança 404 para ingredientes inexistentes
+        ingredienteService.buscarPorId(ingredienteId);
+
+        List<SubstitutoIngredienteDTO> resultado = new ArrayList<>();
+        for (Substituto substituto : indiceSubstituicoes.grafo().substitutos(ingredienteId, limite)) {
+            try {
+                Ingrediente ingrediente = ingredienteService.buscarPorId(substituto.ingredienteId());
+                SubstitutoIngredienteDTO dto = new SubstitutoIngredienteDTO();
+                dto.setId(ingrediente.getId());
+                dto.setNome(ingrediente.getNome());
+                dto.setPeso(substituto.peso());
+                if (substituto.viaId() != null) {
+                    dto.setVia(paraDTO(ingredienteService.buscarPorId(substituto.viaId())));
+                }
+                resultado.add(dto);
+            } catch (ResourceNotFoundException e) {
+                // Excluído entre a consulta ao grafo e a leitura
+            }
+        }
+        return resultado;
+    }
+
+    public List<SubstituicaoDTO> listarTodas() {
+        return substituicaoRepository.findAllByOrderByIngredienteIdAscPesoDesc().stream().map(this::paraDTO).toList();
+    }
+
+    @Transactional
+    public SubstituicaoDTO criar(SubstituicaoRequestDTO dto) {
+        validarPeso(dto.getPeso());
+        if (dto.getIngredienteId() == null || dto.getSubstitutoId() == null) {
+            throw new BusinessException("Informe o ingrediente e o substituto.");
+        }
+        if (dto.getIngredienteId().equals(dto.getSubstitutoId())) {
+            throw new BusinessException("Um ingrediente não pode substituir a si mesmo.");
+        }
+        if (substituicaoRepository.existsByIngredienteIdAndSubstitutoId(dto.getIngredienteId(), dto.getSubstitutoId())) {
+            throw new BusinessException("Substituição já cadastrada para esse par de ingredientes.");
+        }
+        Ingrediente ingrediente = ingredienteRepository.findById(dto.getIngredienteId())
+                .orElseThrow(() -> new ResourceNotFoundException("Ingrediente com ID " + dto.getIngredienteId() + " não encontrado"));
+        Ingrediente substituto = ingredienteRepository.findById(dto.getSubstitutoId())
+                .orElseThrow(() -> new ResourceNotFoundException("Ingrediente com ID " + dto.getSubstitutoId() + " não encontrado"));
+
+        Substituicao salva = substituicaoRepository.save(new Substituicao(null, ingrediente, substituto, dto.getPeso()));
+        eventPublisher.publishEvent(new SubstituicaoAlteradaEvent(salva.getId()));
+        return paraDTO(salva);
+    }
+
+    @Transactional
+    public SubstituicaoDTO atualizarPeso(Long id, double peso) {
+        validarPeso(peso);
+        Substituicao existente = substituicaoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Substituição com ID " + id + " não encontrada"));
+        existente.setPeso(peso);
+        eventPublisher.publishEvent(new SubstituicaoAlteradaEvent(id));
+        return paraDTO(existente);
+    }
+
+    @Transactional
+    public void deletar(Long id) {
+        if (!substituicaoRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Substituição com ID " + id + " não encontrada para exclusão");
+        }
+        substituicaoRepository.deleteById(id);
+        eventPublisher.publishEvent(new SubstituicaoAlteradaEvent(id));
+    }
+
+    private static void validarPeso(double peso) {
+        if (!(peso > 0 && peso <= 1)) {
+            throw new BusinessException("O peso da substituição deve ser maior que 0 e no máximo 1.");
+        }
+    }
+
+    private SubstituicaoDTO paraDTO(Substituicao substituicao) {
+        SubstituicaoDTO dto = new SubstituicaoDTO();
+        dto.setId(substituicao.getId());
+        dto.setIngrediente(paraDTO(substituicao.getIngrediente()));
+        dto.setSubstituto(paraDTO(substituicao.getSubstituto()));
+        dto.setPeso(substituicao.getPeso());
+        return dto;
+    }
+
+    private static IngredienteDTO paraDTO(Ingrediente ingrediente) {
+        IngredienteDTO dto = new IngredienteDTO();
+        dto.setId(ingrediente.getId());
+        dto.setNome(ingrediente.getNome());
+        return dto;
+    }
+}
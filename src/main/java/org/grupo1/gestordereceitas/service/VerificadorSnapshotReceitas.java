@@ -0,0 +1,117 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.VerificacaoSnapshotDTO;
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
+import org.grupo1.gestordereceitas.duplicatas.ImpressaoDigitalReceita;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Confere o snapshot de cada receita contra as tabelas normalizadas e corrige divergências.
+ * <p>
+ * Percorre as receitas em lotes por id, cada lote em sua própria transação. Receitas sem snapshot
+ * (como as da carga inicial) apenas são preenchidas: até então eram lidas pelo caminho normalizado.
+ * Um snapshot divergente pode ter sido servido, então o reparo publica o evento de alteração da
+ * receita para invalidar os caches.
+ * <p>
+ * Com o modelo de leitura em memória ligado (o padrão), a leitura por ID só chega ao snapshot
+ * enquanto o {@code CatalogoLeitura} ainda carrega ou quando ele está desligado; o snapshot segue
+ * sendo o caminho de uma linha só nesses casos.
+ * <p>
+ * A passada da subida é agendada no {@link TaskScheduler} quando a aplicação fica pronta, para não
+ * varrer a tabela na thread de inicialização; as seguintes seguem o intervalo configurado.
+ * <p>
+ * A impressão digital usada na checagem de duplicatas é conferida na mesma passada: a carga
+ * inicial e a restauração de cópias não a gravam. Ela não é servida, então o reparo não publica
+ * evento.
+ */
+@Service
+public class VerificadorSnapshotReceitas {
+
+    private static final Logger log = LoggerFactory.getLogger(VerificadorSnapshotReceitas.class);
+
+    private final ReceitaRepository receitaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler agendador;
+
+    public VerificadorSnapshotReceitas(ReceitaRepository receitaRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PlatformTransactionManager transactionManager,
+                                       TaskScheduler agendador) {
+        this.receitaRepository = receitaRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.agendador = agendador;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void agendarVerificacaoInicial() {
+        agendador.schedule(this::verificar, Instant.now());
+    }
+
+    @Scheduled(initialDelayString = "${gestor.receitas.snapshot.intervalo-verificacao-ms:3600000}",
+            fixedDelayString = "${gestor.receitas.snapshot.intervalo-verificacao-ms:3600000}")
+    public void verificarPeriodicamente() {
+        verificar();
+    }
+
+    public VerificacaoSnapshotDTO verificar() {
+        VerificacaoSnapshotDTO resultado = new VerificacaoSnapshotDTO();
+        long ultimoId = 0;
+        while (true) {
+            long inicioLote = ultimoId;
+            Long fimLote = transactionTemplate.execute(status -> verificarLote(inicioLote, resultado));
+            if (fimLote == null) {
+                break;
+            }
+            ultimoId = fimLote;
+        }
+        if (resultado.getPreenchidas() > 0 || resultado.getReparadas() > 0) {
+            log.info("Snapshots de receitas: {} verificados, {} preenchidos, {} reparados",
+                    resultado.getVerificadas(), resultado.getPreenchidas(), resultado.getReparadas());
+        }
+        return resultado;
+    }
+
+    // Retorna o último id do lote, ou null quando não há mais receitas
+    private Long verificarLote(long aposId, VerificacaoSnapshotDTO resultado) {
+        List<Receita> receitas = receitaRepository.findTop100ByIdGreaterThanOrderByIdAsc(aposId);
+        if (receitas.isEmpty()) {
+            return null;
+        }
+        for (Receita receita : receitas) {
+            resultado.setVerificadas(resultado.getVerificadas() + 1);
+            byte[] esperado = ReceitaSnapshotMapper.serializar(receita);
+            if (receita.getSnapshot() == null) {
+                receita.setSnapshot(esperado);
+                resultado.setPreenchidas(resultado.getPreenchidas() + 1);
+            } else if (!Arrays.equals(esperado, receita.getSnapshot())) {
+                log.warn("Snapshot divergente na receita {}: reparado", receita.getId());
+                receita.setSnapshot(esperado);
+                resultado.setReparadas(resultado.getReparadas() + 1);
+                eventPublisher.publishEvent(new ReceitaAlteradaEvent(receita.getId()));
+            }
+            String impressao = ImpressaoDigitalReceita.calcular(receita);
+            if (!impressao.equals(receita.getImpressaoDigital())) {
+                receita.setImpressaoDigital(impressao);
+            }
+        }
+        return receitas.getLast().getId();
+    }
+}
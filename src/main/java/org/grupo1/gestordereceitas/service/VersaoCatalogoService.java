@@ -0,0 +1,69 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.event.CategoriaAlteradaEvent;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.model.VersaoCatalogo;
+import org.grupo1.gestordereceitas.repository.VersaoCatalogoRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Mantém a versão do catálogo, incrementada na mesma transação de toda escrita em receitas,
+ * categorias ou ingredientes. Dados derivados do catálogo (como o cache de respostas salvo em
+ * disco) guardam a versão em que foram lidos e só são reaproveitados se ela ainda for a atual.
+ */
+@Service
+public class VersaoCatalogoService {
+
+    private static final Long ID = 1L;
+
+    private final VersaoCatalogoRepository versaoCatalogoRepository;
+
+    public VersaoCatalogoService(VersaoCatalogoRepository versaoCatalogoRepository) {
+        this.versaoCatalogoRepository = versaoCatalogoRepository;
+    }
+
+    @Transactional
+    public VersaoCatalogo atual() {
+        return versaoCatalogoRepository.findById(ID)
+                .orElseGet(() -> versaoCatalogoRepository.save(novaVersao(0L)));
+    }
+
+    // Os listeners rodam de forma síncrona, dentro da transação que publicou o evento; escritas de
+    // outras instâncias já incrementaram a versão
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        incrementar();
+    }
+
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onCategoriaAlterada(CategoriaAlteradaEvent event) {
+        incrementar();
+    }
+
+    @Transactional
+    @EventListener(condition = "!#event.remoto()")
+    public void onIngredienteAlterado(IngredienteAlteradoEvent event) {
+        incrementar();
+    }
+
+    private void incrementar() {
+        if (versaoCatalogoRepository.incrementar(ID, novoMarcador()) == 0) {
+            versaoCatalogoRepository.save(novaVersao(1L));
+        }
+    }
+
+    private static VersaoCatalogo novaVersao(Long versao) {
+        return new VersaoCatalogo(ID, novoMarcador(), versao);
+    }
+
+    private static String novoMarcador() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,58 @@
+package org.grupo1.gestordereceitas.similaridade;
+
+import java.util.Arrays;
+
+/**
+ * Assinatura MinHash do conjunto de ingredientes de uma receita: para cada uma das
+ * {@link #FUNCOES} funções de hash, o menor hash entre os ingredientes. A fração de posições
+ * iguais entre duas assinaturas estima a similaridade de Jaccard dos conjuntos.
+ */
+public final class AssinaturaMinHash {
+
+    public static final int FUNCOES = 64;
+
+    private static final long[] SEMENTES = new long[FUNCOES];
+
+    static {
+        long semente = 0x5DEECE66DL;
+        for (int i = 0; i < FUNCOES; i++) {
+            semente = misturar(semente + 0x9E3779B97F4A7C15L);
+            SEMENTES[i] = semente;
+        }
+    }
+
+    private AssinaturaMinHash() {
+    }
+
+    public static int[] calcular(long[] ingredienteIds) {
+        int[] assinatura = new int[FUNCOES];
+        Arrays.fill(assinatura, Integer.MAX_VALUE);
+        for (long id : ingredienteIds) {
+            for (int i = 0; i < FUNCOES; i++) {
+                // Só os 31 bits altos: a comparação com MAX_VALUE continua válida
+                int hash = (int) (misturar(id ^ SEMENTES[i]) >>> 33);
+                if (hash < assinatura[i]) {
+                    assinatura[i] = hash;
+                }
+            }
+        }
+        return assinatura;
+    }
+
+    public static double jaccardEstimado(int[] a, int[] b) {
+        int iguais = 0;
+        for (int i = 0; i < FUNCOES; i++) {
+            if (a[i] == b[i]) {
+                iguais++;
+            }
+        }
+        return (double) iguais / FUNCOES;
+    }
+
+    // Finalizador do SplitMix64
+    public static long misturar(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,235 @@
+package org.grupo1.gestordereceitas.similaridade;
+
+import org.grupo1.gestordereceitas.analitico.ColunasReceita;
+import org.grupo1.gestordereceitas.analitico.IngredienteDaReceita;
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Receitas parecidas por ingredientes, categoria e tempo de preparo, sem comparar todos os pares.
+ * <p>
+ * Cada receita guarda uma {@link AssinaturaMinHash}, dividida em {@link #FAIXAS} faixas de
+ * {@link #LINHAS_POR_FAIXA} posições; receitas com alguma faixa idêntica caem no mesmo balde.
+ * As candidatas são as receitas que dividem um balde com a consultada (com 2 linhas por faixa,
+ * pares com Jaccard acima de ~0,2 quase sempre se encontram) e só elas são pontuadas, com o
+ * Jaccard exato dos ingredientes.
+ * <p>
+ * Montado na subida e atualizado após o commit de cada escrita em receitas; a assinatura só é
+ * recalculada quando o conjunto de ingredientes muda. Escritores são serializados pelo lock do
+ * objeto; as consultas usam o lock de leitura.
+ */
+@Component
+public class IndiceSimilaridade {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceSimilaridade.class);
+
+    static final int LINHAS_POR_FAIXA = 2;
+    static final int FAIXAS = AssinaturaMinHash.FUNCOES / LINHAS_POR_FAIXA;
+
+    private static final double PESO_INGREDIENTES = 0.7;
+    private static final double PESO_CATEGORIA = 0.2;
+    private static final double PESO_TEMPO = 0.1;
+
+    private final ReceitaRepository receitaRepository;
+    private final ReceitaIngredienteRepository receitaIngredienteRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entrada> receitas = new HashMap<>();
+    // Chave do balde (faixa e valores da faixa) para os IDs das receitas nele
+    private final Map<Long, long[]> baldes = new HashMap<>();
+    private final LongAdder assinaturasCalculadas = new LongAdder();
+
+    public IndiceSimilaridade(ReceitaRepository receitaRepository,
+                              ReceitaIngredienteRepository receitaIngredienteRepository) {
+        this.receitaRepository = receitaRepository;
+        this.receitaIngredienteRepository = receitaIngredienteRepository;
+    }
+
+    // --- Consultas ---
+
+    /** Vazio se a receita não está no índice ou não tem ingredientes. */
+    public List<ReceitaSimilar> similares(long receitaId, int limite) {
+        lock.readLock().lock();
+        try {
+            Entrada origem = receitas.get(receitaId);
+            if (origem == null) {
+                return List.of();
+            }
+            Set<Long> candidatas = new HashSet<>();
+            for (int faixa = 0; faixa < FAIXAS; faixa++) {
+                for (long id : baldes.getOrDefault(chaveBalde(faixa, origem.assinatura()), new long[0])) {
+                    candidatas.add(id);
+                }
+            }
+            candidatas.remove(receitaId);
+
+            Comparator<ReceitaSimilar> ordem = Comparator.comparingDouble(ReceitaSimilar::similaridade)
+                    .thenComparing(ReceitaSimilar::receitaId, Comparator.reverseOrder());
+            PriorityQueue<ReceitaSimilar> heap = new PriorityQueue<>(limite + 1, ordem);
+            for (Long id : candidatas) {
+                ReceitaSimilar similar = pontuar(origem, id, receitas.get(id));
+                if (similar.ingredientesEmComum() == 0) {
+                    // Colisão de hash entre baldes: nada em comum de fato
+                    continue;
+                }
+                heap.add(similar);
+                if (heap.size() > limite) {
+                    heap.poll();
+                }
+            }
+            List<ReceitaSimilar> resultado = new ArrayList<>(heap);
+            resultado.sort(ordem.reversed());
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static ReceitaSimilar pontuar(Entrada origem, long id, Entrada candidata) {
+        int emComum = emComum(origem.ingredientes(), candidata.ingredientes());
+        double jaccard = (double) emComum
+                / (origem.ingredientes().length + candidata.ingredientes().length - emComum);
+        double categoria = origem.categoriaId() != null && origem.categoriaId().equals(candidata.categoriaId()) ? 1 : 0;
+        int maiorTempo = Math.max(origem.tempoDePreparo(), candidata.tempoDePreparo());
+        double tempo = maiorTempo <= 0 ? 1
+                : 1 - (double) Math.abs(origem.tempoDePreparo() - candidata.tempoDePreparo()) / maiorTempo;
+        double similaridade = PESO_INGREDIENTES * jaccard + PESO_CATEGORIA * categoria + PESO_TEMPO * tempo;
+        return new ReceitaSimilar(id, similaridade, jaccard, emComum);
+    }
+
+    // Interseção de dois vetores ordenados
+    private static int emComum(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int comuns = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                comuns++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return comuns;
+    }
+
+    public long assinaturasCalculadas() {
+        return assinaturasCalculadas.sum();
+    }
+
+    // --- Montagem e atualização (escritores) ---
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        Map<Long, List<Long>> ingredientes = new HashMap<>();
+        for (IngredienteDaReceita linha : receitaIngredienteRepository.findIngredientesDistintosPorReceita()) {
+            ingredientes.computeIfAbsent(linha.receitaId(), id -> new ArrayList<>()).add(linha.ingredienteId());
+        }
+        List<ColunasReceita> colunas = receitaRepository.findColunasAnaliticas();
+        lock.writeLock().lock();
+        try {
+            receitas.clear();
+            baldes.clear();
+            for (ColunasReceita receita : colunas) {
+                long[] ids = ingredientes.getOrDefault(receita.id(), List.of()).stream()
+                        .mapToLong(Long::longValue).sorted().toArray();
+                atualizar(receita.id(), new ContribuicaoReceita(receita.categoriaId(), receita.tempoDePreparo(), ids));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de similaridade montado: {} receitas, {} baldes em {} ms",
+                receitas.size(), baldes.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onReceitaAlterada(ReceitaAlteradaEvent event) {
+        ContribuicaoReceita atual = receitaRepository.findById(event.receitaId())
+                .map(ContribuicaoReceita::de)
+                .orElse(null);
+        lock.writeLock().lock();
+        try {
+            atualizar(event.receitaId(), atual);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Chamado com o lock de escrita; null remove a receita
+    void atualizar(Long receitaId, ContribuicaoReceita atual) {
+        Entrada anterior = receitas.get(receitaId);
+        boolean semIngredientes = atual == null || atual.ingredienteIds().length == 0;
+        if (anterior != null && !semIngredientes && Arrays.equals(anterior.ingredientes(), atual.ingredienteIds())) {
+            // Só categoria ou tempo mudaram: a assinatura e os baldes continuam valendo
+            receitas.put(receitaId, new Entrada(anterior.ingredientes(), anterior.assinatura(),
+                    atual.categoriaId(), atual.tempoDePreparo()));
+            return;
+        }
+        if (anterior != null) {
+            receitas.remove(receitaId);
+            for (int faixa = 0; faixa < FAIXAS; faixa++) {
+                sairDoBalde(chaveBalde(faixa, anterior.assinatura()), receitaId);
+            }
+        }
+        if (semIngredientes) {
+            return;
+        }
+        int[] assinatura = AssinaturaMinHash.calcular(atual.ingredienteIds());
+        assinaturasCalculadas.increment();
+        receitas.put(receitaId, new Entrada(atual.ingredienteIds(), assinatura, atual.categoriaId(), atual.tempoDePreparo()));
+        for (int faixa = 0; faixa < FAIXAS; faixa++) {
+            baldes.merge(chaveBalde(faixa, assinatura), new long[]{receitaId}, IndiceSimilaridade::juntar);
+        }
+    }
+
+    private void sairDoBalde(long chave, long receitaId) {
+        long[] ids = baldes.get(chave);
+        if (ids == null) {
+            return;
+        }
+        long[] restantes = Arrays.stream(ids).filter(id -> id != receitaId).toArray();
+        if (restantes.length == 0) {
+            baldes.remove(chave);
+        } else {
+            baldes.put(chave, restantes);
+        }
+    }
+
+    private static long[] juntar(long[] atuais, long[] novo) {
+        long[] juntos = Arrays.copyOf(atuais, atuais.length + 1);
+        juntos[atuais.length] = novo[0];
+        return juntos;
+    }
+
+    private static long chaveBalde(int faixa, int[] assinatura) {
+        long chave = faixa;
+        for (int linha = 0; linha < LINHAS_POR_FAIXA; linha++) {
+            chave = AssinaturaMinHash.misturar(chave * 31 + assinatura[faixa * LINHAS_POR_FAIXA + linha]);
+        }
+        return chave;
+    }
+
+    private record Entrada(long[] ingredientes, int[] assinatura, Long categoriaId, int tempoDePreparo) {
+    }
+}
@@ -0,0 +1,8 @@
+package org.grupo1.gestordereceitas.similaridade;
+
+/**
+ * Uma receita recomendada como parecida, com a pontuação combinada e o Jaccard exato entre os
+ * conjuntos de ingredientes das duas receitas.
+ */
+public record ReceitaSimilar(long receitaId, double similaridade, double jaccard, int ingredientesEmComum) {
+}
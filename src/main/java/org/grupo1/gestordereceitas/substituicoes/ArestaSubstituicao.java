@@ -0,0 +1,5 @@
+package org.grupo1.gestordereceitas.substituicoes;
+
+// Aresta do grafo de substituições como lida do banco: substitutoId pode ser usado no lugar de ingredienteId
+public record ArestaSubstituicao(Long ingredienteId, Long substitutoId, double peso) {
+}
@@ -0,0 +1,218 @@
+package org.grupo1.gestordereceitas.substituicoes;
+
+import java.util.*;
+
+/**
+ * Grafo de substituições imutável em forma compacta: os ids dos ingredientes com alguma aresta
+ * ficam ordenados em um {@code long[]} e cada ingrediente é representado pela sua posição; as
+ * listas de cada posição ficam contíguas em arrays paralelos, delimitadas por um array de inícios.
+ * <p>
+ * Na montagem, a vizinhança de até dois saltos de cada ingrediente é calculada e ranqueada: o peso
+ * de um caminho é o produto dos pesos das arestas e, para cada substituto, vale o melhor caminho.
+ * Também é montado o índice reverso dessas vizinhanças (o que cada ingrediente pode substituir),
+ * usado na busca por despensa. As consultas só leem os arrays.
+ */
+public final class GrafoSubstituicoes {
+
+    public static final int MAXIMO_SUBSTITUTOS = 20;
+
+    public static final GrafoSubstituicoes VAZIO = montar(List.of());
+
+    private static final int DIRETO = -1;
+
+    private final long[] ids;
+    private final int arestas;
+
+    // Vizinhança de cada posição, do melhor para o pior substituto
+    private final int[] inicioVizinhanca;
+    private final int[] vizinhos;
+    private final double[] pesos;
+    private final int[] intermediarios;
+
+    // Posições em cuja vizinhança cada posição aparece
+    private final int[] inicioSubstituiveis;
+    private final int[] substituiveis;
+
+    private GrafoSubstituicoes(long[] ids, int arestas, int[] inicioVizinhanca, int[] vizinhos, double[] pesos,
+                               int[] intermediarios, int[] inicioSubstituiveis, int[] substituiveis) {
+        this.ids = ids;
+        this.arestas = arestas;
+        this.inicioVizinhanca = inicioVizinhanca;
+        this.vizinhos = vizinhos;
+        this.pesos = pesos;
+        this.intermediarios = intermediarios;
+        this.inicioSubstituiveis = inicioSubstituiveis;
+        this.substituiveis = substituiveis;
+    }
+
+    // --- Montagem ---
+
+    public static GrafoSubstituicoes montar(Collection<ArestaSubstituicao> lidas) {
+        List<ArestaSubstituicao> validas = lidas.stream()
+                .filter(a -> !a.ingredienteId().equals(a.substitutoId()))
+                .toList();
+        long[] ids = validas.stream()
+                .flatMapToLong(a -> Arrays.stream(new long[]{a.ingredienteId(), a.substitutoId()}))
+                .distinct().sorted().toArray();
+        int n = ids.length;
+
+        // Arestas diretas em CSR, só para a montagem das vizinhanças
+        int[] inicioArestas = new int[n + 1];
+        for (ArestaSubstituicao aresta : validas) {
+            inicioArestas[Arrays.binarySearch(ids, aresta.ingredienteId()) + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            inicioArestas[i + 1] += inicioArestas[i];
+        }
+        int[] destinos = new int[validas.size()];
+        double[] pesosArestas = new double[validas.size()];
+        int[] proxima = Arrays.copyOf(inicioArestas, n);
+        for (ArestaSubstituicao aresta : validas) {
+            int k = proxima[Arrays.binarySearch(ids, aresta.ingredienteId())]++;
+            destinos[k] = Arrays.binarySearch(ids, aresta.substitutoId());
+            pesosArestas[k] = aresta.peso();
+        }
+
+        // Vizinhança de cada posição: melhor caminho até cada ingrediente a um ou dois saltos
+        int[] inicioVizinhanca = new int[n + 1];
+        int[] vizinhos = new int[Math.min(n, MAXIMO_SUBSTITUTOS) * n];
+        double[] pesos = new double[vizinhos.length];
+        int[] intermediarios = new int[vizinhos.length];
+        double[] melhor = new double[n];
+        int[] via = new int[n];
+        int[] marca = new int[n];
+        int[] tocados = new int[n];
+        int total = 0;
+        for (int u = 0; u < n; u++) {
+            int quantos = 0;
+            for (int e = inicioArestas[u]; e < inicioArestas[u + 1]; e++) {
+                quantos = relaxar(u, destinos[e], pesosArestas[e], DIRETO, melhor, via, marca, tocados, quantos);
+            }
+            for (int e = inicioArestas[u]; e < inicioArestas[u + 1]; e++) {
+                int v = destinos[e];
+                for (int f = inicioArestas[v]; f < inicioArestas[v + 1]; f++) {
+                    quantos = relaxar(u, destinos[f], pesosArestas[e] * pesosArestas[f], v,
+                            melhor, via, marca, tocados, quantos);
+                }
+            }
+            // Peso decrescente e, no empate, menor id (as posições seguem a ordem dos ids). Os bits
+            // de um float não negativo crescem com o valor
+            long[] ordem = new long[quantos];
+            for (int k = 0; k < quantos; k++) {
+                int x = tocados[k];
+                ordem[k] = ((long) (Integer.MAX_VALUE - Float.floatToIntBits((float) melhor[x])) << 32) | x;
+            }
+            Arrays.sort(ordem);
+            inicioVizinhanca[u] = total;
+            for (int k = 0; k < Math.min(quantos, MAXIMO_SUBSTITUTOS); k++) {
+                int x = (int) ordem[k];
+                vizinhos[total] = x;
+                pesos[total] = melhor[x];
+                intermediarios[total] = via[x];
+                total++;
+            }
+        }
+        inicioVizinhanca[n] = total;
+        vizinhos = Arrays.copyOf(vizinhos, total);
+        pesos = Arrays.copyOf(pesos, total);
+        intermediarios = Arrays.copyOf(intermediarios, total);
+
+        // Índice reverso das vizinhanças
+        int[] inicioSubstituiveis = new int[n + 1];
+        for (int x : vizinhos) {
+            inicioSubstituiveis[x + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            inicioSubstituiveis[i + 1] += inicioSubstituiveis[i];
+        }
+        int[] substituiveis = new int[total];
+        int[] proximoSubstituivel = Arrays.copyOf(inicioSubstituiveis, n);
+        for (int u = 0; u < n; u++) {
+            for (int e = inicioVizinhanca[u]; e < inicioVizinhanca[u + 1]; e++) {
+                substituiveis[proximoSubstituivel[vizinhos[e]]++] = u;
+            }
+        }
+        return new GrafoSubstituicoes(ids, validas.size(), inicioVizinhanca, vizinhos, pesos, intermediarios,
+                inicioSubstituiveis, substituiveis);
+    }
+
+    // O próprio ingrediente não é substituto de si mesmo; marca guarda origem + 1 para dispensar limpeza
+    private static int relaxar(int origem, int x, double peso, int intermediario,
+                               double[] melhor, int[] via, int[] marca, int[] tocados, int quantos) {
+        if (x == origem) {
+            return quantos;
+        }
+        if (marca[x] != origem + 1) {
+            marca[x] = origem + 1;
+            melhor[x] = peso;
+            via[x] = intermediario;
+            tocados[quantos++] = x;
+        } else if (peso > melhor[x]) {
+            melhor[x] = peso;
+            via[x] = intermediario;
+        }
+        return quantos;
+    }
+
+    // --- Consultas ---
+
+    public boolean contem(long ingredienteId) {
+        return Arrays.binarySearch(ids, ingredienteId) >= 0;
+    }
+
+    /** Os melhores substitutos do ingrediente, até {@link #MAXIMO_SUBSTITUTOS}, do maior para o menor peso. */
+    public List<Substituto> substitutos(long ingredienteId, int limite) {
+        int u = Arrays.binarySearch(ids, ingredienteId);
+        if (u < 0) {
+            return List.of();
+        }
+        int fim = Math.min(inicioVizinhanca[u + 1], inicioVizinhanca[u] + limite);
+        List<Substituto> resultado = new ArrayList<>(Math.max(0, fim - inicioVizinhanca[u]));
+        for (int e = inicioVizinhanca[u]; e < fim; e++) {
+            resultado.add(substituto(e));
+        }
+        return resultado;
+    }
+
+    /** O substituto de maior peso do ingrediente entre os disponíveis, ou {@code null}. */
+    public Substituto melhorSubstituto(long ingredienteId, Set<Long> disponiveis) {
+        int u = Arrays.binarySearch(ids, ingredienteId);
+        if (u < 0) {
+            return null;
+        }
+        for (int e = inicioVizinhanca[u]; e < inicioVizinhanca[u + 1]; e++) {
+            if (disponiveis.contains(ids[vizinhos[e]])) {
+                return substituto(e);
+            }
+        }
+        return null;
+    }
+
+    /** Ingredientes que algum dos disponíveis pode substituir (os que o têm na vizinhança). */
+    public Set<Long> substituiveisPor(Collection<Long> disponiveis) {
+        Set<Long> resultado = new HashSet<>();
+        for (Long ingredienteId : disponiveis) {
+            int x = Arrays.binarySearch(ids, ingredienteId);
+            if (x < 0) {
+                continue;
+            }
+            for (int e = inicioSubstituiveis[x]; e < inicioSubstituiveis[x + 1]; e++) {
+                resultado.add(ids[substituiveis[e]]);
+            }
+        }
+        return resultado;
+    }
+
+    public int ingredientes() {
+        return ids.length;
+    }
+
+    public int arestas() {
+        return arestas;
+    }
+
+    private Substituto substituto(int e) {
+        int intermediario = intermediarios[e];
+        return new Substituto(ids[vizinhos[e]], pesos[e], intermediario == DIRETO ? null : ids[intermediario]);
+    }
+}
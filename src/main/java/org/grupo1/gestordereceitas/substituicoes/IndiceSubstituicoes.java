@@ -0,0 +1,63 @@
+package org.grupo1.gestordereceitas.substituicoes;
+
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.SubstituicaoAlteradaEvent;
+import org.grupo1.gestordereceitas.repository.SubstituicaoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantém em memória o {@link GrafoSubstituicoes}, com as vizinhanças de dois saltos já
+ * calculadas, para que as consultas de substitutos e a busca por despensa nunca leiam o banco.
+ * <p>
+ * As arestas são curadas e poucas: a cada alteração o grafo inteiro é remontado após o commit e
+ * trocado de uma vez. Os leitores só seguem a referência volátil para o grafo atual.
+ */
+@Component
+public class IndiceSubstituicoes {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceSubstituicoes.class);
+
+    private final SubstituicaoRepository substituicaoRepository;
+
+    private volatile GrafoSubstituicoes grafo = GrafoSubstituicoes.VAZIO;
+
+    public IndiceSubstituicoes(SubstituicaoRepository substituicaoRepository) {
+        this.substituicaoRepository = substituicaoRepository;
+    }
+
+    public GrafoSubstituicoes grafo() {
+        return grafo;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        GrafoSubstituicoes novo = GrafoSubstituicoes.montar(substituicaoRepository.findArestas());
+        grafo = novo;
+        log.info("Grafo de substituições montado: {} ingredientes, {} arestas em {} ms",
+                novo.ingredientes(), novo.arestas(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onSubstituicaoAlterada(SubstituicaoAlteradaEvent event) {
+        grafo = GrafoSubstituicoes.montar(substituicaoRepository.findArestas());
+    }
+
+    // A exclusão de um ingrediente leva junto as arestas em que ele aparece
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onIngredienteAlterado(IngredienteAlteradoEvent event) {
+        if (grafo.contem(event.ingredienteId())) {
+            grafo = GrafoSubstituicoes.montar(substituicaoRepository.findArestas());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.grupo1.gestordereceitas.substituicoes;
+
+/**
+ * Substituto de um ingrediente na vizinhança precalculada do grafo. {@code viaId} é o
+ * ingrediente intermediário quando o melhor caminho tem dois saltos, ou {@code null} quando a
+ * substituição é direta.
+ */
+public record Substituto(long ingredienteId, double peso, Long viaId) {
+}
@@ -137,4 +137,118 @@ INSERT INTO receita_ingrediente (receita_id, ingrediente_id, quantidade, unidade
 INSERT INTO receita_ingrediente (receita_id, ingrediente_id, quantidade, unidade_medida) VALUES (9, 36, '2', 'unidades');
 INSERT INTO receita_ingrediente (receita_id, ingrediente_id, quantidade, unidade_medida) VALUES (9, 1, '2', 'colher(es) de sopa');
 INSERT INTO receita_ingrediente (receita_id, ingrediente_id, quantidade, unidade_medida) VALUES (9, 3, '50', 'mililitros');
-INSERT INTO receita_ingrediente (receita_id, ingrediente_id, quantidade, unidade_medida) VALUES (9, 6, 'a gosto', 'sem unidade');
\ No newline at end of file
+INSERT INTO receita_ingrediente (receita_id, ingrediente_id, quantidade, unidade_medida) VALUES (9, 6, 'a gosto', 'sem unidade');
+
+-- --------------------------------------------------------
+-- Tabela: substituicao (substituto pode ser usado no lugar do ingrediente)
+-- --------------------------------------------------------
+-- margarina sem sal -> manteiga
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (13, 8, 0.95);
+-- manteiga -> margarina sem sal
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (8, 13, 0.9);
+-- manteiga -> óleo
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (8, 9, 0.6);
+-- óleo -> azeite de oliva extra virgem
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (9, 21, 0.8);
+-- azeite de oliva extra virgem -> óleo
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (21, 9, 0.7);
+-- limão -> suco de limão
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (25, 5, 0.9);
+-- suco de limão -> limão
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (5, 25, 0.9);
+-- açúcar -> mel
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (1, 26, 0.7);
+-- achocolatado -> cacau em pó
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (12, 31, 0.8);
+-- cacau em pó -> achocolatado
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (31, 12, 0.6);
+-- frango desfiado -> peito de frango
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (19, 24, 0.9);
+-- peito de frango -> frango desfiado
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (24, 19, 0.7);
+-- queijo mascarpone -> creme de leite
+INSERT INTO substituicao (ingrediente_id, substituto_id, peso) VALUES (29, 18, 0.6);
+
+-- --------------------------------------------------------
+-- Tabela: nutricao_ingrediente (valores por 100 g ou 100 ml; peso de uma unidade em gramas)
+-- --------------------------------------------------------
+-- açúcar
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (1, 387, 0, 100, 0, 0, 1, NULL);
+-- água com gás
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (2, 0, 0, 0, 0, 0, 10, NULL);
+-- vodka
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (3, 231, 0, 0, 0, 0, 1, NULL);
+-- xarope de gengibre
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (4, 280, 0, 70, 0, 0, 10, NULL);
+-- suco de limão
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (5, 22, 0.4, 7, 0.2, 0.3, 1, 30);
+-- gelo
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (6, 0, 0, 0, 0, 0, 0, NULL);
+-- dente de alho
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (7, 149, 6.4, 33, 0.5, 2.1, 17, 5);
+-- manteiga
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (8, 717, 0.9, 0.1, 81, 0, 576, NULL);
+-- óleo
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (9, 884, 0, 0, 100, 0, 0, NULL);
+-- sal
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (10, 0, 0, 0, 0, 0, 38758, NULL);
+-- leite condensado
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (11, 321, 7.9, 54, 8.7, 0, 127, 395);
+-- achocolatado
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (12, 401, 4.2, 91, 2.2, 3.9, 54, NULL);
+-- margarina sem sal
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (13, 596, 0.2, 0.7, 67, 0, 2, NULL);
+-- chocolate granulado
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (14, 450, 4, 72, 16, 3, 40, NULL);
+-- tomate
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (15, 18, 0.9, 3.9, 0.2, 1.2, 5, 120);
+-- cebola
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (16, 40, 1.1, 9.3, 0.1, 1.7, 4, 150);
+-- manjericão fresco
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (17, 23, 3.2, 2.7, 0.6, 1.6, 4, 0.5);
+-- creme de leite
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (18, 221, 1.5, 4.5, 22, 0, 40, NULL);
+-- frango desfiado
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (19, 165, 31, 0, 3.6, 0, 74, NULL);
+-- batata
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (20, 77, 2, 17, 0.1, 2.2, 6, 170);
+-- azeite de oliva extra virgem
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (21, 884, 0, 0, 100, 0, 2, NULL);
+-- pimenta do reino
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (22, 251, 10, 64, 3.3, 25, 20, NULL);
+-- alface americana
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (23, 14, 0.9, 3, 0.1, 1.2, 10, 500);
+-- peito de frango
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (24, 165, 31, 0, 3.6, 0, 74, 150);
+-- limão
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (25, 29, 1.1, 9.3, 0.3, 2.8, 2, 100);
+-- mel
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (26, 304, 0.3, 82, 0, 0.2, 4, NULL);
+-- mostarda dijon
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (27, 66, 4.4, 5.8, 3.3, 3.3, 1135, NULL);
+-- café expresso
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (28, 9, 0.1, 1.7, 0.2, 0, 14, NULL);
+-- queijo mascarpone
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (29, 429, 4.6, 4.8, 44, 0, 86, NULL);
+-- biscoito champagne
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (30, 393, 8, 80, 4, 1, 150, 8);
+-- cacau em pó
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (31, 228, 20, 58, 14, 37, 21, NULL);
+-- arroz
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (32, 360, 7, 79, 0.6, 1.3, 5, NULL);
+-- carne seca
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (33, 313, 27, 0, 22, 0, 4400, NULL);
+-- pimentão
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (34, 20, 0.9, 4.6, 0.2, 1.7, 3, 150);
+-- vinho tinto
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (35, 85, 0.1, 2.6, 0, 0, 4, NULL);
+-- laranja
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (36, 47, 0.9, 12, 0.1, 2.4, 0, 180);
+-- cenoura
+INSERT INTO nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, gorduras, fibras, sodio, gramas_por_unidade) VALUES (37, 41, 0.9, 10, 0.2, 2.8, 69, 80);
+
+-- --------------------------------------------------------
+-- Tabela: versao_catalogo
+-- --------------------------------------------------------
+-- Marcador fixo: a carga inicial produz sempre o mesmo catálogo
+INSERT INTO versao_catalogo (id, marcador, versao) VALUES (1, 'carga-inicial', 0);
\ No newline at end of file
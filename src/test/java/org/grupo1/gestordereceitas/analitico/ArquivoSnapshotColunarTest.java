@@ -0,0 +1,50 @@
+package org.grupo1.gestordereceitas.analitico;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArquivoSnapshotColunarTest {
+
+    @TempDir
+    private Path diretorio;
+
+    @Test
+    void deveLerDeVoltaAsMesmasColunas() throws IOException {
+        // Cenário
+        SnapshotColunar original = RelatoriosColunaresTest.catalogoPequeno();
+        Path arquivo = diretorio.resolve("analitico.bin");
+
+        // Ação
+        long bytes = ArquivoSnapshotColunar.gravar(original, arquivo);
+        SnapshotColunar lido = ArquivoSnapshotColunar.ler(arquivo);
+
+        // Validação
+        assertEquals(Files.size(arquivo), bytes);
+        assertEquals(original.geradoEm(), lido.geradoEm());
+        assertArrayEquals(original.categoriaNomes, lido.categoriaNomes);
+        assertArrayEquals(original.ingredienteIds, lido.ingredienteIds);
+        assertArrayEquals(original.receitaCategoria, lido.receitaCategoria);
+        assertArrayEquals(original.inicioLinhas, lido.inicioLinhas);
+        assertArrayEquals(original.linhaIngrediente, lido.linhaIngrediente);
+        assertEquals("açúcar", lido.ingredienteNome(lido.codigoIngrediente(10L)));
+    }
+
+    @Test
+    void deveRecusarArquivoTruncado() throws IOException {
+        // Cenário
+        Path arquivo = diretorio.resolve("analitico.bin");
+        ArquivoSnapshotColunar.gravar(RelatoriosColunaresTest.catalogoPequeno(), arquivo);
+        byte[] bytes = Files.readAllBytes(arquivo);
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length - 6));
+
+        // Ação / Validação
+        assertThrows(IOException.class, () -> ArquivoSnapshotColunar.ler(arquivo));
+    }
+}
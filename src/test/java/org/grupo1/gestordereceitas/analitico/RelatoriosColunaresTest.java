@@ -0,0 +1,137 @@
+package org.grupo1.gestordereceitas.analitico;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RelatoriosColunaresTest {
+
+    @Test
+    void deveContarIngredientesPorCategoria() {
+        // Cenário
+        SnapshotColunar snapshot = catalogoPequeno();
+
+        // Ação
+        List<UsoNaCategoria> uso = RelatoriosColunares.usoPorCategoria(snapshot, 2);
+
+        // Validação
+        assertEquals(3, uso.size());
+        UsoNaCategoria sobremesas = uso.get(0);
+        assertEquals(1L, snapshot.categoriaId(sobremesas.categoria()));
+        assertEquals(2, sobremesas.receitas());
+        assertEquals("açúcar", snapshot.ingredienteNome(sobremesas.ingredientes().get(0).codigo()));
+        assertEquals(2, sobremesas.ingredientes().get(0).total());
+        UsoNaCategoria semCategoria = uso.get(2);
+        assertEquals(SnapshotColunar.SEM_CATEGORIA, semCategoria.categoria());
+        assertNull(snapshot.categoriaId(semCategoria.categoria()));
+    }
+
+    @Test
+    void deveDistribuirOsTemposEmFaixasComAUltimaAberta() {
+        // Cenário
+        SnapshotColunar snapshot = catalogoPequeno();
+
+        // Ação
+        List<DistribuicaoTempos> distribuicao = RelatoriosColunares.distribuicaoTempos(snapshot, 30, 2);
+
+        // Validação
+        DistribuicaoTempos sobremesas = distribuicao.get(0);
+        assertArrayEquals(new long[]{1, 1}, sobremesas.receitasPorFaixa());
+        DistribuicaoTempos massas = distribuicao.get(1);
+        // 240 minutos cai na última faixa
+        assertArrayEquals(new long[]{0, 1}, massas.receitasPorFaixa());
+    }
+
+    @Test
+    void deveContarIngredientesUsadosJuntoComOInformado() {
+        // Cenário
+        SnapshotColunar snapshot = catalogoPequeno();
+        int acucar = snapshot.codigoIngrediente(10L);
+
+        // Ação
+        long[] totais = RelatoriosColunares.coUso(snapshot, acucar);
+
+        // Validação
+        assertEquals(3, totais[acucar]);
+        assertEquals(2, totais[snapshot.codigoIngrediente(20L)]);
+        assertEquals(0, totais[snapshot.codigoIngrediente(30L)]);
+    }
+
+    @Test
+    void deveSomarOsTrechosParalelosComoUmaVarreduraUnica() {
+        // Cenário: receitas suficientes para a varredura se dividir em vários trechos
+        int receitas = 50_000;
+        SortedMap<Long, String> categorias = new TreeMap<>();
+        for (long c = 1; c <= 5; c++) {
+            categorias.put(c, "Categoria " + c);
+        }
+        SortedMap<Long, String> nomes = new TreeMap<>();
+        for (long i = 1; i <= 100; i++) {
+            nomes.put(i, "Ingrediente " + i);
+        }
+        List<ColunasReceita> colunas = new ArrayList<>(receitas);
+        List<IngredienteDaReceita> linhas = new ArrayList<>(receitas * 2);
+        long[] receitasPorCategoria = new long[6];
+        long[][] temposPorCategoria = new long[6][12];
+        long usamOPrimeiro = 0;
+        for (long r = 1; r <= receitas; r++) {
+            Long categoria = r % 6 == 0 ? null : r % 5 + 1;
+            int tempo = (int) (r % 200);
+            colunas.add(new ColunasReceita(r, tempo, categoria));
+            long a = r % 100 + 1;
+            long b = (r * 7 + 31) % 100 + 1;
+            linhas.add(new IngredienteDaReceita(r, Math.min(a, b)));
+            linhas.add(new IngredienteDaReceita(r, Math.max(a, b)));
+            int grupo = categoria == null ? 5 : (int) (categoria - 1);
+            receitasPorCategoria[grupo]++;
+            temposPorCategoria[grupo][Math.min(tempo / 15, 11)]++;
+            if (a == 1 || b == 1) {
+                usamOPrimeiro++;
+            }
+        }
+        SnapshotColunar snapshot = SnapshotColunar.montar(Instant.now(), categorias, nomes, colunas, linhas);
+
+        // Ação
+        List<UsoNaCategoria> uso = RelatoriosColunares.usoPorCategoria(snapshot, 10);
+        List<DistribuicaoTempos> distribuicao = RelatoriosColunares.distribuicaoTempos(snapshot, 15, 12);
+        long[] coUso = RelatoriosColunares.coUso(snapshot, snapshot.codigoIngrediente(1L));
+
+        // Validação
+        assertEquals(receitas * 2, snapshot.linhas());
+        assertEquals(6, uso.size());
+        for (int grupo = 0; grupo < 6; grupo++) {
+            assertEquals(receitasPorCategoria[grupo], uso.get(grupo).receitas());
+            assertEquals(10, uso.get(grupo).ingredientes().size());
+            assertArrayEquals(temposPorCategoria[grupo], distribuicao.get(grupo).receitasPorFaixa());
+        }
+        assertEquals(SnapshotColunar.SEM_CATEGORIA, uso.get(5).categoria());
+        assertEquals(usamOPrimeiro, coUso[snapshot.codigoIngrediente(1L)]);
+        assertEquals(2 * usamOPrimeiro, Arrays.stream(coUso).sum());
+    }
+
+    // Sobremesas: pudim (açúcar, leite, 20 min) e bolo (açúcar, 50 min); Massas: lasanha (240 min);
+    // sem categoria: calda (açúcar, leite)
+    static SnapshotColunar catalogoPequeno() {
+        SortedMap<Long, String> categorias = new TreeMap<>(Map.of(1L, "Sobremesas", 2L, "Massas"));
+        SortedMap<Long, String> ingredientes = new TreeMap<>(Map.of(10L, "açúcar", 20L, "leite", 30L, "massa"));
+        List<ColunasReceita> receitas = List.of(
+                new ColunasReceita(1L, 20, 1L),
+                new ColunasReceita(2L, 50, 1L),
+                new ColunasReceita(3L, 240, 2L),
+                new ColunasReceita(4L, 10, null));
+        List<IngredienteDaReceita> linhas = List.of(
+                new IngredienteDaReceita(1L, 10L), new IngredienteDaReceita(1L, 20L),
+                new IngredienteDaReceita(2L, 10L),
+                new IngredienteDaReceita(3L, 30L),
+                new IngredienteDaReceita(4L, 10L), new IngredienteDaReceita(4L, 20L));
+        return SnapshotColunar.montar(Instant.parse("2026-01-01T00:00:00Z"), categorias, ingredientes, receitas, linhas);
+    }
+}
@@ -0,0 +1,79 @@
+package org.grupo1.gestordereceitas.avaliacoes;
+
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IndiceAvaliacoesTest {
+
+    private ReceitaRepository receitaRepository;
+    private IndiceAvaliacoes indice;
+
+    @BeforeEach
+    void criar() {
+        receitaRepository = mock(ReceitaRepository.class);
+        indice = new IndiceAvaliacoes(receitaRepository, 10);
+    }
+
+    @Test
+    void deveOrdenarPelaMediaBayesianaEmVezDaMediaSimples() {
+        // Cenário: uma única nota 5 contra quarenta notas com média 4,5
+        when(receitaRepository.findAgregadosAvaliacoes()).thenReturn(List.of(
+                new AgregadoAvaliacoes(1L, 10L, 5, 1),
+                new AgregadoAvaliacoes(2L, 10L, 180, 40),
+                new AgregadoAvaliacoes(3L, 20L, 60, 20)));
+
+        // Ação
+        indice.reconstruir();
+
+        // Validação
+        assertEquals(245.0 / 61, indice.mediaGeral(), 1e-9);
+        List<ReceitaAvaliada> melhores = indice.melhores(null, 0, 10);
+        assertEquals(List.of(2L, 1L, 3L), melhores.stream().map(ReceitaAvaliada::receitaId).toList());
+        assertEquals(5.0, melhores.get(1).media());
+        assertEquals((10 * indice.mediaGeral() + 5) / 11, melhores.get(1).pontuacao(), 1e-9);
+    }
+
+    @Test
+    void deveSepararPorCategoriaEFiltrarPelaMediaMinima() {
+        // Cenário
+        when(receitaRepository.findAgregadosAvaliacoes()).thenReturn(List.of(
+                new AgregadoAvaliacoes(1L, 10L, 8, 2),
+                new AgregadoAvaliacoes(2L, 10L, 4, 2),
+                new AgregadoAvaliacoes(3L, 20L, 10, 2)));
+        indice.reconstruir();
+
+        // Ação
+        List<ReceitaAvaliada> categoria = indice.melhores(10L, 0, 10);
+        List<ReceitaAvaliada> acimaDeTres = indice.melhores(10L, 3, 10);
+
+        // Validação
+        assertEquals(List.of(1L, 2L), categoria.stream().map(ReceitaAvaliada::receitaId).toList());
+        assertEquals(List.of(1L), acimaDeTres.stream().map(ReceitaAvaliada::receitaId).toList());
+        assertTrue(indice.melhores(99L, 0, 10).isEmpty());
+    }
+
+    @Test
+    void deveReposicionarSoAReceitaAlterada() {
+        // Cenário
+        when(receitaRepository.findAgregadosAvaliacoes()).thenReturn(List.of(
+                new AgregadoAvaliacoes(1L, 10L, 8, 2),
+                new AgregadoAvaliacoes(2L, 10L, 6, 2)));
+        indice.reconstruir();
+
+        // Ação: a receita 2 recebe notas altas e muda de categoria; a 1 perde as avaliações
+        indice.atualizar(2L, new AgregadoAvaliacoes(2L, 20L, 26, 6));
+        indice.atualizar(1L, new AgregadoAvaliacoes(1L, 10L, 0, 0));
+
+        // Validação
+        assertTrue(indice.melhores(10L, 0, 10).isEmpty());
+        assertEquals(List.of(2L), indice.melhores(20L, 0, 10).stream().map(ReceitaAvaliada::receitaId).toList());
+        assertEquals(1, indice.melhores(null, 0, 10).size());
+    }
+}
@@ -0,0 +1,40 @@
+package org.grupo1.gestordereceitas.busca;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnalisadorTextoTest {
+
+    @Test
+    void deveIgnorarAcentosEMaiusculas() {
+        // Ação
+        List<String> comAcento = AnalisadorTexto.termos("Açúcar");
+        List<String> semAcento = AnalisadorTexto.termos("acucar");
+
+        // Validação
+        assertEquals(List.of("acucar"), comAcento);
+        assertEquals(comAcento, semAcento);
+    }
+
+    @Test
+    void deveDescartarPalavrasVaziasEReduzirPlurais() {
+        // Ação
+        List<String> termos = AnalisadorTexto.termos("Bolo de limões com 3 colheres de pães e ovos!");
+
+        // Validação
+        assertEquals(List.of("bolo", "limao", "colher", "pao", "ovo"), termos);
+    }
+
+    @Test
+    void deveManterPalavrasTerminadasEmSQueNaoSaoPlural() {
+        // Ação / Validação
+        assertEquals("arroz", AnalisadorTexto.radical("arroz"));
+        assertEquals("lapis", AnalisadorTexto.radical("lapis"));
+        assertEquals("cuscuz", AnalisadorTexto.radical("cuscuz"));
+        assertEquals("bombom", AnalisadorTexto.radical("bombons"));
+        assertEquals("noz", AnalisadorTexto.radical("nozes"));
+    }
+}
@@ -0,0 +1,26 @@
+package org.grupo1.gestordereceitas.busca;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AutocompletarIngredientesTest {
+
+    @Test
+    void deveNormalizarNomesSemAcentosNemPontuacao() {
+        // Ação && Validação
+        assertEquals("acucar de confeiteiro", AutocompletarIngredientes.normalizar("  Açúcar  de CONFEITEIRO! "));
+        assertEquals("file mignon", AutocompletarIngredientes.normalizar("Filé-mignon"));
+    }
+
+    @Test
+    void deveIndexarAsPalavrasSeguintesSemOsConectivos() {
+        // Ação
+        List<String> chaves = AutocompletarIngredientes.chaves("Creme de Leite");
+
+        // Validação
+        assertEquals(List.of("creme de leite", "leite"), chaves);
+    }
+}
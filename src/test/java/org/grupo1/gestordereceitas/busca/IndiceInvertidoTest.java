@@ -0,0 +1,72 @@
+package org.grupo1.gestordereceitas.busca;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndiceInvertidoTest {
+
+    @Test
+    void deveRanquearPrimeiroAReceitaComMaisTermosDaConsulta() {
+        // Cenário
+        IndiceInvertido indice = new IndiceInvertido();
+        indice.indexar(1L, frequencias("bolo", 3, "cenoura", 3));
+        indice.indexar(2L, frequencias("bolo", 3, "chocolate", 3));
+        indice.indexar(3L, frequencias("mousse", 3, "chocolate", 3));
+
+        // Ação
+        ResultadoBusca resultado = indice.buscar(List.of("bolo", "chocolate"), 0, 10);
+
+        // Validação
+        assertEquals(3, resultado.total());
+        assertEquals(2L, resultado.acertos().getFirst().receitaId());
+    }
+
+    @Test
+    void devePaginarOsResultados() {
+        // Cenário
+        IndiceInvertido indice = new IndiceInvertido();
+        for (long id = 1; id <= 25; id++) {
+            indice.indexar(id, frequencias("bolo", (int) id));
+        }
+
+        // Ação
+        ResultadoBusca segundaPagina = indice.buscar(List.of("bolo"), 10, 10);
+
+        // Validação
+        assertEquals(25, segundaPagina.total());
+        assertEquals(10, segundaPagina.acertos().size());
+        assertEquals(15L, segundaPagina.acertos().getFirst().receitaId());
+    }
+
+    @Test
+    void deveEsquecerOsTermosAntigosAoReindexarEAoCompactar() {
+        // Cenário
+        IndiceInvertido indice = new IndiceInvertido();
+        indice.indexar(1L, frequencias("pudim", 3));
+        indice.indexar(2L, frequencias("pudim", 3));
+
+        // Ação
+        indice.indexar(1L, frequencias("quindim", 3));
+        indice.remover(2L);
+        indice.compactar();
+
+        // Validação
+        assertEquals(0, indice.buscar(List.of("pudim"), 0, 10).total());
+        assertEquals(1L, indice.buscar(List.of("quindim"), 0, 10).acertos().getFirst().receitaId());
+        assertEquals(1, indice.documentosVivos());
+        assertEquals(0, indice.documentosRemovidos());
+    }
+
+    private static Map<String, Integer> frequencias(Object... termosEPesos) {
+        Map<String, Integer> frequencias = new HashMap<>();
+        for (int i = 0; i < termosEPesos.length; i += 2) {
+            frequencias.put((String) termosEPesos[i], (Integer) termosEPesos[i + 1]);
+        }
+        return frequencias;
+    }
+}
@@ -0,0 +1,86 @@
+package org.grupo1.gestordereceitas.busca;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrieIngredientesTest {
+
+    @Test
+    void deveSugerirPorPrefixoOrdenandoPeloUso() {
+        // Cenário
+        TrieIngredientes trie = new TrieIngredientes();
+        trie.inserir("leite", 1L);
+        trie.inserir("leite condensado", 2L);
+        trie.inserir("lentilha", 3L);
+        trie.inserir("arroz", 4L);
+        Map<Long, Long> uso = Map.of(1L, 5L, 2L, 9L, 3L, 1L);
+        trie.atualizarUso(id -> uso.getOrDefault(id, 0L));
+
+        // Ação
+        List<Long> sugestoes = trie.sugerir("le", 10);
+
+        // Validação
+        assertEquals(List.of(2L, 1L, 3L), sugestoes);
+        assertEquals(List.of(), trie.sugerir("leo", 10));
+    }
+
+    @Test
+    void deveRefletirInsercoesERemocoesNasSugestoes() {
+        // Cenário
+        TrieIngredientes trie = new TrieIngredientes();
+        trie.inserir("acucar", 1L);
+        assertEquals(List.of(1L), trie.sugerir("acu", 10));
+
+        // Ação
+        trie.remover("acucar", 1L);
+        trie.inserir("acucar mascavo", 1L);
+        trie.inserir("acucar refinado", 2L);
+
+        // Validação
+        assertEquals(List.of(1L, 2L), trie.sugerir("acucar", 10));
+        assertEquals(List.of(2L), trie.sugerir("acucar r", 10));
+    }
+
+    @Test
+    void deveToleraUmErroDeDigitacaoNaBuscaAproximada() {
+        // Cenário
+        TrieIngredientes trie = new TrieIngredientes();
+        trie.inserir("chocolate", 1L);
+        trie.inserir("cenoura", 2L);
+        trie.inserir("chuchu", 3L);
+
+        // Ação: troca, omissão e inserção de um caractere
+        List<TrieIngredientes.Sugestao> troca = trie.sugerirAproximado("chacol", 10);
+        List<TrieIngredientes.Sugestao> omissao = trie.sugerirAproximado("chcolat", 10);
+        List<TrieIngredientes.Sugestao> insercao = trie.sugerirAproximado("cenourra", 10);
+
+        // Validação
+        assertEquals(1L, troca.getFirst().ingredienteId());
+        assertEquals(1, troca.getFirst().distancia());
+        assertEquals(1L, omissao.getFirst().ingredienteId());
+        assertEquals(2L, insercao.getFirst().ingredienteId());
+        assertTrue(trie.sugerirAproximado("xyzwq", 10).isEmpty());
+    }
+
+    @Test
+    void deveListarPrimeiroOsQueCasamExatamenteNaBuscaAproximada() {
+        // Cenário
+        TrieIngredientes trie = new TrieIngredientes();
+        trie.inserir("sal", 1L);
+        trie.inserir("salsa", 2L);
+        trie.inserir("sel", 3L);
+        trie.atualizarUso(id -> id == 3L ? 100 : 1);
+
+        // Ação
+        List<TrieIngredientes.Sugestao> sugestoes = trie.sugerirAproximado("sal", 10);
+
+        // Validação
+        assertEquals(List.of(1L, 2L, 3L), sugestoes.stream().map(TrieIngredientes.Sugestao::ingredienteId).toList());
+        assertEquals(0, sugestoes.get(1).distancia());
+        assertEquals(1, sugestoes.get(2).distancia());
+    }
+}
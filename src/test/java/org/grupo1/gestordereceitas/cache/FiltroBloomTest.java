@@ -0,0 +1,45 @@
+package org.grupo1.gestordereceitas.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FiltroBloomTest {
+
+    @Test
+    void naoDeveTerFalsoNegativoParaChavesAdicionadas() {
+        // Cenário
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+
+        // Ação
+        for (long id = 1; id <= 10_000; id++) {
+            filtro.adicionar(id);
+        }
+
+        // Validação
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(filtro.podeConter(id));
+        }
+    }
+
+    @Test
+    void deveManterTaxaDeFalsoPositivoProximaDaConfigurada() {
+        // Cenário
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filtro.adicionar(id);
+        }
+
+        // Ação
+        int falsosPositivos = 0;
+        int consultas = 100_000;
+        for (long id = 1_000_000; id < 1_000_000 + consultas; id++) {
+            if (filtro.podeConter(id)) {
+                falsosPositivos++;
+            }
+        }
+
+        // Validação
+        assertTrue(falsosPositivos < consultas * 0.02, "falsos positivos: " + falsosPositivos);
+    }
+}
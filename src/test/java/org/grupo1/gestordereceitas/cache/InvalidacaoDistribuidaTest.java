@@ -0,0 +1,143 @@
+package org.grupo1.gestordereceitas.cache;
+
+import org.grupo1.gestordereceitas.GestorDeReceitasApplication;
+import org.grupo1.gestordereceitas.dto.ReceitaIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaRequestDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.repository.InvalidacaoCacheRepository;
+import org.grupo1.gestordereceitas.service.CategoriaService;
+import org.grupo1.gestordereceitas.service.IngredienteService;
+import org.grupo1.gestordereceitas.service.ReceitaService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Duas instâncias da aplicação na mesma JVM, compartilhando um único banco H2 em memória
+public class InvalidacaoDistribuidaTest {
+
+    private static ConfigurableApplicationContext instanciaA;
+    private static ConfigurableApplicationContext instanciaB;
+
+    @BeforeAll
+    static void iniciarInstancias() {
+        String url = "jdbc:h2:mem:invalidacao-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        instanciaA = iniciar(url, "create-drop");
+        instanciaB = iniciar(url, "none");
+    }
+
+    @AfterAll
+    static void encerrarInstancias() {
+        instanciaB.close();
+        instanciaA.close();
+    }
+
+    @Test
+    void deveInvalidarCacheDaOutraInstanciaAposEscrita() {
+        // Cenário
+        RespostaCache cacheB = instanciaB.getBean(RespostaCache.class);
+        CategoriaService categoriasB = instanciaB.getBean(CategoriaService.class);
+        cacheB.responder(new MockHttpServletRequest(), "categorias", categoriasB::listarTodas,
+                categorias -> Set.of(RespostaCache.TAG_CATEGORIAS));
+        assertNotNull(cacheB.buscar("categorias"));
+
+        // Ação
+        instanciaA.getBean(CategoriaService.class).salvar(new Categoria(null, "Lanches"));
+        instanciaB.getBean(InvalidacaoDistribuida.class).sincronizar();
+
+        // Validação
+        assertNull(cacheB.buscar("categorias"));
+        assertTrue(instanciaB.getBean(InvalidacaoDistribuida.class).estatisticas().getAplicadas() >= 1);
+    }
+
+    @Test
+    void naoDeveNegarNaOutraInstanciaReceitaCriadaPorOutraInstancia() {
+        // Cenário
+        Categoria categoria = instanciaA.getBean(CategoriaService.class).salvar(new Categoria(null, "Doces"));
+        Ingrediente ingrediente = instanciaA.getBean(IngredienteService.class).salvar(new Ingrediente(null, "Açúcar"));
+
+        ReceitaIngredienteDTO linha = new ReceitaIngredienteDTO();
+        linha.setIngredienteId(ingrediente.getId());
+        linha.setQuantidade("1");
+        linha.setUnidade("xícara");
+
+        ReceitaRequestDTO dto = new ReceitaRequestDTO();
+        dto.setNome("Calda");
+        dto.setDescricao("Derreter o açúcar");
+        dto.setTempoDePreparo(10);
+        dto.setCategoriaId(categoria.getId());
+        dto.setIngredientes(List.of(linha));
+
+        // Ação
+        ReceitaResponseDTO criada = instanciaA.getBean(ReceitaService.class).salvar(dto);
+        instanciaB.getBean(InvalidacaoDistribuida.class).sincronizar();
+
+        // Validação
+        assertFalse(instanciaB.getBean(ReceitaIdsFiltro.class).certamenteNaoExiste(criada.getId()));
+    }
+
+    @Test
+    void deveAtualizarOModeloDeLeituraDaOutraInstancia() {
+        // Cenário
+        CategoriaService categoriasB = instanciaB.getBean(CategoriaService.class);
+        Categoria criada = instanciaA.getBean(CategoriaService.class).salvar(new Categoria(null, "Massas"));
+        assertThrows(ResourceNotFoundException.class, () -> categoriasB.buscarPorId(criada.getId()));
+
+        // Ação
+        instanciaB.getBean(InvalidacaoDistribuida.class).sincronizar();
+
+        // Validação
+        assertEquals("Massas", categoriasB.buscarPorId(criada.getId()).getNome());
+    }
+
+    @Test
+    void naoDeveReaplicarAsPropriasEscritas() {
+        // Cenário
+        InvalidacaoDistribuida invalidacaoA = instanciaA.getBean(InvalidacaoDistribuida.class);
+        invalidacaoA.sincronizar();
+        long aplicadasAntes = invalidacaoA.estatisticas().getAplicadas();
+
+        // Ação
+        instanciaA.getBean(IngredienteService.class).salvar(new Ingrediente(null, "Sal"));
+        invalidacaoA.sincronizar();
+
+        // Validação
+        assertEquals(aplicadasAntes, invalidacaoA.estatisticas().getAplicadas());
+    }
+
+    @Test
+    void naoDeveRegistrarDeNovoNoLogAsEscritasRepublicadas() {
+        // Cenário
+        InvalidacaoCacheRepository log = instanciaA.getBean(InvalidacaoCacheRepository.class);
+        instanciaA.getBean(IngredienteService.class).salvar(new Ingrediente(null, "Canela"));
+        long registrosAntes = log.count();
+
+        // Ação
+        instanciaB.getBean(InvalidacaoDistribuida.class).sincronizar();
+
+        // Validação
+        assertEquals(registrosAntes, log.count());
+    }
+
+    private static ConfigurableApplicationContext iniciar(String url, String ddlAuto) {
+        return new SpringApplicationBuilder(GestorDeReceitasApplication.class).run(
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--server.port=0",
+                // A sincronização é disparada pelos testes
+                "--gestor.cache.invalidacao.intervalo-ms=3600000",
+                "--gestor.cache.invalidacao.janela-lacuna-ms=0",
+                "--gestor.leitura.catalogo-em-memoria=true");
+    }
+}
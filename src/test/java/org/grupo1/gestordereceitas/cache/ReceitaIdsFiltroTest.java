@@ -0,0 +1,79 @@
+package org.grupo1.gestordereceitas.cache;
+
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReceitaIdsFiltroTest {
+
+    private final ReceitaRepository receitaRepository = mock(ReceitaRepository.class);
+    private final ReceitaIdsFiltro filtro = new ReceitaIdsFiltro(receitaRepository, 0.01, 4);
+
+    @AfterEach
+    void encerrarTransacaoSimulada() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void naoDevePerderIdAindaNaoCommitadoQuandoOFiltroForReconstruido() {
+        // Cenário: a receita 10 foi registrada dentro de uma transação que ainda não terminou
+        when(receitaRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        filtro.reconstruir();
+        TransactionSynchronizationManager.initSynchronization();
+        filtro.registrar(10L);
+
+        // Ação: a leitura da reconstrução não enxerga o insert pendente
+        filtro.reconstruir();
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        sincronizacoes.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Validação
+        assertFalse(filtro.certamenteNaoExiste(10L));
+        assertFalse(filtro.certamenteNaoExiste(1L));
+    }
+
+    @Test
+    void naoDeveNegarIdAcimaDoMaiorConhecido() {
+        // Cenário: a receita 20 foi criada em outra instância e ainda não chegou pelo log de invalidação
+        when(receitaRepository.findAllIds()).thenReturn(List.of(1L, 5L, 9L));
+        filtro.reconstruir();
+
+        // Ação / Validação
+        assertFalse(filtro.certamenteNaoExiste(20L));
+        assertTrue(filtro.alemDoMaiorConhecido(20L));
+        assertFalse(filtro.alemDoMaiorConhecido(7L));
+        filtro.onReceitaAlterada(new ReceitaAlteradaEvent(20L, true));
+        assertFalse(filtro.alemDoMaiorConhecido(20L));
+        assertFalse(filtro.certamenteNaoExiste(20L));
+    }
+
+    @Test
+    void deveReconstruirEmSegundoPlanoQuandoPassarDaCapacidade() {
+        // Cenário
+        when(receitaRepository.findAllIds()).thenReturn(List.of());
+        filtro.reconstruir();
+        long capacidade = filtro.estatisticas().getCapacidade();
+
+        // Ação
+        for (long id = 1; id <= capacidade + 1; id++) {
+            filtro.registrar(id);
+        }
+
+        // Validação: o registro não lê o banco; a tarefa agendada reconstrói
+        verify(receitaRepository, times(1)).findAllIds();
+        filtro.reconstruirSePendente();
+        verify(receitaRepository, times(2)).findAllIds();
+        filtro.reconstruirSePendente();
+        verify(receitaRepository, times(2)).findAllIds();
+    }
+}
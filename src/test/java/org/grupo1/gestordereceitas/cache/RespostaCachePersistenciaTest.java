@@ -0,0 +1,104 @@
+package org.grupo1.gestordereceitas.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.grupo1.gestordereceitas.dto.CategoriaDTO;
+import org.grupo1.gestordereceitas.model.VersaoCatalogo;
+import org.grupo1.gestordereceitas.service.VersaoCatalogoService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class RespostaCachePersistenciaTest {
+
+    @TempDir
+    Path diretorio;
+
+    private final VersaoCatalogoService versaoCatalogoService = mock(VersaoCatalogoService.class);
+
+    @Test
+    void deveRestaurarRespostasQuandoOCatalogoNaoMudou() {
+        // Cenário
+        Path arquivo = diretorio.resolve("cache.bin");
+        when(versaoCatalogoService.atual()).thenReturn(new VersaoCatalogo(1L, "estado-a", 7L));
+
+        RespostaCache antes = novoCache();
+        antes.responder(new MockHttpServletRequest(), "categorias", this::categorias,
+                categorias -> Set.of(RespostaCache.TAG_CATEGORIAS));
+        new RespostaCachePersistencia(antes, versaoCatalogoService, arquivo.toString(), true).salvar();
+
+        RespostaCache depois = novoCache();
+
+        // Ação
+        new RespostaCachePersistencia(depois, versaoCatalogoService, arquivo.toString(), true).carregar();
+
+        // Validação
+        RespostaSerializada restaurada = depois.buscar("categorias");
+        assertNotNull(restaurada);
+        assertArrayEquals(antes.buscar("categorias").corpo(), restaurada.corpo());
+        assertEquals(antes.buscar("categorias").etag(), restaurada.etag());
+        assertEquals(Set.of(RespostaCache.TAG_CATEGORIAS), restaurada.tags());
+        assertFalse(Files.exists(arquivo));
+    }
+
+    @Test
+    void deveDescartarArquivoQuandoAVersaoDoCatalogoMudou() {
+        // Cenário
+        Path arquivo = diretorio.resolve("cache.bin");
+        when(versaoCatalogoService.atual()).thenReturn(new VersaoCatalogo(1L, "estado-a", 7L));
+
+        RespostaCache antes = novoCache();
+        antes.responder(new MockHttpServletRequest(), "categorias", this::categorias,
+                categorias -> Set.of(RespostaCache.TAG_CATEGORIAS));
+        new RespostaCachePersistencia(antes, versaoCatalogoService, arquivo.toString(), true).salvar();
+
+        when(versaoCatalogoService.atual()).thenReturn(new VersaoCatalogo(1L, "estado-b", 8L));
+        RespostaCache depois = novoCache();
+
+        // Ação
+        new RespostaCachePersistencia(depois, versaoCatalogoService, arquivo.toString(), true).carregar();
+
+        // Validação
+        assertNull(depois.buscar("categorias"));
+        assertEquals(0, depois.estatisticas().getEntradas());
+    }
+
+    @Test
+    void deveDescartarArquivoQuandoOMarcadorDoCatalogoMudou() {
+        // Cenário
+        Path arquivo = diretorio.resolve("cache.bin");
+        when(versaoCatalogoService.atual()).thenReturn(new VersaoCatalogo(1L, "estado-a", 0L));
+
+        RespostaCache antes = novoCache();
+        antes.responder(new MockHttpServletRequest(), "categorias", this::categorias,
+                categorias -> Set.of(RespostaCache.TAG_CATEGORIAS));
+        new RespostaCachePersistencia(antes, versaoCatalogoService, arquivo.toString(), true).salvar();
+
+        when(versaoCatalogoService.atual()).thenReturn(new VersaoCatalogo(1L, "estado-b", 0L));
+        RespostaCache depois = novoCache();
+
+        // Ação
+        new RespostaCachePersistencia(depois, versaoCatalogoService, arquivo.toString(), true).carregar();
+
+        // Validação
+        assertNull(depois.buscar("categorias"));
+    }
+
+    private RespostaCache novoCache() {
+        return new RespostaCache(new ObjectMapper(), 1024 * 1024, 5000);
+    }
+
+    private List<CategoriaDTO> categorias() {
+        CategoriaDTO doces = new CategoriaDTO();
+        doces.setId(1L);
+        doces.setNome("Doces");
+        return List.of(doces);
+    }
+}
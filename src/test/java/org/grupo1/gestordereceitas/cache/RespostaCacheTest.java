@@ -0,0 +1,241 @@
+package org.grupo1.gestordereceitas.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.grupo1.gestordereceitas.dto.ReceitaIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RespostaCacheTest {
+
+    private final RespostaCache respostaCache = new RespostaCache(new ObjectMapper(), 1024 * 1024, 5000);
+
+    @Test
+    void deveServirDoCacheSemExecutarOCarregadorNovamente() {
+        // Cenário
+        AtomicInteger cargas = new AtomicInteger();
+        ReceitaResponseDTO receita = criarReceita(1L, "Brigadeiro", 11L);
+
+        // Ação
+        ResponseEntity<byte[]> primeira = responderReceita(new MockHttpServletRequest(), receita, cargas);
+        ResponseEntity<byte[]> segunda = responderReceita(new MockHttpServletRequest(), receita, cargas);
+
+        // Validação
+        assertEquals(1, cargas.get());
+        assertEquals(HttpStatus.OK, segunda.getStatusCode());
+        assertArrayEquals(primeira.getBody(), segunda.getBody());
+        assertEquals(primeira.getHeaders().getETag(), segunda.getHeaders().getETag());
+        assertEquals(1, respostaCache.estatisticas().getAcertos());
+    }
+
+    @Test
+    void deveRetornar304QuandoIfNoneMatchCorresponderAoEtag() {
+        // Cenário
+        AtomicInteger cargas = new AtomicInteger();
+        ReceitaResponseDTO receita = criarReceita(1L, "Brigadeiro", 11L);
+        String etag = responderReceita(new MockHttpServletRequest(), receita, cargas).getHeaders().getETag();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        // Ação
+        ResponseEntity<byte[]> resposta = responderReceita(request, receita, cargas);
+
+        // Validação
+        assertEquals(HttpStatus.NOT_MODIFIED, resposta.getStatusCode());
+        assertNull(resposta.getBody());
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    void deveRetornarCorpoGzipQuandoClienteAceitar() throws IOException {
+        // Cenário
+        ReceitaResponseDTO receita = criarReceita(1L, "Bolo ".repeat(100), 11L);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        // Ação
+        ResponseEntity<byte[]> semGzip = responderReceita(new MockHttpServletRequest(), receita, new AtomicInteger());
+        ResponseEntity<byte[]> comGzip = responderReceita(request, receita, new AtomicInteger());
+
+        // Validação
+        assertEquals("gzip", comGzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(comGzip.getBody().length < semGzip.getBody().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(comGzip.getBody()))) {
+            assertArrayEquals(semGzip.getBody(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void deveInvalidarSomenteReceitasQueUsamOIngredienteAlterado() {
+        // Cenário
+        AtomicInteger cargas = new AtomicInteger();
+        ReceitaResponseDTO comAcucar = criarReceita(1L, "Brigadeiro", 1L);
+        ReceitaResponseDTO semAcucar = criarReceita(2L, "Salada", 23L);
+        responderReceita(new MockHttpServletRequest(), comAcucar, cargas);
+        responderReceita(new MockHttpServletRequest(), semAcucar, cargas);
+
+        // Ação
+        respostaCache.onIngredienteAlterado(new IngredienteAlteradoEvent(1L));
+        responderReceita(new MockHttpServletRequest(), comAcucar, cargas);
+        responderReceita(new MockHttpServletRequest(), semAcucar, cargas);
+
+        // Validação
+        assertEquals(3, cargas.get());
+    }
+
+    @Test
+    void naoDeveGuardarRespostaCarregadaDuranteUmaInvalidacao() {
+        // Cenário
+        AtomicInteger cargas = new AtomicInteger();
+        ReceitaResponseDTO receita = criarReceita(1L, "Brigadeiro", 11L);
+
+        // Ação: a receita é alterada enquanto a resposta antiga ainda está sendo carregada
+        respostaCache.responder(new MockHttpServletRequest(), "receitas/1", () -> {
+            cargas.incrementAndGet();
+            respostaCache.onReceitaAlterada(new ReceitaAlteradaEvent(1L));
+            return receita;
+        }, RespostaCache::tagsReceita);
+        responderReceita(new MockHttpServletRequest(), receita, cargas);
+
+        // Validação
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    void deveGuardarRespostaQuandoAEscritaDuranteACargaForEmOutraEntidade() {
+        // Cenário
+        AtomicInteger cargas = new AtomicInteger();
+        ReceitaResponseDTO receita = criarReceita(1L, "Brigadeiro", 11L);
+
+        // Ação: outra receita e um ingrediente que ela não usa mudam durante a carga
+        respostaCache.responder(new MockHttpServletRequest(), "receitas/1", () -> {
+            cargas.incrementAndGet();
+            respostaCache.onReceitaAlterada(new ReceitaAlteradaEvent(2L));
+            respostaCache.onIngredienteAlterado(new IngredienteAlteradoEvent(23L));
+            return receita;
+        }, RespostaCache::tagsReceita);
+        responderReceita(new MockHttpServletRequest(), receita, cargas);
+
+        // Validação
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    void naoDeveAproveitarCargaIniciadaAntesDeUmaInvalidacaoQueAAtinge() throws Exception {
+        // Cenário: a primeira carga fica presa até a receita ser alterada e outra requisição chegar
+        AtomicInteger cargas = new AtomicInteger();
+        CountDownLatch cargaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        ReceitaResponseDTO antiga = criarReceita(1L, "Brigadeiro", 11L);
+        ReceitaResponseDTO nova = criarReceita(1L, "Brigadeiro de colher", 11L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<byte[]>> primeira = executor.submit(() ->
+                    respostaCache.responder(new MockHttpServletRequest(), "receitas/1", () -> {
+                        cargas.incrementAndGet();
+                        cargaIniciada.countDown();
+                        aguardar(liberarCarga);
+                        return antiga;
+                    }, RespostaCache::tagsReceita));
+            aguardar(cargaIniciada);
+            respostaCache.onReceitaAlterada(new ReceitaAlteradaEvent(1L));
+
+            // Ação
+            Future<ResponseEntity<byte[]>> segunda = executor.submit(() ->
+                    respostaCache.responder(new MockHttpServletRequest(), "receitas/1", () -> {
+                        cargas.incrementAndGet();
+                        return nova;
+                    }, RespostaCache::tagsReceita));
+            while (respostaCache.estatisticas().getCargasCompartilhadas() == 0) {
+                Thread.onSpinWait();
+            }
+            liberarCarga.countDown();
+
+            // Validação
+            assertTrue(new String(primeira.get(5, TimeUnit.SECONDS).getBody()).contains("\"Brigadeiro\""));
+            assertTrue(new String(segunda.get(5, TimeUnit.SECONDS).getBody()).contains("Brigadeiro de colher"));
+            assertEquals(2, cargas.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deveRemoverEntradasMenosUsadasAoExcederOLimiteDeBytes() {
+        // Cenário
+        RespostaCache cachePequeno = new RespostaCache(new ObjectMapper(), 8 * 1024, 5000);
+        String texto = "x".repeat(100);
+
+        // Ação
+        for (long id = 1; id <= 20; id++) {
+            final long receitaId = id;
+            cachePequeno.responder(new MockHttpServletRequest(), "receitas/" + id,
+                    () -> criarReceita(receitaId, texto, 1L), RespostaCache::tagsReceita);
+        }
+
+        // Validação
+        assertTrue(cachePequeno.estatisticas().getBytesUsados() <= 8 * 1024);
+        assertTrue(cachePequeno.estatisticas().getEvicoes() > 0);
+        assertNull(cachePequeno.buscar("receitas/1"));
+        assertNotNull(cachePequeno.buscar("receitas/20"));
+    }
+
+    @Test
+    void deveCompararEtagsDoIfNoneMatch() {
+        assertTrue(RespostaCache.etagCorresponde("\"a\", \"b\"", "\"b\""));
+        assertTrue(RespostaCache.etagCorresponde("W/\"b\"", "\"b\""));
+        assertTrue(RespostaCache.etagCorresponde("*", "\"b\""));
+        assertFalse(RespostaCache.etagCorresponde("\"a\"", "\"b\""));
+        assertFalse(RespostaCache.aceitaGzip("gzip;q=0"));
+        assertTrue(RespostaCache.aceitaGzip("br, gzip;q=0.8"));
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResponseEntity<byte[]> responderReceita(MockHttpServletRequest request,
+                                                    ReceitaResponseDTO receita,
+                                                    AtomicInteger cargas) {
+        return respostaCache.responder(request, "receitas/" + receita.getId(), () -> {
+            cargas.incrementAndGet();
+            return receita;
+        }, RespostaCache::tagsReceita);
+    }
+
+    private ReceitaResponseDTO criarReceita(Long id, String nome, Long ingredienteId) {
+        ReceitaIngredienteDTO ingrediente = new ReceitaIngredienteDTO();
+        ingrediente.setIngredienteId(ingredienteId);
+        ingrediente.setNome("ingrediente " + ingredienteId);
+
+        ReceitaResponseDTO dto = new ReceitaResponseDTO();
+        dto.setId(id);
+        dto.setNome(nome);
+        dto.setIngredientes(List.of(ingrediente));
+        return dto;
+    }
+}
@@ -0,0 +1,110 @@
+package org.grupo1.gestordereceitas.cache;
+
+import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    @Test
+    void deveExecutarUmaUnicaCargaParaRequisicoesConcorrentesDaMesmaChave() throws Exception {
+        // Cenário
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger cargas = new AtomicInteger();
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        int requisicoes = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(requisicoes);
+
+        // Ação
+        List<Future<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < requisicoes; i++) {
+            resultados.add(executor.submit(() -> singleFlight.executar("receitas/1", () -> {
+                cargas.incrementAndGet();
+                aguardar(liberarCarga);
+                return "Brigadeiro";
+            })));
+        }
+        while (singleFlight.cargasCompartilhadas() < requisicoes - 1) {
+            Thread.sleep(5);
+        }
+        liberarCarga.countDown();
+
+        // Validação
+        for (Future<String> resultado : resultados) {
+            assertEquals("Brigadeiro", resultado.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, cargas.get());
+        assertEquals(0, singleFlight.cargasEmAndamento());
+        executor.shutdown();
+    }
+
+    @Test
+    void deveRepassarAExcecaoDaCargaParaTodasAsRequisicoesAgrupadas() throws Exception {
+        // Cenário
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Ação
+        Future<String> primeira = executor.submit(() -> singleFlight.executar("receitas/11", () -> {
+            aguardar(liberarCarga);
+            throw new ResourceNotFoundException("Receita com ID 11 não encontrada");
+        }));
+        while (singleFlight.cargasEmAndamento() == 0) {
+            Thread.sleep(5);
+        }
+        Future<String> segunda = executor.submit(() -> singleFlight.executar("receitas/11", () -> "nunca executado"));
+        while (singleFlight.cargasCompartilhadas() == 0) {
+            Thread.sleep(5);
+        }
+        liberarCarga.countDown();
+
+        // Validação
+        ExecutionException erroPrimeira = assertThrows(ExecutionException.class, () -> primeira.get(5, TimeUnit.SECONDS));
+        ExecutionException erroSegunda = assertThrows(ExecutionException.class, () -> segunda.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ResourceNotFoundException.class, erroPrimeira.getCause());
+        assertInstanceOf(ResourceNotFoundException.class, erroSegunda.getCause());
+        executor.shutdown();
+    }
+
+    @Test
+    void deveCarregarPorContaPropriaQuandoACargaCompartilhadaExcederOTimeout() throws Exception {
+        // Cenário
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<String> travada = executor.submit(() -> singleFlight.executar("receitas", () -> {
+            aguardar(liberarCarga);
+            return "lenta";
+        }));
+        while (singleFlight.cargasEmAndamento() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Ação
+        String resultado = singleFlight.executar("receitas", () -> "propria");
+
+        // Validação
+        assertEquals("propria", resultado);
+        assertEquals(1, singleFlight.esperasExpiradas());
+        liberarCarga.countDown();
+        assertEquals("lenta", travada.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package org.grupo1.gestordereceitas.carga;
+
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
+import org.grupo1.gestordereceitas.dto.CopiaCatalogoDTO;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.model.NutricaoIngrediente;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
+import org.grupo1.gestordereceitas.model.Substituicao;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.NutricaoIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.grupo1.gestordereceitas.repository.SubstituicaoRepository;
+import org.grupo1.gestordereceitas.service.CopiaCatalogoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({CopiaCatalogoService.class, CompressorDescricao.class, DicionariosDescricao.class})
+// A restauração controla as próprias transações
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CopiaCatalogoTest {
+
+    @Autowired
+    private CopiaCatalogoService copiaCatalogoService;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private IngredienteRepository ingredienteRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private ReceitaIngredienteRepository receitaIngredienteRepository;
+
+    @Autowired
+    private SubstituicaoRepository substituicaoRepository;
+
+    @Autowired
+    private NutricaoIngredienteRepository nutricaoIngredienteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path diretorio;
+
+    @AfterEach
+    void limpar() {
+        apagarCatalogo();
+    }
+
+    @Test
+    void deveRestaurarOCatalogoExportadoComOsMesmosIdsEConteudo() throws IOException {
+        // Cenário
+        Categoria categoria = categoriaRepository.save(new Categoria(null, "Sobremesas"));
+        Ingrediente ingrediente = ingredienteRepository.save(new Ingrediente(null, "açúcar"));
+        Receita receita = new Receita();
+        receita.setNome("Pudim");
+        receita.setDescricao("Misture o leite condensado, o leite e os ovos e asse em banho-maria por 50 minutos.");
+        receita.setTempoDePreparo(60);
+        receita.setPorcoes(8);
+        receita.setCategoria(categoria);
+        receita = receitaRepository.save(receita);
+        ReceitaIngrediente linha = new ReceitaIngrediente();
+        linha.setReceita(receita);
+        linha.setIngrediente(ingrediente);
+        linha.setQuantidade("1");
+        linha.setUnidadeMedida("xícara");
+        receitaIngredienteRepository.save(linha);
+        Ingrediente mel = ingredienteRepository.save(new Ingrediente(null, "mel"));
+        Substituicao substituicao = substituicaoRepository.save(new Substituicao(null, ingrediente, mel, 0.7));
+        jdbcTemplate.update("insert into nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, "
+                + "gorduras, fibras, sodio) values (?, 387, 0, 100, 0, 0, 1)", ingrediente.getId());
+        byte[] descricaoGravada = descricaoGravada(receita.getId());
+        Path arquivo = diretorio.resolve("catalogo.bin");
+
+        // Ação
+        CopiaCatalogoDTO exportada = copiaCatalogoService.exportar(arquivo);
+        apagarCatalogo();
+        CopiaCatalogoDTO restaurada = copiaCatalogoService.restaurar(arquivo);
+
+        // Validação
+        assertEquals(1, exportada.getReceitas());
+        assertEquals(1, restaurada.getReceitas());
+        assertEquals(1, restaurada.getLinhasIngredientes());
+        assertEquals(Files.size(arquivo), restaurada.getBytes());
+        Receita copia = receitaRepository.findById(receita.getId()).orElseThrow();
+        assertEquals("Pudim", copia.getNome());
+        assertEquals(receita.getDescricao(), copia.getDescricao());
+        assertEquals(categoria.getId(), copia.getCategoria().getId());
+        assertEquals(8, copia.getPorcoes());
+        assertArrayEquals(descricaoGravada, descricaoGravada(receita.getId()));
+        assertEquals("açúcar", ingredienteRepository.findById(ingrediente.getId()).orElseThrow().getNome());
+        assertEquals(1, restaurada.getSubstituicoes());
+        Substituicao substituicaoCopiada = substituicaoRepository.findById(substituicao.getId()).orElseThrow();
+        assertEquals(mel.getId(), substituicaoCopiada.getSubstituto().getId());
+        assertEquals(0.7, substituicaoCopiada.getPeso());
+        assertEquals(1, restaurada.getNutricaoIngredientes());
+        NutricaoIngrediente nutricaoCopiada = nutricaoIngredienteRepository.findById(ingrediente.getId()).orElseThrow();
+        assertEquals(387, nutricaoCopiada.getPorCemGramas().getCalorias());
+        assertNull(nutricaoCopiada.getGramasPorUnidade());
+        // A identidade continua depois dos ids restaurados
+        assertTrue(categoriaRepository.save(new Categoria(null, "Massas")).getId() > categoria.getId());
+    }
+
+    @Test
+    void deveRecusarCopiaIncompleta() throws IOException {
+        // Cenário
+        categoriaRepository.save(new Categoria(null, "Bebidas"));
+        Path arquivo = diretorio.resolve("catalogo.bin");
+        copiaCatalogoService.exportar(arquivo);
+        byte[] bytes = Files.readAllBytes(arquivo);
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length - 8));
+        apagarCatalogo();
+
+        // Ação / Validação
+        assertThrows(IOException.class, () -> copiaCatalogoService.restaurar(arquivo));
+        assertEquals(0, categoriaRepository.count());
+    }
+
+    @Test
+    void deveRestaurarCopiaDaVersaoDoisSemPorcoesNemNutricao() throws IOException {
+        // Cenário
+        Path arquivo = diretorio.resolve("catalogo.bin");
+        try (DataOutputStream saida = new DataOutputStream(Files.newOutputStream(arquivo))) {
+            saida.writeInt(FormatoCopiaCatalogo.ASSINATURA);
+            saida.writeInt(2);
+            secoesVazias(saida, 2); // versão do catálogo e dicionários
+            linha(saida);
+            saida.writeLong(10);
+            texto(saida, "Sobremesas");
+            saida.writeByte(FormatoCopiaCatalogo.FIM_SECAO);
+            linha(saida);
+            saida.writeLong(20);
+            texto(saida, "açúcar");
+            linha(saida);
+            saida.writeLong(21);
+            texto(saida, "mel");
+            saida.writeByte(FormatoCopiaCatalogo.FIM_SECAO);
+            linha(saida);
+            saida.writeLong(30);
+            texto(saida, "Pudim");
+            saida.writeInt(-1); // descrição
+            saida.writeInt(60);
+            saida.writeLong(10);
+            saida.writeInt(-1); // snapshot
+            saida.writeByte(FormatoCopiaCatalogo.FIM_SECAO);
+            linha(saida);
+            saida.writeLong(40);
+            saida.writeLong(30);
+            saida.writeLong(20);
+            texto(saida, "1");
+            texto(saida, "xícara");
+            saida.writeByte(FormatoCopiaCatalogo.FIM_SECAO);
+            linha(saida);
+            saida.writeLong(50);
+            saida.writeLong(20);
+            saida.writeLong(21);
+            saida.writeDouble(0.7);
+            saida.writeByte(FormatoCopiaCatalogo.FIM_SECAO);
+            saida.writeInt(FormatoCopiaCatalogo.ASSINATURA);
+        }
+
+        // Ação
+        CopiaCatalogoDTO restaurada = copiaCatalogoService.restaurar(arquivo);
+
+        // Validação
+        assertEquals(1, restaurada.getReceitas());
+        assertEquals(1, restaurada.getLinhasIngredientes());
+        assertEquals(1, restaurada.getSubstituicoes());
+        assertEquals(0, restaurada.getNutricaoIngredientes());
+        Receita copia = receitaRepository.findById(30L).orElseThrow();
+        assertEquals("Pudim", copia.getNome());
+        assertEquals(10L, copia.getCategoria().getId());
+        assertNull(copia.getPorcoes());
+        assertEquals(0.7, substituicaoRepository.findById(50L).orElseThrow().getPeso());
+        assertEquals(0, nutricaoIngredienteRepository.count());
+    }
+
+    @Test
+    void deveRestaurarCopiaDaVersaoUmSemSubstituicoes() throws IOException {
+        // Cenário
+        Path arquivo = diretorio.resolve("catalogo.bin");
+        try (DataOutputStream saida = new DataOutputStream(Files.newOutputStream(arquivo))) {
+            saida.writeInt(FormatoCopiaCatalogo.ASSINATURA);
+            saida.writeInt(1);
+            secoesVazias(saida, 2);
+            linha(saida);
+            saida.writeLong(10);
+            texto(saida, "Bebidas");
+            saida.writeByte(FormatoCopiaCatalogo.FIM_SECAO);
+            secoesVazias(saida, 3); // ingredientes, receitas e linhas de ingredientes
+            saida.writeInt(FormatoCopiaCatalogo.ASSINATURA);
+        }
+
+        // Ação
+        CopiaCatalogoDTO restaurada = copiaCatalogoService.restaurar(arquivo);
+
+        // Validação
+        assertEquals(1, restaurada.getCategorias());
+        assertEquals(0, restaurada.getSubstituicoes());
+        assertEquals("Bebidas", categoriaRepository.findById(10L).orElseThrow().getNome());
+    }
+
+    @Test
+    void deveRecusarCopiaDeVersaoDeFormatoDesconhecida() throws IOException {
+        // Cenário
+        Path arquivo = diretorio.resolve("catalogo.bin");
+        try (DataOutputStream saida = new DataOutputStream(Files.newOutputStream(arquivo))) {
+            saida.writeInt(FormatoCopiaCatalogo.ASSINATURA);
+            saida.writeInt(FormatoCopiaCatalogo.VERSAO_FORMATO + 1);
+            saida.writeInt(FormatoCopiaCatalogo.ASSINATURA);
+        }
+
+        // Ação / Validação
+        assertThrows(VersaoCopiaNaoSuportadaException.class, () -> copiaCatalogoService.restaurar(arquivo));
+    }
+
+    private static void secoesVazias(DataOutputStream saida, int secoes) throws IOException {
+        for (int i = 0; i < secoes; i++) {
+            saida.writeByte(FormatoCopiaCatalogo.FIM_SECAO);
+        }
+    }
+
+    private static void linha(DataOutputStream saida) throws IOException {
+        saida.writeByte(FormatoCopiaCatalogo.LINHA);
+    }
+
+    private static void texto(DataOutputStream saida, String texto) throws IOException {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+
+    private byte[] descricaoGravada(Long receitaId) {
+        return jdbcTemplate.queryForObject("select descricao from receita where id = ?", byte[].class, receitaId);
+    }
+
+    private void apagarCatalogo() {
+        jdbcTemplate.update("delete from substituicao");
+        jdbcTemplate.update("delete from nutricao_ingrediente");
+        jdbcTemplate.update("delete from receita_ingrediente");
+        jdbcTemplate.update("delete from receita");
+        jdbcTemplate.update("delete from ingrediente");
+        jdbcTemplate.update("delete from categoria");
+        jdbcTemplate.update("delete from dicionario_compressao");
+        jdbcTemplate.update("delete from versao_catalogo");
+    }
+}
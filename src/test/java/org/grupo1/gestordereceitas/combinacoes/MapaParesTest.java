@@ -0,0 +1,59 @@
+package org.grupo1.gestordereceitas.combinacoes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapaParesTest {
+
+    @Test
+    void deveTratarOsDoisSentidosDoParComoOMesmoContador() {
+        // Cenário
+        MapaPares pares = new MapaPares();
+
+        // Ação
+        pares.somar(MapaPares.chave(3, 7), 1);
+        pares.somar(MapaPares.chave(7, 3), 2);
+
+        // Validação
+        assertEquals(3, pares.valor(MapaPares.chave(3, 7)));
+        assertEquals(1, pares.tamanho());
+        assertEquals(3, MapaPares.primeiro(MapaPares.chave(7, 3)));
+        assertEquals(7, MapaPares.segundo(MapaPares.chave(7, 3)));
+    }
+
+    @Test
+    void deveManterOsMesmosValoresDeUmMapaComumComInsercoesERemocoes() {
+        // Cenário
+        Random random = new Random(42);
+        MapaPares pares = new MapaPares();
+        Map<Long, Long> esperado = new HashMap<>();
+
+        // Ação: poucos ingredientes para forçar colisões, remoções e redimensionamentos
+        for (int i = 0; i < 200_000; i++) {
+            long chave = MapaPares.chave(1 + random.nextInt(300), 1 + random.nextInt(300));
+            long delta = random.nextInt(3) == 0 ? -1 : 1;
+            pares.somar(chave, delta);
+            long novo = esperado.getOrDefault(chave, 0L) + delta;
+            if (novo > 0) {
+                esperado.put(chave, novo);
+            } else {
+                esperado.remove(chave);
+            }
+        }
+
+        // Validação
+        assertEquals(esperado.size(), pares.tamanho());
+        esperado.forEach((chave, valor) -> assertEquals(valor, pares.valor(chave)));
+        long[] encontrados = {0};
+        pares.paraCada((chave, valor) -> {
+            assertEquals(esperado.get(chave), valor);
+            encontrados[0]++;
+        });
+        assertEquals(esperado.size(), encontrados[0]);
+    }
+}
@@ -0,0 +1,111 @@
+package org.grupo1.gestordereceitas.combinacoes;
+
+import org.grupo1.gestordereceitas.analitico.IngredienteDaReceita;
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MatrizCoocorrenciaTest {
+
+    private ReceitaIngredienteRepository receitaIngredienteRepository;
+    private PlatformTransactionManager transactionManager;
+    private MatrizCoocorrencia matriz;
+
+    @BeforeEach
+    void criar() {
+        receitaIngredienteRepository = mock(ReceitaIngredienteRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        matriz = new MatrizCoocorrencia(receitaIngredienteRepository, transactionManager);
+    }
+
+    @Test
+    void deveListarOsIngredientesMaisUsadosJuntos() {
+        // Cenário
+        matriz.registrar(null, receita(1, 2, 3));
+        matriz.registrar(null, receita(1, 2));
+        matriz.registrar(null, receita(1, 4));
+        matriz.registrar(null, receita(2, 3));
+
+        // Ação
+        List<Combinacao> combinacoes = matriz.combinacoes(1L, 10);
+
+        // Validação
+        assertEquals(List.of(2L, 3L, 4L), combinacoes.stream().map(Combinacao::ingredienteId).toList());
+        assertEquals(2, combinacoes.getFirst().receitasJuntos());
+        assertEquals(2.0 / 3, combinacoes.getFirst().percentual(), 1e-9);
+    }
+
+    @Test
+    void devePromoverOutroVizinhoQuandoUmDoTopoPerdeReceitas() {
+        // Cenário: o ingrediente 1 tem mais vizinhos do que cabem no topo
+        List<ContribuicaoReceita> comVizinho100 = new ArrayList<>();
+        for (int vizinho = 2; vizinho < 2 + MatrizCoocorrencia.MAXIMO_COMBINACOES + 5; vizinho++) {
+            matriz.registrar(null, receita(1, vizinho));
+        }
+        for (int i = 0; i < 3; i++) {
+            ContribuicaoReceita receita = receita(1, 100);
+            comVizinho100.add(receita);
+            matriz.registrar(null, receita);
+        }
+        matriz.registrar(null, receita(1, 50));
+        matriz.registrar(null, receita(1, 50));
+        assertEquals(100L, matriz.combinacoes(1L, 1).getFirst().ingredienteId());
+
+        // Ação
+        for (ContribuicaoReceita receita : comVizinho100) {
+            matriz.registrar(receita, null);
+        }
+
+        // Validação
+        assertEquals(50L, matriz.combinacoes(1L, 1).getFirst().ingredienteId());
+        assertTrue(matriz.combinacoes(1L, MatrizCoocorrencia.MAXIMO_COMBINACOES).stream()
+                .noneMatch(combinacao -> combinacao.ingredienteId() == 100L));
+        assertTrue(matriz.combinacoes(100L, 10).isEmpty());
+    }
+
+    @Test
+    void deveChegarAoMesmoResultadoIncrementalmenteEPelaReconstrucaoParalela() {
+        // Cenário
+        Random random = new Random(42);
+        List<IngredienteDaReceita> linhas = new ArrayList<>();
+        MatrizCoocorrencia incremental = new MatrizCoocorrencia(receitaIngredienteRepository, transactionManager);
+        for (long receitaId = 1; receitaId <= 20_000; receitaId++) {
+            long[] ingredientes = random.longs(2 + random.nextInt(8), 1, 500).distinct().sorted().toArray();
+            for (long ingredienteId : ingredientes) {
+                linhas.add(new IngredienteDaReceita(receitaId, ingredienteId));
+            }
+            incremental.registrar(null, new ContribuicaoReceita(1L, 30, ingredientes));
+        }
+        when(receitaIngredienteRepository.findIngredientesDistintosPorReceita()).thenReturn(linhas);
+
+        // Ação
+        matriz.reconstruir();
+
+        // Validação
+        assertEquals(incremental.situacao().pares(), matriz.situacao().pares());
+        for (long ingredienteId = 1; ingredienteId < 500; ingredienteId += 7) {
+            assertEquals(contagens(incremental.combinacoes(ingredienteId, 20)), contagens(matriz.combinacoes(ingredienteId, 20)));
+        }
+    }
+
+    private static List<Long> contagens(List<Combinacao> combinacoes) {
+        return combinacoes.stream().map(Combinacao::receitasJuntos).toList();
+    }
+
+    private static ContribuicaoReceita receita(long... ingredientes) {
+        return new ContribuicaoReceita(1L, 30, ingredientes);
+    }
+}
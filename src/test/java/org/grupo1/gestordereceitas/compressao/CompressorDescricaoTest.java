@@ -0,0 +1,104 @@
+package org.grupo1.gestordereceitas.compressao;
+
+import org.grupo1.gestordereceitas.dto.CompressaoBenchmarkDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CompressorDescricaoTest {
+
+    private static final String DESCRICAO = "Em uma tigela, misture a farinha, o açúcar e os ovos. "
+            + "Leve ao forno preaquecido a 180 graus por cerca de 40 minutos, até dourar.";
+
+    private static final byte[] DICIONARIO_V1 = ("misture a farinha, o açúcar e os ovos. Leve ao forno preaquecido "
+            + "a 180 graus por cerca de 40 minutos, até dourar.").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DICIONARIO_V2 = "Em uma tigela, até dourar.".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private DicionariosDescricao dicionarios;
+
+    private CompressorDescricao compressor;
+
+    @BeforeEach
+    void criarCompressor() {
+        compressor = new CompressorDescricao(dicionarios);
+        lenient().when(dicionarios.dicionario(1)).thenReturn(DICIONARIO_V1);
+        lenient().when(dicionarios.dicionario(2)).thenReturn(DICIONARIO_V2);
+    }
+
+    @Test
+    void deveComprimirComODicionarioAtivoERecuperarOTexto() {
+        // Cenário
+        when(dicionarios.versaoAtiva()).thenReturn(1);
+
+        // Ação
+        byte[] gravado = compressor.comprimir(DESCRICAO);
+
+        // Validação
+        assertEquals(1, CompressorDescricao.versao(gravado));
+        assertTrue(gravado.length < DESCRICAO.getBytes(StandardCharsets.UTF_8).length / 3,
+                "Tamanho comprimido: " + gravado.length);
+        assertEquals(DESCRICAO, compressor.descomprimir(gravado));
+        assertEquals(1, compressor.estatisticas().getEscritas());
+        assertEquals(1, compressor.estatisticas().getLeituras());
+    }
+
+    @Test
+    void deveGravarTextoCurtoSemCompressaoELerTextoInseridoPorSql() {
+        // Cenário
+        when(dicionarios.versaoAtiva()).thenReturn(1);
+        byte[] inseridoPorSql = "O drink original, com gengibre e limão!".getBytes(StandardCharsets.UTF_8);
+
+        // Ação
+        byte[] gravado = compressor.comprimir("O drink original!");
+
+        // Validação
+        assertEquals(CompressorDescricao.VERSAO_TEXTO_PURO, CompressorDescricao.versao(gravado));
+        assertEquals("O drink original!", compressor.descomprimir(gravado));
+        assertEquals("O drink original, com gengibre e limão!", compressor.descomprimir(inseridoPorSql));
+        assertNull(compressor.comprimir(null));
+        assertNull(compressor.descomprimir(null));
+    }
+
+    @Test
+    void deveLerValoresDeVersoesAnterioresERecomprimirComAVersaoAtiva() {
+        // Cenário
+        when(dicionarios.versaoAtiva()).thenReturn(1);
+        byte[] gravadoV1 = compressor.comprimir(DESCRICAO);
+        when(dicionarios.versaoAtiva()).thenReturn(2);
+
+        // Ação
+        byte[] recomprimido = compressor.recomprimir(gravadoV1);
+
+        // Validação
+        assertEquals(DESCRICAO, compressor.descomprimir(gravadoV1));
+        assertEquals(2, CompressorDescricao.versao(recomprimido));
+        assertEquals(DESCRICAO, compressor.descomprimir(recomprimido));
+        assertNull(compressor.recomprimir(recomprimido));
+    }
+
+    @Test
+    void deveMedirTaxaECustoNoBenchmark() {
+        // Cenário
+        when(dicionarios.versaoAtiva()).thenReturn(1);
+
+        // Ação
+        CompressaoBenchmarkDTO benchmark = compressor.medir(List.of(DESCRICAO, "Curta"), 3);
+
+        // Validação
+        assertEquals(2, benchmark.getDescricoes());
+        assertTrue(benchmark.getTaxaComDicionario() > benchmark.getTaxaSemDicionario());
+        assertTrue(benchmark.getNanosPorEscrita() > 0);
+        assertTrue(benchmark.getNanosPorLeitura() > 0);
+        assertEquals(0, compressor.estatisticas().getEscritas());
+    }
+}
@@ -0,0 +1,54 @@
+package org.grupo1.gestordereceitas.compressao;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreinadorDicionarioTest {
+
+    @Test
+    void deveIncluirAsSequenciasRepetidasDentroDoTamanhoMaximo() {
+        // Cenário
+        List<String> corpus = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            corpus.add("Receita " + i + ": leve ao forno preaquecido e sirva quente com salada " + i);
+        }
+
+        // Ação
+        byte[] dicionario = TreinadorDicionario.treinar(corpus, new byte[0], 200);
+
+        // Validação
+        String texto = new String(dicionario, StandardCharsets.UTF_8);
+        assertTrue(dicionario.length <= 200);
+        assertTrue(texto.contains("leve ao forno preaquecido"), texto);
+        assertFalse(texto.contains("salada 7 "), texto);
+    }
+
+    @Test
+    void deveCompletarComOFinalDoDicionarioBase() {
+        // Cenário
+        byte[] base = "início do base. final do base".getBytes(StandardCharsets.UTF_8);
+        List<String> corpus = List.of("sirva gelado", "sirva gelado");
+
+        // Ação
+        byte[] dicionario = TreinadorDicionario.treinar(corpus, base, 27);
+
+        // Validação
+        assertEquals(" final do base", new String(dicionario, StandardCharsets.UTF_8).substring(0, 14));
+        assertTrue(new String(dicionario, StandardCharsets.UTF_8).endsWith("sirva gelado "));
+        assertEquals(27, dicionario.length);
+    }
+
+    @Test
+    void deveGerarDicionarioVazioSemRepeticoesNemBase() {
+        // Ação
+        byte[] dicionario = TreinadorDicionario.treinar(List.of("Única receita sem repetições"), new byte[0], 1024);
+
+        // Validação
+        assertEquals(0, dicionario.length);
+    }
+}
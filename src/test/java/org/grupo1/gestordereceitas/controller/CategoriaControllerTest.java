@@ -1,6 +1,7 @@
 package org.grupo1.gestordereceitas.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.grupo1.gestordereceitas.cache.RespostaCache;
 import org.grupo1.gestordereceitas.config.SecurityConfig;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
 import org.grupo1.gestordereceitas.model.Categoria;
@@ -27,7 +28,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(CategoriaController.class)
 @ExtendWith(MockitoExtension.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RespostaCache.class})
 public class CategoriaControllerTest {
 
     @MockitoBean
@@ -1,10 +1,20 @@
 package org.grupo1.gestordereceitas.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.grupo1.gestordereceitas.cache.RespostaCache;
 import org.grupo1.gestordereceitas.config.SecurityConfig;
+import org.grupo1.gestordereceitas.dto.CombinacaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.IngredienteDTO;
+import org.grupo1.gestordereceitas.dto.NutricaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.SubstitutoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.SugestaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ValoresNutricionaisDTO;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
 import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.service.CombinacaoService;
 import org.grupo1.gestordereceitas.service.IngredienteService;
+import org.grupo1.gestordereceitas.service.NutricaoService;
+import org.grupo1.gestordereceitas.service.SubstituicaoService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.MediaType;
@@ -29,12 +39,21 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(IngredienteController.class)
 @ExtendWith(MockitoExtension.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RespostaCache.class})
 public class IngredienteControllerTest {
 
     @MockitoBean
     private IngredienteService ingredienteService;
 
+    @MockitoBean
+    private CombinacaoService combinacaoService;
+
+    @MockitoBean
+    private SubstituicaoService substituicaoService;
+
+    @MockitoBean
+    private NutricaoService nutricaoService;
+
     @Autowired // Injeta o MockMvc para realizar as requisições HTTP simuladas
     private MockMvc mockMvc;
 
@@ -62,6 +81,67 @@ public class IngredienteControllerTest {
     }
 
     // --- Testes para buscarPorId() ---
+    // --- Teste para autocompletar() ---
+    @Test
+    void deveRetornarStatus200ESugestoesDoAutocompletar() throws Exception {
+        // Cenário
+        SugestaoIngredienteDTO sugestao = new SugestaoIngredienteDTO();
+        sugestao.setId(3L);
+        sugestao.setNome("Leite condensado");
+        sugestao.setReceitas(8);
+
+        when(ingredienteService.autocompletar("lei", 10, false)).thenReturn(List.of(sugestao));
+
+        // Ação & Validação
+        mockMvc.perform(get("/ingredientes/autocomplete").param("prefix", "lei"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].nome", is("Leite condensado")))
+                .andExpect(jsonPath("$[0].receitas", is(8)));
+    }
+
+    // --- Teste para combinacoes() ---
+    @Test
+    void deveRetornarStatus200EIngredientesQueCombinam() throws Exception {
+        // Cenário
+        CombinacaoIngredienteDTO combinacao = new CombinacaoIngredienteDTO();
+        combinacao.setId(7L);
+        combinacao.setNome("Alho");
+        combinacao.setReceitasJuntos(4);
+        combinacao.setPercentual(0.5);
+
+        when(combinacaoService.combinacoes(16L, 10)).thenReturn(List.of(combinacao));
+
+        // Ação & Validação
+        mockMvc.perform(get("/ingredientes/{id}/combinacoes", 16L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nome", is("Alho")))
+                .andExpect(jsonPath("$[0].receitasJuntos", is(4)));
+    }
+
+    // --- Teste para substitutos() ---
+    @Test
+    void deveRetornarStatus200ESubstitutosComOIntermediario() throws Exception {
+        // Cenário
+        IngredienteDTO via = new IngredienteDTO();
+        via.setId(8L);
+        via.setNome("manteiga");
+        SubstitutoIngredienteDTO substituto = new SubstitutoIngredienteDTO();
+        substituto.setId(9L);
+        substituto.setNome("óleo");
+        substituto.setPeso(0.57);
+        substituto.setVia(via);
+
+        when(substituicaoService.substitutos(13L, 5)).thenReturn(List.of(substituto));
+
+        // Ação & Validação
+        mockMvc.perform(get("/ingredientes/{id}/substitutos", 13L).param("limite", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nome", is("óleo")))
+                .andExpect(jsonPath("$[0].peso", is(0.57)))
+                .andExpect(jsonPath("$[0].via.nome", is("manteiga")));
+    }
+
     @Test
     void deveRetornarStatus200EIngredienteQuandoBuscarPorIdExistente() throws Exception {
         // Cenário
@@ -96,6 +176,31 @@ public class IngredienteControllerTest {
         verify(ingredienteService, times(1)).buscarPorId(idInexistente);
     }
 
+    // --- Teste para salvarNutricao() ---
+    @Test
+    void deveRetornarStatus200ENutricaoGravadaComReceitasAfetadas() throws Exception {
+        // Cenário
+        ValoresNutricionaisDTO valores = new ValoresNutricionaisDTO();
+        valores.setCalorias(387);
+        valores.setCarboidratos(100);
+        NutricaoIngredienteDTO nutricao = new NutricaoIngredienteDTO();
+        nutricao.setPorCemGramas(valores);
+        NutricaoIngredienteDTO gravada = new NutricaoIngredienteDTO();
+        gravada.setIngredienteId(1L);
+        gravada.setPorCemGramas(valores);
+        gravada.setReceitasAfetadas(3L);
+
+        when(nutricaoService.salvarNutricaoDoIngrediente(eq(1L), any(NutricaoIngredienteDTO.class))).thenReturn(gravada);
+
+        // Ação & Validação
+        mockMvc.perform(put("/ingredientes/{id}/nutricao", 1L)
+                        .contentType(String.valueOf(MediaType.APPLICATION_JSON))
+                        .content(objectMapper.writeValueAsString(nutricao)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.porCemGramas.calorias", is(387.0)))
+                .andExpect(jsonPath("$.receitasAfetadas", is(3)));
+    }
+
     // --- Teste para criar/salvar() ---
     @Test
     void deveRetornarStatus201EIngredienteCriadoCorretamente() throws Exception {
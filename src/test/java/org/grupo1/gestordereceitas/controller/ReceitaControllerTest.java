@@ -1,12 +1,32 @@
 package org.grupo1.gestordereceitas.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.grupo1.gestordereceitas.cache.RespostaCache;
 import org.grupo1.gestordereceitas.config.SecurityConfig;
+import org.grupo1.gestordereceitas.dto.AvaliacaoRequestDTO;
+import org.grupo1.gestordereceitas.dto.BuscaReceitasDTO;
+import org.grupo1.gestordereceitas.dto.CoberturaReceitaDTO;
+import org.grupo1.gestordereceitas.dto.ConsultaDespensaDTO;
+import org.grupo1.gestordereceitas.dto.NutricaoReceitaDTO;
+import org.grupo1.gestordereceitas.dto.ParDuplicadoDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaPopularDTO;
+import org.grupo1.gestordereceitas.dto.ResultadoBuscaDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaRequestDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaSimilarDTO;
+import org.grupo1.gestordereceitas.dto.ReceitasDespensaDTO;
+import org.grupo1.gestordereceitas.dto.RelatorioDuplicatasDTO;
+import org.grupo1.gestordereceitas.dto.ResumoAvaliacoesDTO;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.service.AvaliacaoService;
+import org.grupo1.gestordereceitas.service.BuscaReceitaService;
+import org.grupo1.gestordereceitas.service.DespensaService;
+import org.grupo1.gestordereceitas.service.DuplicataService;
+import org.grupo1.gestordereceitas.service.NutricaoService;
+import org.grupo1.gestordereceitas.service.PopularidadeService;
 import org.grupo1.gestordereceitas.service.ReceitaService;
+import org.grupo1.gestordereceitas.service.SimilaridadeService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.MediaType;
@@ -14,10 +34,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -31,12 +53,36 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ReceitaController.class)
 @ExtendWith(MockitoExtension.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RespostaCache.class})
+@TestPropertySource(properties = {"spring.security.user.name=ana", "spring.security.user.password=senha"})
 public class ReceitaControllerTest {
 
+    private static final String BASIC_ANA = "Basic " + Base64.getEncoder().encodeToString("ana:senha".getBytes());
+
     @MockitoBean
     private ReceitaService receitaService;
 
+    @MockitoBean
+    private BuscaReceitaService buscaReceitaService;
+
+    @MockitoBean
+    private DespensaService despensaService;
+
+    @MockitoBean
+    private SimilaridadeService similaridadeService;
+
+    @MockitoBean
+    private PopularidadeService popularidadeService;
+
+    @MockitoBean
+    private AvaliacaoService avaliacaoService;
+
+    @MockitoBean
+    private NutricaoService nutricaoService;
+
+    @MockitoBean
+    private DuplicataService duplicataService;
+
     @Autowired // Injeta o MockMvc para realizar as requisições HTTP simuladas
     private MockMvc mockMvc;
 
@@ -80,6 +126,7 @@ public class ReceitaControllerTest {
                 .andExpect(jsonPath("$.nome", is(receitaEsperada.getNome())));
 
         verify(receitaService, times(1)).buscarPorId(idExistente);
+        verify(popularidadeService, times(1)).registrarVisualizacao(idExistente);
     }
 
     @Test
@@ -96,6 +143,197 @@ public class ReceitaControllerTest {
                 .andExpect(status().isNotFound());
 
         verify(receitaService, times(1)).buscarPorId(idInexistente);
+        verify(popularidadeService, never()).registrarVisualizacao(any());
+    }
+
+    // --- Teste para avaliar() ---
+    @Test
+    void deveRetornarStatus200EResumoAoAvaliarReceita() throws Exception {
+        // Cenário
+        AvaliacaoRequestDTO avaliacao = new AvaliacaoRequestDTO();
+        avaliacao.setNota(5);
+        ResumoAvaliacoesDTO resumo = new ResumoAvaliacoesDTO();
+        resumo.setReceitaId(1L);
+        resumo.setQuantidade(3);
+        resumo.setMedia(4.0);
+
+        when(avaliacaoService.avaliar(eq(1L), eq("ana"), any(AvaliacaoRequestDTO.class))).thenReturn(resumo);
+
+        // Ação & Validação
+        mockMvc.perform(put("/receitas/{id}/avaliacoes", 1L)
+                        .header("Authorization", BASIC_ANA)
+                        .contentType(String.valueOf(MediaType.APPLICATION_JSON))
+                        .content(objectMapper.writeValueAsString(avaliacao)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantidade", is(3)))
+                .andExpect(jsonPath("$.media", is(4.0)));
+    }
+
+    @Test
+    void deveRetornarStatus401AoAvaliarOuRemoverAvaliacaoSemAutenticacao() throws Exception {
+        // Cenário
+        AvaliacaoRequestDTO avaliacao = new AvaliacaoRequestDTO();
+        avaliacao.setNota(1);
+
+        // Ação & Validação
+        mockMvc.perform(put("/receitas/{id}/avaliacoes", 1L)
+                        .contentType(String.valueOf(MediaType.APPLICATION_JSON))
+                        .content(objectMapper.writeValueAsString(avaliacao)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/receitas/{id}/avaliacoes", 1L).param("usuario", "ana"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(avaliacaoService);
+    }
+
+    // --- Teste para duplicatas() ---
+    @Test
+    void deveRetornarStatus200EParesDuplicados() throws Exception {
+        // Cenário
+        ParDuplicadoDTO par = new ParDuplicadoDTO();
+        par.setReceitaId(1L);
+        par.setOutraReceitaId(5L);
+        par.setSimilaridade(0.9);
+        RelatorioDuplicatasDTO relatorio = new RelatorioDuplicatasDTO();
+        relatorio.setSimilaridadeMinima(0.85);
+        relatorio.setParesAvaliados(3);
+        relatorio.setPares(List.of(par));
+
+        when(duplicataService.relatorio(0.85, 50)).thenReturn(relatorio);
+
+        // Ação & Validação
+        mockMvc.perform(get("/receitas/duplicatas").param("similaridadeMinima", "0.85"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pares", hasSize(1)))
+                .andExpect(jsonPath("$.pares[0].outraReceitaId", is(5)));
+    }
+
+    // --- Teste para nutricao() ---
+    @Test
+    void deveRetornarStatus404AoBuscarNutricaoDeReceitaInexistente() throws Exception {
+        // Cenário
+        when(nutricaoService.nutricaoDaReceita(99L))
+                .thenThrow(new ResourceNotFoundException("Receita com ID 99 não encontrada"));
+
+        // Ação & Validação
+        mockMvc.perform(get("/receitas/{id}/nutricao", 99L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deveRetornarStatus200ENutricaoPorPorcao() throws Exception {
+        // Cenário
+        NutricaoReceitaDTO nutricao = new NutricaoReceitaDTO();
+        nutricao.setReceitaId(1L);
+        nutricao.setPorcoes(4);
+
+        when(nutricaoService.nutricaoDaReceita(1L)).thenReturn(nutricao);
+
+        // Ação & Validação
+        mockMvc.perform(get("/receitas/{id}/nutricao", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.porcoes", is(4)));
+    }
+
+    // --- Teste para populares() ---
+    @Test
+    void deveRetornarStatus200EReceitasMaisVistas() throws Exception {
+        // Cenário
+        ReceitaPopularDTO popular = new ReceitaPopularDTO();
+        popular.setVisualizacoes(42);
+        popular.setReceita(criarReceitaResponseDTO(4L, "Pão de queijo"));
+
+        when(popularidadeService.populares(5)).thenReturn(List.of(popular));
+
+        // Ação & Validação
+        mockMvc.perform(get("/receitas/populares").param("limite", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].visualizacoes", is(42)))
+                .andExpect(jsonPath("$[0].receita.nome", is("Pão de queijo")));
+    }
+
+    // --- Teste para buscar() ---
+    @Test
+    void deveRetornarStatus200EResultadosDaBuscaTextual() throws Exception {
+        // Cenário
+        ResultadoBuscaDTO resultado = new ResultadoBuscaDTO();
+        resultado.setPontuacao(2.5);
+        resultado.setReceita(criarReceitaResponseDTO(3L, "Bolo de chocolate"));
+        BuscaReceitasDTO busca = new BuscaReceitasDTO();
+        busca.setConsulta("bolo chocolate");
+        busca.setTamanho(10);
+        busca.setTotal(1);
+        busca.setResultados(List.of(resultado));
+
+        when(buscaReceitaService.buscar("bolo chocolate", 0, 10)).thenReturn(busca);
+
+        // Ação & Validação
+        mockMvc.perform(get("/receitas/busca").param("q", "bolo chocolate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.resultados[0].receita.nome", is("Bolo de chocolate")));
+
+        verify(buscaReceitaService, times(1)).buscar("bolo chocolate", 0, 10);
+    }
+
+    // --- Testes para similares() ---
+    @Test
+    void deveRetornarStatus200EReceitasParecidas() throws Exception {
+        // Cenário
+        ReceitaSimilarDTO similar = new ReceitaSimilarDTO();
+        similar.setSimilaridade(0.82);
+        similar.setJaccardIngredientes(0.75);
+        similar.setIngredientesEmComum(3);
+        similar.setReceita(criarReceitaResponseDTO(5L, "Bolo de cenoura"));
+
+        when(similaridadeService.similares(1L, 10)).thenReturn(List.of(similar));
+
+        // Ação & Validação
+        mockMvc.perform(get("/receitas/{id}/similares", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].ingredientesEmComum", is(3)))
+                .andExpect(jsonPath("$[0].receita.nome", is("Bolo de cenoura")));
+    }
+
+    @Test
+    void deveRetornarStatus404AoBuscarSimilaresDeReceitaInexistente() throws Exception {
+        // Cenário
+        when(similaridadeService.similares(11L, 10))
+                .thenThrow(new ResourceNotFoundException("Receita com ID 11 não encontrada"));
+
+        // Ação & Validação
+        mockMvc.perform(get("/receitas/{id}/similares", 11L))
+                .andExpect(status().isNotFound());
+    }
+
+    // --- Teste para buscarPorIngredientes() ---
+    @Test
+    void deveRetornarStatus200EReceitasRanqueadasPelaDespensa() throws Exception {
+        // Cenário
+        CoberturaReceitaDTO cobertura = new CoberturaReceitaDTO();
+        cobertura.setIngredientesDisponiveis(2);
+        cobertura.setTotalIngredientes(3);
+        cobertura.setIngredientesFaltando(List.of(9L));
+        cobertura.setReceita(criarReceitaResponseDTO(4L, "Omelete"));
+        ReceitasDespensaDTO resultado = new ReceitasDespensaDTO();
+        resultado.setTamanho(10);
+        resultado.setTotal(1);
+        resultado.setResultados(List.of(cobertura));
+
+        ConsultaDespensaDTO consulta = new ConsultaDespensaDTO();
+        consulta.setIngredientes(List.of(1L, 2L));
+
+        when(despensaService.buscar(any(ConsultaDespensaDTO.class))).thenReturn(resultado);
+
+        // Ação & Validação
+        mockMvc.perform(post("/receitas/com-ingredientes")
+                        .contentType(String.valueOf(MediaType.APPLICATION_JSON))
+                        .content(objectMapper.writeValueAsString(consulta)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultados[0].ingredientesDisponiveis", is(2)))
+                .andExpect(jsonPath("$.resultados[0].ingredientesFaltando[0]", is(9)))
+                .andExpect(jsonPath("$.resultados[0].receita.nome", is("Omelete")));
     }
 
     // --- Teste para criar/salvar() ---
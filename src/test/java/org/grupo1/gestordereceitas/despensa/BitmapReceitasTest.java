@@ -0,0 +1,88 @@
+package org.grupo1.gestordereceitas.despensa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitmapReceitasTest {
+
+    @Test
+    void deveManterOsMesmosIdsDeUmConjuntoComumNasDuasRepresentacoes() {
+        // Cenário
+        Random random = new Random(42);
+        BitmapReceitas bitmap = new BitmapReceitas();
+        TreeSet<Integer> esperado = new TreeSet<>();
+
+        // Ação: o primeiro bloco passa do limite do vetor e volta a ele com as remoções
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(200_000);
+            bitmap.adicionar(id);
+            esperado.add(id);
+        }
+        for (int i = 0; i < 15_000; i++) {
+            int id = random.nextInt(200_000);
+            bitmap.remover(id);
+            esperado.remove(id);
+        }
+
+        // Validação
+        assertEquals(esperado.size(), bitmap.cardinalidade());
+        assertEquals(new ArrayList<>(esperado), ids(bitmap));
+        assertTrue(bitmap.contem(esperado.first()));
+        assertFalse(bitmap.contem(-1 >>> 1));
+    }
+
+    @Test
+    void deveUnirESubtrairBlocoABloco() {
+        // Cenário
+        BitmapReceitas pares = new BitmapReceitas();
+        BitmapReceitas multiplosDeTres = new BitmapReceitas();
+        for (int id = 0; id < 100_000; id++) {
+            if (id % 2 == 0) {
+                pares.adicionar(id);
+            }
+            if (id % 3 == 0) {
+                multiplosDeTres.adicionar(id);
+            }
+        }
+
+        // Ação
+        BitmapReceitas uniao = pares.copia();
+        uniao.unir(multiplosDeTres);
+        BitmapReceitas diferenca = pares.copia();
+        diferenca.subtrair(multiplosDeTres);
+
+        // Validação
+        assertEquals(66_667, uniao.cardinalidade());
+        assertEquals(33_333, diferenca.cardinalidade());
+        assertTrue(diferenca.contem(4));
+        assertFalse(diferenca.contem(6));
+        assertEquals(50_000, pares.cardinalidade());
+    }
+
+    @Test
+    void deveOcuparDoisBytesPorIdEmBlocosEsparsos() {
+        // Cenário
+        BitmapReceitas bitmap = new BitmapReceitas();
+
+        // Ação
+        for (int id = 0; id < 1_000_000; id += 100) {
+            bitmap.adicionar(id);
+        }
+
+        // Validação
+        assertEquals(10_000, bitmap.cardinalidade());
+        assertEquals(20_000, bitmap.tamanhoEmBytes());
+    }
+
+    private static List<Integer> ids(BitmapReceitas bitmap) {
+        List<Integer> ids = new ArrayList<>();
+        bitmap.paraCada(ids::add);
+        return ids;
+    }
+}
@@ -0,0 +1,84 @@
+package org.grupo1.gestordereceitas.despensa;
+
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class IndiceDespensaTest {
+
+    private IndiceDespensa indice;
+
+    @BeforeEach
+    void criarIndice() {
+        indice = new IndiceDespensa(mock(ReceitaIngredienteRepository.class));
+    }
+
+    @Test
+    void deveRanquearPelaQuantidadeDeIngredientesFaltando() {
+        // Cenário
+        indice.substituir(1L, List.of(1L, 2L, 3L, 4L));
+        indice.substituir(2L, List.of(1L, 2L));
+        indice.substituir(3L, List.of(1L, 5L, 6L));
+        indice.substituir(4L, List.of(7L));
+
+        // Ação
+        ResultadoDespensa resultado = indice.buscar(Set.of(1L, 2L, 3L), Set.of(), -1, 0, 10);
+
+        // Validação
+        assertEquals(3, resultado.total());
+        assertEquals(List.of(2L, 1L, 3L), resultado.receitas().stream().map(CoberturaReceita::receitaId).toList());
+        assertEquals(new CoberturaReceita(1L, 3, 4), resultado.receitas().get(1));
+    }
+
+    @Test
+    void deveDescartarReceitasComIngredientesExcluidosOuFaltandoDemais() {
+        // Cenário
+        indice.substituir(1L, List.of(1L, 2L));
+        indice.substituir(2L, List.of(1L, 3L));
+        indice.substituir(3L, List.of(1L, 4L, 5L));
+
+        // Ação
+        ResultadoDespensa resultado = indice.buscar(Set.of(1L), Set.of(3L), 1, 0, 10);
+
+        // Validação
+        assertEquals(1, resultado.total());
+        assertEquals(1L, resultado.receitas().getFirst().receitaId());
+    }
+
+    @Test
+    void deveContarNoMaximoUmIngredienteSubstituivelPorReceita() {
+        // Cenário
+        indice.substituir(1L, List.of(1L, 2L));
+        indice.substituir(2L, List.of(1L, 2L, 3L));
+        indice.substituir(3L, List.of(3L));
+
+        // Ação: a despensa tem o 1 e consegue substituir o 2 e o 3
+        ResultadoDespensa resultado = indice.buscar(Set.of(1L), Set.of(2L, 3L), Set.of(), 0, 0, 10);
+
+        // Validação
+        assertEquals(List.of(1L, 3L), resultado.receitas().stream().map(CoberturaReceita::receitaId).toList());
+        assertEquals(new CoberturaReceita(1L, 1, 1, 2), resultado.receitas().getFirst());
+        assertEquals(0, resultado.receitas().get(1).faltando());
+    }
+
+    @Test
+    void deveRefletirAlteracoesEExclusoesDeReceitas() {
+        // Cenário
+        indice.substituir(1L, List.of(1L, 2L));
+
+        // Ação
+        indice.substituir(1L, List.of(2L, 3L));
+        indice.substituir(2L, List.of(1L));
+        indice.substituir(2L, List.of());
+
+        // Validação
+        assertEquals(0, indice.buscar(Set.of(1L), Set.of(), -1, 0, 10).total());
+        assertArrayEquals(new long[]{2L, 3L}, indice.ingredientesDaReceita(1L));
+        assertArrayEquals(new long[0], indice.ingredientesDaReceita(2L));
+    }
+}
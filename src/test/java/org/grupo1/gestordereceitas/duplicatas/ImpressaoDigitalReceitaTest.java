@@ -0,0 +1,48 @@
+package org.grupo1.gestordereceitas.duplicatas;
+
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImpressaoDigitalReceitaTest {
+
+    @Test
+    void deveIgnorarCaixaAcentosOrdemEUnidadeConversivel() {
+        // Cenário
+        List<LinhaIngredienteReceita> original = List.of(
+                new LinhaIngredienteReceita(1L, 3L, "1", "xícara"),
+                new LinhaIngredienteReceita(1L, 1L, "2", "unidades"));
+        List<LinhaIngredienteReceita> reescrita = List.of(
+                new LinhaIngredienteReceita(2L, 1L, "2", "Unidades"),
+                new LinhaIngredienteReceita(2L, 3L, "240", "ml"));
+
+        // Ação
+        String impressao = ImpressaoDigitalReceita.calcular("Pão de Queijo", original);
+        String outra = ImpressaoDigitalReceita.calcular("  pao de QUEIJO!", reescrita);
+
+        // Validação
+        assertEquals(impressao, outra);
+        assertEquals(64, impressao.length());
+        assertArrayEquals(ImpressaoDigitalReceita.termos("Pão de Queijo", original),
+                ImpressaoDigitalReceita.termos("  pao de QUEIJO!", reescrita));
+    }
+
+    @Test
+    void deveDiferenciarQuantidadesEIngredientes() {
+        // Cenário
+        List<LinhaIngredienteReceita> linhas = List.of(new LinhaIngredienteReceita(1L, 3L, "1", "xícara"));
+        List<LinhaIngredienteReceita> maisLeite = List.of(new LinhaIngredienteReceita(1L, 3L, "2", "xícaras"));
+        List<LinhaIngredienteReceita> outroIngrediente = List.of(new LinhaIngredienteReceita(1L, 4L, "1", "xícara"));
+
+        // Ação
+        String impressao = ImpressaoDigitalReceita.calcular("Mingau", linhas);
+
+        // Validação
+        assertNotEquals(impressao, ImpressaoDigitalReceita.calcular("Mingau", maisLeite));
+        assertNotEquals(impressao, ImpressaoDigitalReceita.calcular("Mingau", outroIngrediente));
+        assertNotEquals(impressao, ImpressaoDigitalReceita.calcular("Mingau doce", linhas));
+    }
+}
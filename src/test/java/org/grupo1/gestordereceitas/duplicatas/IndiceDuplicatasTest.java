@@ -0,0 +1,72 @@
+package org.grupo1.gestordereceitas.duplicatas;
+
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class IndiceDuplicatasTest {
+
+    private IndiceDuplicatas indice;
+
+    @BeforeEach
+    void criarIndice() {
+        indice = new IndiceDuplicatas(mock(ReceitaRepository.class), mock(ReceitaIngredienteRepository.class));
+    }
+
+    @Test
+    void deveEncontrarReceitasQuaseIguaisSemParearAsDiferentes() {
+        // Cenário: 2 difere de 1 só na quantidade de um dos dez ingredientes; 3 é idêntica a 1
+        indice.atualizar(1L, "Bolo de Cenoura", linhas(1L, 1, 10, "100"));
+        List<LinhaIngredienteReceita> quaseIgual = new ArrayList<>(linhas(2L, 1, 9, "100"));
+        quaseIgual.add(new LinhaIngredienteReceita(2L, 10L, "150", "g"));
+        indice.atualizar(2L, "Bolo de cenoura", quaseIgual);
+        indice.atualizar(3L, "BOLO DE CENOURA", linhas(3L, 1, 10, "100"));
+        indice.atualizar(4L, "Feijoada", linhas(4L, 20, 30, "100"));
+
+        // Ação
+        RelatorioDuplicatas relatorio = indice.relatorio(0.8, 10);
+
+        // Validação
+        List<ParDuplicado> pares = relatorio.pares();
+        assertEquals(3, pares.size());
+        assertEquals(new ParDuplicado(1L, 3L, 1.0, true), pares.getFirst());
+        assertTrue(pares.stream().noneMatch(par -> par.receitaId() == 4L || par.outraReceitaId() == 4L));
+        assertTrue(pares.stream().skip(1).allMatch(par -> !par.identicas() && par.similaridade() >= 0.8));
+    }
+
+    @Test
+    void deveRemoverReceitaExcluidaDosBaldes() {
+        // Cenário
+        indice.atualizar(1L, "Bolo de Cenoura", linhas(1L, 1, 10, "100"));
+        indice.atualizar(2L, "Bolo de Cenoura", linhas(2L, 1, 10, "100"));
+
+        // Ação
+        indice.atualizar(2L, null, List.of());
+
+        // Validação
+        RelatorioDuplicatas relatorio = indice.relatorio(0.1, 10);
+        assertEquals(0, relatorio.paresAvaliados());
+        assertTrue(relatorio.pares().isEmpty());
+    }
+
+    @Test
+    void deveCalcularJaccardDeVetoresOrdenados() {
+        assertEquals(0.5, IndiceDuplicatas.jaccard(new long[]{1, 2, 3}, new long[]{2, 3, 4}), 1e-9);
+        assertEquals(1.0, IndiceDuplicatas.jaccard(new long[]{}, new long[]{}), 1e-9);
+    }
+
+    private static List<LinhaIngredienteReceita> linhas(long receitaId, int primeiro, int ultimo, String gramas) {
+        return LongStream.rangeClosed(primeiro, ultimo)
+                .mapToObj(id -> new LinhaIngredienteReceita(receitaId, id, gramas, "g"))
+                .toList();
+    }
+}
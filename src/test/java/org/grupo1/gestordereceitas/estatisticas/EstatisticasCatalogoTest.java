@@ -0,0 +1,93 @@
+package org.grupo1.gestordereceitas.estatisticas;
+
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EstatisticasCatalogoTest {
+
+    private ReceitaRepository receitaRepository;
+    private ReceitaIngredienteRepository receitaIngredienteRepository;
+    private EstatisticasCatalogo estatisticas;
+
+    @BeforeEach
+    void criar() {
+        receitaRepository = mock(ReceitaRepository.class);
+        receitaIngredienteRepository = mock(ReceitaIngredienteRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        estatisticas = new EstatisticasCatalogo(receitaRepository, receitaIngredienteRepository, transactionManager);
+    }
+
+    @Test
+    void deveManterContagensEPercentisPorCategoriaACadaEscrita() {
+        // Cenário
+        for (int tempo = 1; tempo <= 100; tempo++) {
+            estatisticas.registrar(null, new ContribuicaoReceita(1L, tempo, new long[]{10L}));
+        }
+        estatisticas.registrar(null, new ContribuicaoReceita(2L, 30, new long[]{10L, 20L}));
+
+        // Ação
+        ResumoEstatisticas resumo = estatisticas.resumo(10);
+
+        // Validação
+        assertEquals(101, resumo.totalReceitas());
+        ResumoCategoria categoria = resumo.categorias().getFirst();
+        assertEquals(1L, categoria.categoriaId());
+        assertEquals(100, categoria.receitas());
+        assertEquals(50.5, categoria.tempoMedio(), 0.001);
+        assertEquals(50, categoria.tempoP50());
+        // Acima de 1 hora as faixas têm 5 minutos
+        assertEquals(90, categoria.tempoP90());
+        assertEquals(100, categoria.tempoP99());
+        assertEquals(List.of(new UsoIngrediente(10L, 101), new UsoIngrediente(20L, 1)), resumo.ingredientesMaisUsados());
+    }
+
+    @Test
+    void deveMoverAReceitaDeCategoriaERemoverContadoresZerados() {
+        // Cenário
+        ContribuicaoReceita original = new ContribuicaoReceita(1L, 20, new long[]{10L});
+        ContribuicaoReceita alterada = new ContribuicaoReceita(2L, 40, new long[]{20L});
+        estatisticas.registrar(null, original);
+
+        // Ação
+        estatisticas.registrar(original, alterada);
+
+        // Validação
+        ResumoEstatisticas resumo = estatisticas.resumo(10);
+        assertEquals(1, resumo.categorias().size());
+        assertEquals(2L, resumo.categorias().getFirst().categoriaId());
+        assertEquals(40, resumo.categorias().getFirst().tempoP50());
+        assertEquals(List.of(new UsoIngrediente(20L, 1)), resumo.ingredientesMaisUsados());
+    }
+
+    @Test
+    void deveCorrigirOsContadoresNaReconciliacao() {
+        // Cenário
+        estatisticas.reconciliar();
+        estatisticas.registrar(null, new ContribuicaoReceita(1L, 20, new long[]{10L}));
+        when(receitaRepository.contarPorCategoriaETempo()).thenReturn(List.of(
+                new ContagemTempoCategoria(1L, 20, 1), new ContagemTempoCategoria(3L, 15, 2)));
+        when(receitaIngredienteRepository.contarReceitasPorIngrediente()).thenReturn(List.of(new UsoIngrediente(10L, 3)));
+
+        // Ação
+        estatisticas.reconciliar();
+
+        // Validação
+        ResumoEstatisticas resumo = estatisticas.resumo(10);
+        assertEquals(3, resumo.totalReceitas());
+        assertEquals(2, resumo.divergenciasUltimaReconciliacao());
+        assertNotNull(resumo.ultimaReconciliacao());
+        assertEquals(List.of(new UsoIngrediente(10L, 3)), resumo.ingredientesMaisUsados());
+    }
+}
@@ -0,0 +1,59 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArmazemTextoTest {
+
+    @Test
+    void deveGravarELerTextosEmUtf8EntreSlabs() {
+        // Cenário
+        ArmazemTexto armazem = new ArmazemTexto(32);
+        String longo = "Refogue a cebola, acrescente o feijão e cozinhe até engrossar o caldo.";
+
+        // Ação
+        long curto = armazem.gravar("Pão de queijo");
+        long grande = armazem.gravar(longo);
+        long vazio = armazem.gravar("");
+        long ausente = armazem.gravar(null);
+
+        // Validação
+        assertEquals("Pão de queijo", armazem.ler(curto));
+        assertEquals(longo, armazem.ler(grande));
+        assertEquals("", armazem.ler(vazio));
+        assertNull(armazem.ler(ausente));
+        assertEquals(3, armazem.totalSlabs());
+    }
+
+    @Test
+    void deveManterTextoLiberadoLegivelEPedirCompactacao() {
+        // Cenário
+        ArmazemTexto armazem = new ArmazemTexto(16);
+        long antigo = armazem.gravar("Modo de preparo antigo");
+        armazem.gravar("novo");
+
+        // Ação
+        armazem.liberar(antigo);
+
+        // Validação
+        assertEquals("Modo de preparo antigo", armazem.ler(antigo));
+        assertEquals(Integer.BYTES + 4, armazem.bytesVivos());
+        assertTrue(armazem.precisaCompactar());
+    }
+
+    @Test
+    void deveCopiarTextoParaOutroArmazem() {
+        // Cenário
+        ArmazemTexto origem = new ArmazemTexto(64);
+        long referencia = origem.gravar("Açaí na tigela");
+        ArmazemTexto destino = origem.vazioComMesmoTamanhoDeSlab();
+
+        // Ação
+        long copia = destino.copiar(origem, referencia);
+
+        // Validação
+        assertEquals("Açaí na tigela", destino.ler(copia));
+        assertEquals(origem.bytesVivos(), destino.bytesVivos());
+    }
+}
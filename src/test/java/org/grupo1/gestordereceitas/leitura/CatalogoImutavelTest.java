@@ -0,0 +1,117 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogoImutavelTest {
+
+    @Test
+    void deveCopiarApenasAReceitaAlteradaMantendoAFotografiaAnterior() {
+        // Cenário
+        ReceitaLeitura bolo = receita(1, "Bolo");
+        ReceitaLeitura pudim = receita(3, "Pudim");
+        CatalogoImutavel anterior = new CatalogoImutavel(TabelaNomes.VAZIA, TabelaNomes.VAZIA,
+                ReceitasEmBlocos.de(new ReceitaLeitura[]{bolo, pudim}), new ArmazemTexto(64));
+
+        // Ação
+        CatalogoImutavel atual = anterior.comReceita(receita(2, "Mousse")).comReceita(receita(3, "Pudim de leite"));
+
+        // Validação
+        assertEquals(3, atual.receitas.tamanho());
+        assertSame(bolo, atual.receita(1));
+        assertEquals("Mousse", atual.receita(2).nome);
+        assertEquals("Pudim de leite", atual.receita(3).nome);
+        assertSame(pudim, anterior.receita(3));
+        assertNull(anterior.receita(2));
+    }
+
+    @Test
+    void deveRemoverReceitaEIgnorarIdInexistente() {
+        // Cenário
+        CatalogoImutavel catalogo = new CatalogoImutavel(TabelaNomes.VAZIA, TabelaNomes.VAZIA,
+                ReceitasEmBlocos.de(new ReceitaLeitura[]{receita(1, "Bolo"), receita(2, "Mousse")}),
+                new ArmazemTexto(64));
+
+        // Ação
+        CatalogoImutavel semMousse = catalogo.semReceita(2);
+
+        // Validação
+        assertEquals(1, semMousse.receitas.tamanho());
+        assertNull(semMousse.receita(2));
+        assertSame(semMousse, semMousse.semReceita(99));
+    }
+
+    @Test
+    void deveCopiarApenasOBlocoDaReceitaAlterada() {
+        // Cenário
+        int total = 4 * ReceitasEmBlocos.TAMANHO_BLOCO;
+        ReceitaLeitura[] ordenadas = new ReceitaLeitura[total];
+        for (int i = 0; i < total; i++) {
+            ordenadas[i] = receita(2 * i + 1, "Receita " + i);
+        }
+        ReceitasEmBlocos anteriores = ReceitasEmBlocos.de(ordenadas);
+
+        // Ação
+        ReceitasEmBlocos comNova = anteriores.com(receita(2, "Nova"));
+        ReceitasEmBlocos semUltima = comNova.sem(2 * total - 1);
+
+        // Validação
+        assertEquals(total + 1, comNova.tamanho());
+        assertEquals(total, semUltima.tamanho());
+        assertEquals("Nova", comNova.buscar(2).nome);
+        assertNull(anteriores.buscar(2));
+        assertNull(semUltima.buscar(2 * total - 1));
+        assertNotSame(anteriores.blocos[0], comNova.blocos[0]);
+        for (int b = 1; b < anteriores.blocos.length; b++) {
+            assertSame(anteriores.blocos[b], comNova.blocos[b]);
+        }
+        for (int b = 0; b < comNova.blocos.length - 1; b++) {
+            assertSame(comNova.blocos[b], semUltima.blocos[b]);
+        }
+        int anterior = 0;
+        for (ReceitaLeitura receita : semUltima) {
+            assertTrue(receita.id > anterior);
+            anterior = receita.id;
+        }
+    }
+
+    @Test
+    void deveDividirBlocoQuePassaDoDobroDoTamanho() {
+        // Cenário
+        ReceitasEmBlocos receitas = ReceitasEmBlocos.de(new ReceitaLeitura[]{receita(1, "Bolo")});
+
+        // Ação
+        for (int id = 2; id <= 2 * ReceitasEmBlocos.TAMANHO_BLOCO + 1; id++) {
+            receitas = receitas.com(receita(id, "Receita " + id));
+        }
+
+        // Validação
+        assertEquals(2, receitas.blocos.length);
+        assertEquals(2 * ReceitasEmBlocos.TAMANHO_BLOCO + 1, receitas.tamanho());
+        for (int id = 1; id <= receitas.tamanho(); id++) {
+            assertEquals(id, receitas.buscar(id).id);
+        }
+    }
+
+    @Test
+    void deveManterTabelaDeNomesOrdenadaPorId() {
+        // Cenário
+        TabelaNomes tabela = TabelaNomes.VAZIA.com(5, "Sal").com(2, "Açúcar").com(9, "Farinha");
+
+        // Ação
+        TabelaNomes renomeada = tabela.com(5, "Sal grosso").sem(2);
+
+        // Validação
+        assertArrayEquals(new int[]{2, 5, 9}, tabela.ids);
+        assertEquals("Sal", tabela.nome(5));
+        assertArrayEquals(new int[]{5, 9}, renomeada.ids);
+        assertEquals("Sal grosso", renomeada.nome(5));
+        assertNull(renomeada.nome(2));
+    }
+
+    private static ReceitaLeitura receita(int id, String nome) {
+        return new ReceitaLeitura(id, nome, ArmazemTexto.AUSENTE, 10, 0, ReceitaLeitura.SEM_CATEGORIA,
+                new int[0], new String[0], new String[0]);
+    }
+}
@@ -0,0 +1,204 @@
+package org.grupo1.gestordereceitas.leitura;
+
+import org.grupo1.gestordereceitas.dto.CatalogoLeituraEstatisticasDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.event.IngredienteAlteradoEvent;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogoLeituraTest {
+
+    @Mock
+    private ReceitaRepository receitaRepository;
+
+    @Mock
+    private ReceitaIngredienteRepository receitaIngredienteRepository;
+
+    @Mock
+    private CategoriaRepository categoriaRepository;
+
+    @Mock
+    private IngredienteRepository ingredienteRepository;
+
+    private CatalogoLeitura catalogo;
+
+    @BeforeEach
+    void criarCatalogo() {
+        catalogo = new CatalogoLeitura(receitaRepository, receitaIngredienteRepository,
+                categoriaRepository, ingredienteRepository, true, 256);
+    }
+
+    @Test
+    void deveMontarReceitasComCategoriaEIngredientesNaCargaInicial() {
+        // Cenário
+        carregarCatalogoPadrao();
+
+        // Ação
+        ReceitaResponseDTO feijoada = catalogo.buscarReceita(1L).orElseThrow();
+        ReceitaResponseDTO salada = catalogo.buscarReceita(2L).orElseThrow();
+
+        // Validação
+        assertTrue(catalogo.disponivel());
+        assertEquals(2, catalogo.listarReceitas().size());
+        assertEquals("Feijoada", feijoada.getNome());
+        assertEquals("Brasileira", feijoada.getCategoria());
+        assertEquals("Cozinhar o feijão", feijoada.getDescricao());
+        assertEquals(6, feijoada.getPorcoes());
+        assertEquals(2, feijoada.getIngredientes().size());
+        assertEquals("Feijão", feijoada.getIngredientes().getFirst().getNome());
+        assertEquals("gramas", feijoada.getIngredientes().getFirst().getUnidade());
+        assertNull(salada.getCategoria());
+        assertNull(salada.getPorcoes());
+        assertEquals("Sal", salada.getIngredientes().getFirst().getNome());
+        assertTrue(catalogo.buscarReceita(3L).isEmpty());
+        assertEquals("Brasileira", catalogo.buscarCategoria(1L).orElseThrow().getNome());
+        assertEquals(2, catalogo.listarIngredientes().size());
+    }
+
+    @Test
+    void deveAtualizarNomeDoIngredienteSemRecarregarAsReceitas() {
+        // Cenário
+        carregarCatalogoPadrao();
+        when(ingredienteRepository.findById(11L)).thenReturn(Optional.of(new Ingrediente(11L, "Sal grosso")));
+
+        // Ação
+        catalogo.onIngredienteAlterado(new IngredienteAlteradoEvent(11L));
+
+        // Validação
+        assertEquals("Sal grosso", catalogo.buscarReceita(1L).orElseThrow().getIngredientes().get(1).getNome());
+        assertEquals("Sal grosso", catalogo.buscarIngrediente(11L).orElseThrow().getNome());
+        verify(receitaRepository, times(1)).findLinhasLeitura();
+    }
+
+    @Test
+    void deveSubstituirERemoverReceitasAlteradas() {
+        // Cenário
+        carregarCatalogoPadrao();
+        when(receitaRepository.findLinhaLeituraById(1L)).thenReturn(Optional.of(
+                new LinhaReceita(1L, "Feijoada light", "Sem bacon", 150, 1L, null)));
+        when(receitaIngredienteRepository.findLinhasLeituraByReceitaId(1L)).thenReturn(List.of(
+                new LinhaIngredienteReceita(1L, 10L, "300", "gramas")));
+        when(receitaRepository.findLinhaLeituraById(2L)).thenReturn(Optional.empty());
+
+        // Ação
+        catalogo.onReceitaAlterada(new ReceitaAlteradaEvent(1L));
+        catalogo.onReceitaAlterada(new ReceitaAlteradaEvent(2L));
+
+        // Validação
+        ReceitaResponseDTO feijoada = catalogo.buscarReceita(1L).orElseThrow();
+        assertEquals("Feijoada light", feijoada.getNome());
+        assertEquals(1, feijoada.getIngredientes().size());
+        assertTrue(catalogo.buscarReceita(2L).isEmpty());
+        assertEquals(1, catalogo.listarReceitas().size());
+    }
+
+    @Test
+    void deveCompactarAsDescricoesQuandoOEspacoMortoSuperarOVivo() {
+        // Cenário
+        carregarCatalogoPadrao();
+        when(receitaIngredienteRepository.findLinhasLeituraByReceitaId(1L)).thenReturn(List.of());
+
+        // Ação
+        for (int versao = 1; versao <= 200; versao++) {
+            when(receitaRepository.findLinhaLeituraById(1L)).thenReturn(Optional.of(
+                    new LinhaReceita(1L, "Feijoada", "Versão " + versao + " do modo de preparo", 180, 1L, null)));
+            catalogo.onReceitaAlterada(new ReceitaAlteradaEvent(1L));
+        }
+
+        // Validação
+        CatalogoLeituraEstatisticasDTO estatisticas = catalogo.estatisticas();
+        assertEquals("Versão 200 do modo de preparo", catalogo.buscarReceita(1L).orElseThrow().getDescricao());
+        assertEquals("Temperar", catalogo.buscarReceita(2L).orElseThrow().getDescricao());
+        assertTrue(estatisticas.getSlabsTextos() <= 2, "Slabs: " + estatisticas.getSlabsTextos());
+    }
+
+    @Test
+    void naoDeveCarregarQuandoDesabilitado() {
+        // Cenário
+        CatalogoLeitura desabilitado = new CatalogoLeitura(receitaRepository, receitaIngredienteRepository,
+                categoriaRepository, ingredienteRepository, false, 256);
+
+        // Ação
+        desabilitado.carregar();
+
+        // Validação
+        assertFalse(desabilitado.disponivel());
+        verifyNoInteractions(receitaRepository, receitaIngredienteRepository, categoriaRepository, ingredienteRepository);
+    }
+
+    @Test
+    void deveEstimarAPegadaDeCemMilReceitas() {
+        // Cenário
+        int totalReceitas = 100_000;
+        int ingredientesPorReceita = 8;
+        List<Ingrediente> ingredientes = new ArrayList<>();
+        for (long i = 1; i <= 500; i++) {
+            ingredientes.add(new Ingrediente(i, "Ingrediente " + i));
+        }
+        List<LinhaReceita> receitas = new ArrayList<>(totalReceitas);
+        List<LinhaIngredienteReceita> linhas = new ArrayList<>(totalReceitas * ingredientesPorReceita);
+        for (long id = 1; id <= totalReceitas; id++) {
+            receitas.add(new LinhaReceita(id, "Receita " + id,
+                    "Modo de preparo da receita " + id + ": misture tudo e leve ao forno por quarenta minutos.",
+                    40, id % 10 + 1, null));
+            for (int j = 0; j < ingredientesPorReceita; j++) {
+                // Textos novos a cada linha, como viriam do banco: o internador deve compartilhá-los
+                linhas.add(new LinhaIngredienteReceita(id, (id * 7 + j) % 500 + 1,
+                        String.valueOf(j + 1), new String("gramas")));
+            }
+        }
+        List<Categoria> categorias = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            categorias.add(new Categoria(i, "Categoria " + i));
+        }
+        when(categoriaRepository.findAll()).thenReturn(categorias);
+        when(ingredienteRepository.findAll()).thenReturn(ingredientes);
+        when(receitaRepository.findLinhasLeitura()).thenReturn(receitas);
+        when(receitaIngredienteRepository.findLinhasLeitura()).thenReturn(linhas);
+
+        // Ação
+        catalogo.carregar();
+        CatalogoLeituraEstatisticasDTO estatisticas = catalogo.estatisticas();
+
+        // Validação
+        assertEquals(totalReceitas, estatisticas.getReceitas());
+        assertEquals((long) totalReceitas * ingredientesPorReceita, estatisticas.getLinhasIngredientes());
+        assertEquals(estatisticas.getBytesEstimados(), estatisticas.getBytesPor100MilReceitas());
+        assertTrue(estatisticas.getBytesForaDoHeap() > 0);
+        // Sem o internamento, só as quantidades e unidades das linhas passariam de 40 MB
+        assertTrue(estatisticas.getBytesPor100MilReceitas() < 30L * 1024 * 1024,
+                "Pegada estimada: " + estatisticas.getBytesPor100MilReceitas());
+    }
+
+    private void carregarCatalogoPadrao() {
+        when(categoriaRepository.findAll()).thenReturn(List.of(new Categoria(1L, "Brasileira")));
+        when(ingredienteRepository.findAll()).thenReturn(List.of(
+                new Ingrediente(10L, "Feijão"), new Ingrediente(11L, "Sal")));
+        when(receitaRepository.findLinhasLeitura()).thenReturn(List.of(
+                new LinhaReceita(1L, "Feijoada", "Cozinhar o feijão", 180, 1L, 6),
+                new LinhaReceita(2L, "Salada", "Temperar", 10, null, null)));
+        when(receitaIngredienteRepository.findLinhasLeitura()).thenReturn(List.of(
+                new LinhaIngredienteReceita(1L, 10L, "500", "gramas"),
+                new LinhaIngredienteReceita(1L, 11L, "1", "colher"),
+                new LinhaIngredienteReceita(2L, 11L, "1", "pitada")));
+        catalogo.carregar();
+    }
+}
@@ -0,0 +1,50 @@
+package org.grupo1.gestordereceitas.nutricao;
+
+import org.grupo1.gestordereceitas.leitura.LinhaIngredienteReceita;
+import org.grupo1.gestordereceitas.model.NutricaoIngrediente;
+import org.grupo1.gestordereceitas.model.ValoresNutricionais;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalculadoraNutricionalTest {
+
+    @Test
+    void deveConverterQuantidadesEMedidasCaseiras() {
+        // Ação / Validação
+        assertEquals(120, ConversorUnidades.gramas("1/2", "xícara(s) (chá)", null).getAsDouble());
+        assertEquals(22.5, ConversorUnidades.gramas("1 1/2", "Colher(es) de sopa", null).getAsDouble());
+        assertEquals(250, ConversorUnidades.gramas("0,25", "kg", null).getAsDouble());
+        assertEquals(300, ConversorUnidades.gramas("2", "unidades", 150.0).getAsDouble());
+        assertTrue(ConversorUnidades.gramas("a gosto", "sem unidade", 150.0).isEmpty());
+        assertTrue(ConversorUnidades.gramas("2", "dentes", null).isEmpty());
+    }
+
+    @Test
+    void deveSomarAsLinhasEContarAsQueFicaramDeFora() {
+        // Cenário
+        NutricaoIngrediente acucar = new NutricaoIngrediente(1L, null,
+                new ValoresNutricionais(400, 0, 100, 0, 0, 0), null);
+        NutricaoIngrediente cebola = new NutricaoIngrediente(2L, null,
+                new ValoresNutricionais(40, 1, 9, 0, 2, 4), 150.0);
+        List<LinhaIngredienteReceita> linhas = List.of(
+                new LinhaIngredienteReceita(10L, 1L, "50", "g"),
+                new LinhaIngredienteReceita(10L, 2L, "2", "unidades"),
+                new LinhaIngredienteReceita(10L, 1L, "a gosto", "sem unidade"),
+                new LinhaIngredienteReceita(10L, 3L, "1", "xícara"));
+
+        // Ação
+        ResultadoNutricional resultado = CalculadoraNutricional.calcular(linhas, Map.of(1L, acucar, 2L, cebola));
+
+        // Validação
+        assertEquals(200 + 120, resultado.total().getCalorias(), 1e-9);
+        assertEquals(50 + 27, resultado.total().getCarboidratos(), 1e-9);
+        assertEquals(12, resultado.total().getSodio(), 1e-9);
+        assertEquals(1, resultado.linhasNaoConvertidas());
+        assertEquals(1, resultado.ingredientesSemNutricao());
+        assertEquals(80, resultado.total().dividir(4).getCalorias(), 1e-9);
+    }
+}
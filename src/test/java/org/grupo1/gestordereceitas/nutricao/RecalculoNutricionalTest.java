@@ -0,0 +1,130 @@
+package org.grupo1.gestordereceitas.nutricao;
+
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.model.NutricaoReceita;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.NutricaoReceitaRepository;
+import org.grupo1.gestordereceitas.repository.RecalculoNutricaoPendenteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({RecalculoNutricional.class, CompressorDescricao.class, DicionariosDescricao.class})
+// O recálculo em lotes controla as próprias transações
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class RecalculoNutricionalTest {
+
+    @Autowired
+    private RecalculoNutricional recalculoNutricional;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private IngredienteRepository ingredienteRepository;
+
+    @Autowired
+    private ReceitaIngredienteRepository receitaIngredienteRepository;
+
+    @Autowired
+    private NutricaoReceitaRepository nutricaoReceitaRepository;
+
+    @Autowired
+    private RecalculoNutricaoPendenteRepository pendenteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("delete from recalculo_nutricao_pendente");
+        jdbcTemplate.update("delete from nutricao_receita");
+        jdbcTemplate.update("delete from nutricao_ingrediente");
+        jdbcTemplate.update("delete from receita_ingrediente");
+        jdbcTemplate.update("delete from receita");
+        jdbcTemplate.update("delete from ingrediente");
+    }
+
+    @Test
+    void deveRecalcularSoAsReceitasQueUsamOIngredienteAlterado() {
+        // Cenário
+        Ingrediente acucar = ingredienteRepository.save(new Ingrediente(null, "açúcar"));
+        Ingrediente sal = ingredienteRepository.save(new Ingrediente(null, "sal"));
+        Receita pudim = receita("Pudim", 4, acucar, "200", "g");
+        Receita brigadeiro = receita("Brigadeiro", null, acucar, "1", "xícara");
+        Receita caldo = receita("Caldo", 2, sal, "1", "colher de chá");
+        recalculoNutricional.completarDepoisDaCarga();
+        recalculoNutricional.processarPendentes();
+        assertEquals(0, nutricaoReceitaRepository.findById(pudim.getId()).orElseThrow().getTotal().getCalorias());
+        NutricaoReceita caldoAntes = nutricaoReceitaRepository.findById(caldo.getId()).orElseThrow();
+
+        // Ação
+        jdbcTemplate.update("insert into nutricao_ingrediente (ingrediente_id, calorias, proteinas, carboidratos, "
+                + "gorduras, fibras, sodio) values (?, 400, 0, 100, 0, 0, 1)", acucar.getId());
+        recalculoNutricional.agendar(acucar.getId());
+        recalculoNutricional.processarPendentes();
+
+        // Validação
+        NutricaoReceita nutricaoPudim = nutricaoReceitaRepository.findById(pudim.getId()).orElseThrow();
+        assertEquals(800, nutricaoPudim.getTotal().getCalorias(), 1e-9);
+        assertEquals(4, nutricaoPudim.getPorcoes());
+        assertEquals(0, nutricaoPudim.getIngredientesSemNutricao());
+        NutricaoReceita nutricaoBrigadeiro = nutricaoReceitaRepository.findById(brigadeiro.getId()).orElseThrow();
+        assertEquals(960, nutricaoBrigadeiro.getTotal().getCalorias(), 1e-9);
+        assertEquals(1, nutricaoBrigadeiro.getPorcoes());
+        // A receita que não usa o ingrediente não foi tocada
+        NutricaoReceita caldoDepois = nutricaoReceitaRepository.findById(caldo.getId()).orElseThrow();
+        assertEquals(caldoAntes.getCalculadaEm(), caldoDepois.getCalculadaEm());
+        assertEquals(1, caldoDepois.getIngredientesSemNutricao());
+        assertEquals(0, pendenteRepository.count());
+    }
+
+    @Test
+    void deveApagarOsTotaisDeReceitaExcluida() {
+        // Cenário
+        Ingrediente acucar = ingredienteRepository.save(new Ingrediente(null, "açúcar"));
+        Receita pudim = receita("Pudim", 4, acucar, "200", "g");
+        recalculoNutricional.completarDepoisDaCarga();
+        recalculoNutricional.processarPendentes();
+        assertTrue(nutricaoReceitaRepository.existsById(pudim.getId()));
+
+        // Ação
+        jdbcTemplate.update("delete from receita_ingrediente");
+        receitaRepository.deleteById(pudim.getId());
+        recalculoNutricional.onReceitaAlterada(new ReceitaAlteradaEvent(pudim.getId()));
+
+        // Validação
+        assertFalse(nutricaoReceitaRepository.existsById(pudim.getId()));
+    }
+
+    private Receita receita(String nome, Integer porcoes, Ingrediente ingrediente, String quantidade, String unidade) {
+        Receita receita = new Receita();
+        receita.setNome(nome);
+        receita.setDescricao("Modo de preparo de " + nome);
+        receita.setTempoDePreparo(30);
+        receita.setPorcoes(porcoes);
+        receita = receitaRepository.save(receita);
+        ReceitaIngrediente linha = new ReceitaIngrediente();
+        linha.setReceita(receita);
+        linha.setIngrediente(ingrediente);
+        linha.setQuantidade(quantidade);
+        linha.setUnidadeMedida(unidade);
+        receitaIngredienteRepository.save(linha);
+        return receita;
+    }
+}
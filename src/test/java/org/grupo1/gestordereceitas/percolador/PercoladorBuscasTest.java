@@ -0,0 +1,88 @@
+package org.grupo1.gestordereceitas.percolador;
+
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.repository.BuscaSalvaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class PercoladorBuscasTest {
+
+    private PercoladorBuscas percolador;
+
+    @BeforeEach
+    void criarPercolador() {
+        percolador = new PercoladorBuscas(mock(BuscaSalvaRepository.class));
+    }
+
+    @Test
+    void deveAvisarAsBuscasQueAReceitaNovaAtende() {
+        // Cenário: sobremesas com até 30 minutos e chocolate (14)
+        percolador.atualizar(1L, consulta(1L, 1L, 0, 30, 14L));
+        percolador.atualizar(2L, consulta(2L, 1L, 0, 30, 14L, 11L));
+        percolador.atualizar(3L, consulta(3L, 2L, 0, Integer.MAX_VALUE));
+        percolador.atualizar(4L, consulta(4L, null, 20, 40));
+        percolador.atualizar(5L, consulta(5L, null, 0, Integer.MAX_VALUE));
+
+        // Ação
+        List<ConsultaSalva> atendidas = percolador.percolar(null, new ContribuicaoReceita(1L, 25, new long[]{8L, 14L}));
+
+        // Validação
+        assertEquals(List.of(1L, 4L, 5L), atendidas.stream().map(ConsultaSalva::id).sorted().toList());
+    }
+
+    @Test
+    void deveAvisarNaAlteracaoSoQuandoAReceitaPassaAAtenderABusca() {
+        // Cenário
+        percolador.atualizar(1L, consulta(1L, null, 0, 30, 14L));
+        ContribuicaoReceita semChocolate = new ContribuicaoReceita(1L, 20, new long[]{8L});
+        ContribuicaoReceita comChocolate = new ContribuicaoReceita(1L, 20, new long[]{8L, 14L});
+        ContribuicaoReceita maisDemorada = new ContribuicaoReceita(1L, 25, new long[]{8L, 14L});
+
+        // Ação & Validação
+        assertEquals(1, percolador.percolar(semChocolate, comChocolate).size());
+        assertTrue(percolador.percolar(comChocolate, maisDemorada).isEmpty());
+        assertTrue(percolador.percolar(comChocolate, null).isEmpty());
+    }
+
+    @Test
+    void deveCompararCadaEscritaSoComAsBuscasCandidatas() {
+        // Cenário: 10 mil buscas, cada uma exigindo um ingrediente diferente
+        for (long id = 1; id <= 10_000; id++) {
+            percolador.atualizar(id, consulta(id, null, 0, Integer.MAX_VALUE, 1_000 + id));
+        }
+        // Indexada pelo ingrediente com menos buscas (o 9), não pelo 1001
+        percolador.atualizar(10_001L, consulta(10_001L, null, 0, Integer.MAX_VALUE, 9L, 1_001L));
+
+        // Ação
+        List<ConsultaSalva> atendidas = percolador.percolar(null, new ContribuicaoReceita(3L, 10, new long[]{9L, 1_001L, 1_002L}));
+
+        // Validação
+        assertEquals(List.of(1L, 2L, 10_001L), atendidas.stream().map(ConsultaSalva::id).sorted().toList());
+        assertEquals(3, percolador.situacao().candidatasAvaliadas());
+        assertEquals(10_001, percolador.situacao().buscas());
+    }
+
+    @Test
+    void devePararDeAvisarBuscasRemovidas() {
+        // Cenário
+        percolador.atualizar(1L, consulta(1L, 2L, 10, 20));
+        percolador.atualizar(2L, consulta(2L, null, 10, 20));
+
+        // Ação
+        percolador.atualizar(1L, null);
+        percolador.atualizar(2L, null);
+
+        // Validação
+        assertTrue(percolador.percolar(null, new ContribuicaoReceita(2L, 15, new long[]{1L})).isEmpty());
+        assertEquals(0, percolador.situacao().buscas());
+    }
+
+    private static ConsultaSalva consulta(long id, Long categoriaId, int tempoMinimo, int tempoMaximo, long... ingredientes) {
+        return new ConsultaSalva(id, "ana", categoriaId, tempoMinimo, tempoMaximo, ingredientes);
+    }
+}
@@ -0,0 +1,96 @@
+package org.grupo1.gestordereceitas.planos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BuscaPlanosTest {
+
+    private final BuscaPlanos buscaPlanos = new BuscaPlanos(2);
+
+    @AfterEach
+    void encerrar() {
+        buscaPlanos.encerrar();
+    }
+
+    @Test
+    void deveEscolherAsReceitasQueCompartilhamIngredientes() {
+        // Cenário: as receitas 1 a 7 usam só os ingredientes 1 e 2; as demais, dois ingredientes próprios cada
+        List<CandidatoPlano> candidatos = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            candidatos.add(new CandidatoPlano(id, 1L, 30, new long[]{1, 2}));
+        }
+        for (long id = 8; id <= 200; id++) {
+            candidatos.add(new CandidatoPlano(id, 1L, 10, new long[]{id * 10, id * 10 + 1}));
+        }
+        ProblemaPlano problema = ProblemaPlano.montar(candidatos, restricoes(7, null, Map.of(), Set.of(), Set.of()));
+
+        // Ação
+        ResultadoBuscaPlano resultado = buscaPlanos.buscar(problema, Duration.ofSeconds(2), 42);
+
+        // Validação
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), receitas(problema, resultado));
+        assertArrayEquals(new long[]{1, 2}, problema.listaDeCompras(resultado.melhor().receitas()));
+        assertEquals(0, resultado.melhor().violacoes());
+    }
+
+    @Test
+    void deveCumprirAsCotasDeCategoriaAntesDeEconomizarNasCompras() {
+        // Cenário: sobremesas (categoria 2) pedem ingredientes próprios
+        List<CandidatoPlano> candidatos = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            candidatos.add(new CandidatoPlano(id, 1L, 30, new long[]{1, 2}));
+        }
+        candidatos.add(new CandidatoPlano(11, 2L, 30, new long[]{5}));
+        candidatos.add(new CandidatoPlano(12, 2L, 30, new long[]{6, 7}));
+        candidatos.add(new CandidatoPlano(13, 2L, 30, new long[]{8, 9, 10}));
+        ProblemaPlano problema = ProblemaPlano.montar(candidatos, restricoes(7, null, Map.of(2L, 2), Set.of(), Set.of()));
+
+        // Ação
+        ResultadoBuscaPlano resultado = buscaPlanos.buscar(problema, Duration.ofSeconds(2), 7);
+
+        // Validação
+        List<Long> escolhidas = receitas(problema, resultado);
+        assertTrue(escolhidas.containsAll(List.of(11L, 12L)));
+        assertFalse(escolhidas.contains(13L));
+        assertEquals(0, resultado.melhor().violacoes());
+        assertArrayEquals(new long[]{1, 2, 5, 6, 7}, problema.listaDeCompras(resultado.melhor().receitas()));
+    }
+
+    @Test
+    void deveDescartarReceitasDemoradasOuComIngredienteExcluidoEIgnorarADespensa() {
+        // Cenário
+        List<CandidatoPlano> candidatos = List.of(
+                new CandidatoPlano(1, null, 20, new long[]{1, 3}),
+                new CandidatoPlano(2, null, 90, new long[]{1}),
+                new CandidatoPlano(3, null, 20, new long[]{1, 4}),
+                new CandidatoPlano(4, null, 20, new long[]{9}));
+
+        // Ação
+        ProblemaPlano problema = ProblemaPlano.montar(candidatos, restricoes(2, 60, Map.of(), Set.of(9L), Set.of(1L)));
+        ResultadoBuscaPlano resultado = buscaPlanos.buscar(problema, Duration.ofMillis(100), 1);
+
+        // Validação
+        assertEquals(2, problema.receitas());
+        assertEquals(List.of(1L, 3L), receitas(problema, resultado));
+        assertArrayEquals(new long[]{3, 4}, problema.listaDeCompras(resultado.melhor().receitas()));
+        assertEquals(40, resultado.melhor().tempoTotal());
+    }
+
+    private static RestricoesPlano restricoes(int dias, Integer tempoMaximo, Map<Long, Integer> cotas,
+                                              Set<Long> excluidos, Set<Long> despensa) {
+        return new RestricoesPlano(dias, tempoMaximo, cotas, excluidos, despensa);
+    }
+
+    private static List<Long> receitas(ProblemaPlano problema, ResultadoBuscaPlano resultado) {
+        return Arrays.stream(resultado.melhor().receitas()).mapToLong(problema::receitaId).sorted().boxed().toList();
+    }
+}
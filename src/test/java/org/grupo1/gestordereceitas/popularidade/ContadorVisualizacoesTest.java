@@ -0,0 +1,97 @@
+package org.grupo1.gestordereceitas.popularidade;
+
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ContadorVisualizacoes.class, CompressorDescricao.class, DicionariosDescricao.class})
+// A gravação controla as próprias transações
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ContadorVisualizacoesTest {
+
+    private static final long MEIA_VIDA_MS = 21_600_000;
+
+    @Autowired
+    private ContadorVisualizacoes contador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("delete from visualizacao_receita");
+        contador.recarregar();
+    }
+
+    @Test
+    void deveSomarAsVisualizacoesAoBancoEmLoteEAtualizarOsRankings() {
+        // Cenário
+        for (int i = 0; i < 3; i++) {
+            contador.registrar(1L);
+        }
+        contador.registrar(2L);
+        assertEquals(0, contador.populares().tamanho());
+
+        // Ação
+        contador.gravar();
+        contador.registrar(2L);
+        contador.registrar(2L);
+        contador.registrar(2L);
+        contador.gravar();
+
+        // Validação
+        Ranking populares = contador.populares();
+        assertArrayEquals(new long[]{2L, 1L}, populares.receitaIds());
+        assertArrayEquals(new double[]{4, 3}, populares.valores());
+        assertEquals(4L, total(2L));
+        assertEquals(3L, total(1L));
+        assertArrayEquals(new long[]{2L, 1L}, contador.emAlta().receitaIds());
+    }
+
+    @Test
+    void deveRecarregarAsContagensDeOutrasInstanciasComDecaimento() {
+        // Cenário: gravada por outra instância há uma meia-vida
+        jdbcTemplate.update("insert into visualizacao_receita (receita_id, total, pontuacao, referencia_ms) values (?, ?, ?, ?)",
+                7L, 8L, 8.0, System.currentTimeMillis() - MEIA_VIDA_MS);
+
+        // Ação
+        contador.recarregar();
+
+        // Validação
+        assertArrayEquals(new long[]{7L}, contador.populares().receitaIds());
+        assertEquals(8, contador.populares().valores()[0]);
+        assertEquals(4, contador.emAlta().valores()[0], 0.01);
+    }
+
+    @Test
+    void deveDescartarAsContagensDeReceitaExcluida() {
+        // Cenário: a receita 9 não existe mais no catálogo
+        contador.registrar(9L);
+        contador.gravar();
+        assertEquals(1, contador.populares().tamanho());
+
+        // Ação
+        contador.onReceitaAlterada(new ReceitaAlteradaEvent(9L));
+
+        // Validação
+        assertEquals(0, contador.populares().tamanho());
+        assertEquals(0, contador.emAlta().tamanho());
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from visualizacao_receita", Integer.class));
+    }
+
+    private long total(long receitaId) {
+        return jdbcTemplate.queryForObject("select total from visualizacao_receita where receita_id = ?",
+                Long.class, receitaId);
+    }
+}
@@ -1,9 +1,12 @@
 package org.grupo1.gestordereceitas.repository;
 
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
 import org.grupo1.gestordereceitas.model.Ingrediente;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,6 +14,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
+@Import({CompressorDescricao.class, DicionariosDescricao.class}) // usados pelo conversor da descrição da receita
 public class IngredienteRepositoryTest {
 
     @Autowired
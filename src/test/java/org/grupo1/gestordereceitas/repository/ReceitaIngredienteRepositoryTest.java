@@ -1,5 +1,7 @@
 package org.grupo1.gestordereceitas.repository;
 
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
 import org.grupo1.gestordereceitas.model.Categoria;
 import org.grupo1.gestordereceitas.model.Ingrediente;
 import org.grupo1.gestordereceitas.model.Receita;
@@ -7,6 +9,7 @@ import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
+@Import({CompressorDescricao.class, DicionariosDescricao.class}) // usados pelo conversor da descrição da receita
 public class ReceitaIngredienteRepositoryTest {
 
     @Autowired
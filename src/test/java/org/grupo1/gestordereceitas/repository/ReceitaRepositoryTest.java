@@ -1,11 +1,18 @@
 package org.grupo1.gestordereceitas.repository;
 
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
+import org.grupo1.gestordereceitas.dto.ReceitaDesnormalizadaDTO;
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
 import org.grupo1.gestordereceitas.model.Categoria;
 import org.grupo1.gestordereceitas.model.Receita;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +20,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
+@Import({CompressorDescricao.class, DicionariosDescricao.class}) // usados pelo conversor da descrição da receita
 public class ReceitaRepositoryTest {
 
     @Autowired
@@ -21,6 +29,9 @@ public class ReceitaRepositoryTest {
     @Autowired
     private CategoriaRepository categoriaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void deveSalvarReceitaCorretamente() {
         // Cenário
@@ -100,6 +111,58 @@ public class ReceitaRepositoryTest {
         assertTrue(receitaRetornada.isEmpty());
     }
 
+    @Test
+    void deveLerColunasESnapshotDaReceitaSemCarregarAssociacoes() {
+        // Cenário
+        Categoria categoria = criarCategoria("Sobremesas");
+        Receita receita = criarReceita("Pudim", categoria);
+        receita.setSnapshot(ReceitaSnapshotMapper.serializar(receita));
+        receitaRepository.save(receita);
+
+        // Ação
+        Optional<ReceitaDesnormalizadaDTO> linha = receitaRepository.findDesnormalizadaById(receita.getId());
+
+        // Validação
+        assertTrue(linha.isPresent());
+        assertEquals("Pudim", linha.get().getNome());
+        assertEquals("Sobremesas", ReceitaSnapshotMapper.toDTO(linha.get()).getCategoria());
+    }
+
+    @Test
+    void deveGravarDescricaoComprimidaELerOTextoOriginal() {
+        // Cenário
+        String descricao = "Em uma panela, derreta a manteiga em fogo baixo, junte o leite condensado "
+                + "e mexa sem parar até desgrudar do fundo da panela. Deixe esfriar e faça bolinhas.";
+        Receita receita = criarReceita("Brigadeiro", criarCategoria("Doces"));
+        receita.setDescricao(descricao);
+
+        // Ação
+        receitaRepository.saveAndFlush(receita);
+        entityManager.clear();
+        byte[] gravada = (byte[]) receitaRepository.findDescricoesGravadasAposId(0L).getFirst()[1];
+
+        // Validação
+        assertEquals(DicionariosDescricao.VERSAO_BASE, CompressorDescricao.versao(gravada));
+        assertTrue(gravada.length < descricao.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(descricao, receitaRepository.findById(receita.getId()).orElseThrow().getDescricao());
+    }
+
+    @Test
+    void deveRetornarReceitasDeUmaCategoria() {
+        // Cenário
+        Categoria sobremesas = criarCategoria("Sobremesas");
+        Categoria massas = criarCategoria("Massas");
+        receitaRepository.save(criarReceita("Pudim", sobremesas));
+        receitaRepository.save(criarReceita("Lasanha", massas));
+
+        // Ação
+        List<Receita> receitas = receitaRepository.findByCategoriaId(sobremesas.getId());
+
+        // Validação
+        assertEquals(1, receitas.size());
+        assertEquals("Pudim", receitas.getFirst().getNome());
+    }
+
     private Receita criarReceita(String nome, Categoria categoria) {
         Receita receita = new Receita();
         receita.setNome(nome);
@@ -0,0 +1,48 @@
+package org.grupo1.gestordereceitas.repository;
+
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
+import jakarta.persistence.EntityManager;
+import org.grupo1.gestordereceitas.model.VersaoCatalogo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({CompressorDescricao.class, DicionariosDescricao.class}) // usados pelo conversor da descrição da receita
+public class VersaoCatalogoRepositoryTest {
+
+    @Autowired
+    private VersaoCatalogoRepository versaoCatalogoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deveIncrementarAVersaoDoCatalogo() {
+        // Cenário
+        versaoCatalogoRepository.saveAndFlush(new VersaoCatalogo(1L, "estado-a", 4L));
+
+        // Ação
+        int atualizadas = versaoCatalogoRepository.incrementar(1L, "estado-b");
+        entityManager.clear();
+
+        // Validação
+        VersaoCatalogo versao = versaoCatalogoRepository.findById(1L).orElseThrow();
+        assertEquals(1, atualizadas);
+        assertEquals(5L, versao.getVersao());
+        assertEquals("estado-b", versao.getMarcador());
+    }
+
+    @Test
+    void naoDeveAtualizarNadaQuandoAVersaoAindaNaoExiste() {
+        // Ação
+        int atualizadas = versaoCatalogoRepository.incrementar(1L, "estado-b");
+
+        // Validação
+        assertEquals(0, atualizadas);
+    }
+}
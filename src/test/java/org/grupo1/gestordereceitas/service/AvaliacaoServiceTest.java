@@ -0,0 +1,136 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.avaliacoes.IndiceAvaliacoes;
+import org.grupo1.gestordereceitas.compressao.CompressorDescricao;
+import org.grupo1.gestordereceitas.compressao.DicionariosDescricao;
+import org.grupo1.gestordereceitas.dto.AvaliacaoRequestDTO;
+import org.grupo1.gestordereceitas.dto.ResumoAvaliacoesDTO;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.repository.AvaliacaoRepository;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({AvaliacaoService.class, IndiceAvaliacoes.class, CompressorDescricao.class, DicionariosDescricao.class})
+// Cada avaliação roda na própria transação, como em produção
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AvaliacaoServiceTest {
+
+    @MockitoBean
+    private ReceitaService receitaService;
+
+    @Autowired
+    private AvaliacaoService avaliacaoService;
+
+    @Autowired
+    private AvaliacaoRepository avaliacaoRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    private Long receitaId;
+
+    @BeforeEach
+    void criarReceita() {
+        Receita receita = new Receita();
+        receita.setNome("Quindim");
+        receita.setTempoDePreparo(50);
+        receita.setCategoria(categoriaRepository.save(new Categoria(null, "Doces")));
+        receitaId = receitaRepository.save(receita).getId();
+    }
+
+    @AfterEach
+    void limpar() {
+        avaliacaoRepository.deleteAll();
+        receitaRepository.deleteAll();
+        categoriaRepository.deleteAll();
+    }
+
+    @Test
+    void deveSomarSoADiferencaQuandoOUsuarioTrocaANota() {
+        // Cenário
+        avaliacaoService.avaliar(receitaId, "ana", nota(2));
+        avaliacaoService.avaliar(receitaId, "bia", nota(4));
+
+        // Ação
+        ResumoAvaliacoesDTO resumo = avaliacaoService.avaliar(receitaId, "ana", nota(5));
+
+        // Validação
+        assertEquals(2, resumo.getQuantidade());
+        assertEquals(4.5, resumo.getMedia());
+        Receita gravada = receitaRepository.findById(receitaId).orElseThrow();
+        assertEquals(9, gravada.getSomaNotas());
+        assertEquals(2, gravada.getQuantidadeAvaliacoes());
+        assertEquals(5.0, avaliacaoService.remover(receitaId, "bia").getMedia());
+    }
+
+    @Test
+    void naoDeveContarDuasVezesAvaliacoesSimultaneasDoMesmoUsuario() throws Exception {
+        // Cenário
+        int requisicoes = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requisicoes);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> futuros = new ArrayList<>();
+
+        // Ação: o mesmo usuário e outros oito avaliam ao mesmo tempo
+        try {
+            for (int i = 0; i < requisicoes; i++) {
+                String outro = "usuario-" + i;
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    avaliacaoService.avaliar(receitaId, "ana", nota(4));
+                    avaliacaoService.avaliar(receitaId, outro, nota(3));
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Validação
+        Receita gravada = receitaRepository.findById(receitaId).orElseThrow();
+        assertEquals(requisicoes + 1, gravada.getQuantidadeAvaliacoes());
+        assertEquals(4 + 3L * requisicoes, gravada.getSomaNotas());
+        assertEquals(requisicoes + 1, avaliacaoRepository.count());
+    }
+
+    @Test
+    void deveRecusarNotaForaDaEscala() {
+        // Ação / Validação
+        assertThrows(BusinessException.class, () -> avaliacaoService.avaliar(receitaId, "ana", nota(6)));
+        assertEquals(0, avaliacaoRepository.count());
+    }
+
+    private static AvaliacaoRequestDTO nota(int nota) {
+        AvaliacaoRequestDTO dto = new AvaliacaoRequestDTO();
+        dto.setNota(nota);
+        return dto;
+    }
+}
@@ -0,0 +1,73 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.BuscaSalvaRequestDTO;
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.exception.BusinessException;
+import org.grupo1.gestordereceitas.model.NotificacaoBusca;
+import org.grupo1.gestordereceitas.percolador.ConsultaSalva;
+import org.grupo1.gestordereceitas.percolador.PercoladorBuscas;
+import org.grupo1.gestordereceitas.repository.BuscaSalvaRepository;
+import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.NotificacaoBuscaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BuscaSalvaServiceTest {
+
+    private BuscaSalvaRepository buscaSalvaRepository;
+    private NotificacaoBuscaRepository notificacaoBuscaRepository;
+    private PercoladorBuscas percoladorBuscas;
+    private BuscaSalvaService service;
+
+    @BeforeEach
+    void criar() {
+        buscaSalvaRepository = mock(BuscaSalvaRepository.class);
+        notificacaoBuscaRepository = mock(NotificacaoBuscaRepository.class);
+        percoladorBuscas = mock(PercoladorBuscas.class);
+        service = new BuscaSalvaService(buscaSalvaRepository, notificacaoBuscaRepository, mock(CategoriaRepository.class),
+                mock(IngredienteRepository.class), percoladorBuscas, mock(ApplicationEventPublisher.class), 2000, 604800000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarUmAvisoPorBuscaAtendida() {
+        // Cenário
+        ContribuicaoReceita nova = new ContribuicaoReceita(1L, 20, new long[]{14L});
+        when(percoladorBuscas.percolar(null, nova)).thenReturn(List.of(
+                new ConsultaSalva(3L, "ana", 1L, 0, 30, new long[]{14L}),
+                new ConsultaSalva(4L, "bia", null, 0, Integer.MAX_VALUE, new long[0])));
+
+        // Ação
+        service.notificar(10L, null, nova);
+
+        // Validação
+        ArgumentCaptor<List<NotificacaoBusca>> gravadas = ArgumentCaptor.forClass(List.class);
+        verify(notificacaoBuscaRepository).saveAll(gravadas.capture());
+        assertEquals(List.of("ana", "bia"), gravadas.getValue().stream().map(NotificacaoBusca::getUsuario).toList());
+        assertTrue(gravadas.getValue().stream().allMatch(n -> n.getReceitaId() == 10L && n.isReceitaNova()));
+    }
+
+    @Test
+    void deveRecusarFaixaDeTempoInvertida() {
+        // Cenário
+        BuscaSalvaRequestDTO dto = new BuscaSalvaRequestDTO();
+        dto.setUsuario("ana");
+        dto.setNome("Rápidas");
+        dto.setTempoMinimo(30);
+        dto.setTempoMaximo(10);
+
+        // Ação & Validação
+        BusinessException exception = assertThrows(BusinessException.class, () -> service.criar(dto));
+        assertEquals("O tempo mínimo não pode ser maior que o máximo.", exception.getMessage());
+        verify(buscaSalvaRepository, never()).save(any());
+    }
+}
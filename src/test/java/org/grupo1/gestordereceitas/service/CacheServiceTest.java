@@ -0,0 +1,72 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.CacheEstatisticasDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheServiceTest {
+
+    @InjectMocks
+    private CacheService cacheService;
+
+    @Mock // SessionFactory também é o EntityManagerFactory injetado no serviço
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Test
+    void deveRetornarEstatisticasDoCacheDeSegundoNivelPorRegiao() {
+        // Cenário
+        String regiaoCategoria = "org.grupo1.gestordereceitas.model.Categoria";
+        CacheRegionStatistics estatisticasCategoria = mock(CacheRegionStatistics.class);
+
+        when(sessionFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getSecondLevelCacheHitCount()).thenReturn(9L);
+        when(statistics.getSecondLevelCacheMissCount()).thenReturn(1L);
+        when(statistics.getSecondLevelCachePutCount()).thenReturn(1L);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{regiaoCategoria});
+        when(statistics.getDomainDataRegionStatistics(regiaoCategoria)).thenReturn(estatisticasCategoria);
+        when(estatisticasCategoria.getHitCount()).thenReturn(3L);
+        when(estatisticasCategoria.getMissCount()).thenReturn(1L);
+        when(estatisticasCategoria.getPutCount()).thenReturn(1L);
+
+        // Ação
+        CacheEstatisticasDTO estatisticas = cacheService.estatisticasSegundoNivel();
+
+        // Validação
+        assertTrue(estatisticas.isEstatisticasHabilitadas());
+        assertEquals(9L, estatisticas.getAcertos());
+        assertEquals(0.9, estatisticas.getTaxaAcerto(), 0.0001);
+        assertEquals(1, estatisticas.getRegioes().size());
+        assertEquals(regiaoCategoria, estatisticas.getRegioes().get(0).getRegiao());
+        assertEquals(0.75, estatisticas.getRegioes().get(0).getTaxaAcerto(), 0.0001);
+    }
+
+    @Test
+    void deveRetornarTaxaDeAcertoZeroQuandoCacheNaoFoiUsado() {
+        // Cenário
+        when(sessionFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+
+        // Ação
+        CacheEstatisticasDTO estatisticas = cacheService.estatisticasSegundoNivel();
+
+        // Validação
+        assertEquals(0.0, estatisticas.getTaxaAcerto());
+        assertTrue(estatisticas.getRegioes().isEmpty());
+    }
+}
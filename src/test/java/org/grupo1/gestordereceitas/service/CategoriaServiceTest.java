@@ -1,13 +1,17 @@
 package org.grupo1.gestordereceitas.service;
 
+import org.grupo1.gestordereceitas.event.CategoriaAlteradaEvent;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.leitura.CatalogoLeitura;
 import org.grupo1.gestordereceitas.model.Categoria;
 import org.grupo1.gestordereceitas.repository.CategoriaRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +29,15 @@ public class CategoriaServiceTest {
     @Mock
     private CategoriaRepository categoriaRepository;
 
+    @Mock
+    private ReceitaRepository receitaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogoLeitura catalogoLeitura;
+
     // --- Teste para listarTodas() ---
     @Test
     public void deveRetornarListaDeCategoriasCorretamente() {
@@ -101,6 +114,7 @@ public class CategoriaServiceTest {
         assertEquals("Saladas", categoriaRetornada.getNome());
 
         verify(categoriaRepository, times(1)).save(categoriaASalvar);
+        verify(eventPublisher, times(1)).publishEvent(new CategoriaAlteradaEvent(1L));
     }
 
     // --- Testes para atualizar() ---
@@ -1,13 +1,26 @@
 package org.grupo1.gestordereceitas.service;
 
+import org.grupo1.gestordereceitas.busca.AutocompletarIngredientes;
+import org.grupo1.gestordereceitas.busca.SugestaoIngrediente;
+import org.grupo1.gestordereceitas.dto.ReceitaDesnormalizadaDTO;
+import org.grupo1.gestordereceitas.dto.SugestaoIngredienteDTO;
+import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
+import org.grupo1.gestordereceitas.exception.BusinessException;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.leitura.CatalogoLeitura;
 import org.grupo1.gestordereceitas.model.Ingrediente;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.model.ReceitaIngrediente;
 import org.grupo1.gestordereceitas.repository.IngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.grupo1.gestordereceitas.repository.SubstituicaoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +43,21 @@ public class IngredienteServiceTest {
     @Mock
     private IngredienteRepository ingredienteRepository;
 
+    @Mock
+    private ReceitaRepository receitaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogoLeitura catalogoLeitura;
+
+    @Mock
+    private AutocompletarIngredientes autocompletarIngredientes;
+
+    @Mock
+    private SubstituicaoRepository substituicaoRepository;
+
     // --- Teste para listarTodas() ---
     @Test
     public void deveRetornarListaDeIngredientesCorretamente() {
@@ -131,6 +159,32 @@ public class IngredienteServiceTest {
         verify(ingredienteRepository, times(1)).save(any(Ingrediente.class));
     }
 
+    @Test
+    void deveAtualizarSnapshotDasReceitasQuandoIngredienteForRenomeado() {
+        // Cenário
+        Long idExistente = 2L;
+        Ingrediente ingredienteExistente = criarIngrediente(idExistente, "Limao");
+
+        Receita receita = new Receita();
+        receita.setId(5L);
+        receita.setNome("Limonada");
+        ReceitaIngrediente linha = new ReceitaIngrediente(null, receita, ingredienteExistente, "2", "unidades");
+        receita.setReceitaIngredientes(List.of(linha));
+        receita.setSnapshot(ReceitaSnapshotMapper.serializar(receita));
+
+        when(ingredienteRepository.findById(idExistente)).thenReturn(Optional.of(ingredienteExistente));
+        when(ingredienteRepository.save(any(Ingrediente.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(receitaRepository.findByIngredienteId(idExistente)).thenReturn(List.of(receita));
+
+        // Ação
+        service.atualizar(idExistente, criarIngrediente(idExistente, "Limão"));
+
+        // Validação
+        ReceitaResponseDTO lida = ReceitaSnapshotMapper.toDTO(new ReceitaDesnormalizadaDTO(
+                receita.getId(), receita.getNome(), null, 0, null, receita.getSnapshot()));
+        assertEquals("Limão", lida.getIngredientes().getFirst().getNome());
+    }
+
     @Test
     void deveLancarExcecaoAoTentarAtualizarIngredienteComIdInexistente() {
         // Cenário
@@ -159,6 +213,7 @@ public class IngredienteServiceTest {
         assertDoesNotThrow(() -> service.deletar(idExistente));
 
         verify(ingredienteRepository, times(1)).existsById(idExistente);
+        verify(substituicaoRepository, times(1)).deleteEnvolvendo(idExistente);
         verify(ingredienteRepository, times(1)).deleteById(idExistente);
     }
 
@@ -181,6 +236,30 @@ public class IngredienteServiceTest {
         verify(ingredienteRepository, never()).deleteById(idInexistente);
     }
 
+    // --- Testes para autocompletar() ---
+    @Test
+    void deveConverterAsSugestoesDoAutocompletar() {
+        // Cenário
+        when(autocompletarIngredientes.sugerir("acu", 5, true))
+                .thenReturn(List.of(new SugestaoIngrediente(7L, "Açúcar", 12, false)));
+
+        // Ação
+        List<SugestaoIngredienteDTO> sugestoes = service.autocompletar("acu", 5, true);
+
+        // Validação
+        assertEquals(1, sugestoes.size());
+        assertEquals(7L, sugestoes.getFirst().getId());
+        assertEquals("Açúcar", sugestoes.getFirst().getNome());
+        assertEquals(12, sugestoes.getFirst().getReceitas());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoLimiteDoAutocompletarForInvalido() {
+        // Ação && Validação
+        assertThrows(BusinessException.class, () -> service.autocompletar("acu", 0, false));
+        verifyNoInteractions(autocompletarIngredientes);
+    }
+
     private Ingrediente criarIngrediente(Long id, String nome) {
         return new Ingrediente(id, nome);
     }
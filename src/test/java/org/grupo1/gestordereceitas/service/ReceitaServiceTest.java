@@ -1,10 +1,18 @@
 package org.grupo1.gestordereceitas.service;
 
+import org.grupo1.gestordereceitas.cache.ReceitaIdsFiltro;
+import org.grupo1.gestordereceitas.dto.ReceitaDesnormalizadaDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaIngredienteDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaRequestDTO;
 import org.grupo1.gestordereceitas.dto.ReceitaResponseDTO;
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.combinacoes.MatrizCoocorrencia;
+import org.grupo1.gestordereceitas.estatisticas.EstatisticasCatalogo;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
 import org.grupo1.gestordereceitas.exception.BusinessException;
 import org.grupo1.gestordereceitas.exception.ResourceNotFoundException;
+import org.grupo1.gestordereceitas.leitura.CatalogoLeitura;
 import org.grupo1.gestordereceitas.model.Categoria;
 import org.grupo1.gestordereceitas.model.Ingrediente;
 import org.grupo1.gestordereceitas.model.Receita;
@@ -17,6 +25,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.util.*;
 
@@ -39,6 +49,24 @@ public class ReceitaServiceTest {
     @Mock
     private IngredienteRepository ingredienteRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReceitaIdsFiltro receitaIdsFiltro;
+
+    @Mock
+    private CatalogoLeitura catalogoLeitura;
+
+    @Mock
+    private EstatisticasCatalogo estatisticasCatalogo;
+
+    @Mock
+    private MatrizCoocorrencia matrizCoocorrencia;
+
+    @Mock
+    private BuscaSalvaService buscaSalvaService;
+
     // --- Teste para listarTodas() ---
     @Test
     void deveRetornarListaDeReceitasCorretamente() {
@@ -68,8 +96,11 @@ public class ReceitaServiceTest {
         Long idExistente = 1L;
         Categoria categoria = criarCategoria(idExistente, "Brasileira");
         Receita receitaEsperada = criarReceita(idExistente, "Feijoada", categoria, emptyList());
+        receitaEsperada.setReceitaIngredientes(List.of(
+                new ReceitaIngrediente(1L, receitaEsperada, criarIngrediente(3L, "Feijão"), "500", "gramas")));
 
-        when(receitaRepository.findById(idExistente)).thenReturn(Optional.of(receitaEsperada));
+        when(receitaRepository.findDesnormalizadaById(idExistente)).thenReturn(Optional.of(new ReceitaDesnormalizadaDTO(
+                idExistente, "Feijoada", null, 0, 4, ReceitaSnapshotMapper.serializar(receitaEsperada))));
 
         // Ação
         ReceitaResponseDTO receitaRetornada = receitaService.buscarPorId(idExistente);
@@ -78,16 +109,60 @@ public class ReceitaServiceTest {
         assertNotNull(receitaRetornada);
         assertEquals(receitaEsperada.getId(), receitaRetornada.getId());
         assertEquals(receitaEsperada.getNome(), receitaRetornada.getNome());
+        assertEquals("Brasileira", receitaRetornada.getCategoria());
+        assertEquals(4, receitaRetornada.getPorcoes());
+        assertEquals(1, receitaRetornada.getIngredientes().size());
+        assertEquals("Feijão", receitaRetornada.getIngredientes().getFirst().getNome());
+        assertEquals("gramas", receitaRetornada.getIngredientes().getFirst().getUnidade());
+
+        verify(receitaRepository, times(1)).findDesnormalizadaById(idExistente);
+        verify(receitaRepository, never()).findById(any());
+    }
+
+    @Test
+    void deveLerTabelasNormalizadasQuandoReceitaAindaNaoTiverSnapshot() {
+        // Cenário
+        Long idExistente = 1L;
+        Categoria categoria = criarCategoria(idExistente, "Brasileira");
+        Receita receitaEsperada = criarReceita(idExistente, "Feijoada", categoria, emptyList());
 
+        when(receitaRepository.findDesnormalizadaById(idExistente)).thenReturn(Optional.of(
+                new ReceitaDesnormalizadaDTO(idExistente, "Feijoada", null, 0, null, null)));
+        when(receitaRepository.findById(idExistente)).thenReturn(Optional.of(receitaEsperada));
+
+        // Ação
+        ReceitaResponseDTO receitaRetornada = receitaService.buscarPorId(idExistente);
+
+        // Validação
+        assertEquals("Feijoada", receitaRetornada.getNome());
+        assertEquals("Brasileira", receitaRetornada.getCategoria());
         verify(receitaRepository, times(1)).findById(idExistente);
     }
 
+    @Test
+    void deveServirReceitaDoModeloDeLeituraSemConsultarOBanco() {
+        // Cenário
+        ReceitaResponseDTO emMemoria = new ReceitaResponseDTO();
+        emMemoria.setId(1L);
+        emMemoria.setNome("Feijoada");
+
+        when(catalogoLeitura.disponivel()).thenReturn(true);
+        when(catalogoLeitura.buscarReceita(1L)).thenReturn(Optional.of(emMemoria));
+
+        // Ação
+        ReceitaResponseDTO receitaRetornada = receitaService.buscarPorId(1L);
+
+        // Validação
+        assertSame(emMemoria, receitaRetornada);
+        verifyNoInteractions(receitaRepository);
+    }
+
     @Test
     void deveLancarExcecaoQuandoBuscarReceitaPorIdInexistente() {
         // Cenário
         Long idInexistente = 11L;
 
-        when(receitaRepository.findById(idInexistente)).thenReturn(Optional.empty());
+        when(receitaRepository.findDesnormalizadaById(idInexistente)).thenReturn(Optional.empty());
 
         // Ação && Validação
         ResourceNotFoundException exceptionEsperada = assertThrows(ResourceNotFoundException.class, () ->
@@ -96,7 +171,43 @@ public class ReceitaServiceTest {
 
         assertEquals("Receita com ID " + idInexistente + " não encontrada", exceptionEsperada.getMessage());
 
-        verify(receitaRepository, times(1)).findById(idInexistente);
+        verify(receitaRepository, times(1)).findDesnormalizadaById(idInexistente);
+    }
+
+    @Test
+    void deveLancarExcecaoSemConsultarOBancoQuandoFiltroIndicarQueIdNaoExiste() {
+        // Cenário
+        Long idInexistente = 11L;
+
+        when(receitaIdsFiltro.certamenteNaoExiste(idInexistente)).thenReturn(true);
+
+        // Ação && Validação
+        ResourceNotFoundException exceptionEsperada = assertThrows(ResourceNotFoundException.class, () ->
+                receitaService.buscarPorId(idInexistente)
+        );
+
+        assertEquals("Receita com ID " + idInexistente + " não encontrada", exceptionEsperada.getMessage());
+
+        verify(receitaRepository, never()).findDesnormalizadaById(any());
+    }
+
+    @Test
+    void deveBuscarNoBancoReceitaComIdAcimaDoMaiorConhecidoPeloFiltro() {
+        // Cenário: criada em outra instância, ainda fora do filtro e do modelo de leitura
+        Long idRecente = 500L;
+        Receita receitaEsperada = criarReceita(idRecente, "Moqueca", criarCategoria(1L, "Brasileira"), emptyList());
+
+        when(catalogoLeitura.disponivel()).thenReturn(true);
+        when(receitaIdsFiltro.alemDoMaiorConhecido(idRecente)).thenReturn(true);
+        when(receitaRepository.findDesnormalizadaById(idRecente)).thenReturn(Optional.of(new ReceitaDesnormalizadaDTO(
+                idRecente, "Moqueca", null, 0, null, ReceitaSnapshotMapper.serializar(receitaEsperada))));
+
+        // Ação
+        ReceitaResponseDTO receitaRetornada = receitaService.buscarPorId(idRecente);
+
+        // Validação
+        assertEquals("Moqueca", receitaRetornada.getNome());
+        verify(catalogoLeitura, never()).buscarReceita(any());
     }
 
     // --- Testes para salvar() ---
@@ -141,6 +252,10 @@ public class ReceitaServiceTest {
         verify(categoriaRepository, times(1)).findById(categoriaId);
         verify(ingredienteRepository, times(1)).findAll();
         verify(receitaRepository, times(1)).save(any(Receita.class));
+        verify(estatisticasCatalogo).registrar(null,
+                new ContribuicaoReceita(categoriaId, receitaSalva.getTempoDePreparo(), new long[]{1L, 2L}));
+        verify(buscaSalvaService).notificar(1L, null,
+                new ContribuicaoReceita(categoriaId, receitaSalva.getTempoDePreparo(), new long[]{1L, 2L}));
     }
 
     @Test
@@ -218,6 +333,53 @@ public class ReceitaServiceTest {
         verify(receitaRepository, never()).save(any());
     }
 
+    @Test
+    void deveRecusarReceitaIdenticaAUmaJaCadastrada() {
+        // Cenário
+        Categoria categoria = criarCategoria(1L, "Salgados");
+        List<ReceitaIngredienteDTO> ingDtos = List.of(criarReceitaIngredienteDTO(1L, "Farinha", "130", "g"));
+        ReceitaRequestDTO receitaASerSalva = criarReceitaRequestDTO(1L, "Torta de Frango", ingDtos);
+
+        when(categoriaRepository.findById(1L)).thenReturn(Optional.of(categoria));
+        when(ingredienteRepository.findAll()).thenReturn(List.of(criarIngrediente(1L, "Farinha")));
+        when(receitaRepository.findIdsByImpressaoDigital(anyString(), any(Limit.class))).thenReturn(List.of(7L));
+
+        // Ação
+        BusinessException exceptionEsperada =
+                assertThrows(BusinessException.class, () -> receitaService.salvar(receitaASerSalva));
+
+        // Validação
+        assertTrue(exceptionEsperada.getMessage().contains("ID 7"));
+        verify(receitaRepository, never()).save(any());
+    }
+
+    @Test
+    void deveSalvarReceitaIdenticaQuandoPermitidoEAvisarNaResposta() {
+        // Cenário
+        Categoria categoria = criarCategoria(1L, "Salgados");
+        Ingrediente farinha = criarIngrediente(1L, "Farinha");
+        List<ReceitaIngredienteDTO> ingDtos = List.of(criarReceitaIngredienteDTO(1L, "Farinha", "130", "g"));
+        ReceitaRequestDTO receitaASerSalva = criarReceitaRequestDTO(1L, "Torta de Frango", ingDtos);
+        receitaASerSalva.setPermitirDuplicata(true);
+
+        when(categoriaRepository.findById(1L)).thenReturn(Optional.of(categoria));
+        when(ingredienteRepository.findAll()).thenReturn(List.of(farinha));
+        when(receitaRepository.findIdsByImpressaoDigital(anyString(), any(Limit.class))).thenReturn(List.of(7L));
+        when(receitaRepository.save(any(Receita.class))).thenAnswer(invocacao -> {
+            Receita receita = invocacao.getArgument(0);
+            receita.setId(8L);
+            return receita;
+        });
+
+        // Ação
+        ReceitaResponseDTO receitaRetornada = receitaService.salvar(receitaASerSalva);
+
+        // Validação
+        assertEquals(7L, receitaRetornada.getDuplicataDe());
+        verify(receitaRepository).save(argThat(receita -> receita.getImpressaoDigital() != null
+                && receita.getImpressaoDigital().length() == 64));
+    }
+
     // --- Testes para atualizar() ---
     @Test
     void deveAtualizarReceitaComSucessoQuandoDadosForemValidos() {
@@ -413,6 +575,7 @@ public class ReceitaServiceTest {
 
         verify(receitaRepository, times(1)).existsById(idExistente);
         verify(receitaRepository, times(1)).deleteById(idExistente);
+        verify(eventPublisher, times(1)).publishEvent(new ReceitaAlteradaEvent(idExistente));
     }
 
     @Test
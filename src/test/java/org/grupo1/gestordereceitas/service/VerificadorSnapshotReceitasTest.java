@@ -0,0 +1,84 @@
+package org.grupo1.gestordereceitas.service;
+
+import org.grupo1.gestordereceitas.dto.VerificacaoSnapshotDTO;
+import org.grupo1.gestordereceitas.dto.mapper.ReceitaSnapshotMapper;
+import org.grupo1.gestordereceitas.event.ReceitaAlteradaEvent;
+import org.grupo1.gestordereceitas.model.Categoria;
+import org.grupo1.gestordereceitas.model.Receita;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VerificadorSnapshotReceitasTest {
+
+    @Mock
+    private ReceitaRepository receitaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler agendador;
+
+    private VerificadorSnapshotReceitas verificador;
+
+    @BeforeEach
+    void criarVerificador() {
+        verificador = new VerificadorSnapshotReceitas(receitaRepository, eventPublisher, transactionManager, agendador);
+    }
+
+    @Test
+    void devePreencherSnapshotAusenteERepararDivergenteSemTocarNoCorreto() {
+        // Cenário
+        Categoria doces = new Categoria(1L, "Doces");
+        Receita semSnapshot = criarReceita(1L, "Brigadeiro", doces);
+
+        Receita correta = criarReceita(2L, "Pudim", doces);
+        byte[] snapshotCorreto = ReceitaSnapshotMapper.serializar(correta);
+        correta.setSnapshot(snapshotCorreto);
+
+        Receita divergente = criarReceita(3L, "Mousse", doces);
+        divergente.setSnapshot(ReceitaSnapshotMapper.serializar(criarReceita(3L, "Mousse", new Categoria(1L, "Bolos"))));
+
+        when(receitaRepository.findTop100ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(semSnapshot, correta, divergente));
+        when(receitaRepository.findTop100ByIdGreaterThanOrderByIdAsc(3L)).thenReturn(emptyList());
+
+        // Ação
+        VerificacaoSnapshotDTO resultado = verificador.verificar();
+
+        // Validação
+        assertEquals(3, resultado.getVerificadas());
+        assertEquals(1, resultado.getPreenchidas());
+        assertEquals(1, resultado.getReparadas());
+        assertNotNull(semSnapshot.getSnapshot());
+        assertSame(snapshotCorreto, correta.getSnapshot());
+        assertArrayEquals(ReceitaSnapshotMapper.serializar(divergente), divergente.getSnapshot());
+
+        verify(eventPublisher, times(1)).publishEvent(new ReceitaAlteradaEvent(3L));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    private Receita criarReceita(Long id, String nome, Categoria categoria) {
+        Receita receita = new Receita();
+        receita.setId(id);
+        receita.setNome(nome);
+        receita.setCategoria(categoria);
+        return receita;
+    }
+}
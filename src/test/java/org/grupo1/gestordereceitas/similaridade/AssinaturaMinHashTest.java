@@ -0,0 +1,34 @@
+package org.grupo1.gestordereceitas.similaridade;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssinaturaMinHashTest {
+
+    @Test
+    void deveEstimarOJaccardDosConjuntosDeIngredientes() {
+        // Cenário: 30 em comum de 50 distintos, Jaccard 0,6
+        long[] a = LongStream.rangeClosed(1, 40).toArray();
+        long[] b = LongStream.rangeClosed(11, 50).toArray();
+
+        // Ação
+        double estimado = AssinaturaMinHash.jaccardEstimado(AssinaturaMinHash.calcular(a), AssinaturaMinHash.calcular(b));
+
+        // Validação
+        assertEquals(0.6, estimado, 0.15);
+    }
+
+    @Test
+    void deveGerarAMesmaAssinaturaParaOMesmoConjunto() {
+        // Ação
+        int[] primeira = AssinaturaMinHash.calcular(new long[]{3, 7, 9});
+        int[] segunda = AssinaturaMinHash.calcular(new long[]{3, 7, 9});
+
+        // Validação
+        assertArrayEquals(primeira, segunda);
+        assertEquals(1.0, AssinaturaMinHash.jaccardEstimado(primeira, segunda));
+    }
+}
@@ -0,0 +1,96 @@
+package org.grupo1.gestordereceitas.similaridade;
+
+import org.grupo1.gestordereceitas.estatisticas.ContribuicaoReceita;
+import org.grupo1.gestordereceitas.repository.ReceitaIngredienteRepository;
+import org.grupo1.gestordereceitas.repository.ReceitaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class IndiceSimilaridadeTest {
+
+    private IndiceSimilaridade indice;
+
+    @BeforeEach
+    void criarIndice() {
+        indice = new IndiceSimilaridade(mock(ReceitaRepository.class), mock(ReceitaIngredienteRepository.class));
+    }
+
+    @Test
+    void deveRanquearPelosIngredientesEmComumEPelaCategoria() {
+        // Cenário
+        indice.atualizar(1L, new ContribuicaoReceita(1L, 30, new long[]{1, 2, 3, 4}));
+        indice.atualizar(2L, new ContribuicaoReceita(1L, 30, new long[]{1, 2, 3, 5}));
+        indice.atualizar(3L, new ContribuicaoReceita(2L, 30, new long[]{1, 2, 3, 6}));
+        indice.atualizar(4L, new ContribuicaoReceita(1L, 30, new long[]{7, 8, 9}));
+
+        // Ação
+        List<ReceitaSimilar> similares = indice.similares(1L, 10);
+
+        // Validação
+        assertEquals(List.of(2L, 3L), similares.stream().map(ReceitaSimilar::receitaId).toList());
+        assertEquals(0.6, similares.getFirst().jaccard(), 1e-9);
+        assertEquals(3, similares.getFirst().ingredientesEmComum());
+    }
+
+    @Test
+    void deveRecalcularAAssinaturaSoQuandoOsIngredientesMudarem() {
+        // Cenário
+        indice.atualizar(1L, new ContribuicaoReceita(1L, 30, new long[]{1, 2, 3}));
+        indice.atualizar(2L, new ContribuicaoReceita(1L, 30, new long[]{1, 2, 3}));
+
+        // Ação
+        indice.atualizar(1L, new ContribuicaoReceita(2L, 45, new long[]{1, 2, 3}));
+        long aposMudarCategoria = indice.assinaturasCalculadas();
+        indice.atualizar(1L, new ContribuicaoReceita(2L, 45, new long[]{7, 8, 9}));
+
+        // Validação
+        assertEquals(2, aposMudarCategoria);
+        assertEquals(3, indice.assinaturasCalculadas());
+        assertTrue(indice.similares(2L, 10).isEmpty());
+    }
+
+    @Test
+    void deveRemoverReceitaExcluida() {
+        // Cenário
+        indice.atualizar(1L, new ContribuicaoReceita(1L, 30, new long[]{1, 2, 3}));
+        indice.atualizar(2L, new ContribuicaoReceita(1L, 30, new long[]{1, 2, 3}));
+
+        // Ação
+        indice.atualizar(2L, null);
+
+        // Validação
+        assertTrue(indice.similares(1L, 10).isEmpty());
+        assertTrue(indice.similares(2L, 10).isEmpty());
+    }
+
+    @Test
+    void deveEncontrarAsVariacoesDeUmaReceitaEntreMilharesSemCompararTodas() {
+        // Cenário: 20.000 receitas aleatórias e 5 variações de uma base, trocando um ingrediente
+        Random random = new Random(42);
+        for (long id = 100; id < 20_100; id++) {
+            long[] ingredientes = random.longs(8, 1, 5_000).distinct().sorted().toArray();
+            indice.atualizar(id, new ContribuicaoReceita(1L, 30, ingredientes));
+        }
+        long[] base = LongStream.rangeClosed(10_001, 10_008).toArray();
+        indice.atualizar(1L, new ContribuicaoReceita(1L, 30, base));
+        for (long variacao = 2; variacao <= 6; variacao++) {
+            long[] ingredientes = base.clone();
+            ingredientes[(int) variacao] = 20_000 + variacao;
+            indice.atualizar(variacao, new ContribuicaoReceita(1L, 30, LongStream.of(ingredientes).sorted().toArray()));
+        }
+
+        // Ação
+        List<ReceitaSimilar> similares = indice.similares(1L, 5);
+
+        // Validação
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L),
+                similares.stream().map(ReceitaSimilar::receitaId).sorted().toList());
+    }
+}
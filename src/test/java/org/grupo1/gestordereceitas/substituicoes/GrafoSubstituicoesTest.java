@@ -0,0 +1,87 @@
+package org.grupo1.gestordereceitas.substituicoes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GrafoSubstituicoesTest {
+
+    @Test
+    void deveRanquearSubstitutosDiretosEDeDoisSaltosPeloProdutoDosPesos() {
+        // Cenário: 13 -> 8 (0,95), 8 -> 9 (0,6), 8 -> 13 (0,9), 9 -> 21 (0,8)
+        GrafoSubstituicoes grafo = GrafoSubstituicoes.montar(List.of(
+                new ArestaSubstituicao(13L, 8L, 0.95),
+                new ArestaSubstituicao(8L, 9L, 0.6),
+                new ArestaSubstituicao(8L, 13L, 0.9),
+                new ArestaSubstituicao(9L, 21L, 0.8)));
+
+        // Ação
+        List<Substituto> substitutos = grafo.substitutos(13L, 10);
+
+        // Validação: o próprio 13 (via 8) fica de fora e o 21 está a três saltos
+        assertEquals(2, substitutos.size());
+        assertEquals(new Substituto(8L, 0.95, null), substitutos.get(0));
+        assertEquals(9L, substitutos.get(1).ingredienteId());
+        assertEquals(0.57, substitutos.get(1).peso(), 1e-9);
+        assertEquals(8L, substitutos.get(1).viaId());
+    }
+
+    @Test
+    void devePreferirOMelhorCaminhoQuandoHaMaisDeUm() {
+        // Cenário: 1 -> 3 direto com 0,5, ou 1 -> 2 -> 3 com 0,9 · 0,9
+        GrafoSubstituicoes grafo = GrafoSubstituicoes.montar(List.of(
+                new ArestaSubstituicao(1L, 3L, 0.5),
+                new ArestaSubstituicao(1L, 2L, 0.9),
+                new ArestaSubstituicao(2L, 3L, 0.9)));
+
+        // Ação
+        List<Substituto> substitutos = grafo.substitutos(1L, 10);
+
+        // Validação
+        assertEquals(List.of(2L, 3L), substitutos.stream().map(Substituto::ingredienteId).toList());
+        assertEquals(0.81, substitutos.get(1).peso(), 1e-9);
+        assertEquals(2L, substitutos.get(1).viaId());
+    }
+
+    @Test
+    void deveResponderOQueADespensaConsegueSubstituir() {
+        // Cenário
+        GrafoSubstituicoes grafo = GrafoSubstituicoes.montar(List.of(
+                new ArestaSubstituicao(13L, 8L, 0.95),
+                new ArestaSubstituicao(8L, 9L, 0.6),
+                new ArestaSubstituicao(25L, 5L, 0.9)));
+
+        // Ação
+        Set<Long> substituiveis = grafo.substituiveisPor(List.of(9L, 5L, 99L));
+
+        // Validação
+        assertEquals(Set.of(8L, 13L, 25L), substituiveis);
+        assertEquals(new Substituto(8L, 0.95, null), grafo.melhorSubstituto(13L, Set.of(8L, 9L)));
+        assertEquals(9L, grafo.melhorSubstituto(13L, Set.of(9L)).ingredienteId());
+        assertNull(grafo.melhorSubstituto(13L, Set.of(5L)));
+    }
+
+    @Test
+    void deveLimitarAVizinhancaPrecalculada() {
+        // Cenário
+        List<ArestaSubstituicao> arestas = new ArrayList<>();
+        for (long destino = 2; destino <= 40; destino++) {
+            arestas.add(new ArestaSubstituicao(1L, destino, destino / 100.0));
+        }
+        GrafoSubstituicoes grafo = GrafoSubstituicoes.montar(arestas);
+
+        // Ação
+        List<Substituto> substitutos = grafo.substitutos(1L, 50);
+
+        // Validação
+        assertEquals(GrafoSubstituicoes.MAXIMO_SUBSTITUTOS, substitutos.size());
+        assertEquals(40L, substitutos.getFirst().ingredienteId());
+        assertEquals(39, grafo.arestas());
+        assertTrue(grafo.substitutos(2L, 10).isEmpty());
+        assertFalse(grafo.contem(41L));
+    }
+}